@@ -38,6 +38,7 @@ dependencies {
 
     // 캐싱
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("com.github.ben-manes.caffeine:caffeine")     // 로컬(L1) 캐시
 
     // JWT (jjwt)
     implementation("io.jsonwebtoken:jjwt-api:0.12.5")
@@ -190,10 +191,12 @@ tasks.withType<Test>().configureEach {
  *  기본 test 태스크
  *  ----------------------------- */
 tasks.named<Test>("test") {
+    // 벤치마크(@Tag("benchmark"))는 ./gradlew benchmark 로만 실행
     if (project.findProperty("includeIntegration") == "true") {
         systemProperty("junit.platform.tags.includes", "integration,unit")
+        systemProperty("junit.platform.tags.excludes", "benchmark")
     } else {
-        systemProperty("junit.platform.tags.excludes", "integration")
+        systemProperty("junit.platform.tags.excludes", "integration,benchmark")
     }
     finalizedBy(tasks.jacocoTestReport)
 }
@@ -206,7 +209,7 @@ tasks.register<Test>("fullTest") {
     testClassesDirs = testSourceSet.output.classesDirs
     classpath = testSourceSet.runtimeClasspath
 
-    useJUnitPlatform()
+    useJUnitPlatform { excludeTags("benchmark") }
     shouldRunAfter(tasks.named("test"))
 
     extensions.configure(org.gradle.testing.jacoco.plugins.JacocoTaskExtension::class) {
@@ -215,6 +218,21 @@ tasks.register<Test>("fullTest") {
     finalizedBy("jacocoFullTestReport")
 }
 
+/** -----------------------------
+ *  마이크로 벤치마크 (@Tag("benchmark"))
+ *  ----------------------------- */
+tasks.register<Test>("benchmark") {
+    description = "Run benchmark-tagged tests"
+    group = "verification"
+
+    val testSourceSet = sourceSets.named("test").get()
+    testClassesDirs = testSourceSet.output.classesDirs
+    classpath = testSourceSet.runtimeClasspath
+
+    useJUnitPlatform { includeTags("benchmark") }
+    outputs.upToDateWhen { false }
+}
+
 /** -----------------------------
  *  JaCoCo 리포트 (test)
  *  ----------------------------- */
@@ -72,6 +72,14 @@ public class ArtistsController {
         return RsData.success("아티스트 상세 조회를 성공했습니다.", artistService.getArtistDetail(id));
     }
 
+    @Operation(summary = "함께 찜한 아티스트 조회", description = "이 아티스트를 찜한 사용자들이 함께 찜한 아티스트를 유사도 순으로 조회합니다. 매일 새벽 미리 계산한 목록입니다.")
+    @GetMapping("/{id}/fans-also-liked")
+    public RsData<List<LikeArtistsResponse>> fansAlsoLiked(
+            @PathVariable Long id
+    ) {
+        return RsData.success("함께 찜한 아티스트 조회를 성공했습니다.", artistService.getFansAlsoLikedArtists(id));
+    }
+
     @Operation(summary = "아티스트 검색",
             description = "아티스트 이름 또는 키워드를 입력하면, 해당 키워드가 포함된 아티스트 목록 또는 이름에 해당하는 아티스트를 조회합니다.")
     @PostMapping("/search")
@@ -0,0 +1,18 @@
+package com.back.web7_9_codecrete_be.domain.artists.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record ArtistSearchItem(
+        @Schema(description = "검색된 아티스트 정보입니다.")
+        SearchResponse artist,
+
+        @Schema(description = "검색어가 나온 부분을 <em> 태그로 감싼 아티스트 이름입니다. (HTML 특수문자는 이스케이프됩니다.)")
+        String highlightedName,
+
+        @Schema(description = "검색어가 나온 부분을 <em> 태그로 감싼 한국어 기준 아티스트 이름입니다.")
+        String highlightedNameKo,
+
+        @Schema(description = "검색 관련도 점수입니다. 높을수록 검색어와 관련이 큽니다.")
+        double score
+) {
+}
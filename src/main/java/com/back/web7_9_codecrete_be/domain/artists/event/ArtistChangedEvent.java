@@ -0,0 +1,17 @@
+package com.back.web7_9_codecrete_be.domain.artists.event;
+
+import java.util.List;
+
+// 아티스트 등록/수정/삭제/정보 보강 도메인 이벤트 (보강은 여러 아티스트를 한 번에 처리하므로 ID 목록)
+public record ArtistChangedEvent(
+        List<Long> artistIds,
+        boolean deleted
+) {
+    public static ArtistChangedEvent saved(List<Long> artistIds) {
+        return new ArtistChangedEvent(artistIds, false);
+    }
+
+    public static ArtistChangedEvent deleted(List<Long> artistIds) {
+        return new ArtistChangedEvent(artistIds, true);
+    }
+}
@@ -0,0 +1,7 @@
+package com.back.web7_9_codecrete_be.domain.artists.event;
+
+// 아티스트 찜/찜 해제 도메인 이벤트 (좋아요 수가 바뀐 아티스트)
+public record ArtistLikeChangedEvent(
+        Long artistId
+) {
+}
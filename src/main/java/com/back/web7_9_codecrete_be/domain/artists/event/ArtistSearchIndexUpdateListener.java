@@ -0,0 +1,26 @@
+package com.back.web7_9_codecrete_be.domain.artists.event;
+
+import com.back.web7_9_codecrete_be.domain.artists.service.ArtistSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 아티스트 변경 이벤트를 받아, 변경된 아티스트만 검색 색인에 반영합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArtistSearchIndexUpdateListener {
+    private final ArtistSearchService artistSearchService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArtistChanged(ArtistChangedEvent event) {
+        try {
+            if (event.deleted()) artistSearchService.removeArtists(event.artistIds());
+            else artistSearchService.upsertArtists(event.artistIds());
+        } catch (Exception e) {
+            // 색인 갱신 실패는 다음 전체 재구성 때 바로잡힘
+            log.warn("아티스트 검색 색인 갱신 실패: artistIds={}, deleted={}", event.artistIds(), event.deleted(), e);
+        }
+    }
+}
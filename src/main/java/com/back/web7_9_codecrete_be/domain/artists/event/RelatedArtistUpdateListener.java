@@ -0,0 +1,36 @@
+package com.back.web7_9_codecrete_be.domain.artists.event;
+
+import com.back.web7_9_codecrete_be.domain.artists.service.spotify.related.RelatedArtistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 아티스트 정보/좋아요 변경 이벤트를 받아, 바뀐 아티스트를 관련 아티스트 그래프 반영 대기열에 넣습니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedArtistUpdateListener {
+    private final RelatedArtistService relatedArtistService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArtistChanged(ArtistChangedEvent event) {
+        try {
+            relatedArtistService.markChanged(event.artistIds());
+        } catch (Exception e) {
+            // 반영 실패는 다음 전체 재구성 때 바로잡힘
+            log.warn("관련 아티스트 갱신 예약 실패: artistIds={}", event.artistIds(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArtistLikeChanged(ArtistLikeChangedEvent event) {
+        try {
+            relatedArtistService.markChanged(List.of(event.artistId()));
+        } catch (Exception e) {
+            log.warn("관련 아티스트 갱신 예약 실패: artistId={}", event.artistId(), e);
+        }
+    }
+}
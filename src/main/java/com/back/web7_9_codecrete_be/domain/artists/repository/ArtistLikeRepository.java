@@ -3,7 +3,9 @@ package com.back.web7_9_codecrete_be.domain.artists.repository;
 import com.back.web7_9_codecrete_be.domain.artists.dto.response.LikeArtistsResponse;
 import com.back.web7_9_codecrete_be.domain.artists.entity.Artist;
 import com.back.web7_9_codecrete_be.domain.artists.entity.ArtistLike;
+import com.back.web7_9_codecrete_be.domain.concerts.util.LikePair;
 import com.back.web7_9_codecrete_be.domain.users.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,4 +32,13 @@ public interface ArtistLikeRepository extends JpaRepository<ArtistLike, Long> {
         where al.user.id = :userId
     """)
     List<Artist> findLikeArtistsByUserId(@Param("userId") Long userId);
+
+    // 협업 필터링용 좋아요 쌍 (좋아요 ID 순 커서 조회)
+    @Query("""
+        select al.id as id, al.user.id as userId, al.artist.id as itemId
+        from ArtistLike al
+        where al.id > :lastId
+        order by al.id
+    """)
+    List<LikePair> findLikePairsAfter(@Param("lastId") long lastId, Pageable pageable);
 }
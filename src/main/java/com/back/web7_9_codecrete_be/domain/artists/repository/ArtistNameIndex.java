@@ -0,0 +1,298 @@
+package com.back.web7_9_codecrete_be.domain.artists.repository;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.SearchResponse;
+import com.back.web7_9_codecrete_be.domain.concerts.util.HangulDecomposer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 아티스트 이름 검색을 위한 JVM 내부 색인입니다. 검색 결과(SearchResponse)까지 들고 있어 검색 시 DB 를 조회하지 않습니다.
+// 이름(영문, 한글, 본명)을 소문자 + 공백/기호 제거 후 자모로 분해한 키로 색인하므로, 입력 중인 글자와 받침 하나 차이 같은 오타도 비교할 수 있습니다.
+// 일치 단계: 완전 일치 > 앞부분 일치 > 부분 일치(3글자 조각 교집합 후 확인) > 오타 허용 일치(편집 거리 1~2)
+// 오타 허용 일치는 편집 한 번이 3글자 조각을 최대 3개까지만 망가뜨린다는 점을 이용해, 공유 조각 수로 후보를 거른 뒤 편집 거리를 계산합니다.
+// 아티스트는 수천 명 규모라 변경이 있으면 전체 스냅샷을 다시 만들어 교체합니다.
+@Component
+public class ArtistNameIndex {
+
+    private static final int GRAM = 3;
+
+    // 단계별 점수 (앞부분/부분 일치는 키에서 검색어가 차지하는 비율만큼 가산)
+    private static final double EXACT_SCORE = 1.0;
+    private static final double PREFIX_SCORE = 0.8;
+    private static final double CONTAINS_SCORE = 0.6;
+    private static final double FUZZY_SCORE = 0.5;
+
+    private static final Comparator<Match> MATCH_ORDER = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(Comparator.comparingInt((Match match) -> match.artist().likeCount()).reversed())
+            .thenComparingLong(match -> match.artist().id());
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 마지막 전체 재구성 이후의 변경 (guarded by this)
+    private final Map<Long, Change> changes = new HashMap<>();
+
+    // 변경마다 1씩 증가하는 세대 번호 (guarded by this)
+    private long generation;
+
+    // 색인 대상 아티스트 한 명 (names: 검색에 쓰는 이름들, null/공백은 무시)
+    public record Entry(SearchResponse artist, List<String> names) {
+    }
+
+    // 검색 결과 (점수 0~1)
+    public record Match(SearchResponse artist, double score) {
+    }
+
+    public void rebuild(List<Entry> entries) {
+        rebuild(entries, Long.MAX_VALUE);
+    }
+
+    // loadedGeneration: 재구성용 데이터를 읽기 시작할 때의 세대 -> 그 이후에 반영된 변경은 새 색인 위에 다시 겹침
+    public synchronized void rebuild(List<Entry> entries, long loadedGeneration) {
+        changes.values().removeIf(change -> change.generation <= loadedGeneration);
+        Map<Long, Entry> merged = new LinkedHashMap<>();
+        for (Entry entry : entries) merged.put(entry.artist().id(), entry);
+        changes.forEach((artistId, change) -> {
+            if (change.entry == null) merged.remove(artistId);
+            else merged.put(artistId, change.entry);
+        });
+        generation++;
+        snapshot = Snapshot.build(merged.values());
+    }
+
+    public synchronized void upsert(List<Entry> entries) {
+        if (entries.isEmpty()) return;
+        generation++;
+        Map<Long, Entry> merged = snapshot.entryMap();
+        for (Entry entry : entries) {
+            merged.put(entry.artist().id(), entry);
+            changes.put(entry.artist().id(), new Change(generation, entry));
+        }
+        snapshot = Snapshot.build(merged.values());
+    }
+
+    public synchronized void remove(Collection<Long> artistIds) {
+        if (artistIds.isEmpty()) return;
+        generation++;
+        Map<Long, Entry> merged = snapshot.entryMap();
+        for (Long artistId : artistIds) {
+            merged.remove(artistId);
+            changes.put(artistId, new Change(generation, null));
+        }
+        snapshot = Snapshot.build(merged.values());
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public int size() {
+        return snapshot.entries.length;
+    }
+
+    public boolean isEmpty() {
+        return snapshot.entries.length == 0;
+    }
+
+    public boolean contains(long artistId) {
+        return Arrays.binarySearch(snapshot.sortedIds, artistId) >= 0;
+    }
+
+    // 검색어와 일치하는 아티스트 (점수 내림차순, 같으면 좋아요 수 내림차순)
+    public List<Match> search(String keyword) {
+        String query = key(keyword);
+        if (query.isEmpty()) return List.of();
+        Snapshot current = snapshot;
+        if (current.entries.length == 0) return List.of();
+
+        // 아티스트별 가장 높은 점수
+        double[] best = new double[current.entries.length];
+        int[] candidates = current.candidates(query);
+        int candidateCount = candidates == null ? current.keys.length : candidates.length;
+        for (int i = 0; i < candidateCount; i++) {
+            int k = candidates == null ? i : candidates[i];
+            double score = substringScore(current.keys[k], query);
+            int entry = current.keyEntries[k];
+            if (score > best[entry]) best[entry] = score;
+        }
+        int maxDistance = maxDistance(query.length());
+        if (maxDistance > 0) current.fuzzy(query, maxDistance, best);
+
+        List<Match> matches = new ArrayList<>();
+        for (int entry = 0; entry < best.length; entry++) {
+            if (best[entry] > 0) matches.add(new Match(current.entries[entry].artist(), best[entry]));
+        }
+        matches.sort(MATCH_ORDER);
+        return matches;
+    }
+
+    // 검색용 키: 소문자, 글자/숫자만 남기고 한글은 자모로 분해 ("Black Pink" -> "blackpink", "아이유" -> "ㅇㅏㅇㅣㅇㅠ")
+    static String key(String name) {
+        if (name == null) return "";
+        StringBuilder builder = new StringBuilder(name.length());
+        String lower = name.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) builder.append(c);
+        }
+        return HangulDecomposer.toJamo(builder.toString());
+    }
+
+    // 검색어(자모 기준) 길이별 허용 편집 거리 (짧은 검색어는 오타를 허용하면 엉뚱한 이름이 너무 많이 걸림)
+    static int maxDistance(int length) {
+        if (length <= 3) return 0;
+        if (length <= 7) return 1;
+        return 2;
+    }
+
+    private static double substringScore(String key, String query) {
+        if (key.length() < query.length()) return 0;
+        double ratio = (double) query.length() / key.length();
+        if (key.equals(query)) return EXACT_SCORE;
+        if (key.startsWith(query)) return PREFIX_SCORE + 0.1 * ratio;
+        if (key.contains(query)) return CONTAINS_SCORE + 0.1 * ratio;
+        return 0;
+    }
+
+    // 편집 거리 (limit 을 넘는 것이 확실해지면 limit + 1 을 반환하고 중단)
+    static int levenshtein(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) return limit + 1;
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = c == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) return limit + 1;
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+
+    // 아티스트 변경 내역 (entry 가 null 이면 삭제)
+    private record Change(long generation, Entry entry) {
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = build(List.of());
+
+        private final Entry[] entries;
+        // 아티스트 ID 존재 여부 확인용 (오름차순)
+        private final long[] sortedIds;
+        // 이름 키와 키가 속한 아티스트 순번
+        private final String[] keys;
+        private final int[] keyEntries;
+        // 3글자 조각 -> 조각이 나온 키 순번 (오름차순)
+        private final Map<String, int[]> grams;
+
+        private Snapshot(Entry[] entries, String[] keys, int[] keyEntries, Map<String, int[]> grams) {
+            this.entries = entries;
+            this.sortedIds = Arrays.stream(entries).mapToLong(entry -> entry.artist().id()).sorted().toArray();
+            this.keys = keys;
+            this.keyEntries = keyEntries;
+            this.grams = grams;
+        }
+
+        private static Snapshot build(Collection<Entry> entryList) {
+            Entry[] entries = entryList.toArray(Entry[]::new);
+            List<String> keys = new ArrayList<>();
+            List<Integer> keyEntries = new ArrayList<>();
+            for (int entry = 0; entry < entries.length; entry++) {
+                Set<String> seen = new HashSet<>();
+                for (String name : entries[entry].names()) {
+                    String key = key(name);
+                    if (key.isEmpty() || !seen.add(key)) continue;
+                    keys.add(key);
+                    keyEntries.add(entry);
+                }
+            }
+
+            Map<String, List<Integer>> gramLists = new HashMap<>();
+            for (int k = 0; k < keys.size(); k++) {
+                String key = keys.get(k);
+                for (int i = 0; i + GRAM <= key.length(); i++) {
+                    List<Integer> postings = gramLists.computeIfAbsent(key.substring(i, i + GRAM), gram -> new ArrayList<>());
+                    if (postings.isEmpty() || postings.get(postings.size() - 1) != k) postings.add(k);
+                }
+            }
+            Map<String, int[]> grams = new HashMap<>(gramLists.size() * 4 / 3 + 1);
+            gramLists.forEach((gram, postings) -> grams.put(gram, postings.stream().mapToInt(Integer::intValue).toArray()));
+
+            return new Snapshot(entries, keys.toArray(String[]::new), keyEntries.stream().mapToInt(Integer::intValue).toArray(), grams);
+        }
+
+        // 검색어의 3글자 조각을 모두 가진 키 순번 (검색어가 3글자보다 짧으면 null -> 전체 키 확인)
+        private int[] candidates(String query) {
+            if (query.length() < GRAM) return null;
+            List<int[]> lists = new ArrayList<>();
+            for (int i = 0; i + GRAM <= query.length(); i++) {
+                int[] postings = grams.get(query.substring(i, i + GRAM));
+                if (postings == null) return new int[0];
+                lists.add(postings);
+            }
+            lists.sort(Comparator.comparingInt(postings -> postings.length));
+            int[] result = lists.get(0);
+            for (int l = 1; l < lists.size() && result.length > 0; l++) {
+                result = intersect(result, lists.get(l));
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] result = new int[Math.min(a.length, b.length)];
+            int size = 0;
+            for (int i = 0, j = 0; i < a.length && j < b.length; ) {
+                if (a[i] < b[j]) i++;
+                else if (a[i] > b[j]) j++;
+                else {
+                    result[size++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        // 편집 거리 maxDistance 안의 키를 찾아 아티스트별 최고 점수(best)에 반영
+        private void fuzzy(String query, int maxDistance, double[] best) {
+            Set<String> queryGrams = new HashSet<>();
+            for (int i = 0; i + GRAM <= query.length(); i++) queryGrams.add(query.substring(i, i + GRAM));
+            // 편집 거리 안의 키는 검색어 조각 중 (조각 수 - 3 * 편집 거리)개 이상을 가짐
+            int minShared = queryGrams.size() - GRAM * maxDistance;
+            if (minShared <= 0) {
+                // 짧은 검색어는 조각으로 거를 수 없으므로 길이가 비슷한 키를 모두 확인
+                for (int k = 0; k < keys.length; k++) fuzzyCheck(k, query, maxDistance, best);
+                return;
+            }
+            int[] shared = new int[keys.length];
+            for (String gram : queryGrams) {
+                int[] postings = grams.get(gram);
+                if (postings == null) continue;
+                for (int k : postings) {
+                    if (++shared[k] == minShared) fuzzyCheck(k, query, maxDistance, best);
+                }
+            }
+        }
+
+        private void fuzzyCheck(int k, String query, int maxDistance, double[] best) {
+            String key = keys[k];
+            int distance = levenshtein(key, query, maxDistance);
+            if (distance > maxDistance) return;
+            double score = FUZZY_SCORE * (1 - (double) distance / Math.max(key.length(), query.length()));
+            if (score > best[keyEntries[k]]) best[keyEntries[k]] = score;
+        }
+
+        private Map<Long, Entry> entryMap() {
+            Map<Long, Entry> map = new LinkedHashMap<>();
+            for (Entry entry : entries) map.put(entry.artist().id(), entry);
+            return map;
+        }
+    }
+}
@@ -9,20 +9,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ArtistRepository extends JpaRepository<Artist, Long> {
-    
-    // 아티스트 상세 조회용 - artistGenres와 genre를 fetch join하여 N+1 문제 방지
-    @Query("""
-        SELECT DISTINCT a FROM Artist a
-        LEFT JOIN FETCH a.artistGenres ag
-        LEFT JOIN FETCH ag.genre
-        WHERE a.id = :id
-    """)
-    java.util.Optional<Artist> findByIdWithArtistGenres(@Param("id") Long id);
-    
+
     @Query("SELECT a FROM Artist a WHERE a.nameKo IS NULL ORDER BY a.id ASC")
     List<Artist> findByNameKoIsNullOrderByIdAsc(Pageable pageable);
 
@@ -32,30 +24,6 @@ public interface ArtistRepository extends JpaRepository<Artist, Long> {
     boolean existsByArtistName(String artistName);
     boolean existsByNameKo(String nameKo);
 
-    // 같은 artistGroup인 아티스트들 조회 (관련 아티스트 추천용) - artistGenres를 fetch join하여 N+1 문제 방지
-    @Query("""
-        SELECT DISTINCT a FROM Artist a
-        LEFT JOIN FETCH a.artistGenres ag
-        LEFT JOIN FETCH ag.genre
-        WHERE a.artistGroup = :artistGroup AND a.id != :excludeId
-        ORDER BY a.likeCount DESC, a.id ASC
-    """)
-    List<Artist> findByArtistGroupAndIdNot(@Param("artistGroup") String artistGroup,
-                                           @Param("excludeId") long excludeId,
-                                           Pageable pageable);
-    
-    // 같은 genre인 아티스트들 조회 (관련 아티스트 추천용) - artistGenres와 genre를 fetch join하여 N+1 문제 방지
-    @Query("""
-        SELECT DISTINCT a FROM Artist a
-        JOIN FETCH a.artistGenres ag
-        JOIN FETCH ag.genre
-        WHERE ag.genre.id = :genreId AND a.id != :excludeId
-        ORDER BY a.likeCount DESC, a.id ASC
-    """)
-    List<Artist> findByGenreIdAndIdNot(@Param("genreId") Long genreId, 
-                                        @Param("excludeId") long excludeId,
-                                        Pageable pageable);
-
     // 장르별 아티스트 목록 조회 - artistGenres와 genre를 fetch join하여 N+1 문제 방지
     @Query("""
         SELECT DISTINCT a FROM Artist a
@@ -92,16 +60,54 @@ public interface ArtistRepository extends JpaRepository<Artist, Long> {
     // 배치 조회: spotifyId 리스트로 존재하는 아티스트 전체 엔티티 반환 (Bulk 저장용)
     @Query("SELECT a FROM Artist a WHERE a.spotifyArtistId IN :spotifyIds")
     List<Artist> findBySpotifyArtistIdIn(@Param("spotifyIds") List<String> spotifyIds);
-    
-    // 같은 artistType인 아티스트들 조회 (관련 아티스트 추천용, fallback) - artistGenres를 fetch join하여 N+1 문제 방지
+
+    // 관련 아티스트 그래프용 아티스트 정보 (엔티티 대신 필요한 컬럼만 조회)
+    interface RelatedArtistRow {
+        Long getId();
+        String getArtistName();
+        String getNameKo();
+        String getImageUrl();
+        String getSpotifyArtistId();
+        String getArtistGroup();
+        ArtistType getArtistType();
+        Integer getLikeCount();
+    }
+
     @Query("""
-        SELECT DISTINCT a FROM Artist a
-        LEFT JOIN FETCH a.artistGenres ag
-        LEFT JOIN FETCH ag.genre
-        WHERE a.artistType = :artistType AND a.id != :excludeId
-        ORDER BY a.likeCount DESC, a.id ASC
+        SELECT a.id AS id, a.artistName AS artistName, a.nameKo AS nameKo, a.imageUrl AS imageUrl,
+               a.spotifyArtistId AS spotifyArtistId, a.artistGroup AS artistGroup, a.artistType AS artistType,
+               a.likeCount AS likeCount
+        FROM Artist a
+    """)
+    List<RelatedArtistRow> findRelatedArtistRows();
+
+    @Query("""
+        SELECT a.id AS id, a.artistName AS artistName, a.nameKo AS nameKo, a.imageUrl AS imageUrl,
+               a.spotifyArtistId AS spotifyArtistId, a.artistGroup AS artistGroup, a.artistType AS artistType,
+               a.likeCount AS likeCount
+        FROM Artist a
+        WHERE a.id IN :ids
+    """)
+    List<RelatedArtistRow> findRelatedArtistRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 관련 아티스트 그래프용 (아티스트 ID, 장르 ID) - 장르 등록 순
+    interface ArtistGenreRow {
+        Long getArtistId();
+        Long getGenreId();
+    }
+
+    @Query("""
+        SELECT ag.artist.id AS artistId, ag.genre.id AS genreId
+        FROM ArtistGenre ag
+        ORDER BY ag.id ASC
+    """)
+    List<ArtistGenreRow> findArtistGenreRows();
+
+    @Query("""
+        SELECT ag.artist.id AS artistId, ag.genre.id AS genreId
+        FROM ArtistGenre ag
+        WHERE ag.artist.id IN :ids
+        ORDER BY ag.id ASC
     """)
-    List<Artist> findByArtistTypeAndIdNot(@Param("artistType") ArtistType artistType,
-                                          @Param("excludeId") long excludeId,
-                                          Pageable pageable);
+    List<ArtistGenreRow> findArtistGenreRowsByArtistIdIn(@Param("ids") Collection<Long> ids);
 }
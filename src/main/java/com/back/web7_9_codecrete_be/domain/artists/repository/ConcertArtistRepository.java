@@ -2,11 +2,44 @@ package com.back.web7_9_codecrete_be.domain.artists.repository;
 
 import com.back.web7_9_codecrete_be.domain.artists.entity.ConcertArtist;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ConcertArtistRepository extends JpaRepository<ConcertArtist, Long> {
     List<ConcertArtist> getConcertArtistsByConcert_ConcertId(Long concertConcertId);
+
+    // 자동완성 색인용 - 한글 이름이 있는 아티스트만 fetch join 으로 한 번에 조회
+    @Query("""
+        SELECT ca FROM ConcertArtist ca
+        JOIN FETCH ca.artist a
+        WHERE a.nameKo IS NOT NULL
+    """)
+    List<ConcertArtist> findAllWithArtistNameKo();
+
+    // 자동완성 색인 부분 갱신용 - 변경된 공연의 아티스트만 조회
+    @Query("""
+        SELECT ca FROM ConcertArtist ca
+        JOIN FETCH ca.artist a
+        WHERE a.nameKo IS NOT NULL AND ca.concert.concertId IN :concertIds
+    """)
+    List<ConcertArtist> findAllWithArtistNameKoByConcertIds(@Param("concertIds") Collection<Long> concertIds);
+
+    // 검색 색인용 - 공연별 출연 아티스트를 fetch join 으로 한 번에 조회
+    @Query("""
+        SELECT ca FROM ConcertArtist ca
+        JOIN FETCH ca.artist a
+    """)
+    List<ConcertArtist> findAllWithArtist();
+
+    @Query("""
+        SELECT ca FROM ConcertArtist ca
+        JOIN FETCH ca.artist a
+        WHERE ca.concert.concertId IN :concertIds
+    """)
+    List<ConcertArtist> findAllWithArtistByConcertIds(@Param("concertIds") Collection<Long> concertIds);
 }
@@ -0,0 +1,127 @@
+package com.back.web7_9_codecrete_be.domain.artists.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.ArtistSearchItem;
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.SearchResponse;
+import com.back.web7_9_codecrete_be.domain.artists.entity.Artist;
+import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistNameIndex;
+import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistRepository;
+import com.back.web7_9_codecrete_be.global.redis.ArtistPubSubChannels;
+import com.back.web7_9_codecrete_be.global.redis.IndexSyncMessage;
+import com.back.web7_9_codecrete_be.global.redis.IndexSyncPublisher;
+import com.back.web7_9_codecrete_be.global.search.SearchResult;
+import com.back.web7_9_codecrete_be.global.search.TextSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 아티스트 이름 검색 색인(JVM 내부, 오타 허용)을 DB 기준으로 구성하고, 등록/수정/삭제/보강된 아티스트만 모든 인스턴스의 색인에 반영합니다.
+// 좋아요 수처럼 자주 바뀌는 목록 정보는 주기적인 전체 재구성 때 맞춰집니다. (SearchIndexScheduler)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArtistSearchService {
+    private final ArtistRepository artistRepository;
+
+    private final ArtistNameIndex artistNameIndex;
+
+    private final IndexSyncPublisher indexSyncPublisher;
+
+    // 전파 명령 (IndexSyncMessage, 내용은 아티스트 ID 목록)
+    public static final String COMMAND_UPSERT = "UPSERT";
+    public static final String COMMAND_REMOVE = "REMOVE";
+
+    // 서버 시작 시 색인 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        try {
+            rebuildLocal();
+        } catch (Exception e) {
+            log.warn("아티스트 검색 색인 초기 구성 실패", e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return !artistNameIndex.isEmpty();
+    }
+
+    // 이름 검색 결과 상위 limit 개 (DB 조회 없음)
+    public List<SearchResponse> search(String keyword, int limit) {
+        return artistNameIndex.search(keyword).stream()
+                .limit(limit)
+                .map(ArtistNameIndex.Match::artist)
+                .toList();
+    }
+
+    // 통합 검색용 상위 limit 개 (관련도 순, DB 조회 없음)
+    public SearchResult<ArtistSearchItem> searchTop(String keyword, int limit) {
+        List<ArtistNameIndex.Match> matches = artistNameIndex.search(keyword);
+        if (matches.isEmpty()) return SearchResult.empty();
+        List<ArtistSearchItem> items = matches.stream()
+                .limit(limit)
+                .map(match -> new ArtistSearchItem(
+                        match.artist(),
+                        TextSearchIndex.highlight(match.artist().artistName(), keyword),
+                        TextSearchIndex.highlight(match.artist().nameKo(), keyword),
+                        match.score()))
+                .toList();
+        return new SearchResult<>(matches.size(), matches.get(0).score(), items);
+    }
+
+    // 등록/수정/보강된 아티스트만 색인에 반영하고 다른 인스턴스에도 전파
+    public void upsertArtists(List<Long> artistIds) {
+        if (artistIds.isEmpty()) return;
+        upsertLocal(artistIds);
+        indexSyncPublisher.publish(ArtistPubSubChannels.ARTIST_SEARCH_INDEX, COMMAND_UPSERT, artistIds);
+    }
+
+    // 삭제된 아티스트만 색인에서 제외하고 다른 인스턴스에도 전파
+    public void removeArtists(List<Long> artistIds) {
+        if (artistIds.isEmpty()) return;
+        artistNameIndex.remove(artistIds);
+        indexSyncPublisher.publish(ArtistPubSubChannels.ARTIST_SEARCH_INDEX, COMMAND_REMOVE, artistIds);
+    }
+
+    public void rebuildLocal() {
+        long start = System.currentTimeMillis();
+        long loadedGeneration = artistNameIndex.generation();
+        artistNameIndex.rebuild(toEntries(artistRepository.findAll()), loadedGeneration);
+        log.info("아티스트 검색 색인 구성 완료: 아티스트 {}명, {}ms", artistNameIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    public void upsertLocal(List<Long> artistIds) {
+        List<Artist> artists = artistRepository.findAllById(artistIds);
+        artistNameIndex.upsert(toEntries(artists));
+
+        Set<Long> missing = new HashSet<>(artistIds);
+        artists.forEach(artist -> missing.remove(artist.getId()));
+        if (!missing.isEmpty()) artistNameIndex.remove(missing);
+    }
+
+    public void onMessage(String message) {
+        IndexSyncMessage command = IndexSyncMessage.decodeRemote(message);
+        if (command == null) return;
+        switch (command.command()) {
+            case COMMAND_UPSERT -> {
+                if (command.hasPayload()) upsertLocal(command.ids());
+            }
+            case COMMAND_REMOVE -> {
+                if (command.hasPayload()) artistNameIndex.remove(command.ids());
+            }
+            default -> log.warn("알 수 없는 아티스트 검색 색인 명령: {}", message);
+        }
+    }
+
+    // 영문/한글 이름, 본명을 모두 검색 이름으로 사용
+    private static List<ArtistNameIndex.Entry> toEntries(List<Artist> artists) {
+        return artists.stream()
+                .map(artist -> new ArtistNameIndex.Entry(
+                        SearchResponse.from(artist),
+                        Arrays.asList(artist.getArtistName(), artist.getNameKo(), artist.getRealName())))
+                .toList();
+    }
+}
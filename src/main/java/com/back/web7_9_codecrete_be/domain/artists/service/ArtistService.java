@@ -4,6 +4,8 @@ import com.back.web7_9_codecrete_be.domain.artists.dto.response.*;
 import com.back.web7_9_codecrete_be.domain.artists.entity.ArtistSort;
 import com.back.web7_9_codecrete_be.domain.artists.dto.request.UpdateRequest;
 import com.back.web7_9_codecrete_be.domain.artists.entity.*;
+import com.back.web7_9_codecrete_be.domain.artists.event.ArtistChangedEvent;
+import com.back.web7_9_codecrete_be.domain.artists.event.ArtistLikeChangedEvent;
 import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistRepository;
 import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistLikeRepository;
 import com.back.web7_9_codecrete_be.domain.artists.repository.ConcertArtistRepository;
@@ -12,11 +14,13 @@ import com.back.web7_9_codecrete_be.domain.artists.service.GenreService;
 import com.back.web7_9_codecrete_be.domain.concerts.entity.Concert;
 import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
 import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertService;
+import com.back.web7_9_codecrete_be.domain.concerts.service.FansAlsoLikedService;
 import com.back.web7_9_codecrete_be.domain.users.entity.User;
 import com.back.web7_9_codecrete_be.global.error.code.ArtistErrorCode;
 import com.back.web7_9_codecrete_be.global.error.code.GenreErrorCode;
 import com.back.web7_9_codecrete_be.global.error.exception.BusinessException;
 import lombok.AccessLevel;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -26,7 +30,12 @@ import org.springframework.stereotype.Service;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
@@ -40,6 +49,9 @@ public class ArtistService {
     private final ConcertArtistRepository concertArtistRepository;
     private final ConcertRepository concertRepository;
     private final ConcertService concertService;
+    private final ArtistSearchService artistSearchService;
+    private final FansAlsoLikedService fansAlsoLikedService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Artist findArtist(Long artistId) {
@@ -60,6 +72,7 @@ public class ArtistService {
         }
         Artist artist = new Artist(spotifyArtistId, artistName, artistGroup, artistType, genre);
         artistRepository.save(artist);
+        eventPublisher.publishEvent(ArtistChangedEvent.saved(List.of(artist.getId())));
         return artist;
     }
 
@@ -100,8 +113,7 @@ public class ArtistService {
 
     @Transactional(readOnly = true)
     public ArtistDetailResponse getArtistDetail(Long artistId) {
-        Artist artist = artistRepository.findByIdWithArtistGenres(artistId)
-                .orElseThrow(() -> new BusinessException(ArtistErrorCode.ARTIST_NOT_FOUND));
+        Artist artist = findArtist(artistId);
 
         if (artist.getSpotifyArtistId() == null) {
             throw new BusinessException(ArtistErrorCode.SPOTIFY_NOT_FOUND);
@@ -109,19 +121,12 @@ public class ArtistService {
 
         long likeCount = artistLikeRepository.countByArtistId(artistId);
 
-        // 첫 번째 장르 ID 가져오기 (없으면 null)
-        Long genreId = artist.getArtistGenres().stream()
-                .findFirst()
-                .map(ag -> ag.getGenre().getId())
-                .orElse(null);
-
         return spotifyService.getArtistDetail(
                 artist.getSpotifyArtistId(),
                 artist.getArtistGroup(),
                 artist.getArtistType(),
                 likeCount,
                 artist.getId(),
-                genreId,
                 artist.getDescription()
         );
     }
@@ -157,6 +162,7 @@ public class ArtistService {
         if (!changed) {
             throw new BusinessException(ArtistErrorCode.INVALID_UPDATE_REQUEST);
         }
+        eventPublisher.publishEvent(ArtistChangedEvent.saved(List.of(id)));
     }
 
     @Transactional
@@ -164,20 +170,23 @@ public class ArtistService {
         Artist artist = artistRepository.findById(id)
                         .orElseThrow(() -> new BusinessException(ArtistErrorCode.ARTIST_NOT_FOUND));
         artistRepository.delete(artist);
+        eventPublisher.publishEvent(ArtistChangedEvent.deleted(List.of(id)));
     }
 
     @Transactional(readOnly = true)
     public List<SearchResponse> search(String artistName) {
-        List<Artist> artists =
-                artistRepository.findAllByArtistNameContainingIgnoreCaseOrNameKoContainingIgnoreCase(artistName, artistName);
+        // 이름 색인이 있으면 오타 허용 검색(DB 조회 없음), 구성 전이면 DB 의 LIKE 검색
+        List<SearchResponse> artists = artistSearchService.isAvailable()
+                ? artistSearchService.search(artistName, Integer.MAX_VALUE)
+                : artistRepository.findAllByArtistNameContainingIgnoreCaseOrNameKoContainingIgnoreCase(artistName, artistName).stream()
+                        .map(SearchResponse::from)
+                        .toList();
 
         if (artists.isEmpty()) {
             throw new BusinessException(ArtistErrorCode.ARTIST_NOT_FOUND);
         }
 
-        return artists.stream()
-                .map(SearchResponse::from)
-                .toList();
+        return artists;
     }
 
     @Transactional
@@ -188,6 +197,7 @@ public class ArtistService {
         }
         artistLikeRepository.save(new ArtistLike(artist, user));
         artist.increaseLikeCount();
+        eventPublisher.publishEvent(new ArtistLikeChangedEvent(artistId));
     }
 
     @Transactional
@@ -197,6 +207,7 @@ public class ArtistService {
                 .orElseThrow(() -> new BusinessException(ArtistErrorCode.LIKES_NOT_FOUND));
         artistLikeRepository.delete(likes);
         artist.decreaseLikeCount();
+        eventPublisher.publishEvent(new ArtistLikeChangedEvent(artistId));
     }
 
     @Transactional
@@ -235,6 +246,24 @@ public class ArtistService {
                 .toList();
     }
 
+    // 이 아티스트를 찜한 사용자들이 함께 찜한 아티스트 (미리 계산된 목록을 유사도 순서대로 조회)
+    @Transactional(readOnly = true)
+    public List<LikeArtistsResponse> getFansAlsoLikedArtists(Long artistId) {
+        Optional<List<Long>> artistIds = fansAlsoLikedService.getFansAlsoLikedArtistIds(artistId);
+        if (artistIds.isEmpty()) {
+            // 색인에 없는 아티스트 -> 존재하지 않는 아티스트면 예외, 찜이 없거나 색인 이후 추가된 아티스트면 추천 없음
+            findArtist(artistId);
+            return List.of();
+        }
+        Map<Long, Artist> artists = artistRepository.findAllById(artistIds.get()).stream()
+                .collect(Collectors.toMap(Artist::getId, Function.identity()));
+        return artistIds.get().stream()
+                .map(artists::get)
+                .filter(Objects::nonNull)
+                .map(LikeArtistsResponse::from)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public List<GenreArtistsResponse> findArtistsByGenreId(Long genreId) {
         if (!genreRepository.existsById(genreId)) {
@@ -1200,7 +1200,6 @@ public class SpotifyService {
             ArtistType artistType,
             long likeCount,
             long artistId,
-            Long genreId,
             String description
     ) {
         try {
@@ -1226,13 +1225,8 @@ public class SpotifyService {
             String nameKo = dbArtist != null ? dbArtist.getNameKo() : null;
             String artistDescription = description != null ? description : "";
 
-            // 5. Related Artists 조회 (DB 기반 로직, 캐시하지 않음)
-            List<RelatedArtistResponse> relatedResponses = relatedArtistService.getRelatedArtists(
-                    artistId,
-                    artistGroup,
-                    artistType,
-                    genreId
-            );
+            // 5. Related Artists 조회 (미리 계산된 그래프에서 조회, DB 조회 없음)
+            List<RelatedArtistResponse> relatedResponses = relatedArtistService.getRelatedArtists(artistId);
 
             // 6. 최종 Response 구성
             return new ArtistDetailResponse(
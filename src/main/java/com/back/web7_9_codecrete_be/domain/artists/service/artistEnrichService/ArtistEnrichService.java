@@ -2,12 +2,14 @@ package com.back.web7_9_codecrete_be.domain.artists.service.artistEnrichService;
 
 import com.back.web7_9_codecrete_be.domain.artists.entity.Artist;
 import com.back.web7_9_codecrete_be.domain.artists.entity.ArtistType;
+import com.back.web7_9_codecrete_be.domain.artists.event.ArtistChangedEvent;
 import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistRepository;
 import com.back.web7_9_codecrete_be.global.maniadb.ManiaDBClient;
 import com.back.web7_9_codecrete_be.global.musicbrainz.MusicBrainzClient;
 import com.back.web7_9_codecrete_be.global.wikidata.WikidataClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -27,6 +29,7 @@ public class ArtistEnrichService {
     private final EnrichStepExecutor stepExecutor;
     private final ArtistGroupValidator groupValidator;
     private final WikidataEnrichHelper wikidataHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // MusicBrainz ID만 받아오기
     public int fetchMusicBrainzIds(int limit) {
@@ -91,10 +94,12 @@ public class ArtistEnrichService {
         
         int updated = 0;
         int failed = 0;
+        List<Long> updatedIds = new ArrayList<>();
         for (Artist artist : targets) {
             try {
                 enrichSingleArtist(artist);
                 updated++;
+                updatedIds.add(artist.getId());
                 Thread.sleep(1100);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -105,6 +110,8 @@ public class ArtistEnrichService {
         }
 
         log.info("Enrich 완료: 성공={}, 실패={}, 총={}", updated, failed, targets.size());
+        // 보강된 한글 이름/본명을 아티스트 검색 색인에 반영
+        if (!updatedIds.isEmpty()) eventPublisher.publishEvent(ArtistChangedEvent.saved(updatedIds));
         return updated;
     }
 
@@ -1920,11 +1927,13 @@ public class ArtistEnrichService {
         }
         
         int updated = 0;
+        List<Long> updatedIds = new ArrayList<>();
         for (Artist artist : targets) {
             try {
                 fetchRealName(artist);
                 artistRepository.save(artist);
                 updated++;
+                updatedIds.add(artist.getId());
                 Thread.sleep(1100);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -1935,6 +1944,7 @@ public class ArtistEnrichService {
         }
         
         log.info("실명 수집 완료: 성공={}, 총={}", updated, targets.size());
+        if (!updatedIds.isEmpty()) eventPublisher.publishEvent(ArtistChangedEvent.saved(updatedIds));
         return updated;
     }
 
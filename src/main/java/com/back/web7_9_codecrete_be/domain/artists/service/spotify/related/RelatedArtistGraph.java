@@ -0,0 +1,347 @@
+package com.back.web7_9_codecrete_be.domain.artists.service.spotify.related;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.RelatedArtistResponse;
+import com.back.web7_9_codecrete_be.domain.artists.entity.ArtistType;
+import com.back.web7_9_codecrete_be.domain.artists.service.spotify.related.model.ArtistProfile;
+import com.back.web7_9_codecrete_be.domain.artists.service.spotify.related.model.ScoredArtist;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 모든 아티스트의 관련 아티스트 목록을 미리 계산해 들고 있는 JVM 내부 그래프입니다. (3단계 파이프라인: Recall -> Score -> Diversity)
+// 장르/그룹/타입별로 좋아요 순으로 정렬된 후보 색인을 유지하므로, 후보 조회에 DB 를 쓰지 않습니다.
+// 아티스트 정보가 바뀌면 그 아티스트와 후보를 공유하는 아티스트만 다시 계산합니다. 조회는 잠금 없이, 변경은 한 번에 하나씩 처리합니다.
+public class RelatedArtistGraph {
+
+    private static final int MAX_GENRE_CANDIDATES = 200; // 결정론적 다양성을 위해 후보 풀 확장
+    private static final int MAX_GROUP_CANDIDATES = 5;
+    private static final int MAX_TYPE_CANDIDATES = 50;
+    private static final int MIN_CANDIDATES_FOR_FALLBACK = 10; // 이보다 적으면 타입 후보 추가
+    private static final double MAX_LIKECOUNT_BONUS = 15.0;
+    private static final double MIN_BASE_SCORE_FOR_LIKECOUNT = 30.0; // 기본 연관 점수가 이 이상일 때만 likeCount 보정 적용
+    private static final int MAX_SAME_GROUP = 2;
+    private static final int MAX_SAME_GENRE = 3;
+    private static final int TARGET_COUNT = 5;
+
+    // 후보 조회 순서 (좋아요 내림차순, 같으면 ID 오름차순)
+    private static final Comparator<ArtistProfile> POPULARITY = Comparator.comparingInt(ArtistProfile::likeCount).reversed()
+            .thenComparingLong(ArtistProfile::id);
+
+    // 아래 색인은 변경 처리 중에만 접근 (guarded by this)
+    private final Map<Long, ArtistProfile> profiles = new HashMap<>();
+    private final Map<Long, TreeSet<ArtistProfile>> byGenre = new HashMap<>();
+    private final Map<String, TreeSet<ArtistProfile>> byGroup = new HashMap<>();
+    private final Map<ArtistType, TreeSet<ArtistProfile>> byType = new EnumMap<>(ArtistType.class);
+
+    // 후보가 부족해 타입 후보까지 사용한 아티스트 -> 같은 타입 아티스트가 바뀌면 다시 계산
+    private final Set<Long> typeFallbackArtists = new HashSet<>();
+
+    // 아티스트 ID -> 관련 아티스트 목록 (조회용)
+    private final Map<Long, List<RelatedArtistResponse>> related = new ConcurrentHashMap<>();
+
+    public static RelatedArtistGraph build(Collection<ArtistProfile> profiles) {
+        RelatedArtistGraph graph = new RelatedArtistGraph();
+        synchronized (graph) {
+            profiles.forEach(graph::index);
+            graph.profiles.values().forEach(graph::recompute);
+        }
+        return graph;
+    }
+
+    // 그래프에 없는 아티스트(등록 직후 반영 전이거나 삭제됨)면 Optional.empty()
+    public Optional<List<RelatedArtistResponse>> get(long artistId) {
+        return Optional.ofNullable(related.get(artistId));
+    }
+
+    public int size() {
+        return related.size();
+    }
+
+    // 바뀐 아티스트 반영 -> changed : 아티스트 ID -> 새 정보 (null 이면 삭제), 다시 계산한 아티스트 수 반환
+    public synchronized int apply(Map<Long, ArtistProfile> changed) {
+        Set<Long> affected = new HashSet<>();
+        for (Map.Entry<Long, ArtistProfile> entry : changed.entrySet()) {
+            ArtistProfile previous = profiles.get(entry.getKey());
+            if (previous != null) {
+                collectAffected(previous, affected);
+                unindex(previous);
+            }
+            if (entry.getValue() != null) {
+                index(entry.getValue());
+                collectAffected(entry.getValue(), affected);
+            }
+        }
+
+        // 지금 목록에 바뀐 아티스트가 들어 있는 아티스트 (이름/사진이 바뀌었거나 삭제된 경우)
+        Set<Long> changedIds = changed.keySet();
+        related.forEach((artistId, list) -> {
+            for (RelatedArtistResponse response : list) {
+                if (changedIds.contains(response.id())) {
+                    affected.add(artistId);
+                    break;
+                }
+            }
+        });
+
+        int recomputed = 0;
+        for (Long artistId : affected) {
+            ArtistProfile profile = profiles.get(artistId);
+            if (profile == null) {
+                related.remove(artistId);
+                typeFallbackArtists.remove(artistId);
+                continue;
+            }
+            recompute(profile);
+            recomputed++;
+        }
+        return recomputed;
+    }
+
+    // 이 아티스트를 후보로 뽑는 아티스트 = 이 아티스트가 후보 상위 구간(자기 자신 제외 한 자리 여유)에 드는 장르/그룹/타입을 기준으로 쓰는 아티스트
+    // 변경 전/후 모두 상위 구간 밖이면 그 색인의 후보 목록은 그대로이므로 다시 계산하지 않음
+    private void collectAffected(ArtistProfile profile, Set<Long> affected) {
+        affected.add(profile.id());
+        for (Long genreId : profile.genreIds()) {
+            TreeSet<ArtistProfile> genre = byGenre.get(genreId);
+            if (!isWithinTop(genre, profile, MAX_GENRE_CANDIDATES + 1)) continue;
+            // 기준 장르가 이 장르인 아티스트만 이 장르 후보를 사용
+            for (ArtistProfile other : genre) {
+                if (genreId.equals(other.primaryGenreId())) affected.add(other.id());
+            }
+        }
+        if (profile.hasGroup()) {
+            TreeSet<ArtistProfile> group = byGroup.get(profile.artistGroup());
+            if (isWithinTop(group, profile, MAX_GROUP_CANDIDATES + 1)) group.forEach(other -> affected.add(other.id()));
+        }
+        if (profile.artistType() != null) {
+            TreeSet<ArtistProfile> type = byType.get(profile.artistType());
+            if (isWithinTop(type, profile, MAX_TYPE_CANDIDATES + 1)) {
+                for (ArtistProfile other : type) {
+                    if (typeFallbackArtists.contains(other.id())) affected.add(other.id());
+                }
+            }
+        }
+    }
+
+    private static boolean isWithinTop(TreeSet<ArtistProfile> source, ArtistProfile profile, int limit) {
+        if (source == null) return false;
+        int rank = 0;
+        for (ArtistProfile other : source) {
+            if (rank++ >= limit) return false;
+            if (other.id() == profile.id()) return true;
+        }
+        return false;
+    }
+
+    private void index(ArtistProfile profile) {
+        profiles.put(profile.id(), profile);
+        for (Long genreId : profile.genreIds()) {
+            byGenre.computeIfAbsent(genreId, key -> new TreeSet<>(POPULARITY)).add(profile);
+        }
+        if (profile.hasGroup()) byGroup.computeIfAbsent(profile.artistGroup(), key -> new TreeSet<>(POPULARITY)).add(profile);
+        if (profile.artistType() != null) byType.computeIfAbsent(profile.artistType(), key -> new TreeSet<>(POPULARITY)).add(profile);
+    }
+
+    private void unindex(ArtistProfile profile) {
+        profiles.remove(profile.id());
+        for (Long genreId : profile.genreIds()) removeFrom(byGenre, genreId, profile);
+        if (profile.hasGroup()) removeFrom(byGroup, profile.artistGroup(), profile);
+        if (profile.artistType() != null) removeFrom(byType, profile.artistType(), profile);
+    }
+
+    private static <K> void removeFrom(Map<K, TreeSet<ArtistProfile>> index, K key, ArtistProfile profile) {
+        TreeSet<ArtistProfile> set = index.get(key);
+        if (set == null) return;
+        set.remove(profile);
+        if (set.isEmpty()) index.remove(key);
+    }
+
+    private void recompute(ArtistProfile base) {
+        // 1단계: 후보 뽑기 (Recall)
+        Set<ArtistProfile> candidates = collectRelatedCandidates(base);
+        List<RelatedArtistResponse> responses = List.of();
+        if (!candidates.isEmpty()) {
+            // 2단계: 점수 매기기 (Score)
+            List<ScoredArtist> scoredArtists = scoreCandidates(candidates, base);
+
+            // 3단계: 4~5명 뽑기 + 도배 방지 (Diversity)
+            responses = selectWithDiversity(scoredArtists, base).stream()
+                    .map(ArtistProfile::toResponse)
+                    .toList();
+        }
+        related.put(base.id(), responses);
+    }
+
+    // 1단계: 후보 뽑기 (Recall)
+    private Set<ArtistProfile> collectRelatedCandidates(ArtistProfile base) {
+        Set<ArtistProfile> candidates = new HashSet<>();
+
+        // 같은 genre인 아티스트들
+        Long genreId = base.primaryGenreId();
+        if (genreId != null) addTop(candidates, byGenre.get(genreId), base.id(), MAX_GENRE_CANDIDATES);
+
+        // 같은 artistGroup인 아티스트들 (artistGroup이 있을 때만)
+        if (base.hasGroup()) addTop(candidates, byGroup.get(base.artistGroup()), base.id(), MAX_GROUP_CANDIDATES);
+
+        // 같은 artistType인 아티스트들 (fallback: 후보가 부족할 때만)
+        typeFallbackArtists.remove(base.id());
+        if (base.artistType() != null && candidates.size() < MIN_CANDIDATES_FOR_FALLBACK) {
+            addTop(candidates, byType.get(base.artistType()), base.id(), MAX_TYPE_CANDIDATES);
+            typeFallbackArtists.add(base.id());
+        }
+
+        return candidates;
+    }
+
+    private static void addTop(Set<ArtistProfile> candidates, TreeSet<ArtistProfile> source, long excludeId, int limit) {
+        if (source == null) return;
+        int added = 0;
+        for (ArtistProfile profile : source) {
+            if (added >= limit) break;
+            if (profile.id() == excludeId) continue;
+            candidates.add(profile);
+            added++;
+        }
+    }
+
+    // 2단계: 점수 매기기 (Score)
+    private static List<ScoredArtist> scoreCandidates(Set<ArtistProfile> candidates, ArtistProfile base) {
+        List<ScoredArtist> scored = new ArrayList<>();
+        Long genreId = base.primaryGenreId();
+
+        for (ArtistProfile candidate : candidates) {
+            double score = 0.0;
+            boolean hasGroupScore = false;
+
+            // 같은 그룹이면 +80
+            if (isSameGroup(base, candidate)) {
+                score += 80;
+                hasGroupScore = true;
+            }
+
+            // 같은 장르면 +60 (그룹 점수가 있을 때는 +30으로 완화)
+            if (candidate.hasGenre(genreId)) {
+                score += hasGroupScore ? 30 : 60;
+            }
+
+            // 같은 타입이면 +15
+            if (base.artistType() != null && candidate.artistType() == base.artistType()) {
+                score += 15;
+            }
+
+            // likeCount 보정: 기본 연관 점수가 일정 수준 이상일 때만 적용, 최대 15점
+            double baseScore = score;
+            if (baseScore >= MIN_BASE_SCORE_FOR_LIKECOUNT && candidate.likeCount() > 0) {
+                double likeCountBonus = 5.0 * Math.log(candidate.likeCount() + 1);
+                score += Math.min(likeCountBonus, MAX_LIKECOUNT_BONUS);
+            }
+
+            // hash 기반 tie-breaker 값 계산
+            int hashValue = calculateHashForTieBreaker(base.id(), candidate.id());
+
+            // hash를 점수에 반영하여 기준 아티스트별로 다른 순서 보장
+            double normalizedHash = (Math.abs(hashValue) % 10000) / 10000.0;
+            score += normalizedHash;
+
+            scored.add(new ScoredArtist(candidate, score, hashValue));
+        }
+
+        // 점수 내림차순 정렬
+        scored.sort((a, b) -> {
+            int scoreCompare = Double.compare(b.score, a.score);
+            if (scoreCompare != 0) {
+                return scoreCompare;
+            }
+
+            int likeCountCompare = Integer.compare(b.artist.likeCount(), a.artist.likeCount());
+            if (likeCountCompare != 0) {
+                return likeCountCompare;
+            }
+
+            int nameCompare = a.artist.displayName().compareTo(b.artist.displayName());
+            if (nameCompare != 0) {
+                return nameCompare;
+            }
+
+            if (a.artist.spotifyArtistId() != null && b.artist.spotifyArtistId() != null) {
+                int spotifyIdCompare = a.artist.spotifyArtistId().compareTo(b.artist.spotifyArtistId());
+                if (spotifyIdCompare != 0) {
+                    return spotifyIdCompare;
+                }
+            }
+
+            return Long.compare(a.artist.id(), b.artist.id());
+        });
+
+        return scored;
+    }
+
+    private static boolean isSameGroup(ArtistProfile base, ArtistProfile candidate) {
+        return base.hasGroup() && base.artistGroup().equals(candidate.artistGroup());
+    }
+
+    // 기준 아티스트 ID와 후보 아티스트 ID를 조합하여 hash 값 계산
+    private static int calculateHashForTieBreaker(long baseArtistId, long candidateArtistId) {
+        String combined = baseArtistId + "-" + candidateArtistId;
+        return combined.hashCode();
+    }
+
+    // 3단계: 슬롯 기반 최종 선택 (Diversity)
+    private static List<ArtistProfile> selectWithDiversity(List<ScoredArtist> scoredArtists, ArtistProfile base) {
+        Long genreId = base.primaryGenreId();
+
+        // 슬롯별로 후보 분류
+        List<ScoredArtist> groupSlot = new ArrayList<>();
+        List<ScoredArtist> genreSlot = new ArrayList<>();
+        List<ScoredArtist> otherSlot = new ArrayList<>();
+
+        for (ScoredArtist scored : scoredArtists) {
+            if (isSameGroup(base, scored.artist)) {
+                groupSlot.add(scored);
+            } else if (scored.artist.hasGenre(genreId)) {
+                genreSlot.add(scored);
+            } else {
+                otherSlot.add(scored);
+            }
+        }
+
+        // 슬롯별로 최종 선택
+        List<ArtistProfile> selected = new ArrayList<>();
+
+        // 1. 그룹 슬롯에서 최대 2명 선택
+        for (int i = 0; i < Math.min(MAX_SAME_GROUP, groupSlot.size()) && selected.size() < TARGET_COUNT; i++) {
+            selected.add(groupSlot.get(i).artist);
+        }
+
+        // 2. 장르 슬롯에서 선택
+        int remainingSlots = TARGET_COUNT - selected.size();
+        int genreCount = Math.min(MAX_SAME_GENRE, Math.min(genreSlot.size(), remainingSlots));
+        for (int i = 0; i < genreCount && selected.size() < TARGET_COUNT; i++) {
+            selected.add(genreSlot.get(i).artist);
+        }
+
+        // 3. 그 외 슬롯에서 나머지 채우기
+        for (ScoredArtist scored : otherSlot) {
+            if (selected.size() >= TARGET_COUNT) {
+                break;
+            }
+            selected.add(scored.artist);
+        }
+
+        // 4. 장르 슬롯에서 추가로 채우기
+        if (selected.size() < TARGET_COUNT && genreSlot.size() > genreCount) {
+            for (int i = genreCount; i < genreSlot.size() && selected.size() < TARGET_COUNT; i++) {
+                selected.add(genreSlot.get(i).artist);
+            }
+        }
+
+        // 5. 그룹 슬롯에서 추가로 채우기
+        if (selected.size() < TARGET_COUNT && groupSlot.size() > MAX_SAME_GROUP) {
+            for (int i = MAX_SAME_GROUP; i < groupSlot.size() && selected.size() < TARGET_COUNT; i++) {
+                selected.add(groupSlot.get(i).artist);
+            }
+        }
+
+        return selected;
+    }
+}
@@ -1,275 +1,122 @@
 package com.back.web7_9_codecrete_be.domain.artists.service.spotify.related;
 
 import com.back.web7_9_codecrete_be.domain.artists.dto.response.RelatedArtistResponse;
-import com.back.web7_9_codecrete_be.domain.artists.entity.Artist;
-import com.back.web7_9_codecrete_be.domain.artists.entity.ArtistType;
 import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistRepository;
-import com.back.web7_9_codecrete_be.domain.artists.service.spotify.related.model.ScoredArtist;
+import com.back.web7_9_codecrete_be.domain.artists.service.spotify.related.model.ArtistProfile;
+import com.back.web7_9_codecrete_be.global.redis.ArtistPubSubChannels;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-// 관련 아티스트 추천 서비스 : 3단계 파이프라인: Recall -> Score -> Diversity
+// 관련 아티스트 추천 서비스 : 모든 아티스트의 관련 아티스트를 미리 계산한 그래프(JVM 내부, RelatedArtistGraph)에서 조회합니다.
+// 정보/좋아요가 바뀐 아티스트는 모든 인스턴스의 대기열에 넣었다가 모아서 반영하고, 놓친 전파 메시지는 주기적인 전체 재구성 때 맞춰집니다. (ArtistScheduler)
 public class RelatedArtistService {
 
     private final ArtistRepository artistRepository;
 
-    private static final int MAX_GENRE_CANDIDATES = 200; // 결정론적 다양성을 위해 후보 풀 확장
-    private static final int MAX_GROUP_CANDIDATES = 5;
-    private static final int MAX_TYPE_CANDIDATES = 50;
-    private static final int MIN_CANDIDATES_FOR_FALLBACK = 10; // 이보다 적으면 타입 후보 추가
-    private static final double MAX_LIKECOUNT_BONUS = 15.0;
-    private static final double MIN_BASE_SCORE_FOR_LIKECOUNT = 30.0; // 기본 연관 점수가 이 이상일 때만 likeCount 보정 적용
-    private static final int MAX_SAME_GROUP = 2;
-    private static final int MAX_SAME_GENRE = 3;
-    private static final int TARGET_COUNT = 5;
+    private final RedisTemplate<String, String> redisTemplate;
 
-    // 관련 아티스트 추천 (3단계: Recall -> Score -> Diversity)
-    public List<RelatedArtistResponse> getRelatedArtists(
-            long artistId,
-            String artistGroup,
-            ArtistType artistType,
-            Long genreId
-    ) {
-        try {
-            // 1단계: 후보 뽑기 (Recall)
-            Set<Artist> candidates = collectRelatedCandidates(artistId, artistGroup, artistType, genreId);
-
-            if (candidates.isEmpty()) {
-                return List.of();
-            }
-
-            // 2단계: 점수 매기기 (Score)
-            List<ScoredArtist> scoredArtists = scoreCandidates(candidates, artistGroup, artistType, genreId, artistId);
+    private volatile RelatedArtistGraph graph = RelatedArtistGraph.build(List.of());
 
-            // 3단계: 4~5명 뽑기 + 도배 방지 (Diversity)
-            List<Artist> selectedArtists = selectWithDiversity(scoredArtists, artistGroup, genreId);
-
-            // RelatedArtistResponse로 변환
-            return selectedArtists.stream()
-                    .map(a -> new RelatedArtistResponse(
-                            a.getId(),
-                            a.getArtistName(),
-                            a.getNameKo(),
-                            a.getImageUrl(),
-                            a.getSpotifyArtistId()
-                    ))
-                    .toList();
+    // 그래프에 반영을 기다리는 아티스트 ID
+    private final Set<Long> pendingArtistIds = ConcurrentHashMap.newKeySet();
 
+    // 서버 시작 시 그래프 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initGraph() {
+        try {
+            rebuildLocal();
         } catch (Exception e) {
-            log.error("관련 아티스트 조회 실패: artistId={}", artistId, e);
-            return List.of();
+            log.warn("관련 아티스트 그래프 초기 구성 실패", e);
         }
     }
 
-    // 1단계: 후보 뽑기 (Recall)
-    private Set<Artist> collectRelatedCandidates(
-            long artistId,
-            String artistGroup,
-            ArtistType artistType,
-            Long genreId
-    ) {
-        Set<Artist> candidates = new HashSet<>();
-
-        // 같은 genre인 아티스트들
-        if (genreId != null) {
-            List<Artist> sameGenre = artistRepository.findByGenreIdAndIdNot(
-                    genreId, artistId,
-                    PageRequest.of(0, MAX_GENRE_CANDIDATES)
-            );
-            candidates.addAll(sameGenre);
-        }
-
-        // 같은 artistGroup인 아티스트들 (artistGroup이 있을 때만)
-        if (artistGroup != null && !artistGroup.isBlank()) {
-            List<Artist> sameGroup = artistRepository.findByArtistGroupAndIdNot(
-                    artistGroup, artistId,
-                    PageRequest.of(0, MAX_GROUP_CANDIDATES)
-            );
-            candidates.addAll(sameGroup);
-        }
-
-        // 같은 artistType인 아티스트들 (fallback: 후보가 부족할 때만)
-        if (artistType != null && candidates.size() < MIN_CANDIDATES_FOR_FALLBACK) {
-            List<Artist> sameType = artistRepository.findByArtistTypeAndIdNot(
-                    artistType, artistId,
-                    PageRequest.of(0, MAX_TYPE_CANDIDATES)
-            );
-            candidates.addAll(sameType);
-        }
-
-        return candidates;
+    // 관련 아티스트 조회 (DB 조회 없음, 그래프에 아직 없는 아티스트면 빈 목록)
+    public List<RelatedArtistResponse> getRelatedArtists(long artistId) {
+        return graph.get(artistId).orElse(List.of());
     }
 
-    // 2단계: 점수 매기기 (Score)
-    private List<ScoredArtist> scoreCandidates(
-            Set<Artist> candidates,
-            String artistGroup,
-            ArtistType artistType,
-            Long genreId,
-            long baseArtistId
-    ) {
-        List<ScoredArtist> scored = new ArrayList<>();
-
-        for (Artist candidate : candidates) {
-            double score = 0.0;
-            boolean hasGroupScore = false;
-
-            // 같은 그룹이면 +80
-            if (artistGroup != null && !artistGroup.isBlank() &&
-                    candidate.getArtistGroup() != null &&
-                    candidate.getArtistGroup().equals(artistGroup)) {
-                score += 80;
-                hasGroupScore = true;
-            }
-
-            // 같은 장르면 +60 (그룹 점수가 있을 때는 +30으로 완화)
-            if (genreId != null) {
-                boolean hasSameGenre = candidate.getArtistGenres().stream()
-                        .anyMatch(ag -> ag.getGenre().getId() == genreId);
-                if (hasSameGenre) {
-                    score += hasGroupScore ? 30 : 60;
-                }
-            }
-
-            // 같은 타입이면 +15
-            if (artistType != null && candidate.getArtistType() == artistType) {
-                score += 15;
-            }
-
-            // likeCount 보정: 기본 연관 점수가 일정 수준 이상일 때만 적용, 최대 15점
-            double baseScore = score;
-            if (baseScore >= MIN_BASE_SCORE_FOR_LIKECOUNT && candidate.getLikeCount() > 0) {
-                double likeCountBonus = 5.0 * Math.log(candidate.getLikeCount() + 1);
-                score += Math.min(likeCountBonus, MAX_LIKECOUNT_BONUS);
-            }
-
-            // hash 기반 tie-breaker 값 계산
-            int hashValue = calculateHashForTieBreaker(baseArtistId, candidate.getId());
-
-            // hash를 점수에 반영하여 기준 아티스트별로 다른 순서 보장
-            double normalizedHash = (Math.abs(hashValue) % 10000) / 10000.0;
-            score += normalizedHash;
-
-            scored.add(new ScoredArtist(candidate, score, hashValue));
+    // 정보/좋아요가 바뀐 아티스트를 반영 대기열에 넣고 다른 인스턴스에도 전파
+    public void markChanged(Collection<Long> artistIds) {
+        if (artistIds.isEmpty()) return;
+        pendingArtistIds.addAll(artistIds);
+        try {
+            redisTemplate.convertAndSend(ArtistPubSubChannels.ARTIST_RELATED,
+                    ServerInstanceId.ID + "|" + artistIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.warn("관련 아티스트 갱신 전파 실패: artistIds={}", artistIds, e);
         }
-
-        // 점수 내림차순 정렬
-        scored.sort((a, b) -> {
-            int scoreCompare = Double.compare(b.score, a.score);
-            if (scoreCompare != 0) {
-                return scoreCompare;
-            }
-
-            int likeCountCompare = Integer.compare(b.artist.getLikeCount(), a.artist.getLikeCount());
-            if (likeCountCompare != 0) {
-                return likeCountCompare;
-            }
-
-            String nameA = a.artist.getNameKo() != null && !a.artist.getNameKo().isBlank()
-                    ? a.artist.getNameKo()
-                    : a.artist.getArtistName();
-            String nameB = b.artist.getNameKo() != null && !b.artist.getNameKo().isBlank()
-                    ? b.artist.getNameKo()
-                    : b.artist.getArtistName();
-            int nameCompare = nameA.compareTo(nameB);
-            if (nameCompare != 0) {
-                return nameCompare;
-            }
-
-            if (a.artist.getSpotifyArtistId() != null && b.artist.getSpotifyArtistId() != null) {
-                int spotifyIdCompare = a.artist.getSpotifyArtistId().compareTo(b.artist.getSpotifyArtistId());
-                if (spotifyIdCompare != 0) {
-                    return spotifyIdCompare;
-                }
-            }
-
-            return Long.compare(a.artist.getId(), b.artist.getId());
-        });
-
-        return scored;
     }
 
-    // 기준 아티스트 ID와 후보 아티스트 ID를 조합하여 hash 값 계산
-    private int calculateHashForTieBreaker(long baseArtistId, long candidateArtistId) {
-        String combined = baseArtistId + "-" + candidateArtistId;
-        return combined.hashCode();
+    // 다른 인스턴스에서 보낸 메시지 처리 -> "{인스턴스 ID}|{아티스트 ID,...}" (자신이 보낸 메시지는 이미 대기열에 있으므로 무시)
+    public void onMessage(String message) {
+        String[] parts = message.split("\\|", 2);
+        if (parts.length < 2 || ServerInstanceId.ID.equals(parts[0])) return;
+        Arrays.stream(parts[1].split(","))
+                .filter(id -> !id.isBlank())
+                .map(Long::parseLong)
+                .forEach(pendingArtistIds::add);
     }
 
-    // 3단계: 슬롯 기반 최종 선택 (Diversity)
-    private List<Artist> selectWithDiversity(
-            List<ScoredArtist> scoredArtists,
-            String artistGroup,
-            Long genreId
-    ) {
-        // 슬롯별로 후보 분류
-        List<ScoredArtist> groupSlot = new ArrayList<>();
-        List<ScoredArtist> genreSlot = new ArrayList<>();
-        List<ScoredArtist> otherSlot = new ArrayList<>();
-
-        for (ScoredArtist scored : scoredArtists) {
-            Artist candidate = scored.artist;
-
-            boolean isSameGroup = artistGroup != null && !artistGroup.isBlank() &&
-                    candidate.getArtistGroup() != null &&
-                    candidate.getArtistGroup().equals(artistGroup);
-
-            boolean isSameGenre = genreId != null && candidate.getArtistGenres().stream()
-                    .anyMatch(ag -> ag.getGenre().getId() == genreId);
-
-            if (isSameGroup) {
-                groupSlot.add(scored);
-            } else if (isSameGenre) {
-                genreSlot.add(scored);
-            } else {
-                otherSlot.add(scored);
-            }
-        }
-
-        // 슬롯별로 최종 선택
-        List<Artist> selected = new ArrayList<>();
-
-        // 1. 그룹 슬롯에서 최대 2명 선택
-        for (int i = 0; i < Math.min(MAX_SAME_GROUP, groupSlot.size()) && selected.size() < TARGET_COUNT; i++) {
-            selected.add(groupSlot.get(i).artist);
-        }
-
-        // 2. 장르 슬롯에서 선택
-        int remainingSlots = TARGET_COUNT - selected.size();
-        int genreCount = Math.min(MAX_SAME_GENRE, Math.min(genreSlot.size(), remainingSlots));
-        for (int i = 0; i < genreCount && selected.size() < TARGET_COUNT; i++) {
-            selected.add(genreSlot.get(i).artist);
-        }
+    // 대기열의 아티스트를 DB 기준으로 다시 읽어 그래프에 반영 (DB 에 없으면 삭제) -> 다시 계산한 아티스트 수 반환
+    @Transactional(readOnly = true)
+    public synchronized int applyPending() {
+        if (pendingArtistIds.isEmpty()) return 0;
+        List<Long> artistIds = new ArrayList<>(pendingArtistIds);
+        pendingArtistIds.removeAll(artistIds);
+
+        Map<Long, ArtistProfile> changed = new HashMap<>();
+        artistIds.forEach(artistId -> changed.put(artistId, null));
+        changed.putAll(loadProfiles(
+                artistRepository.findRelatedArtistRowsByIdIn(artistIds),
+                artistRepository.findArtistGenreRowsByArtistIdIn(artistIds)));
+        return graph.apply(changed);
+    }
 
-        // 3. 그 외 슬롯에서 나머지 채우기
-        for (ScoredArtist scored : otherSlot) {
-            if (selected.size() >= TARGET_COUNT) {
-                break;
-            }
-            selected.add(scored.artist);
-        }
+    // 전체 재구성 (반영과 동시에 실행되지 않으므로, 재구성 중 들어온 변경은 대기열에 남았다가 새 그래프에 반영됨)
+    @Transactional(readOnly = true)
+    public synchronized void rebuildLocal() {
+        long start = System.currentTimeMillis();
+        Map<Long, ArtistProfile> profiles = loadProfiles(
+                artistRepository.findRelatedArtistRows(),
+                artistRepository.findArtistGenreRows());
+        graph = RelatedArtistGraph.build(profiles.values());
+        log.info("관련 아티스트 그래프 구성 완료: 아티스트 {}명, {}ms", graph.size(), System.currentTimeMillis() - start);
+    }
 
-        // 4. 장르 슬롯에서 추가로 채우기
-        if (selected.size() < TARGET_COUNT && genreSlot.size() > genreCount) {
-            for (int i = genreCount; i < genreSlot.size() && selected.size() < TARGET_COUNT; i++) {
-                selected.add(genreSlot.get(i).artist);
-            }
+    private static Map<Long, ArtistProfile> loadProfiles(List<ArtistRepository.RelatedArtistRow> rows,
+                                                         List<ArtistRepository.ArtistGenreRow> genreRows) {
+        Map<Long, List<Long>> genreIds = new HashMap<>();
+        for (ArtistRepository.ArtistGenreRow row : genreRows) {
+            List<Long> ids = genreIds.computeIfAbsent(row.getArtistId(), key -> new ArrayList<>());
+            if (!ids.contains(row.getGenreId())) ids.add(row.getGenreId());
         }
 
-        // 5. 그룹 슬롯에서 추가로 채우기
-        if (selected.size() < TARGET_COUNT && groupSlot.size() > MAX_SAME_GROUP) {
-            for (int i = MAX_SAME_GROUP; i < groupSlot.size() && selected.size() < TARGET_COUNT; i++) {
-                selected.add(groupSlot.get(i).artist);
-            }
+        Map<Long, ArtistProfile> profiles = new HashMap<>();
+        for (ArtistRepository.RelatedArtistRow row : rows) {
+            profiles.put(row.getId(), new ArtistProfile(
+                    row.getId(),
+                    row.getArtistName(),
+                    row.getNameKo(),
+                    row.getImageUrl(),
+                    row.getSpotifyArtistId(),
+                    row.getArtistGroup(),
+                    row.getArtistType(),
+                    row.getLikeCount() == null ? 0 : row.getLikeCount(),
+                    List.copyOf(genreIds.getOrDefault(row.getId(), List.of()))));
         }
-
-        return selected;
+        return profiles;
     }
 }
-
@@ -0,0 +1,41 @@
+package com.back.web7_9_codecrete_be.domain.artists.service.spotify.related.model;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.RelatedArtistResponse;
+import com.back.web7_9_codecrete_be.domain.artists.entity.ArtistType;
+
+import java.util.List;
+
+// 관련 아티스트 계산에 필요한 아티스트 정보 (엔티티 대신 메모리에 들고 있는 가벼운 모델)
+// genreIds 는 장르 등록 순서이며, 첫 번째 장르를 기준 장르로 사용합니다.
+public record ArtistProfile(
+        long id,
+        String artistName,
+        String nameKo,
+        String imageUrl,
+        String spotifyArtistId,
+        String artistGroup,
+        ArtistType artistType,
+        int likeCount,
+        List<Long> genreIds
+) {
+    public Long primaryGenreId() {
+        return genreIds.isEmpty() ? null : genreIds.get(0);
+    }
+
+    public boolean hasGenre(Long genreId) {
+        return genreId != null && genreIds.contains(genreId);
+    }
+
+    public boolean hasGroup() {
+        return artistGroup != null && !artistGroup.isBlank();
+    }
+
+    // 정렬용 이름 (한국어 이름 우선)
+    public String displayName() {
+        return nameKo != null && !nameKo.isBlank() ? nameKo : artistName;
+    }
+
+    public RelatedArtistResponse toResponse() {
+        return new RelatedArtistResponse(id, artistName, nameKo, imageUrl, spotifyArtistId);
+    }
+}
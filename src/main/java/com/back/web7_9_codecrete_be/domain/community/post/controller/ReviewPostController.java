@@ -1,6 +1,7 @@
 package com.back.web7_9_codecrete_be.domain.community.post.controller;
 
 
+import com.back.web7_9_codecrete_be.domain.community.post.dto.request.PostSearchSort;
 import com.back.web7_9_codecrete_be.domain.community.post.dto.request.ReviewPostMultipartRequest;
 import com.back.web7_9_codecrete_be.domain.community.post.dto.request.ReviewPostUpdateMultipartRequest;
 import com.back.web7_9_codecrete_be.domain.community.post.dto.response.ReviewPostResponse;
@@ -104,11 +105,19 @@ public class ReviewPostController {
                 """)
             @RequestParam String keyword,
 
+            @Schema(description = """
+                <h3>검색 결과 정렬 기준입니다.</h3>
+                <hr/>
+                <b>RECENT :</b> 최신 작성 순 (기본값)<br/>
+                <b>RELEVANCE :</b> 검색어 관련도 순 (제목에 나온 검색어가 내용에 나온 검색어보다 높은 점수)
+                """)
+            @RequestParam(defaultValue = "RECENT") PostSearchSort sort,
+
             @Schema(description = "페이징 처리 또는 무한 스크롤 구현에 사용하는 Pageable 객체입니다.")
             @Parameter(hidden = true) Pageable pageable
     ) {
         return RsData.success(
-                reviewPostService.searchByKeyword(keyword, pageable)
+                reviewPostService.searchByKeyword(keyword, sort, pageable)
         );
     }
 }
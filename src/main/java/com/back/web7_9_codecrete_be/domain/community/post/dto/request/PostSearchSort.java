@@ -0,0 +1,9 @@
+package com.back.web7_9_codecrete_be.domain.community.post.dto.request;
+
+// 게시글 검색 결과 정렬 기준
+public enum PostSearchSort {
+    // 최신 작성 순
+    RECENT,
+    // 검색어 관련도 순 (같으면 최신 작성 순)
+    RELEVANCE
+}
@@ -0,0 +1,49 @@
+package com.back.web7_9_codecrete_be.domain.community.post.dto.response;
+
+import com.back.web7_9_codecrete_be.domain.community.post.entity.Post;
+import com.back.web7_9_codecrete_be.domain.community.post.entity.PostCategory;
+import com.back.web7_9_codecrete_be.global.search.TextSearchIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@Schema(description = "게시글 검색 결과 DTO")
+public class PostSearchItem {
+
+    @Schema(description = "게시글 ID", example = "1")
+    private Long postId;
+
+    @Schema(description = "연관된 콘서트 ID", example = "5")
+    private Long concertId;
+
+    @Schema(description = "게시글 카테고리", example = "REVIEW")
+    private PostCategory category;
+
+    @Schema(description = "게시글 제목", example = "공연 후기입니다")
+    private String title;
+
+    @Schema(description = "검색어가 나온 부분을 <em> 태그로 감싼 게시글 제목 (HTML 특수문자는 이스케이프됩니다.)", example = "공연 <em>후기</em>입니다")
+    private String highlightedTitle;
+
+    @Schema(description = "작성일시", example = "2025-01-01T12:00:00")
+    private LocalDateTime createdDate;
+
+    @Schema(description = "검색 관련도 점수입니다. 높을수록 검색어와 관련이 큽니다.", example = "3.2")
+    private double score;
+
+    public static PostSearchItem of(Post post, String keyword, double score) {
+        return PostSearchItem.builder()
+                .postId(post.getPostId())
+                .concertId(post.getConcertId())
+                .category(post.getCategory())
+                .title(post.getTitle())
+                .highlightedTitle(TextSearchIndex.highlight(post.getTitle(), keyword))
+                .createdDate(post.getCreatedDate())
+                .score(score)
+                .build();
+    }
+}
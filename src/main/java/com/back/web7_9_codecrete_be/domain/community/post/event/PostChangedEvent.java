@@ -0,0 +1,15 @@
+package com.back.web7_9_codecrete_be.domain.community.post.event;
+
+// 게시글 작성/수정/삭제 도메인 이벤트
+public record PostChangedEvent(
+        Long postId,
+        boolean deleted
+) {
+    public static PostChangedEvent saved(Long postId) {
+        return new PostChangedEvent(postId, false);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(postId, true);
+    }
+}
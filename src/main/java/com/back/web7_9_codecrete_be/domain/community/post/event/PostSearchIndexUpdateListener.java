@@ -0,0 +1,28 @@
+package com.back.web7_9_codecrete_be.domain.community.post.event;
+
+import com.back.web7_9_codecrete_be.domain.community.post.service.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 게시글 변경 이벤트를 받아, 변경된 게시글만 검색 색인에 반영합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexUpdateListener {
+    private final PostSearchService postSearchService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            if (event.deleted()) postSearchService.removePosts(List.of(event.postId()));
+            else postSearchService.upsertPosts(List.of(event.postId()));
+        } catch (Exception e) {
+            // 색인 갱신 실패는 다음 전체 재구성 때 바로잡힘
+            log.warn("게시글 검색 색인 갱신 실패: postId={}, deleted={}", event.postId(), event.deleted(), e);
+        }
+    }
+}
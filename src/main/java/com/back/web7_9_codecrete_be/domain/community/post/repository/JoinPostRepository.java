@@ -29,4 +29,16 @@ public interface JoinPostRepository extends JpaRepository<JoinPost, Long> {
             @Param("keyword") String keyword,
             Pageable pageable
     );
+
+    @Query("""
+    SELECT
+        jp
+    FROM
+        JoinPost jp
+    JOIN FETCH
+        jp.post p
+    WHERE
+        jp.postId IN :postIds
+""")
+    List<JoinPost> findAllWithPostByPostIdIn(@Param("postIds") List<Long> postIds);
 }
@@ -29,4 +29,16 @@ public interface ReviewPostRepository extends JpaRepository<ReviewPost, Long> {
             @Param("keyword") String keyword,
             Pageable pageable
     );
+
+    @Query("""
+        SELECT
+            rp
+        FROM
+            ReviewPost rp
+        JOIN FETCH
+            rp.post p
+        WHERE
+            rp.postId IN :postIds
+    """)
+    List<ReviewPost> findAllWithPostByPostIdIn(@Param("postIds") List<Long> postIds);
 }
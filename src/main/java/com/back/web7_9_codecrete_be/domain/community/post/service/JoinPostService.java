@@ -2,11 +2,13 @@ package com.back.web7_9_codecrete_be.domain.community.post.service;
 
 import com.back.web7_9_codecrete_be.domain.community.post.dto.request.JoinPostCreateRequest;
 import com.back.web7_9_codecrete_be.domain.community.post.dto.request.JoinPostUpdateRequest;
+import com.back.web7_9_codecrete_be.domain.community.post.dto.request.PostSearchSort;
 import com.back.web7_9_codecrete_be.domain.community.post.dto.response.JoinPostResponse;
 import com.back.web7_9_codecrete_be.domain.community.post.entity.JoinPost;
 import com.back.web7_9_codecrete_be.domain.community.post.entity.JoinStatus;
 import com.back.web7_9_codecrete_be.domain.community.post.entity.Post;
 import com.back.web7_9_codecrete_be.domain.community.post.entity.PostCategory;
+import com.back.web7_9_codecrete_be.domain.community.post.event.PostChangedEvent;
 import com.back.web7_9_codecrete_be.domain.community.post.repository.JoinPostRepository;
 import com.back.web7_9_codecrete_be.domain.community.post.repository.PostRepository;
 import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertService;
@@ -14,11 +16,16 @@ import com.back.web7_9_codecrete_be.domain.users.entity.User;
 import com.back.web7_9_codecrete_be.global.error.code.PostErrorCode;
 import com.back.web7_9_codecrete_be.global.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +34,8 @@ public class JoinPostService {
     private final PostRepository postRepository;
     private final JoinPostRepository joinPostRepository;
     private final ConcertService concertService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostSearchService postSearchService;
 
     // 구인글 작성
     @Transactional
@@ -46,6 +55,7 @@ public class JoinPostService {
         post.addJoinPost(joinPost);
 
         postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.saved(post.getPostId()));
         return post.getPostId();
     }
 
@@ -79,6 +89,7 @@ public class JoinPostService {
         post.update(req.getConcertId(), req.getTitle(), req.getContent(), PostCategory.JOIN);
 
         joinPost.update(req);
+        eventPublisher.publishEvent(PostChangedEvent.saved(postId));
     }
 
     // 구인글 삭제
@@ -91,6 +102,7 @@ public class JoinPostService {
 
         Post post = validateOwner(joinPost, userId);
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
     }
 
     // 구인글 작성자 검증
@@ -121,13 +133,27 @@ public class JoinPostService {
         joinPost.close(); // status = CLOSED
     }
 
-    public List<JoinPostResponse> searchByKeyword(String keyword, Pageable pageable) {
+    // 구인글 검색 (검색 색인이 준비되지 않았으면 DB 에서 최신 작성 순으로 검색)
+    @Transactional(readOnly = true)
+    public List<JoinPostResponse> searchByKeyword(String keyword, PostSearchSort sort, Pageable pageable) {
         if (keyword == null || keyword.isEmpty()) {
             throw new BusinessException(PostErrorCode.KEYWORD_IS_NULL);
         }
 
-        return joinPostRepository.searchByKeyword(keyword, pageable)
-                .stream()
+        if (!postSearchService.isAvailable()) {
+            return joinPostRepository.searchByKeyword(keyword, pageable)
+                    .stream()
+                    .map(JoinPostResponse::from)
+                    .toList();
+        }
+
+        List<Long> postIds = postSearchService.search(keyword, PostCategory.JOIN, sort, pageable);
+        if (postIds.isEmpty()) return List.of();
+        Map<Long, JoinPost> joinPosts = joinPostRepository.findAllWithPostByPostIdIn(postIds).stream()
+                .collect(Collectors.toMap(JoinPost::getPostId, Function.identity()));
+        return postIds.stream()
+                .map(joinPosts::get)
+                .filter(Objects::nonNull)
                 .map(JoinPostResponse::from)
                 .toList();
     }
@@ -0,0 +1,152 @@
+package com.back.web7_9_codecrete_be.domain.community.post.service;
+
+import com.back.web7_9_codecrete_be.domain.community.post.dto.request.PostSearchSort;
+import com.back.web7_9_codecrete_be.domain.community.post.dto.response.PostSearchItem;
+import com.back.web7_9_codecrete_be.domain.community.post.entity.Post;
+import com.back.web7_9_codecrete_be.domain.community.post.entity.PostCategory;
+import com.back.web7_9_codecrete_be.domain.community.post.repository.PostRepository;
+import com.back.web7_9_codecrete_be.global.redis.IndexSyncMessage;
+import com.back.web7_9_codecrete_be.global.redis.IndexSyncPublisher;
+import com.back.web7_9_codecrete_be.global.redis.PostPubSubChannels;
+import com.back.web7_9_codecrete_be.global.search.SearchResult;
+import com.back.web7_9_codecrete_be.global.search.TextSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 게시글 제목/내용 검색 색인(JVM 내부)을 DB 기준으로 구성하고, 작성/수정/삭제된 게시글만 모든 인스턴스의 색인에 반영합니다.
+// 전파 메시지를 놓친 인스턴스는 매일 한 번 전체 재구성으로 맞춥니다. (SearchIndexScheduler)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+    private final PostRepository postRepository;
+
+    private final IndexSyncPublisher indexSyncPublisher;
+
+    // 필드별 가중치 (제목 > 내용)
+    private final TextSearchIndex postSearchIndex = new TextSearchIndex(3.0, 1.0);
+
+    // 게시글 ID -> 카테고리 (카테고리별 검색 필터용, 색인과 함께 갱신)
+    private final Map<Long, PostCategory> categories = new ConcurrentHashMap<>();
+
+    // 전파 명령 (IndexSyncMessage, 내용은 게시글 ID 목록)
+    public static final String COMMAND_UPSERT = "UPSERT";
+    public static final String COMMAND_REMOVE = "REMOVE";
+
+    // 서버 시작 시 색인 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        try {
+            rebuildLocal();
+        } catch (Exception e) {
+            log.warn("게시글 검색 색인 초기 구성 실패", e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return !postSearchIndex.isEmpty();
+    }
+
+    // 카테고리 안에서 검색한 결과 중 pageable 범위의 게시글 ID (최신 작성 순은 ID 내림차순)
+    public List<Long> search(String keyword, PostCategory category, PostSearchSort sort, Pageable pageable) {
+        List<TextSearchIndex.Hit> hits = postSearchIndex.search(keyword, postId -> categories.get(postId) == category);
+        if (sort == PostSearchSort.RECENT) {
+            hits = hits.stream().sorted(Comparator.comparingLong(TextSearchIndex.Hit::id).reversed()).toList();
+        }
+        if (pageable.isUnpaged()) return hits.stream().map(TextSearchIndex.Hit::id).toList();
+        return hits.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(TextSearchIndex.Hit::id)
+                .toList();
+    }
+
+    public boolean contains(long postId) {
+        return categories.containsKey(postId);
+    }
+
+    // 통합 검색용 상위 limit 개 (관련도 순)
+    @Transactional(readOnly = true)
+    public SearchResult<PostSearchItem> searchTop(String keyword, int limit) {
+        List<TextSearchIndex.Hit> hits = postSearchIndex.search(keyword);
+        if (hits.isEmpty()) return SearchResult.empty();
+        List<TextSearchIndex.Hit> top = hits.subList(0, Math.min(limit, hits.size()));
+
+        Map<Long, Post> posts = postRepository.findAllById(top.stream().map(TextSearchIndex.Hit::id).toList()).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        List<PostSearchItem> items = top.stream()
+                .filter(hit -> posts.containsKey(hit.id()))
+                .map(hit -> PostSearchItem.of(posts.get(hit.id()), keyword, hit.score()))
+                .toList();
+        return new SearchResult<>(hits.size(), hits.get(0).relevance(), items);
+    }
+
+    // 작성/수정된 게시글만 색인에 반영하고 다른 인스턴스에도 전파
+    public void upsertPosts(List<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        upsertLocal(postIds);
+        indexSyncPublisher.publish(PostPubSubChannels.POST_SEARCH_INDEX, COMMAND_UPSERT, postIds);
+    }
+
+    // 삭제된 게시글만 색인에서 제외하고 다른 인스턴스에도 전파
+    public void removePosts(List<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        removeLocal(postIds);
+        indexSyncPublisher.publish(PostPubSubChannels.POST_SEARCH_INDEX, COMMAND_REMOVE, postIds);
+    }
+
+    public void rebuildLocal() {
+        long start = System.currentTimeMillis();
+        long loadedGeneration = postSearchIndex.generation();
+        List<Post> posts = postRepository.findAll();
+        posts.forEach(post -> categories.put(post.getPostId(), post.getCategory()));
+        postSearchIndex.rebuild(toDocuments(posts), loadedGeneration);
+        log.info("게시글 검색 색인 구성 완료: 게시글 {}개, {}ms", postSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    public void upsertLocal(List<Long> postIds) {
+        List<Post> posts = postRepository.findAllById(postIds);
+        posts.forEach(post -> categories.put(post.getPostId(), post.getCategory()));
+        postSearchIndex.upsert(toDocuments(posts));
+
+        // 이미 삭제된 게시글은 카테고리와 함께 제외
+        Set<Long> missing = new HashSet<>(postIds);
+        posts.forEach(post -> missing.remove(post.getPostId()));
+        if (!missing.isEmpty()) removeLocal(missing);
+    }
+
+    public void onMessage(String message) {
+        IndexSyncMessage command = IndexSyncMessage.decodeRemote(message);
+        if (command == null) return;
+        switch (command.command()) {
+            case COMMAND_UPSERT -> {
+                if (command.hasPayload()) upsertLocal(command.ids());
+            }
+            case COMMAND_REMOVE -> {
+                if (command.hasPayload()) removeLocal(command.ids());
+            }
+            default -> log.warn("알 수 없는 게시글 검색 색인 명령: {}", message);
+        }
+    }
+
+    private void removeLocal(Collection<Long> postIds) {
+        postSearchIndex.remove(postIds);
+        categories.keySet().removeAll(postIds);
+    }
+
+    private static List<TextSearchIndex.Document> toDocuments(List<Post> posts) {
+        return posts.stream()
+                .map(post -> new TextSearchIndex.Document(post.getPostId(), post.getTitle(), post.getContent()))
+                .toList();
+    }
+}
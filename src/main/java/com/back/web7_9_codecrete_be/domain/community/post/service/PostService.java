@@ -6,12 +6,14 @@ import com.back.web7_9_codecrete_be.domain.community.post.dto.response.PostPageR
 import com.back.web7_9_codecrete_be.domain.community.post.dto.response.PostResponse;
 import com.back.web7_9_codecrete_be.domain.community.post.entity.Post;
 import com.back.web7_9_codecrete_be.domain.community.post.entity.PostCategory;
+import com.back.web7_9_codecrete_be.domain.community.post.event.PostChangedEvent;
 import com.back.web7_9_codecrete_be.domain.community.post.repository.PostRepository;
 import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertService;
 import com.back.web7_9_codecrete_be.domain.users.entity.User;
 import com.back.web7_9_codecrete_be.global.error.code.PostErrorCode;
 import com.back.web7_9_codecrete_be.global.error.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +27,7 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final ConcertService concertService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 게시글 작성
     @Transactional
@@ -40,7 +43,9 @@ public class PostService {
                 req.getCategory()
         );
 
-        return postRepository.save(post).getPostId();
+        Long postId = postRepository.save(post).getPostId();
+        eventPublisher.publishEvent(PostChangedEvent.saved(postId));
+        return postId;
     }
 
     @Transactional(readOnly = true)
@@ -80,6 +85,7 @@ public class PostService {
                 req.getContent(),
                 req.getCategory()
         );
+        eventPublisher.publishEvent(PostChangedEvent.saved(postId));
     }
 
     // 게시글 삭제
@@ -89,6 +95,7 @@ public class PostService {
         validateOwner(post, userId);
 
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
     }
 
     // 게시글 단건 조회 (예외처리 포함)
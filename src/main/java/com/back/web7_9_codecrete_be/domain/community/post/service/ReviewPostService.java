@@ -1,5 +1,6 @@
 package com.back.web7_9_codecrete_be.domain.community.post.service;
 
+import com.back.web7_9_codecrete_be.domain.community.post.dto.request.PostSearchSort;
 import com.back.web7_9_codecrete_be.domain.community.post.dto.request.ReviewPostMultipartRequest;
 import com.back.web7_9_codecrete_be.domain.community.post.dto.request.ReviewPostUpdateMultipartRequest;
 import com.back.web7_9_codecrete_be.domain.community.post.dto.response.ConcertReviewListResponse;
@@ -10,6 +11,7 @@ import com.back.web7_9_codecrete_be.domain.community.post.entity.Post;
 import com.back.web7_9_codecrete_be.domain.community.post.entity.PostCategory;
 import com.back.web7_9_codecrete_be.domain.community.post.entity.ReviewImage;
 import com.back.web7_9_codecrete_be.domain.community.post.entity.ReviewPost;
+import com.back.web7_9_codecrete_be.domain.community.post.event.PostChangedEvent;
 import com.back.web7_9_codecrete_be.domain.community.post.repository.PostRepository;
 import com.back.web7_9_codecrete_be.domain.community.post.repository.ReviewPostRepository;
 import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertService;
@@ -20,6 +22,7 @@ import com.back.web7_9_codecrete_be.global.storage.FileStorageService;
 import com.back.web7_9_codecrete_be.global.storage.ImageFileValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +30,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,6 +45,8 @@ public class ReviewPostService {
     private final ImageFileValidator imageFileValidator;
     private final PostLikeService postLikeService;
     private final ConcertService concertService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostSearchService postSearchService;
 
     // 후기 작성
     @Transactional
@@ -77,6 +84,7 @@ public class ReviewPostService {
             }
         }
 
+        eventPublisher.publishEvent(PostChangedEvent.saved(post.getPostId()));
         return post.getPostId();
     }
 
@@ -120,6 +128,7 @@ public class ReviewPostService {
                 req.getRemainImageUrls(),
                 req.getImages()
         );
+        eventPublisher.publishEvent(PostChangedEvent.saved(postId));
     }
 
     // 후기 삭제
@@ -138,6 +147,7 @@ public class ReviewPostService {
                 .toList();
 
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
 
         urls.forEach(this::safeDeleteImage);
     }
@@ -270,13 +280,28 @@ public class ReviewPostService {
                 .build();
     }
 
-    public List<ReviewPostResponse> searchByKeyword(String keyword, Pageable pageable) {
+    // 후기 검색 (검색 색인이 준비되지 않았으면 DB 에서 최신 작성 순으로 검색)
+    @Transactional(readOnly = true)
+    public List<ReviewPostResponse> searchByKeyword(String keyword, PostSearchSort sort, Pageable pageable) {
         if (keyword == null || keyword.isBlank()) {
             throw new BusinessException(PostErrorCode.KEYWORD_IS_NULL);
         }
 
-        return reviewPostRepository.searchByKeyword(keyword, pageable)
-                .stream()
+        List<ReviewPost> reviewPosts;
+        if (!postSearchService.isAvailable()) {
+            reviewPosts = reviewPostRepository.searchByKeyword(keyword, pageable);
+        } else {
+            List<Long> postIds = postSearchService.search(keyword, PostCategory.REVIEW, sort, pageable);
+            if (postIds.isEmpty()) return List.of();
+            Map<Long, ReviewPost> found = reviewPostRepository.findAllWithPostByPostIdIn(postIds).stream()
+                    .collect(Collectors.toMap(ReviewPost::getPostId, Function.identity()));
+            reviewPosts = postIds.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        return reviewPosts.stream()
                 .map(reviewPost -> {
                     List<String> imageUrls = reviewPost.getImages()
                             .stream()
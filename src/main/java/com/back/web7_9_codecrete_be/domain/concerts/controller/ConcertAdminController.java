@@ -17,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -68,6 +69,17 @@ public class ConcertAdminController {
         return concertService.getNoTicketTimeConcertsList(pageable);
     }
 
+    @Operation(summary = "예매 시간이 없는 공연 목록 커서 조회", description = "예매 시간이 없는 공연들을 공연시간 내림차순으로 커서 기반 조회합니다.")
+    @GetMapping("noTicketTimeList/cursor")
+    public ConcertCursorResponse getNoTicketTimeConcertsListByCursor(
+            @Schema(description = "이전 응답의 nextCursor 값입니다. 첫 페이지는 넘기지 않습니다.")
+            @RequestParam(required = false) String cursor,
+            @Schema(description = "한 번에 조회할 공연 개수입니다. (최대 100)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return concertService.getNoTicketTimeConcertsListByCursor(cursor, size);
+    }
+
     @Operation(summary = "공연을 삭제합니다.", description = "해당 공연을 삭제합니다.")
     @DeleteMapping("deleteConcert/{concertId}")
     public RsData<Void> deleteConcert(
@@ -122,13 +134,19 @@ public class ConcertAdminController {
         return RsData.success(kopisApiService.updateConcertData());
     }
 
-    @Operation(summary = "공연 조회수 갱신", description = "캐시에 저장되어 있는 조회수를 DB에 반영하고 캐싱된 공연 목록을 초기화합니다.")
+    @Operation(summary = "공연 조회수 갱신", description = "Redis에 쌓인 조회수 증가분을 DB에 바로 반영하고 조회수 순 공연 목록 캐시를 무효화합니다. (평소에는 몇 분마다 자동 반영됩니다.)")
     @PostMapping("updateConcertViewCount")
     public RsData<Void> updateConcertViewCount(){
         concertService.viewCountUpdate();
         return RsData.success(null);
     }
 
+    @Operation(summary = "공연 캐시 통계 조회", description = "로컬(L1), Redis(L2) 캐시 계층별 공연 목록/상세/개수의 적중, 실패 횟수를 조회합니다.")
+    @GetMapping("cacheStats")
+    public RsData<Map<String, Long>> getCacheStats(){
+        return RsData.success(concertService.getCacheStats());
+    }
+
     @Operation(summary = "알림 이메일 전송", description = "예매일이 오늘인 공연에 대해 알림 이메일을 전송합니다.")
     @PostMapping("sendTicketingEmail")
     public RsData<String> sendTicketingEmail(){
@@ -150,4 +168,11 @@ public class ConcertAdminController {
         return RsData.success(null);
     }
 
+    @Operation(summary = "공연 검색 색인을 재구성합니다.", description = "DB의 공연 정보로 키워드 검색 색인을 다시 만들고 다른 서버에도 전파합니다.")
+    @PostMapping("searchIndexSet")
+    public RsData<Void> rebuildSearchIndex(){
+        concertService.rebuildSearchIndex();
+        return RsData.success(null);
+    }
+
 }
@@ -8,11 +8,15 @@ import com.back.web7_9_codecrete_be.domain.users.entity.User;
 import com.back.web7_9_codecrete_be.global.rq.Rq;
 import com.back.web7_9_codecrete_be.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -31,9 +35,12 @@ public class ConcertController {
                     <h3>공연 전체 목록을 조회하는 통합 API입니다.</h3>
                     <hr/>
                     다양한 조회 기준에 따라 공연 목록을 조회합니다.<br/>
+                    응답의 ETag 를 If-None-Match 로 보내면 목록이 바뀌지 않았을 때 304 를 응답합니다.<br/>
                     """)
+    @ApiResponse(responseCode = "200", description = "data 는 공연 목록(ConcertItem 배열)입니다.",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RsData.class)))
     @GetMapping("list/{sort}")
-    public RsData<List<ConcertItem>> getList(
+    public ResponseEntity<byte[]> getList(
             @Schema(description = """
                     <h3>리스트를 받아올 기준이 될 경로 변수입니다. <b>대문자</b>로 예시에 있는 것만 사용해 주세요.</h3>
                     <hr/>
@@ -51,7 +58,35 @@ public class ConcertController {
                     """)
             Pageable pageable
     ) {
-        return RsData.success(concertService.getConcertsList(pageable, sort));
+        // 캐싱된 JSON 본문을 그대로 씀 (같은 ETag 로 다시 요청하면 304)
+        ConcertListBody body = concertService.getConcertsListBody(pageable, sort);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.body().length)
+                .eTag(body.etag())
+                .body(body.body());
+    }
+
+    @Operation(summary = "공연목록 (커서)",
+            description = """
+                    <h3>공연 전체 목록을 커서 기반으로 조회합니다.</h3>
+                    <hr/>
+                    정렬 기준은 list/{sort} 와 같습니다.<br/>
+                    응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회하며, 페이지가 깊어져도 조회 속도가 같습니다.<br/>
+                    """)
+    @GetMapping("list/{sort}/cursor")
+    public RsData<ConcertCursorResponse> getListByCursor(
+            @Schema(description = "리스트를 받아올 기준이 될 경로 변수입니다.", examples = {"LIKE", "VIEW", "TICKETING", "UPCOMING", "REGISTERED"})
+            @PathVariable ListSort sort,
+            @Schema(description = """
+                    이전 응답의 <b>nextCursor</b> 값입니다.<br/>
+                    첫 페이지를 조회할 때는 넘기지 않습니다.
+                    """)
+            @RequestParam(required = false) String cursor,
+            @Schema(description = "한 번에 조회할 공연 개수입니다. (최대 100)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return RsData.success(concertService.getConcertsListByCursor(sort, cursor, size));
     }
 
     @Operation(summary = "아티스트 공연 목록",
@@ -79,12 +114,34 @@ public class ConcertController {
         return RsData.success(concertService.getArtistConcertList(artistId,type,pageable));
     }
 
+    @Operation(summary = "아티스트 공연 목록 (커서)",
+            description = """
+                    해당 아티스트의 공연 목록을 커서 기반으로 불러옵니다.<br/>
+                    type 은 <b>past</b>, <b>upcoming</b> 만 사용할 수 있습니다.<br/>
+                    """)
+    @GetMapping("/artistList/cursor")
+    public RsData<ConcertCursorResponse> getConcertsListByArtistAndCursor(
+            @Schema(description = "조회 기준이 될 artist의 ID입니다.")
+            @RequestParam Long artistId,
+            @Schema(description = "조회 타입입니다. past, upcoming")
+            @RequestParam String type,
+            @Schema(description = """
+                    이전 응답의 <b>nextCursor</b> 값입니다.<br/>
+                    첫 페이지를 조회할 때는 넘기지 않습니다.
+                    """)
+            @RequestParam(required = false) String cursor,
+            @Schema(description = "한 번에 조회할 공연 개수입니다. (최대 100)")
+            @RequestParam(defaultValue = "20") int size
+    ){
+        return RsData.success(concertService.getArtistConcertListByCursor(artistId, type, cursor, size));
+    }
+
     @Operation(summary = "좋아요 기반 추천 공연 목록", description = """
             <h2>현재 사용자가 좋아요 한 공연들을 기반으로 앞으로 올 공연들을 추천합니다.</h2><hr/>
             좋아요 한 공연의 제목을 어절 단위로 잘라, 중복으로 나타나는 어절에 가중치를 부여합니다.<br/>
-            이렇게 구성된 어절을 포함하고 있는 제목들을 전부 가져옵니다.<br/>
-            자카드 유사도를 통해 유사도가 높은 공연을 가져오되, 가중치가 높은 어절을 포함하는 공연이 먼저 보이게끔 정렬합니다.<br/>
-            <strong>좋아요 한 공연이 없거나, 어절을 포함한 공연이 없을 경우 빈 배열이 반환됩니다.</strong>
+            좋아요 한 공연과 제목이 비슷한 공연들 중, 가중치가 높은 어절을 포함하는 공연이 먼저 보이게끔 정렬합니다.<br/>
+            추천 목록은 좋아요/해제 후 잠시 뒤와 매일 새벽에 미리 계산됩니다.<br/>
+            <strong>좋아요 한 공연이 없거나 추천 목록이 아직 계산되지 않은 경우, 좋아요가 많은 공연 목록이 반환됩니다.</strong>
             """)
     @GetMapping("recommendByLike")
     public RsData<List<ConcertItem>> getRecommendByLike(){
@@ -103,6 +160,21 @@ public class ConcertController {
         return RsData.success(concertService.getLikedConcertsList(pageable, user));
     }
 
+    @Operation(summary = "좋아요 한 공연 조회 (커서)", description = "좋아요를 누른 공연 목록을 최근에 좋아요 한 순서로 커서 기반 조회합니다.")
+    @GetMapping("likedConcertList/cursor")
+    public RsData<ConcertCursorResponse> getLikedConcertListByCursor(
+            @Schema(description = """
+                    이전 응답의 <b>nextCursor</b> 값입니다.<br/>
+                    첫 페이지를 조회할 때는 넘기지 않습니다.
+                    """)
+            @RequestParam(required = false) String cursor,
+            @Schema(description = "한 번에 조회할 공연 개수입니다. (최대 100)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        User user = rq.getUser();
+        return RsData.success(concertService.getLikedConcertsListByCursor(cursor, size, user));
+    }
+
     @Operation(summary = "공연 총 개수 조회", description = "저장된 공연의 총 개수를 조회합니다.")
     @GetMapping("totalConcertCount")
     public RsData<Long> getTotalConcertCount(){
@@ -124,7 +196,7 @@ public class ConcertController {
     }
 
 
-    @Operation(summary = "공연 상세 조회", description = "공연에 대한 상세 목록을 조회합니다.")
+    @Operation(summary = "공연 상세 조회", description = "공연에 대한 상세 목록을 조회합니다. 같은 사용자(비로그인은 IP + 브라우저 기준)의 조회수는 하루에 한 번만 올라갑니다.")
     @GetMapping("concertDetail")
     public RsData<ConcertDetailResponse> getConcertDetail(
             @RequestParam
@@ -136,7 +208,27 @@ public class ConcertController {
                     """)
             long concertId
     ) {
-        return RsData.success(concertService.getConcertDetail(concertId));
+        return RsData.success(concertService.getConcertDetail(concertId, rq.getViewerId()));
+    }
+
+    @Operation(summary = "공연 순 방문자 수 조회", description = "오늘을 포함한 최근 days일 동안 해당 공연을 본 순 방문자 수(추정치)를 조회합니다.")
+    @GetMapping("uniqueViews/{concertId}")
+    public RsData<Long> getUniqueViewCount(
+            @Schema(description = "조회 기준이 되는 concertId입니다.")
+            @PathVariable long concertId,
+            @Schema(description = "조회 기간(일)입니다. 1 ~ 7")
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        return RsData.success(concertService.getUniqueViewerCount(concertId, days));
+    }
+
+    @Operation(summary = "트렌딩 공연 목록", description = "최근 3일간 순 방문자가 많이 늘어난 공연 목록입니다. 최근 날짜일수록 가중치가 높습니다.")
+    @GetMapping("trending")
+    public RsData<List<ConcertItem>> getTrendingConcerts(
+            @Schema(description = "조회할 공연 개수입니다. (최대 100)")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return RsData.success(concertService.getTrendingConcerts(size));
     }
 
     @Operation(summary = "공연 예매처 조회", description = "공연에 대한 예매처들을 조회합니다.")
@@ -204,14 +296,14 @@ public class ConcertController {
         return RsData.success(concertService.isLikeConcert(concertId, user));
     }
 
-    @Operation(summary = "공연 검색", description = "제목에 키워드를 포함하고 있는 공연 정보를 검색합니다.")
+    @Operation(summary = "공연 검색", description = "제목, 출연진, 공연장, 지역, 소개에 키워드를 포함하고 있는 공연 정보를 관련도 순으로 검색합니다.")
     @GetMapping("search")
     public RsData<List<ConcertItem>> searchConcert(
             @Schema(description = """
                     <h3>검색어가 되는 Keyword입니다.</h3>
                     <hr/>
                     <b>?keyword={keyword}</b> 로 값을 넘기시면 됩니다.<br/>
-                    DB에서 해당 문자열을 가지고 있는 모든 결과값을 페이징 된 만큼 반환합니다.
+                    공백으로 구분된 모든 단어를 포함하는 공연을 관련도 순으로 페이징 된 만큼 반환합니다.
                     """)
             @RequestParam String keyword,
             @Schema(description = "페이징 처리 또는 무한 스크롤 구현에 쓸 Pageable 객체입니다.")
@@ -220,6 +312,33 @@ public class ConcertController {
         return RsData.success(concertService.getConcertListByKeyword(keyword, pageable));
     }
 
+    @Operation(summary = "공연 검색 (강조 표시)", description = "공연 검색 결과와 함께 검색어가 나온 부분을 &lt;em&gt; 태그로 감싼 공연 이름을 반환합니다.")
+    @GetMapping("search/highlight")
+    public RsData<List<ConcertSearchItem>> searchConcertWithHighlight(
+            @Schema(description = "검색어가 되는 Keyword입니다.")
+            @RequestParam String keyword,
+            @Schema(description = "페이징 처리 또는 무한 스크롤 구현에 쓸 Pageable 객체입니다.")
+            Pageable pageable
+    ) {
+        return RsData.success(concertService.getConcertSearchItemsByKeyword(keyword, pageable));
+    }
+
+    @Operation(summary = "공연 검색 (커서)", description = "키워드를 포함하고 있는 공연 정보를 최신 등록 순으로 커서 기반 검색합니다.")
+    @GetMapping("search/cursor")
+    public RsData<ConcertCursorResponse> searchConcertByCursor(
+            @Schema(description = "검색어가 되는 Keyword입니다.")
+            @RequestParam String keyword,
+            @Schema(description = """
+                    이전 응답의 <b>nextCursor</b> 값입니다.<br/>
+                    첫 페이지를 조회할 때는 넘기지 않습니다.
+                    """)
+            @RequestParam(required = false) String cursor,
+            @Schema(description = "한 번에 조회할 공연 개수입니다. (최대 100)")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return RsData.success(concertService.getConcertListByKeywordAndCursor(keyword, cursor, size));
+    }
+
     @Operation(summary = "공연 검색 결과 개수" , description = "키워드를 포함하고 있는 공연의 총 개수를 반환합니다.")
     @GetMapping("searchCount")
     public RsData<Integer> getConcertSearchCount(
@@ -227,7 +346,7 @@ public class ConcertController {
                     <h3>검색어가 되는 Keyword입니다.</h3>
                     <hr/>
                     <b>?keyword={keyword}</b> 로 값을 넘기시면 됩니다.<br/>
-                    DB에서 해당 문자열을 가지고 있는 모든 제목의 개수를 반환합니다.
+                    공백으로 구분된 모든 단어를 포함하는 공연의 개수를 반환합니다.
                     """)
             @RequestParam String keyword
     ){
@@ -309,4 +428,42 @@ public class ConcertController {
     ){
         return RsData.success(concertService.recommendSimilarTitleConcerts(concertId));
     }
+
+    @Operation(summary = "이 공연을 좋아한 사람들이 함께 좋아한 공연 목록", description = """
+            입력한 공연 ID에 해당하는 공연을 좋아요한 사용자들이 함께 좋아요한 공연을 유사도 순으로 조회합니다.<br/>
+            좋아요 기록으로 매일 새벽 미리 계산한 목록이며, 이미 끝난 공연은 제외됩니다.<br/>
+            """)
+    @GetMapping("fansAlsoLikedConcerts")
+    public RsData<List<ConcertItem>> getFansAlsoLikedConcerts(
+            @RequestParam
+            long concertId
+    ){
+        return RsData.success(concertService.recommendFansAlsoLikedConcerts(concertId));
+    }
+
+    @Operation(summary = "근처 공연 목록", description = """
+            기준 좌표에서 가까운 공연장 순으로 아직 끝나지 않은 공연을 조회합니다. 같은 공연장의 공연은 시작일 순입니다.<br/>
+            위도/경도를 모두 생략하면 로그인한 사용자가 저장한 위치를 기준으로 합니다.<br/>
+            반경(km)을 생략하면 가까운 순으로 size 개를 조회합니다. (최대 반경 500km)<br/>
+            공연장 좌표 색인은 서버 시작, 공연 데이터 동기화, 매일 새벽에 다시 구성됩니다.<br/>
+            """)
+    @GetMapping("nearbyConcerts")
+    public RsData<List<NearbyConcertItem>> getNearbyConcerts(
+            @RequestParam(required = false)
+            @Schema(description = "기준 위도입니다. 경도와 함께 입력해야 합니다.")
+            Double lat,
+            @RequestParam(required = false)
+            @Schema(description = "기준 경도입니다. 위도와 함께 입력해야 합니다.")
+            Double lon,
+            @RequestParam(required = false)
+            @Schema(description = "검색 반경(km)입니다.")
+            Double radiusKm,
+            @RequestParam(defaultValue = "20")
+            @Schema(description = "조회할 공연 수입니다. (최대 100)")
+            int size
+    ){
+        // 좌표를 입력하지 않은 경우에만 로그인 사용자의 저장 위치 사용
+        User user = lat == null && lon == null ? rq.getUser() : null;
+        return RsData.success(concertService.getNearbyConcerts(lat, lon, radiusKm, size, user));
+    }
 }
@@ -0,0 +1,65 @@
+package com.back.web7_9_codecrete_be.domain.concerts.dto.concert;
+
+import com.back.web7_9_codecrete_be.global.error.code.ConcertErrorCode;
+import com.back.web7_9_codecrete_be.global.error.exception.BusinessException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서 기반 목록 조회에서 마지막으로 받은 공연의 (정렬 값, 공연 ID)를 담습니다.
+// 클라이언트에는 Base64 문자열로만 전달되어 내부 정렬 값에 의존하지 않게 합니다.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConcertCursor {
+    private static final String DELIMITER = "|";
+
+    private final String key;
+
+    private final long id;
+
+    public static String encode(Object key, long id) {
+        String raw = (key == null ? "" : key.toString()) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 null -> 첫 페이지 조회
+    public static ConcertCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new ConcertCursor(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ConcertErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public Integer intKey() {
+        try {
+            return Integer.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ConcertErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDate dateKey() {
+        try {
+            return LocalDate.parse(key);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ConcertErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public LocalDateTime dateTimeKey() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ConcertErrorCode.INVALID_CURSOR);
+        }
+    }
+}
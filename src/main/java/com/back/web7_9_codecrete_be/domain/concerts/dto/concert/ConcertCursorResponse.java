@@ -0,0 +1,24 @@
+package com.back.web7_9_codecrete_be.domain.concerts.dto.concert;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ConcertCursorResponse {
+    @Schema(description = "공연 목록입니다.")
+    private List<ConcertItem> concerts;
+
+    @Schema(description = "다음 페이지 조회에 사용할 커서입니다. 다음 페이지가 없으면 null 입니다.")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부입니다.")
+    private boolean hasNext;
+
+    public ConcertCursorResponse(List<ConcertItem> concerts, String nextCursor, boolean hasNext) {
+        this.concerts = concerts;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -12,6 +12,7 @@ import lombok.Setter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -74,4 +75,27 @@ public class ConcertDetailResponse {
     @Schema(description = "콘서트 참여 아티스트 목록입니다.")
     private List<Long> concertArtists;
 
+    // 캐싱된 상세 본문은 여러 요청이 공유하므로 수정하지 않고, 조회수만 바꾼 복사본을 반환
+    public ConcertDetailResponse withViewCount(int viewCount) {
+        ConcertDetailResponse copy = new ConcertDetailResponse();
+        copy.concertId = this.concertId;
+        copy.name = this.name;
+        copy.description = this.description;
+        copy.placeName = this.placeName;
+        copy.placeAddress = this.placeAddress;
+        copy.ticketTime = this.ticketTime;
+        copy.ticketEndTime = this.ticketEndTime;
+        copy.startDate = this.startDate;
+        copy.endDate = this.endDate;
+        copy.posterUrl = this.posterUrl;
+        copy.maxPrice = this.maxPrice;
+        copy.minPrice = this.minPrice;
+        copy.viewCount = viewCount;
+        copy.likeCount = this.likeCount;
+        // 목록도 캐싱된 본문과 공유하지 않도록 복사
+        copy.concertImageUrls = this.concertImageUrls == null ? null : new ArrayList<>(this.concertImageUrls);
+        copy.concertArtists = this.concertArtists == null ? null : new ArrayList<>(this.concertArtists);
+        return copy;
+    }
+
 }
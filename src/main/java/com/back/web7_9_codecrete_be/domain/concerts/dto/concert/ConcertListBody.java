@@ -0,0 +1,12 @@
+package com.back.web7_9_codecrete_be.domain.concerts.dto.concert;
+
+import org.springframework.util.DigestUtils;
+
+// 직렬화가 끝난 공연 목록 응답 본문(RsData JSON)과 ETag 입니다.
+// 캐시에서 꺼낸 본문을 객체로 되돌리지 않고 그대로 응답에 씁니다.
+public record ConcertListBody(byte[] body, String etag) {
+
+    public static ConcertListBody of(byte[] body) {
+        return new ConcertListBody(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
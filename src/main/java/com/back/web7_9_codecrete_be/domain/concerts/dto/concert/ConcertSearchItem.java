@@ -0,0 +1,23 @@
+package com.back.web7_9_codecrete_be.domain.concerts.dto.concert;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class ConcertSearchItem {
+
+    @Schema(description = "검색된 공연 정보입니다.")
+    private ConcertItem concert;
+
+    @Schema(description = "검색어가 나온 부분을 <em> 태그로 감싼 공연 이름입니다. (HTML 특수문자는 이스케이프됩니다.)")
+    private String highlightedName;
+
+    @Schema(description = "검색 관련도 점수입니다. 높을수록 검색어와 관련이 큽니다.")
+    private double score;
+
+    public ConcertSearchItem(ConcertItem concert, String highlightedName, double score) {
+        this.concert = concert;
+        this.highlightedName = highlightedName;
+        this.score = score;
+    }
+}
@@ -0,0 +1,23 @@
+package com.back.web7_9_codecrete_be.domain.concerts.dto.concert;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class NearbyConcertItem {
+
+    @Schema(description = "근처 공연 정보입니다.")
+    private ConcertItem concert;
+
+    @Schema(description = "공연장 ID 입니다.")
+    private long concertPlaceId;
+
+    @Schema(description = "기준 좌표에서 공연장까지의 직선 거리(km)입니다.")
+    private double distanceKm;
+
+    public NearbyConcertItem(ConcertItem concert, long concertPlaceId, double distanceKm) {
+        this.concert = concert;
+        this.concertPlaceId = concertPlaceId;
+        this.distanceKm = distanceKm;
+    }
+}
@@ -5,6 +5,9 @@ import lombok.Getter;
 
 @Getter
 public class WeightedString {
+    // 조회 한 번의 가중치
+    public static final double VIEW_WEIGHT = 0.1;
+
     private Long concertId;
     private String word;
     private double score;
@@ -14,10 +17,22 @@ public class WeightedString {
         this.score = score;
     }
 
+    public WeightedString(Long concertId, String word, double score) {
+        this.concertId = concertId;
+        this.word = word;
+        this.score = score;
+    }
+
     public WeightedString(Concert concert) {
         this.concertId = concert.getConcertId();
         this.word = concert.getName();
-        this.score = ((double)concert.getViewCount()) * 0.1;
+        this.score = ((double)concert.getViewCount()) * VIEW_WEIGHT;
+    }
+
+    // 조회수 가중치 + 최근 검색 결과 클릭 점수 (클릭 한 번은 조회 10번과 같은 가중치)
+    public WeightedString(Concert concert, double clickScore) {
+        this(concert);
+        this.score += clickScore;
     }
 
 
@@ -11,7 +11,14 @@ import java.time.LocalDateTime;
 @Entity
 @RequiredArgsConstructor
 @Getter
-@Table(name = "concert",indexes = @Index(name="idx_api_concert_id", columnList = "api_concert_id"))
+@Table(name = "concert",indexes = {
+        @Index(name="idx_api_concert_id", columnList = "api_concert_id"),
+        // 커서 기반 목록 조회용 (정렬 값, 공연 ID) 복합 인덱스
+        @Index(name="idx_concert_like_count_id", columnList = "like_count, concert_id"),
+        @Index(name="idx_concert_view_count_id", columnList = "view_count, concert_id"),
+        @Index(name="idx_concert_ticket_time_id", columnList = "ticket_time, concert_id"),
+        @Index(name="idx_concert_start_date_id", columnList = "start_date, concert_id")
+})
 public class Concert {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
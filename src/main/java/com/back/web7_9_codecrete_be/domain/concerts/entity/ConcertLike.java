@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @RequiredArgsConstructor
-@Table(name = "concert_like")
+@Table(name = "concert_like", indexes = {
+        // 사용자별 좋아요 목록 커서 조회용
+        @Index(name = "idx_concert_like_user_id", columnList = "user_user_id, concert_like_id")
+})
 public class ConcertLike {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,22 @@
+package com.back.web7_9_codecrete_be.domain.concerts.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// DB에 반영한 조회수 증가분 묶음(flush) 기록 -> 같은 묶음을 두 번 더하지 않도록 조회수 반영과 같은 트랜잭션에서 저장
+// 저장은 ConcertViewCountJdbcRepository 가 하고, 엔티티는 테이블 정의용
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "concert_view_count_flush")
+public class ConcertViewCountFlush {
+    @Id
+    @Column(name = "flush_id", length = 36)
+    private String flushId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,40 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertAutoCompleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 공연 변경 이벤트를 받아, 변경된 공연만 자동완성 색인에 반영합니다. (전체 재구성 없이)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertAutoCompleteUpdateListener {
+    private final ConcertAutoCompleteService concertAutoCompleteService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConcertChanged(ConcertChangedEvent event) {
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> concertAutoCompleteService.upsertConcerts(event.concertIds());
+                case DELETED -> concertAutoCompleteService.removeConcerts(event.concertIds());
+                // 조회수 반영은 ConcertViewCountFlushedEvent 로 가중치만 갱신, 나머지는 제목/가중치와 무관한 변경
+                case VIEW_COUNT_FLUSHED, TICKET_TIME_SET, LIKED, UNLIKED -> { }
+            }
+        } catch (Exception e) {
+            // 색인 갱신 실패는 다음 전체 재구성 때 바로잡힘
+            log.warn("자동완성 색인 갱신 실패: type={}, ids={}", event.type(), event.concertIds(), e);
+        }
+    }
+
+    // 조회수 반영은 제목/아티스트가 그대로이므로 증가분만큼 가중치만 더함 (공연 수와 관계없이 전체 재구성하지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onViewCountFlushed(ConcertViewCountFlushedEvent event) {
+        try {
+            concertAutoCompleteService.reweightConcerts(event.viewCountDeltas());
+        } catch (Exception e) {
+            log.warn("자동완성 가중치 갱신 실패: size={}", event.viewCountDeltas().size(), e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ListSort;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRankingRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 공연 변경 이벤트를 받아, 변경된 공연이 영향을 주는 목록 페이지와 상세 캐시만 무효화합니다.
+// 트랜잭션 안에서 발행된 이벤트는 커밋 이후에 처리되어, 지운 캐시가 이전 데이터로 다시 채워지지 않습니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertCacheEvictListener {
+    private final ConcertRedisRepository concertRedisRepository;
+    private final ConcertCacheWarmer concertCacheWarmer;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConcertChanged(ConcertChangedEvent event) {
+        try {
+            evict(event);
+        } catch (Exception e) {
+            // 캐시 무효화 실패가 요청을 실패시키지 않도록 함 (캐시는 TTL로 결국 만료됨)
+            log.warn("공연 캐시 무효화 실패: type={}, ids={}", event.type(), event.concertIds(), e);
+        }
+    }
+
+    private void evict(ConcertChangedEvent event) {
+        switch (event.type()) {
+            // 새 공연은 모든 정렬 기준의 순서를 바꿈
+            case CREATED -> replaceAllConcertsList();
+            case DELETED -> {
+                concertRedisRepository.evictConcerts(event.concertIds());
+                event.concertIds().forEach(concertRedisRepository::deleteViewCount);
+                replaceAllConcertsList();
+            }
+            case UPDATED -> {
+                // 공연 날짜가 바뀌면 다가오는 공연 순서가 바뀔 수 있음
+                concertRedisRepository.evictConcerts(event.concertIds());
+                concertRedisRepository.bumpConcertsListGeneration(ListSort.UPCOMING);
+            }
+            case TICKET_TIME_SET -> {
+                // 예매 일정이 생기면 예매 예정 목록의 구성이 바뀜 (개수는 ConcertCounterUpdateListener 에서 반영)
+                concertRedisRepository.evictConcerts(event.concertIds());
+                concertRedisRepository.bumpConcertsListGeneration(ListSort.TICKETING);
+            }
+            case LIKED, UNLIKED -> concertRedisRepository.evictConcerts(event.concertIds());
+            case VIEW_COUNT_FLUSHED -> concertRedisRepository.bumpConcertsListGeneration(ListSort.VIEW);
+        }
+    }
+
+    // 랭킹 정렬의 목록 캐시(랭킹 조회 실패 시 대체용)는 세대 번호만 올리고,
+    // 캐시에서 읽는 정렬 기준은 별도 스레드에서 새 세대를 미리 채운 뒤 교체 (실패하면 세대 번호만 올림)
+    private void replaceAllConcertsList() {
+        ConcertRankingRedisRepository.RANKED_SORTS.forEach(concertRedisRepository::bumpConcertsListGeneration);
+        concertCacheWarmer.warmUpInBackground();
+    }
+}
@@ -0,0 +1,12 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+// 공연 변경 종류 -> 종류별로 영향을 받는 캐시만 무효화합니다.
+public enum ConcertChangeType {
+    CREATED,            // 공연 추가 (KOPIS 동기화)
+    UPDATED,            // 공연 정보 수정
+    DELETED,            // 공연 삭제
+    TICKET_TIME_SET,    // 예매 시간 설정
+    LIKED,              // 좋아요
+    UNLIKED,            // 좋아요 해제
+    VIEW_COUNT_FLUSHED; // 캐시된 조회수 DB 반영
+}
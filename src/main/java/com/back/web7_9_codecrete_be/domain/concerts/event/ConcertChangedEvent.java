@@ -0,0 +1,17 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import java.util.List;
+
+// 공연 데이터 변경 도메인 이벤트
+public record ConcertChangedEvent(
+        ConcertChangeType type,
+        List<Long> concertIds
+) {
+    public static ConcertChangedEvent of(ConcertChangeType type, Long concertId) {
+        return new ConcertChangedEvent(type, List.of(concertId));
+    }
+
+    public static ConcertChangedEvent of(ConcertChangeType type, List<Long> concertIds) {
+        return new ConcertChangedEvent(type, List.copyOf(concertIds));
+    }
+}
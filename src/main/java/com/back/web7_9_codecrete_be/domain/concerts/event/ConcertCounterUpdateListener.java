@@ -0,0 +1,40 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 공연 추가/삭제, 예매 시간 설정, 좋아요/해제 이벤트를 받아 공연 수 카운터를 증감합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertCounterUpdateListener {
+    private final ConcertCounterService concertCounterService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConcertChanged(ConcertChangedEvent event) {
+        try {
+            switch (event.type()) {
+                case CREATED -> concertCounterService.onConcertsCreated(event.concertIds());
+                case DELETED -> concertCounterService.onConcertsDeleted(event.concertIds());
+                case TICKET_TIME_SET -> concertCounterService.refreshTicketTimes(event.concertIds());
+                // 사용자별 좋아요 수는 ConcertLikeChangedEvent 로 반영
+                case UPDATED, LIKED, UNLIKED, VIEW_COUNT_FLUSHED -> { }
+            }
+        } catch (Exception e) {
+            // 카운터 갱신 실패는 다음 재조정 때 바로잡힘
+            log.warn("공연 수 카운터 갱신 실패: type={}, ids={}", event.type(), event.concertIds(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConcertLikeChanged(ConcertLikeChangedEvent event) {
+        try {
+            concertCounterService.onLikeChanged(event.userId(), event.liked());
+        } catch (Exception e) {
+            log.warn("좋아요 수 카운터 갱신 실패: userId={}, concertId={}", event.userId(), event.concertId(), e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+// 사용자의 공연 좋아요/해제 도메인 이벤트 -> 사용자별 좋아요한 공연 수 카운터 갱신
+public record ConcertLikeChangedEvent(
+        Long concertId,
+        Long userId,
+        boolean liked
+) {
+}
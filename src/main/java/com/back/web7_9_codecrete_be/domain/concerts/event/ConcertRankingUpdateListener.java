@@ -0,0 +1,30 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 공연 변경 이벤트를 받아, 변경된 공연의 랭킹 점수와 목록 표시 정보를 갱신합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertRankingUpdateListener {
+    private final ConcertRankingService concertRankingService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConcertChanged(ConcertChangedEvent event) {
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED, TICKET_TIME_SET, LIKED, UNLIKED -> concertRankingService.refreshConcerts(event.concertIds());
+                case DELETED -> concertRankingService.removeConcerts(event.concertIds());
+                // 조회수 점수는 상세 조회 시 이미 실시간으로 반영됨
+                case VIEW_COUNT_FLUSHED -> { }
+            }
+        } catch (Exception e) {
+            // 랭킹 갱신 실패는 다음 재구성 때 바로잡힘
+            log.warn("공연 랭킹 갱신 실패: type={}, ids={}", event.type(), event.concertIds(), e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertRecommendService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 사용자가 좋아요/해제하면 해당 사용자의 추천 공연 목록을 다시 계산하도록 예약합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertRecommendUpdateListener {
+    private final ConcertRecommendService concertRecommendService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConcertLikeChanged(ConcertLikeChangedEvent event) {
+        try {
+            concertRecommendService.requestRefresh(event.userId());
+        } catch (Exception e) {
+            // 예약 실패 시 매일 새벽 전체 계산 때 반영됨
+            log.warn("추천 공연 목록 갱신 예약 실패: userId={}", event.userId(), e);
+        }
+    }
+}
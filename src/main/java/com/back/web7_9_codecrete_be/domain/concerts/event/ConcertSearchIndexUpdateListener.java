@@ -0,0 +1,30 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 공연 변경 이벤트를 받아, 검색 대상 문자열이 바뀐 공연만 검색 색인에 반영합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertSearchIndexUpdateListener {
+    private final ConcertSearchService concertSearchService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConcertChanged(ConcertChangedEvent event) {
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> concertSearchService.upsertConcerts(event.concertIds());
+                case DELETED -> concertSearchService.removeConcerts(event.concertIds());
+                // 조회수, 좋아요 수, 예매 일정은 색인하지 않음 (검색 결과의 목록 정보는 DB 에서 조회)
+                case TICKET_TIME_SET, LIKED, UNLIKED, VIEW_COUNT_FLUSHED -> { }
+            }
+        } catch (Exception e) {
+            // 색인 갱신 실패는 다음 전체 재구성 때 바로잡힘
+            log.warn("검색 색인 갱신 실패: type={}, ids={}", event.type(), event.concertIds(), e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertSimilarityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// KOPIS 동기화로 공연이 추가/갱신되면 제목 유사 공연 색인을 다시 구성합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertSimilarityUpdateListener {
+    private final ConcertSimilarityService concertSimilarityService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onConcertSyncCompleted(ConcertSyncCompletedEvent event) {
+        if (event.isEmpty()) return;
+        try {
+            concertSimilarityService.rebuild();
+        } catch (Exception e) {
+            // 재구성 실패 시 이전 색인을 그대로 사용하고, 다음 정기 재구성 때 바로잡힘
+            log.warn("제목 유사 공연 색인 재구성 실패: added={}, updated={}",
+                    event.addedConcertIds().size(), event.updatedConcertIds().size(), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import java.util.List;
+
+// KOPIS 공연 데이터 동기화 완료 이벤트 -> 공연 전체를 기준으로 계산하는 색인 재구성
+public record ConcertSyncCompletedEvent(
+        List<Long> addedConcertIds,
+        List<Long> updatedConcertIds
+) {
+    public ConcertSyncCompletedEvent {
+        addedConcertIds = List.copyOf(addedConcertIds);
+        updatedConcertIds = List.copyOf(updatedConcertIds);
+    }
+
+    public boolean isEmpty() {
+        return addedConcertIds.isEmpty() && updatedConcertIds.isEmpty();
+    }
+}
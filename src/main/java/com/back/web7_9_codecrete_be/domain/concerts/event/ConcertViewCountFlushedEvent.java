@@ -0,0 +1,12 @@
+package com.back.web7_9_codecrete_be.domain.concerts.event;
+
+import java.util.Map;
+
+// 조회수 증가분을 DB에 반영한 뒤 발행 -> 공연 ID -> 이번에 반영한 조회수 증가분 (가중치만 바꾸는 곳에서 DB 를 다시 읽지 않도록)
+public record ConcertViewCountFlushedEvent(
+        Map<Long, Long> viewCountDeltas
+) {
+    public ConcertViewCountFlushedEvent {
+        viewCountDeltas = Map.copyOf(viewCountDeltas);
+    }
+}
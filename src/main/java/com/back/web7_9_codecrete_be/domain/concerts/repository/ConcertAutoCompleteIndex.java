@@ -0,0 +1,474 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.AutoCompleteItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.WeightedString;
+import com.back.web7_9_codecrete_be.domain.concerts.util.HangulDecomposer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 공연 제목/출연 아티스트 이름 자동완성을 위한 JVM 내부 n-gram 색인입니다.
+// 제목을 가중치(조회수) 내림차순으로 정렬해 순위를 매기고, 1~3글자 조각마다 해당 조각을 포함하는 제목의 순위를 오름차순 배열로 저장합니다.
+// 한글은 색인할 때 자모("ㅇㅏㅇㅣㅇㅠ")와 초성("ㅇㅇㅇ")으로 미리 분해해 두 벌의 색인을 만들므로,
+// 입력 중인 글자("앙")나 초성 검색어("ㅇㅇㅇ")도 조각 하나만 조회해 응답합니다.
+// 배열의 앞부분이 곧 가중치 상위 k개이므로, 3글자 이하 검색어는 배열을 잘라서 바로 응답하고
+// 더 긴 검색어는 3글자 조각 배열들의 교집합을 순서대로 확인하다가 필요한 개수만큼 찾으면 멈춥니다.
+// 전체 색인(base) 위에 추가/수정/삭제된 공연만 담은 작은 색인(delta)을 겹쳐서, 동기화로 바뀐 공연만 반영합니다.
+// 색인은 새로 만든 뒤 참조만 교체하므로, 재구성 중에도 이전 색인으로 계속 응답합니다.
+@Component
+public class ConcertAutoCompleteIndex {
+
+    static final int MAX_GRAM = 3;
+    // 변경 공연이 이 개수를 넘으면 delta 를 base 에 합쳐 다시 만듦 (DB 조회 없이 메모리 안에서)
+    public static final int COMPACT_THRESHOLD = 1_000;
+
+    private static final Comparator<Entry> RANK_ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparingLong(Entry::concertId);
+
+    private volatile State state = State.EMPTY;
+
+    // 변경마다 1씩 증가하는 세대 번호 (guarded by this)
+    private long generation;
+
+    // 색인 재구성 후 교체
+    public void rebuild(List<WeightedString> weightedStrings) {
+        rebuild(weightedStrings, Map.of());
+    }
+
+    public void rebuild(List<WeightedString> weightedStrings, Map<Long, List<String>> artistNames) {
+        rebuild(weightedStrings, artistNames, Long.MAX_VALUE);
+    }
+
+    // 공연 ID -> 출연 아티스트 한글 이름도 같은 순위로 색인
+    // loadedGeneration: 재구성용 데이터를 읽기 시작할 때의 세대 -> 그 이후에 반영된 변경은 새 색인 위에 다시 겹침
+    public void rebuild(List<WeightedString> weightedStrings, Map<Long, List<String>> artistNames, long loadedGeneration) {
+        Snapshot base = Snapshot.build(entries(weightedStrings, artistNames));
+        synchronized (this) {
+            Map<Long, Change> retained = new HashMap<>();
+            state.changes.forEach((concertId, change) -> {
+                if (change.generation > loadedGeneration) retained.put(concertId, change);
+            });
+            generation++;
+            state = State.of(base, retained);
+        }
+    }
+
+    // 추가되거나 제목/가중치/아티스트가 바뀐 공연만 반영
+    public synchronized void upsert(List<WeightedString> weightedStrings, Map<Long, List<String>> artistNames) {
+        List<Entry> entries = entries(weightedStrings, artistNames);
+        if (entries.isEmpty()) return;
+        Map<Long, Change> changes = new HashMap<>(state.changes);
+        generation++;
+        for (Entry entry : entries) changes.put(entry.concertId(), new Change(generation, entry));
+        apply(changes);
+    }
+
+    // 제목/아티스트는 그대로 두고 가중치만 더함 (조회수 반영 등, DB 조회 없음) -> 가중치를 바꾼 공연 수
+    // 색인에 없거나 삭제된 공연은 건너뜀
+    public synchronized int reweight(Map<Long, Double> scoreDeltas) {
+        State current = state;
+        Map<Long, Change> changes = new HashMap<>(current.changes);
+        long next = generation + 1;
+        int reweighted = 0;
+        for (Map.Entry<Long, Double> scoreDelta : scoreDeltas.entrySet()) {
+            long concertId = scoreDelta.getKey();
+            Change change = current.changes.get(concertId);
+            Entry entry = change != null ? change.entry : current.base.find(concertId);
+            if (entry == null) continue;
+            changes.put(concertId, new Change(next, new Entry(
+                    concertId, entry.name(), entry.score() + scoreDelta.getValue(), entry.artistNames())));
+            reweighted++;
+        }
+        if (reweighted == 0) return 0;
+        generation = next;
+        apply(changes);
+        return reweighted;
+    }
+
+    // 삭제된 공연을 색인에서 제외
+    public synchronized void remove(Collection<Long> concertIds) {
+        if (concertIds.isEmpty()) return;
+        Map<Long, Change> changes = new HashMap<>(state.changes);
+        generation++;
+        for (Long concertId : concertIds) changes.put(concertId, new Change(generation, null));
+        apply(changes);
+    }
+
+    public synchronized void clear() {
+        generation++;
+        state = State.EMPTY;
+    }
+
+    // 현재 세대 -> 재구성용 데이터를 읽기 전에 조회해 rebuild 에 전달
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public int size() {
+        return state.size;
+    }
+
+    // 반영 대기 중인 변경 공연 수 (delta 크기)
+    public int pendingChangeCount() {
+        return state.changes.size();
+    }
+
+    // 색인된 조각 수, 순위 배열 원소 수 합계 (자모 + 초성, base + delta)
+    public int gramCount() {
+        State current = state;
+        return current.base.gramCount() + current.delta.gramCount();
+    }
+
+    public long postingCount() {
+        State current = state;
+        return current.base.postingCount() + current.delta.postingCount();
+    }
+
+    // 검색어를 포함하는 공연을 가중치 내림차순으로 start ~ end 번째까지 조회 (Redis ZREVRANGE 와 같은 범위 규칙)
+    // 초성으로만 된 검색어("ㅇㅇㅇ")는 초성 색인에서, 그 외에는 검색어를 자모로 분해해 자모 색인에서 찾습니다.
+    public List<AutoCompleteItem> getAutoCompleteWord(String keyword, int start, int end) {
+        return search(state, keyword, start, end);
+    }
+
+    // 여러 검색어를 같은 색인 상태에서 한 번에 조회 (검색어 -> 결과, 입력 순서 유지, 중복/공백 검색어 제외)
+    public Map<String, List<AutoCompleteItem>> getAutoCompleteWords(Collection<String> keywords, int start, int end) {
+        State current = state;
+        Map<String, List<AutoCompleteItem>> results = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isBlank() || results.containsKey(keyword)) continue;
+            results.put(keyword, search(current, keyword, start, end));
+        }
+        return results;
+    }
+
+    private static List<AutoCompleteItem> search(State current, String keyword, int start, int end) {
+        if (keyword == null || keyword.isBlank()) return List.of();
+        if (current.size == 0) return List.of();
+        Query query = Query.of(keyword);
+
+        // 필요한 개수만 확인 (음수 범위는 전체 개수를 알아야 하므로 모두 확인)
+        boolean bounded = start >= 0 && end >= 0;
+        int limit = bounded ? end + 1 : Integer.MAX_VALUE;
+
+        // base 에서는 변경된 공연을 건너뛰고, delta 의 결과와 가중치 순서대로 합침
+        Set<Long> changed = current.changes.keySet();
+        List<Entry> baseMatches = current.base.search(query, limit, changed);
+        List<Entry> deltaMatches = current.delta.search(query, limit, Set.of());
+        List<Entry> matches = merge(baseMatches, deltaMatches, limit);
+
+        int total = matches.size();
+        int from = start < 0 ? Math.max(total + start, 0) : start;
+        int to = end < 0 ? total + end : Math.min(end, total - 1);
+        if (from > to) return List.of();
+
+        List<AutoCompleteItem> items = new ArrayList<>(to - from + 1);
+        for (int i = from; i <= to; i++) {
+            Entry entry = matches.get(i);
+            items.add(new AutoCompleteItem(entry.name(), entry.concertId()));
+        }
+        return items;
+    }
+
+    // 변경 목록으로 delta 를 다시 만들고, 커지면 base 에 합침 (호출 측에서 동기화)
+    private void apply(Map<Long, Change> changes) {
+        if (changes.size() > COMPACT_THRESHOLD) {
+            state = State.of(state.base.compact(changes), Map.of());
+        } else {
+            state = State.of(state.base, changes);
+        }
+    }
+
+    private static List<Entry> merge(List<Entry> first, List<Entry> second, int limit) {
+        if (second.isEmpty()) return first;
+        if (first.isEmpty()) return second;
+        List<Entry> merged = new ArrayList<>(Math.min(first.size() + second.size(), limit));
+        int i = 0, j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j >= second.size() || (i < first.size() && RANK_ORDER.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private static List<Entry> entries(List<WeightedString> weightedStrings, Map<Long, List<String>> artistNames) {
+        return weightedStrings.stream()
+                .filter(weightedString -> weightedString.getConcertId() != null)
+                .filter(weightedString -> weightedString.getWord() != null && !weightedString.getWord().isBlank())
+                .map(weightedString -> new Entry(
+                        weightedString.getConcertId(),
+                        weightedString.getWord(),
+                        weightedString.getScore(),
+                        artistNames.getOrDefault(weightedString.getConcertId(), List.of())
+                ))
+                .toList();
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    // 색인 대상 공연 한 건
+    private record Entry(long concertId, String name, double score, List<String> artistNames) {
+    }
+
+    // 공연 변경 내역 (entry 가 null 이면 삭제)
+    private record Change(long generation, Entry entry) {
+    }
+
+    // 분해한 검색어 (초성 검색어면 초성 색인, 아니면 자모 색인에서 조회)
+    private record Query(String text, boolean chosungOnly) {
+        private static Query of(String keyword) {
+            String normalized = normalize(keyword);
+            boolean chosungOnly = HangulDecomposer.isChosungOnly(normalized);
+            return new Query(chosungOnly ? normalized : HangulDecomposer.toJamo(normalized), chosungOnly);
+        }
+    }
+
+    // 검색 시점에 한 번에 읽는 base, delta, 변경 목록
+    private static final class State {
+        private static final State EMPTY = new State(Snapshot.EMPTY, Map.of(), Snapshot.EMPTY, 0);
+
+        private final Snapshot base;
+        private final Map<Long, Change> changes;
+        private final Snapshot delta;
+        private final int size;
+
+        private State(Snapshot base, Map<Long, Change> changes, Snapshot delta, int size) {
+            this.base = base;
+            this.changes = changes;
+            this.delta = delta;
+            this.size = size;
+        }
+
+        private static State of(Snapshot base, Map<Long, Change> changes) {
+            if (changes.isEmpty()) return new State(base, Map.of(), Snapshot.EMPTY, base.ids.length);
+            List<Entry> upserted = new ArrayList<>();
+            int hidden = 0;
+            for (Map.Entry<Long, Change> change : changes.entrySet()) {
+                if (base.contains(change.getKey())) hidden++;
+                if (change.getValue().entry != null) upserted.add(change.getValue().entry);
+            }
+            Snapshot delta = Snapshot.build(upserted);
+            return new State(base, Map.copyOf(changes), delta, base.ids.length - hidden + delta.ids.length);
+        }
+    }
+
+    // 같은 순위의 검색 대상 문자열(제목, 아티스트 이름)과 n-gram 색인
+    private static final class View {
+        private static final View EMPTY = new View(new String[0][], Map.of());
+
+        private final String[][] texts;
+        // 조각 -> 조각을 포함하는 순위 (오름차순 = 가중치 내림차순)
+        private final Map<String, int[]> postings;
+
+        private View(String[][] texts, Map<String, int[]> postings) {
+            this.texts = texts;
+            this.postings = postings;
+        }
+
+        private long postingCount() {
+            return postings.values().stream().mapToLong(posting -> posting.length).sum();
+        }
+
+        private boolean contains(int rank, String query) {
+            for (String text : texts[rank]) {
+                if (text.contains(query)) return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class ViewBuilder {
+        private final String[][] texts;
+        private final Map<String, IntList> builders = new HashMap<>();
+
+        private ViewBuilder(int size) {
+            this.texts = new String[size][];
+        }
+
+        private void add(int rank, String[] rankTexts) {
+            texts[rank] = rankTexts;
+            for (String text : rankTexts) {
+                for (int i = 0; i < text.length(); i++) {
+                    for (int n = 1; n <= MAX_GRAM && i + n <= text.length(); n++) {
+                        String gram = text.substring(i, i + n);
+                        // 공백만 있는 조각은 색인에서 제외
+                        if (gram.isBlank()) continue;
+                        builders.computeIfAbsent(gram, key -> new IntList()).addIfLast(rank);
+                    }
+                }
+            }
+        }
+
+        private View build() {
+            Map<String, int[]> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+            builders.forEach((gram, builder) -> postings.put(gram, builder.toArray()));
+            return new View(texts, postings);
+        }
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new Entry[0], new long[0], View.EMPTY, View.EMPTY);
+
+        private final Entry[] entries;
+        private final long[] ids;
+        // 공연 ID 존재 여부 확인용 (오름차순), sortedRanks[i] : sortedIds[i] 의 순위
+        private final long[] sortedIds;
+        private final int[] sortedRanks;
+        private final View jamo;
+        private final View chosung;
+
+        private Snapshot(Entry[] entries, long[] ids, View jamo, View chosung) {
+            this.entries = entries;
+            this.ids = ids;
+            Integer[] order = new Integer[ids.length];
+            for (int rank = 0; rank < ids.length; rank++) order[rank] = rank;
+            Arrays.sort(order, Comparator.comparingLong(rank -> ids[rank]));
+            this.sortedIds = new long[ids.length];
+            this.sortedRanks = new int[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedRanks[i] = order[i];
+            }
+            this.jamo = jamo;
+            this.chosung = chosung;
+        }
+
+        // 분해는 색인할 때 한 번만 수행하고, 검색 시에는 검색어만 분해합니다.
+        private static Snapshot build(List<Entry> unsorted) {
+            if (unsorted.isEmpty()) return EMPTY;
+            Entry[] entries = unsorted.stream().sorted(RANK_ORDER).toArray(Entry[]::new);
+
+            int size = entries.length;
+            long[] ids = new long[size];
+            ViewBuilder jamo = new ViewBuilder(size);
+            ViewBuilder chosung = new ViewBuilder(size);
+
+            for (int rank = 0; rank < size; rank++) {
+                Entry entry = entries[rank];
+                ids[rank] = entry.concertId();
+
+                List<String> texts = new ArrayList<>();
+                texts.add(normalize(entry.name()));
+                for (String artistName : entry.artistNames()) {
+                    if (artistName != null && !artistName.isBlank()) texts.add(normalize(artistName));
+                }
+
+                jamo.add(rank, texts.stream().map(HangulDecomposer::toJamo).toArray(String[]::new));
+                chosung.add(rank, texts.stream().map(HangulDecomposer::toChosung).toArray(String[]::new));
+            }
+
+            return new Snapshot(entries, ids, jamo.build(), chosung.build());
+        }
+
+        // 변경 내역을 반영한 새 base
+        private Snapshot compact(Map<Long, Change> changes) {
+            List<Entry> merged = new ArrayList<>(entries.length + changes.size());
+            for (Entry entry : entries) {
+                if (!changes.containsKey(entry.concertId())) merged.add(entry);
+            }
+            for (Change change : changes.values()) {
+                if (change.entry != null) merged.add(change.entry);
+            }
+            return build(merged);
+        }
+
+        private boolean contains(long concertId) {
+            return Arrays.binarySearch(sortedIds, concertId) >= 0;
+        }
+
+        // 공연 ID 로 색인 대상 조회 (없으면 null)
+        private Entry find(long concertId) {
+            int index = Arrays.binarySearch(sortedIds, concertId);
+            return index < 0 ? null : entries[sortedRanks[index]];
+        }
+
+        private int gramCount() {
+            return jamo.postings.size() + chosung.postings.size();
+        }
+
+        private long postingCount() {
+            return jamo.postingCount() + chosung.postingCount();
+        }
+
+        // 검색어를 포함하는 공연을 순위 순서대로 limit 개까지 (excluded 에 있는 공연은 제외)
+        private List<Entry> search(Query query, int limit, Set<Long> excluded) {
+            if (ids.length == 0) return List.of();
+            View view = query.chosungOnly() ? chosung : jamo;
+            String text = query.text();
+
+            int[] candidates;
+            boolean exact = text.length() <= MAX_GRAM;
+            if (exact) {
+                candidates = view.postings.get(text);
+            } else {
+                candidates = intersectTrigrams(view, text);
+            }
+            if (candidates == null || candidates.length == 0) return List.of();
+
+            boolean filtered = !excluded.isEmpty();
+            List<Entry> matches = new ArrayList<>(Math.min(candidates.length, limit));
+            for (int rank : candidates) {
+                if (matches.size() >= limit) break;
+                if (filtered && excluded.contains(ids[rank])) continue;
+                if (exact || view.contains(rank, text)) matches.add(entries[rank]);
+            }
+            return matches;
+        }
+
+        // 검색어의 모든 3글자 조각을 포함하는 제목 후보 (실제 포함 여부는 호출한 쪽에서 확인)
+        private static int[] intersectTrigrams(View view, String query) {
+            List<int[]> lists = new ArrayList<>();
+            for (int i = 0; i + MAX_GRAM <= query.length(); i++) {
+                String gram = query.substring(i, i + MAX_GRAM);
+                if (gram.isBlank()) continue;
+                int[] posting = view.postings.get(gram);
+                if (posting == null) return null;
+                lists.add(posting);
+            }
+            if (lists.isEmpty()) return null;
+            lists.sort(Comparator.comparingInt(posting -> posting.length));
+
+            int[] result = lists.get(0);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i));
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] result = new int[Math.min(a.length, b.length)];
+            int i = 0, j = 0, k = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) i++;
+                else if (a[i] > b[j]) j++;
+                else {
+                    result[k++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, k);
+        }
+    }
+
+    // 색인 구성용 int 가변 배열 (박싱 없이 순위 저장)
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        // 같은 제목에서 같은 조각이 여러 번 나와도 한 번만 저장
+        private void addIfLast(int value) {
+            if (size > 0 && values[size - 1] == value) return;
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 공연 캐시의 계층(L1 - 로컬, L2 - Redis)별 적중/실패 횟수를 기록합니다.
+@Component
+@RequiredArgsConstructor
+public class ConcertCacheMetrics {
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public static final String TIER_L1 = "l1";
+    public static final String TIER_L2 = "l2";
+
+    public static final String LIST = "list";
+    public static final String BODY = "body";
+    public static final String DETAIL = "detail";
+    public static final String COUNT = "count";
+
+    public void hit(String tier, String cache) {
+        counter(tier, cache, "hit").increment();
+    }
+
+    public void miss(String tier, String cache) {
+        counter(tier, cache, "miss").increment();
+    }
+
+    // 계층, 캐시 종류, 결과 별 누적 횟수 조회 -> ex) "l1.list.hit" : 120
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        counters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> snapshot.put(entry.getKey(), (long) entry.getValue().count()));
+        return snapshot;
+    }
+
+    private Counter counter(String tier, String cache, String result) {
+        return counters.computeIfAbsent(tier + "." + cache + "." + result, name ->
+                Counter.builder("concert.cache.requests")
+                        .tag("tier", tier)
+                        .tag("cache", cache)
+                        .tag("result", result)
+                        .register(meterRegistry)
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 진행 예정 공연이 있는 공연장의 좌표(GEO)와 공연장별 공연 목록(HASH)을 관리합니다.
+// 조회는 GEOSEARCH + HMGET 이고, 재구성은 임시 키에 모두 쓴 뒤 두 키를 한 번에 교체합니다.
+@Repository
+@RequiredArgsConstructor
+public class ConcertGeoRedisRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 공연장 ID -> 좌표
+    private static final String VENUES_KEY = "concertGeo:venues:v1";
+
+    // 공연장 ID -> 진행 예정 공연 "공연 ID:종료일(epochDay),..." (시작일 순)
+    private static final String VENUE_CONCERTS_KEY = "concertGeo:venueConcerts:v1";
+
+    private static final String BUILDING_SUFFIX = ":building";
+
+    private static final int BATCH_SIZE = 500;
+
+    public record Venue(double lat, double lon, List<VenueConcert> concerts) {
+    }
+
+    public record VenueConcert(long concertId, long endEpochDay) {
+    }
+
+    public record NearbyVenue(long concertPlaceId, double distanceKm) {
+    }
+
+    public boolean exists() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(VENUES_KEY));
+    }
+
+    // 반경 안의 공연장을 가까운 순으로 최대 limit 개
+    public List<NearbyVenue> searchVenues(double lat, double lon, double radiusKm, int limit) {
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = redisTemplate.opsForGeo().search(
+                VENUES_KEY,
+                GeoReference.fromCoordinate(lon, lat),
+                new Distance(radiusKm, Metrics.KILOMETERS),
+                RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs().includeDistance().sortAscending().limit(limit));
+        if (results == null) return List.of();
+        List<NearbyVenue> venues = new ArrayList<>();
+        for (GeoResult<RedisGeoCommands.GeoLocation<String>> result : results) {
+            venues.add(new NearbyVenue(Long.parseLong(result.getContent().getName()), result.getDistance().getValue()));
+        }
+        return venues;
+    }
+
+    // 공연장별 진행 예정 공연 목록 (요청 순서, 색인에 없는 공연장은 빈 목록)
+    public List<List<VenueConcert>> getVenueConcerts(List<Long> concertPlaceIds) {
+        if (concertPlaceIds.isEmpty()) return List.of();
+        List<Object> rawValues = redisTemplate.opsForHash().multiGet(VENUE_CONCERTS_KEY,
+                concertPlaceIds.stream().map(String::valueOf).collect(Collectors.toList()));
+        return rawValues.stream()
+                .map(raw -> raw == null ? List.<VenueConcert>of() : parseConcerts(raw.toString()))
+                .toList();
+    }
+
+    // 전체 교체 -> venues : 공연장 ID -> 좌표, 공연 목록
+    public void replaceAll(Map<Long, Venue> venues) {
+        String venuesBuildingKey = VENUES_KEY + BUILDING_SUFFIX;
+        String concertsBuildingKey = VENUE_CONCERTS_KEY + BUILDING_SUFFIX;
+        redisTemplate.delete(List.of(venuesBuildingKey, concertsBuildingKey));
+
+        List<Map.Entry<Long, Venue>> entries = new ArrayList<>(venues.entrySet());
+        for (int i = 0; i < entries.size(); i += BATCH_SIZE) {
+            List<Map.Entry<Long, Venue>> batch = entries.subList(i, Math.min(i + BATCH_SIZE, entries.size()));
+            redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+                byte[] venuesKey = venuesBuildingKey.getBytes(StandardCharsets.UTF_8);
+                byte[] concertsKey = concertsBuildingKey.getBytes(StandardCharsets.UTF_8);
+                for (Map.Entry<Long, Venue> entry : batch) {
+                    byte[] member = entry.getKey().toString().getBytes(StandardCharsets.UTF_8);
+                    Venue venue = entry.getValue();
+                    String value = venue.concerts().stream()
+                            .map(concert -> concert.concertId() + ":" + concert.endEpochDay())
+                            .collect(Collectors.joining(","));
+                    connection.geoCommands().geoAdd(venuesKey, new Point(venue.lon(), venue.lat()), member);
+                    connection.hashCommands().hSet(concertsKey, member, value.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        }
+
+        boolean built = Boolean.TRUE.equals(redisTemplate.hasKey(venuesBuildingKey));
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                if (built) {
+                    operations.rename(venuesBuildingKey, VENUES_KEY);
+                    operations.rename(concertsBuildingKey, VENUE_CONCERTS_KEY);
+                } else {
+                    operations.delete(List.of(VENUES_KEY, VENUE_CONCERTS_KEY));
+                }
+                return operations.exec();
+            }
+        });
+    }
+
+    private static List<VenueConcert> parseConcerts(String raw) {
+        List<VenueConcert> concerts = new ArrayList<>();
+        for (String token : raw.split(",")) {
+            int separator = token.indexOf(':');
+            if (separator < 0) continue;
+            concerts.add(new VenueConcert(
+                    Long.parseLong(token.substring(0, separator)),
+                    Long.parseLong(token.substring(separator + 1))));
+        }
+        return concerts;
+    }
+}
@@ -2,7 +2,9 @@ package com.back.web7_9_codecrete_be.domain.concerts.repository;
 
 import com.back.web7_9_codecrete_be.domain.concerts.entity.Concert;
 import com.back.web7_9_codecrete_be.domain.concerts.entity.ConcertLike;
+import com.back.web7_9_codecrete_be.domain.concerts.util.LikePair;
 import com.back.web7_9_codecrete_be.domain.users.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -41,5 +43,36 @@ public interface ConcertLikeRepository extends JpaRepository<ConcertLike, Long>
             @Param("endDate") LocalDateTime endDate);
 
     Long countByUser(User user);
-}
 
+    // 좋아요 수 카운터 재조정용 (사용자 ID, 좋아요한 공연 수)
+    interface UserLikedCount {
+        Long getUserId();
+        Long getLikedCount();
+    }
+
+    @Query("""
+                SELECT
+                cl.user.id AS userId,
+                count(cl) AS likedCount
+                FROM
+                ConcertLike cl
+                GROUP BY
+                cl.user.id
+            """)
+    List<UserLikedCount> countGroupByUser();
+
+    // 협업 필터링용 좋아요 쌍 (좋아요 ID 순 커서 조회)
+    @Query("""
+                SELECT
+                cl.concertLikeId AS id,
+                cl.user.id AS userId,
+                cl.concert.concertId AS itemId
+                FROM
+                ConcertLike cl
+                WHERE
+                cl.concertLikeId > :lastId
+                ORDER BY
+                cl.concertLikeId
+            """)
+    List<LikePair> findLikePairsAfter(@Param("lastId") long lastId, Pageable pageable);
+}
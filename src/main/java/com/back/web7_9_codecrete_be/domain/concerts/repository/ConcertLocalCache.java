@@ -0,0 +1,132 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertDetailResponse;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertListBody;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Redis(L2) 앞단에 두는 JVM 내부(L1) 캐시입니다.
+// 모든 사용자에게 동일한 공연 목록 앞 페이지와 공연 상세를 크기/TTL 제한을 두고 보관합니다.
+// 인스턴스 간 무효화는 ConcertRedisRepository 에서 Redis Pub/Sub 으로 전파합니다.
+@Slf4j
+@Component
+public class ConcertLocalCache {
+
+    // 무효화 범위 (Pub/Sub 메시지 본문으로 사용)
+    public static final String SCOPE_LIST = "LIST";
+    public static final String SCOPE_DETAIL = "DETAIL";
+    private static final String DETAILS_SCOPE_PREFIX = "DETAILS:";
+    private static final String PAGES_SCOPE_PREFIX = "PAGES:";
+    private static final String GENERATION_SCOPE_PREFIX = "GENERATION:";
+
+    private final Cache<String, List<ConcertItem>> concertListCache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    // 직렬화가 끝난 목록 응답 본문 (목록 페이지와 같은 세대 번호 규칙의 키 사용)
+    private final Cache<String, ConcertListBody> concertListBodyCache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    private final Cache<Long, ConcertDetailResponse> concertDetailCache = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    // 정렬 기준별 목록 세대 번호 -> Pub/Sub 메시지를 놓치더라도 짧은 TTL 후 Redis 에서 다시 읽음
+    private final Cache<String, Long> concertListGenerationCache = Caffeine.newBuilder()
+            .maximumSize(20)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    public List<ConcertItem> getConcertsList(String key) {
+        return concertListCache.getIfPresent(key);
+    }
+
+    public void putConcertsList(String key, List<ConcertItem> list) {
+        if (list == null || list.isEmpty()) return; // 빈 목록은 캐싱하지 않음
+        concertListCache.put(key, List.copyOf(list));
+    }
+
+    public ConcertListBody getConcertsListBody(String key) {
+        return concertListBodyCache.getIfPresent(key);
+    }
+
+    public void putConcertsListBody(String key, ConcertListBody body) {
+        concertListBodyCache.put(key, body);
+    }
+
+    public ConcertDetailResponse getConcertDetail(Long concertId) {
+        return concertDetailCache.getIfPresent(concertId);
+    }
+
+    public void putConcertDetail(Long concertId, ConcertDetailResponse concertDetailResponse) {
+        concertDetailCache.put(concertId, concertDetailResponse);
+    }
+
+    public Long getGeneration(String sort) {
+        return concertListGenerationCache.getIfPresent(sort);
+    }
+
+    public void putGeneration(String sort, Long generation) {
+        concertListGenerationCache.put(sort, generation);
+    }
+
+    // 개별 공연 상세 무효화 범위 -> "DETAILS:1,2,3"
+    public static String detailsScope(Collection<Long> concertIds) {
+        return DETAILS_SCOPE_PREFIX + concertIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    // 개별 목록 페이지 무효화 범위 -> "PAGES:key1,key2"
+    public static String pagesScope(Collection<String> pageKeys) {
+        return PAGES_SCOPE_PREFIX + String.join(",", pageKeys);
+    }
+
+    // 정렬 기준의 목록 세대 변경 범위 -> "GENERATION:LIKE"
+    public static String generationScope(String sort) {
+        return GENERATION_SCOPE_PREFIX + sort;
+    }
+
+    // 전달받은 범위의 로컬 캐시를 무효화합니다.
+    public void invalidate(String scope) {
+        if (scope == null) return;
+        if (scope.startsWith(DETAILS_SCOPE_PREFIX)) {
+            concertDetailCache.invalidateAll(Arrays.stream(scope.substring(DETAILS_SCOPE_PREFIX.length()).split(","))
+                    .filter(id -> !id.isBlank())
+                    .map(Long::valueOf)
+                    .toList());
+            return;
+        }
+        if (scope.startsWith(PAGES_SCOPE_PREFIX)) {
+            List<String> pageKeys = Arrays.asList(scope.substring(PAGES_SCOPE_PREFIX.length()).split(","));
+            concertListCache.invalidateAll(pageKeys);
+            concertListBodyCache.invalidateAll(pageKeys);
+            return;
+        }
+        if (scope.startsWith(GENERATION_SCOPE_PREFIX)) {
+            // 세대 번호가 키에 포함되므로 이전 세대의 로컬 목록은 더 이상 조회되지 않고 TTL/크기 제한으로 정리됨
+            concertListGenerationCache.invalidate(scope.substring(GENERATION_SCOPE_PREFIX.length()));
+            return;
+        }
+        switch (scope) {
+            case SCOPE_LIST -> {
+                concertListGenerationCache.invalidateAll();
+                concertListCache.invalidateAll();
+                concertListBodyCache.invalidateAll();
+            }
+            case SCOPE_DETAIL -> concertDetailCache.invalidateAll();
+            default -> log.warn("알 수 없는 로컬 캐시 무효화 범위: {}", scope);
+        }
+    }
+}
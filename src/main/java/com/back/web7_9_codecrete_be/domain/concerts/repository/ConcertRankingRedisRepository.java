@@ -0,0 +1,371 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ListSort;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.serializer.ConcertBinaryCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 정렬 기준별 공연 랭킹(ZSET)과 목록 표시용 공연 정보(HASH)를 관리합니다.
+// 목록 페이지는 ZSET 범위 조회 + HMGET 한 번으로 구성되어, 페이지 깊이와 상관없이 O(log n + 페이지 크기)로 조회됩니다.
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ConcertRankingRedisRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String RANKING_PREFIX = "concertRanking:";
+
+    // 공연 정보는 ConcertBinaryCodec 바이너리로 저장 (포맷이 바뀌면 키 버전을 올려 시작 시 재구성)
+    private static final String RANKING_ITEMS_KEY = "concertRankingItems:v2";
+
+    // 전체 재구성이 끝났음을 표시 -> 없으면 DB 조회로 대체
+    private static final String RANKING_READY_KEY = "concertRanking:ready:v2";
+
+    private static final String BUILDING_SUFFIX = ":building";
+
+    // 전체 재구성 중 표시와, 그동안 갱신/삭제된 공연 ID (교체 후 다시 반영해 옛 스냅샷에 덮이지 않도록)
+    private static final String REBUILDING_KEY = "concertRanking:rebuilding:v2";
+
+    private static final String CHANGED_DURING_REBUILD_KEY = "concertRanking:changedDuringRebuild:v2";
+
+    // 재구성 중일 때만 변경된 공연 ID 기록
+    private static final RedisScript<Long> MARK_CHANGED_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('SADD', KEYS[2], unpack(ARGV))
+            end
+            return 0
+            """, Long.class);
+
+    // 재구성 종료 -> 모아 둔 공연 ID 를 꺼내고 표시 삭제
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FINISH_REBUILD_SCRIPT = RedisScript.of("""
+            local ids = redis.call('SMEMBERS', KEYS[2])
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return ids
+            """, List.class);
+
+    // 한 번에 SADD 할 최대 공연 수 (Lua unpack 인자 수 제한)
+    private static final int MARK_CHANGED_BATCH_SIZE = 1000;
+
+    // 일별 순 방문자 증가 점수 -> concertTrending:{yyyyMMdd}
+    private static final String TRENDING_PREFIX = "concertTrending:";
+
+    // 최근 며칠의 점수를 가중 합산한 결과 (짧게 캐싱)
+    private static final String TRENDING_RESULT_KEY = "concertTrending:current";
+
+    private static final long TRENDING_DAY_TTL_SECONDS = TimeUnit.DAYS.toSeconds(8);
+
+    private static final long TRENDING_RESULT_TTL_SECONDS = 60;
+
+    // 오늘부터 과거로 갈수록 절반씩 줄어드는 가중치
+    private static final double[] TRENDING_WEIGHTS = {1.0, 0.5, 0.25};
+
+    // 랭킹으로 제공하는 정렬 기준
+    public static final List<ListSort> RANKED_SORTS = List.of(ListSort.LIKE, ListSort.VIEW, ListSort.TICKETING, ListSort.UPCOMING);
+
+    public static boolean isRanked(ListSort sort) {
+        return RANKED_SORTS.contains(sort);
+    }
+
+    // 랭킹 기반 공연 목록 페이지 조회 -> 랭킹이 아직 구성되지 않았다면 Optional.empty()
+    public Optional<List<ConcertItem>> getConcertsPage(ListSort sort, Pageable pageable, LocalDateTime now) {
+        long start = pageable.getOffset();
+        long size = pageable.getPageSize();
+        byte[] key = rankingKey(sort).getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+            connection.keyCommands().exists(RANKING_READY_KEY.getBytes(StandardCharsets.UTF_8));
+            switch (sort) {
+                case LIKE, VIEW -> connection.zSetCommands().zRevRangeWithScores(key, start, start + size - 1);
+                case TICKETING -> connection.zSetCommands().zRangeByScoreWithScores(
+                        key, ticketingScore(now.toLocalDate().atStartOfDay()), Double.POSITIVE_INFINITY, start, size);
+                case UPCOMING -> connection.zSetCommands().zRangeByScoreWithScores(
+                        key, upcomingScore(now.toLocalDate()), Double.POSITIVE_INFINITY, start, size);
+                default -> throw new IllegalArgumentException("랭킹으로 제공하지 않는 정렬 기준입니다: " + sort);
+            }
+            return null;
+        });
+
+        if (!Boolean.TRUE.equals(results.get(0))) return Optional.empty();
+
+        @SuppressWarnings("unchecked")
+        Set<ZSetOperations.TypedTuple<String>> tuples = (Set<ZSetOperations.TypedTuple<String>>) results.get(1);
+        if (tuples == null || tuples.isEmpty()) return Optional.of(List.of());
+
+        List<String> ids = new ArrayList<>(tuples.size());
+        List<Double> scores = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            ids.add(tuple.getValue());
+            scores.add(tuple.getScore());
+        }
+
+        List<byte[]> rawItems = multiGetItems(ids);
+        List<ConcertItem> concertItems = new ArrayList<>(rawItems.size());
+        for (int i = 0; i < rawItems.size(); i++) {
+            ConcertItem item = readItem(rawItems.get(i));
+            if (item == null) continue;
+            // 좋아요, 조회수 순은 실시간으로 갱신되는 점수를 표시 값으로 사용
+            if (sort == ListSort.LIKE) item.setLikeCount(scores.get(i).intValue());
+            if (sort == ListSort.VIEW) item.setViewCount(scores.get(i).intValue());
+            concertItems.add(item);
+        }
+        return Optional.of(concertItems);
+    }
+
+    // 공연 정보와 모든 랭킹 점수를 갱신 (조회수는 실시간 점수보다 작아지지 않게 GT 옵션 사용)
+    public void upsertConcerts(List<ConcertItem> concertItems) {
+        if (concertItems == null || concertItems.isEmpty()) return;
+        redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+            for (ConcertItem item : concertItems) {
+                writeItem(connection, item, "");
+            }
+            return null;
+        });
+        markChanged(concertItems.stream().map(ConcertItem::getId).toList());
+    }
+
+    // 조회수 점수 증가
+    public void incrementViewScore(Long concertId, long delta) {
+        redisTemplate.opsForZSet().incrementScore(rankingKey(ListSort.VIEW), concertId.toString(), delta);
+    }
+
+    // 오늘 처음 본 방문자만큼 트렌딩 점수 증가
+    public void incrementTrendingScore(Long concertId, LocalDate day) {
+        String key = trendingKey(day);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().incrementScore(key, concertId.toString(), 1);
+                operations.expire(key, TRENDING_DAY_TTL_SECONDS, TimeUnit.SECONDS);
+                return null;
+            }
+        });
+    }
+
+    // 최근 순 방문자 증가 기준 트렌딩 공연 ID 목록 (점수 내림차순)
+    public List<Long> getTrendingConcertIds(LocalDate today, int size) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(TRENDING_RESULT_KEY))) {
+            List<String> otherKeys = new ArrayList<>();
+            for (int i = 1; i < TRENDING_WEIGHTS.length; i++) otherKeys.add(trendingKey(today.minusDays(i)));
+            redisTemplate.opsForZSet().unionAndStore(trendingKey(today), otherKeys, TRENDING_RESULT_KEY,
+                    Aggregate.SUM, Weights.of(TRENDING_WEIGHTS));
+            redisTemplate.expire(TRENDING_RESULT_KEY, TRENDING_RESULT_TTL_SECONDS, TimeUnit.SECONDS);
+        }
+        Set<String> ids = redisTemplate.opsForZSet().reverseRange(TRENDING_RESULT_KEY, 0, size - 1);
+        if (ids == null) return List.of();
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    // 랭킹에 저장된 목록 표시용 공연 정보 조회 (없는 공연은 제외)
+    public List<ConcertItem> getConcertItems(List<Long> concertIds) {
+        if (concertIds.isEmpty()) return List.of();
+        List<byte[]> rawItems = multiGetItems(concertIds.stream().map(String::valueOf).toList());
+        List<ConcertItem> concertItems = new ArrayList<>(rawItems.size());
+        for (byte[] rawItem : rawItems) {
+            ConcertItem item = readItem(rawItem);
+            if (item != null) concertItems.add(item);
+        }
+        return concertItems;
+    }
+
+    // 공연을 모든 랭킹에서 제거
+    public void removeConcerts(Collection<Long> concertIds) {
+        if (concertIds == null || concertIds.isEmpty()) return;
+        Object[] members = concertIds.stream().map(String::valueOf).toArray();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (ListSort sort : RANKED_SORTS) {
+                    operations.opsForZSet().remove(rankingKey(sort), members);
+                }
+                operations.opsForHash().delete(RANKING_ITEMS_KEY, members);
+                return null;
+            }
+        });
+        markChanged(concertIds);
+    }
+
+    // 전체 랭킹 재구성 -> 임시 키에 모두 쓴 뒤 MULTI/EXEC 로 한 번에 교체
+    // viewCounts : 아직 DB에 반영되지 않은 캐시 조회수 (DB 값보다 크면 우선 사용)
+    public void rebuild(List<ConcertItem> concertItems, Map<Long, Integer> viewCounts) {
+        List<String> liveKeys = new ArrayList<>();
+        RANKED_SORTS.forEach(sort -> liveKeys.add(rankingKey(sort)));
+        liveKeys.add(RANKING_ITEMS_KEY);
+
+        redisTemplate.delete(liveKeys.stream().map(key -> key + BUILDING_SUFFIX).toList());
+
+        int batchSize = 500;
+        for (int i = 0; i < concertItems.size(); i += batchSize) {
+            List<ConcertItem> batch = concertItems.subList(i, Math.min(i + batchSize, concertItems.size()));
+            redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+                for (ConcertItem item : batch) {
+                    Integer cachedViewCount = viewCounts.get(item.getId());
+                    if (cachedViewCount != null && cachedViewCount > item.getViewCount()) {
+                        item.setViewCount(cachedViewCount);
+                    }
+                    writeItem(connection, item, BUILDING_SUFFIX);
+                }
+                return null;
+            });
+        }
+
+        // 비어 있는 랭킹(ex. 예매 일정이 있는 공연이 없음)은 임시 키가 없으므로 기존 키를 삭제
+        Set<String> builtKeys = new HashSet<>();
+        for (String liveKey : liveKeys) {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(liveKey + BUILDING_SUFFIX))) builtKeys.add(liveKey);
+        }
+
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                for (String liveKey : liveKeys) {
+                    if (builtKeys.contains(liveKey)) operations.rename(liveKey + BUILDING_SUFFIX, liveKey);
+                    else operations.delete(liveKey);
+                }
+                operations.opsForValue().set(RANKING_READY_KEY, String.valueOf(System.currentTimeMillis()));
+                return operations.exec();
+            }
+        });
+        log.info("공연 랭킹 재구성 완료: {}개의 공연", concertItems.size());
+    }
+
+    // 재구성 시작 표시 (DB 를 읽기 전에 호출해야 읽은 뒤 바뀐 공연이 빠짐없이 모임, 중단되면 ttl 후 사라짐)
+    public void startRebuild(long ttlSeconds) {
+        redisTemplate.delete(CHANGED_DURING_REBUILD_KEY);
+        redisTemplate.opsForValue().set(REBUILDING_KEY, String.valueOf(System.currentTimeMillis()), ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    // 재구성 종료 -> 재구성 중 갱신/삭제된 공연 ID
+    public Set<Long> finishRebuild() {
+        List<?> raw = redisTemplate.execute(FINISH_REBUILD_SCRIPT, List.of(REBUILDING_KEY, CHANGED_DURING_REBUILD_KEY));
+        Set<Long> concertIds = new HashSet<>();
+        if (raw != null) raw.forEach(id -> concertIds.add(Long.valueOf(id.toString())));
+        return concertIds;
+    }
+
+    // 누적 조회수로 조회수 점수를 올림 (랭킹에 있는 공연만, 작아지지 않게 XX GT 옵션 사용)
+    public void raiseViewScores(Map<Long, Integer> viewCounts) {
+        if (viewCounts == null || viewCounts.isEmpty()) return;
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(viewCounts.entrySet());
+        int batchSize = 500;
+        for (int i = 0; i < entries.size(); i += batchSize) {
+            List<Map.Entry<Long, Integer>> batch = entries.subList(i, Math.min(i + batchSize, entries.size()));
+            redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+                byte[] key = rankingKeyBytes(ListSort.VIEW, "");
+                for (Map.Entry<Long, Integer> entry : batch) {
+                    connection.zSetCommands().zAdd(key, entry.getValue(),
+                            String.valueOf(entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                            RedisZSetCommands.ZAddArgs.ifExists().gt());
+                }
+                return null;
+            });
+        }
+    }
+
+    private void markChanged(Collection<Long> concertIds) {
+        List<String> ids = concertIds.stream().map(String::valueOf).toList();
+        for (int i = 0; i < ids.size(); i += MARK_CHANGED_BATCH_SIZE) {
+            Object[] batch = ids.subList(i, Math.min(i + MARK_CHANGED_BATCH_SIZE, ids.size())).toArray();
+            redisTemplate.execute(MARK_CHANGED_SCRIPT, List.of(REBUILDING_KEY, CHANGED_DURING_REBUILD_KEY), batch);
+        }
+    }
+
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(RANKING_READY_KEY));
+    }
+
+    // 공연 정보(HASH)와 정렬 기준별 점수(ZSET) 저장
+    private void writeItem(RedisConnection connection, ConcertItem item, String suffix) {
+        byte[] member = String.valueOf(item.getId()).getBytes(StandardCharsets.UTF_8);
+        byte[] value = writeItemValue(item);
+        if (value == null) return;
+
+        connection.hashCommands().hSet((RANKING_ITEMS_KEY + suffix).getBytes(StandardCharsets.UTF_8), member, value);
+        connection.zSetCommands().zAdd(rankingKeyBytes(ListSort.LIKE, suffix), item.getLikeCount(), member);
+        connection.zSetCommands().zAdd(rankingKeyBytes(ListSort.VIEW, suffix), item.getViewCount(), member,
+                RedisZSetCommands.ZAddArgs.empty().gt());
+        connection.zSetCommands().zAdd(rankingKeyBytes(ListSort.UPCOMING, suffix), upcomingScore(item.getStartDate()), member);
+        if (item.getTicketTime() != null) {
+            connection.zSetCommands().zAdd(rankingKeyBytes(ListSort.TICKETING, suffix), ticketingScore(item.getTicketTime()), member);
+        } else {
+            connection.zSetCommands().zRem(rankingKeyBytes(ListSort.TICKETING, suffix), member);
+        }
+    }
+
+    private byte[] writeItemValue(ConcertItem item) {
+        try {
+            return ConcertBinaryCodec.encodeItem(item);
+        } catch (RuntimeException e) {
+            log.warn("랭킹 공연 정보 직렬화 실패: concertId={}", item.getId(), e);
+            return null;
+        }
+    }
+
+    private ConcertItem readItem(byte[] raw) {
+        if (raw == null) return null;
+        try {
+            return ConcertBinaryCodec.decodeItem(raw);
+        } catch (RuntimeException e) {
+            log.warn("랭킹 공연 정보 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    // 바이너리 값은 문자열 직렬화를 거치면 깨지므로 연결에서 직접 HMGET
+    private List<byte[]> multiGetItems(List<String> concertIds) {
+        byte[][] fields = concertIds.stream()
+                .map(id -> id.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        List<byte[]> rawItems = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.hashCommands().hMGet(RANKING_ITEMS_KEY.getBytes(StandardCharsets.UTF_8), fields));
+        return rawItems == null ? List.of() : rawItems;
+    }
+
+    private static String trendingKey(LocalDate day) {
+        return TRENDING_PREFIX + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private static String rankingKey(ListSort sort) {
+        return RANKING_PREFIX + sort.name();
+    }
+
+    private static byte[] rankingKeyBytes(ListSort sort, String suffix) {
+        return (rankingKey(sort) + suffix).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 예매 시작 시간 점수 (오름차순)
+    private static double ticketingScore(LocalDateTime ticketTime) {
+        return ticketTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // 공연 시작 날짜 점수 (오름차순)
+    private static double upcomingScore(LocalDate startDate) {
+        return startDate.toEpochDay();
+    }
+}
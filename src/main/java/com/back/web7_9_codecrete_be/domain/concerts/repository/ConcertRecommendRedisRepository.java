@@ -0,0 +1,68 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 사용자별로 미리 계산한 좋아요 기반 추천 공연 목록과, 다시 계산할 사용자 대기열을 관리합니다.
+@Repository
+@RequiredArgsConstructor
+public class ConcertRecommendRedisRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 사용자별 추천 공연 ID 목록 -> concertRecommend:{userId} = "id,id,..." (추천할 공연이 없으면 빈 문자열)
+    private static final String RECOMMEND_PREFIX = "concertRecommend:";
+
+    // 다시 계산할 사용자 -> 점수 : 계산할 시각(epoch ms), 연속으로 좋아요를 누르면 시각이 뒤로 밀림 (디바운스)
+    private static final String RECOMMEND_PENDING_KEY = "concertRecommend:pending";
+
+    // 계산할 시각이 지난 사용자를 꺼내면서 대기열에서 제거 -> 여러 인스턴스가 같은 사용자를 중복 계산하지 않음
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_DUE_SCRIPT = RedisScript.of("""
+            local userIds = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #userIds > 0 then
+                redis.call('ZREM', KEYS[1], unpack(userIds))
+            end
+            return userIds
+            """, List.class);
+
+    // 계산되지 않았거나 만료된 사용자면 Optional.empty()
+    public Optional<List<Long>> getRecommendedConcertIds(Long userId) {
+        String raw = redisTemplate.opsForValue().get(RECOMMEND_PREFIX + userId);
+        if (raw == null) return Optional.empty();
+        return Optional.of(Arrays.stream(raw.split(","))
+                .filter(id -> !id.isBlank())
+                .map(Long::parseLong)
+                .toList());
+    }
+
+    public void saveRecommendedConcertIds(Long userId, List<Long> concertIds, Duration ttl) {
+        String value = concertIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        redisTemplate.opsForValue().set(RECOMMEND_PREFIX + userId, value, ttl);
+    }
+
+    // dueAtMillis 이후에 다시 계산하도록 예약 (이미 예약되어 있으면 시각만 갱신)
+    public void schedule(Long userId, long dueAtMillis) {
+        redisTemplate.opsForZSet().add(RECOMMEND_PENDING_KEY, userId.toString(), dueAtMillis);
+    }
+
+    // 계산할 시각이 지난 사용자를 최대 limit 명 꺼냄
+    @SuppressWarnings("unchecked")
+    public List<Long> popDue(long nowMillis, int limit) {
+        List<Object> userIds = redisTemplate.execute(
+                POP_DUE_SCRIPT,
+                List.of(RECOMMEND_PENDING_KEY),
+                String.valueOf(nowMillis),
+                String.valueOf(limit)
+        );
+        if (userIds == null) return List.of();
+        return userIds.stream().map(userId -> Long.parseLong(userId.toString())).toList();
+    }
+}
@@ -2,16 +2,22 @@ package com.back.web7_9_codecrete_be.domain.concerts.repository;
 
 import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertDetailResponse;
 import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertListBody;
 import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ListSort;
 import com.back.web7_9_codecrete_be.domain.users.entity.User;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.back.web7_9_codecrete_be.global.redis.ConcertPubSubChannels;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
@@ -20,8 +26,11 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class ConcertRedisRepository {
     private final RedisTemplate<String, String> redisTemplate;
-    private final RedisTemplate<String, Object> objectRedisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, List<ConcertItem>> concertListRedisTemplate;
+    private final RedisTemplate<String, ConcertDetailResponse> concertDetailRedisTemplate;
+    private final RedisTemplate<String, byte[]> concertBodyRedisTemplate;
+    private final ConcertLocalCache concertLocalCache;
+    private final ConcertCacheMetrics concertCacheMetrics;
 
     private static final String LOCK_FLAG_PREFIX = "initLoad:";
 
@@ -29,10 +38,197 @@ public class ConcertRedisRepository {
 
     private static final String CONCERT_LIST_PREFIX = "concertList:";
 
-    private static final String CONCERTS_COUNT_PREFIX = "totalConcertsCount:";
+    // 직렬화가 끝난 목록 응답 본문 -> concertListBody:{정렬}:g{세대}:{페이지}S{크기}
+    private static final String CONCERT_LIST_BODY_PREFIX = "concertListBody:";
 
+    // 정렬 기준별 목록 세대 번호 -> 번호를 올리면 이전 세대의 페이지는 조회되지 않음 (O(1) 무효화)
+    private static final String CONCERT_LIST_GENERATION_PREFIX = "concertListGeneration:";
+
+    // 정렬 기준별 마지막으로 발급한 목록 세대 번호 -> 미리 채우는 중인 세대도 다른 세대와 겹치지 않게 함
+    private static final String CONCERT_LIST_GENERATION_SEQ_PREFIX = "concertListGenerationSeq:";
+
+    // 공연 ID -> 해당 공연이 포함된 목록 페이지 키 집합
+    private static final String CONCERT_LIST_PAGES_OF_PREFIX = "concertListPagesOf:";
+
+    // 공연 수 카운터 -> 쓰기 이벤트로 증감하고 주기적으로 DB 와 맞춤 (ConcertCounterService)
+    // 재조정이 한 번 끝나 준비 표시가 있을 때만 증감 -> 빈 키에서 0부터 센 잘못된 값이 남지 않음
+    private static final String CONCERT_COUNTER_READY_KEY = "concertCounter:ready";
+
+    private static final String CONCERT_COUNTER_TOTAL_KEY = "concertCounter:total";
+
+    // 공연 ID -> 예매 시작 시각 (날짜가 바뀌어도 오늘 이후 예매 공연 수를 ZCOUNT 로 바로 셈)
+    private static final String CONCERT_COUNTER_TICKET_TIMES_KEY = "concertCounter:ticketTimes";
+
+    // 사용자 ID -> 좋아요한 공연 수
+    private static final String CONCERT_COUNTER_USER_LIKED_KEY = "concertCounter:userLiked";
+
+    // 재조정 중 채우는 임시 키 (교체 전에 실패하면 만료로 정리)
+    private static final String CONCERT_COUNTER_REBUILD_SUFFIX = ":rebuild";
+
+    private static final long CONCERT_COUNTER_REBUILD_TTL_SECONDS = 600;
+
+    // 공연별 누적 조회수 (DB 값 + DB 미반영 증가분)
     private static final String CONCERTS_VIEW_COUNTS = "concertsViewCount";
 
+    // 공연별 DB 미반영 조회수 증가분
+    private static final String CONCERTS_VIEW_COUNT_PENDING = "concertsViewCount:pending";
+
+    // DB 반영 중인 증가분 -> 반영에 실패하면 남아 있다가 다음 반영 때 먼저 처리됨
+    private static final String CONCERTS_VIEW_COUNT_FLUSHING = "concertsViewCount:flushing";
+
+    // 반영 중인 증가분 묶음의 ID (반영 중 해시의 필드) -> DB 에 이미 반영된 묶음인지 확인하는 데 사용
+    private static final String VIEW_COUNT_FLUSH_ID_FIELD = "flushId";
+
+    // 조회수 1 증가 -> 누적 조회수가 없으면 DB 값으로 시작, 증가분도 함께 기록
+    private static final RedisScript<Long> INCREMENT_VIEW_COUNT_SCRIPT = RedisScript.of("""
+            redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+            return redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            """, Long.class);
+
+    // 증가분을 반영용 키로 옮긴 뒤 조회 (이전에 반영하지 못한 증가분이 있으면 그것부터, 처음 붙인 묶음 ID 그대로 조회)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_VIEW_COUNT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return {}
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    // 반영이 끝난 묶음만 삭제 (그사이 다른 인스턴스가 정리하고 새 묶음을 만들었다면 지우지 않음)
+    private static final RedisScript<Long> COMPLETE_VIEW_COUNT_DRAIN_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 공연별, 날짜별 순 방문자 (HyperLogLog) -> concertViewers:{concertId}:{yyyyMMdd}
+    private static final String CONCERT_VIEWERS_PREFIX = "concertViewers:";
+
+    // 일별 방문자 키 보관 기간 (최근 7일 조회 + 여유 1일)
+    private static final long CONCERT_VIEWERS_TTL_SECONDS = TimeUnit.DAYS.toSeconds(8);
+
+    private static final DateTimeFormatter VIEWER_DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 오늘 처음 보는 방문자일 때만 조회수 1 증가 -> {증가 여부(1/0), 누적 조회수}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT_UNIQUE_VIEW_COUNT_SCRIPT = RedisScript.of("""
+            redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2])
+            if redis.call('PFADD', KEYS[3], ARGV[3]) == 1 then
+                redis.call('EXPIRE', KEYS[3], ARGV[4])
+                redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+                return {1, redis.call('HINCRBY', KEYS[1], ARGV[1], 1)}
+            end
+            return {0, tonumber(redis.call('HGET', KEYS[1], ARGV[1]))}
+            """, List.class);
+
+    // 새 목록 세대 번호 발급 (현재 세대보다 항상 큼)
+    private static final RedisScript<Long> RESERVE_LIST_GENERATION_SCRIPT = RedisScript.of("""
+            local generation = redis.call('INCR', KEYS[1])
+            local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if generation <= current then
+                generation = current + 1
+                redis.call('SET', KEYS[1], generation)
+            end
+            return generation
+            """, Long.class);
+
+    // 현재 세대보다 새로운 세대일 때만 교체 -> 늦게 끝난 이전 작업이 최신 세대를 덮어쓰지 않음
+    private static final RedisScript<Long> PUBLISH_LIST_GENERATION_SCRIPT = RedisScript.of("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if tonumber(ARGV[1]) > current then
+                redis.call('SET', KEYS[1], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 준비된 카운터만 증감 -> 준비 전이면 -1
+    private static final RedisScript<Long> ADJUST_TOTAL_COUNT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            return redis.call('INCRBY', KEYS[2], ARGV[1])
+            """, Long.class);
+
+    // 사용자별 좋아요 수 증감 -> 0 이하가 되면 필드를 지워 해시를 작게 유지 (없는 필드는 0)
+    private static final RedisScript<Long> ADJUST_USER_LIKED_COUNT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local count = redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+            if count <= 0 then
+                redis.call('HDEL', KEYS[2], ARGV[1])
+                return 0
+            end
+            return count
+            """, Long.class);
+
+    // 공연별 예매 시작 시각 반영 -> ARGV : {공연 ID, 점수(빈 값이면 제외)} 반복
+    private static final RedisScript<Long> UPDATE_TICKET_TIMES_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            for i = 1, #ARGV, 2 do
+                if ARGV[i + 1] == '' then
+                    redis.call('ZREM', KEYS[2], ARGV[i])
+                else
+                    redis.call('ZADD', KEYS[2], ARGV[i + 1], ARGV[i])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> COUNT_TICKETING_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            return redis.call('ZCOUNT', KEYS[2], ARGV[1], '+inf')
+            """, Long.class);
+
+    private static final RedisScript<Long> GET_USER_LIKED_COUNT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            return tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+            """, Long.class);
+
+    // 재조정 결과로 한 번에 교체하고 준비 표시
+    private static final RedisScript<Long> REPLACE_COUNTERS_SCRIPT = RedisScript.of("""
+            for i = 3, 5, 2 do
+                if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+                    redis.call('RENAME', KEYS[i + 1], KEYS[i])
+                    redis.call('PERSIST', KEYS[i])
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            redis.call('SET', KEYS[2], ARGV[1])
+            redis.call('SET', KEYS[1], '1')
+            return 1
+            """, Long.class);
+
+    // 락을 건 인스턴스만 해제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // 락을 건 인스턴스만 만료 시간 연장 -> 연장했으면 1
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
     private static final int HOUR = 3600;
 
     // 최초 공연 로드 락
@@ -52,60 +248,242 @@ public class ConcertRedisRepository {
         redisTemplate.delete(LOCK_FLAG_PREFIX + key);
     }
 
-    // 공연 목록 캐싱
+    // 여러 인스턴스 중 하나만 실행해야 하는 작업의 락 (SET NX + 만료 시간)
+    public boolean tryLock(String key, String owner, long ttlSeconds) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(
+                LOCK_FLAG_PREFIX + key,
+                owner,
+                ttlSeconds,
+                TimeUnit.SECONDS));
+    }
+
+    public void unlock(String key, String owner) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_FLAG_PREFIX + key), owner);
+    }
+
+    // 오래 걸리는 작업 중 락이 만료되지 않도록 연장 -> 이미 다른 인스턴스로 넘어갔다면 false
+    public boolean renewLock(String key, String owner, long ttlSeconds) {
+        Long renewed = redisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(LOCK_FLAG_PREFIX + key), owner, String.valueOf(ttlSeconds));
+        return renewed != null && renewed == 1L;
+    }
+
+    // 공연 목록 캐싱 (L1 + L2)
+    // 페이지에 포함된 공연마다 페이지 키를 등록해 두어, 공연이 바뀌면 해당 공연이 포함된 페이지만 지울 수 있게 함
     public void saveConcertsList(ListSort sort, Pageable pageable, List<ConcertItem> list) {
-        String key = CONCERT_LIST_PREFIX + sort.name() + pageable.getPageNumber() + "S" + pageable.getPageSize();
-        objectRedisTemplate.opsForValue().set(key, list, HOUR, TimeUnit.SECONDS);
+        saveConcertsList(sort, getConcertsListGeneration(sort), pageable, list);
     }
 
-    // 공연 목록 가져오기
+    // 지정한 세대에 공연 목록 캐싱 -> 아직 발행하지 않은 세대를 미리 채울 때 사용
+    public void saveConcertsList(ListSort sort, long generation, Pageable pageable, List<ConcertItem> list) {
+        String key = getConcertsListKey(sort, generation, pageable);
+        concertListRedisTemplate.opsForValue().set(key, list, HOUR, TimeUnit.SECONDS);
+        registerConcertsListPage(key, list);
+        concertLocalCache.putConcertsList(key, list);
+    }
+
+    // 공연 목록 가져오기 -> 로컬 캐시(L1)에 없을 때만 Redis(L2) 조회
     public List<ConcertItem> getConcertsList(Pageable pageable, ListSort sort) {
-        String key = CONCERT_LIST_PREFIX + sort.name() + pageable.getPageNumber()+ "S" + pageable.getPageSize();
-        Object object = objectRedisTemplate.opsForValue().get(key);
-        List<ConcertItem> list = (List<ConcertItem>) object;
-        if (list == null || list.isEmpty()) return List.of(); // null 이 아닌 empty 값 반환
+        String key = getConcertsListKey(sort, pageable);
+        List<ConcertItem> localList = concertLocalCache.getConcertsList(key);
+        if (localList != null) {
+            concertCacheMetrics.hit(ConcertCacheMetrics.TIER_L1, ConcertCacheMetrics.LIST);
+            return localList;
+        }
+        concertCacheMetrics.miss(ConcertCacheMetrics.TIER_L1, ConcertCacheMetrics.LIST);
+
+        List<ConcertItem> list = concertListRedisTemplate.opsForValue().get(key);
+        if (list == null || list.isEmpty()) {
+            concertCacheMetrics.miss(ConcertCacheMetrics.TIER_L2, ConcertCacheMetrics.LIST);
+            return List.of(); // null 이 아닌 empty 값 반환
+        }
+        concertCacheMetrics.hit(ConcertCacheMetrics.TIER_L2, ConcertCacheMetrics.LIST);
+        concertLocalCache.putConcertsList(key, list);
         return list;
     }
 
-    // 캐싱된 모든 공연 목록 삭제
+    // 목록 응답 본문 캐싱 (L1 + L2) -> 목록 페이지와 같은 세대 번호, 공연별 페이지 등록을 사용해 함께 무효화됨
+    public void saveConcertsListBody(ListSort sort, Pageable pageable, ConcertListBody body, List<ConcertItem> list) {
+        saveConcertsListBody(sort, getConcertsListGeneration(sort), pageable, body, list);
+    }
+
+    // 지정한 세대에 목록 응답 본문 캐싱 -> 아직 발행하지 않은 세대를 미리 채울 때 사용
+    public void saveConcertsListBody(ListSort sort, long generation, Pageable pageable, ConcertListBody body, List<ConcertItem> list) {
+        String key = getConcertsListBodyKey(sort, generation, pageable);
+        concertBodyRedisTemplate.opsForValue().set(key, body.body(), HOUR, TimeUnit.SECONDS);
+        registerConcertsListPage(key, list);
+        concertLocalCache.putConcertsListBody(key, body);
+    }
+
+    // 목록 응답 본문 가져오기 (없으면 null)
+    public ConcertListBody getConcertsListBody(Pageable pageable, ListSort sort) {
+        String key = getConcertsListBodyKey(sort, pageable);
+        ConcertListBody localBody = concertLocalCache.getConcertsListBody(key);
+        if (localBody != null) {
+            concertCacheMetrics.hit(ConcertCacheMetrics.TIER_L1, ConcertCacheMetrics.BODY);
+            return localBody;
+        }
+        concertCacheMetrics.miss(ConcertCacheMetrics.TIER_L1, ConcertCacheMetrics.BODY);
+
+        byte[] raw = concertBodyRedisTemplate.opsForValue().get(key);
+        if (raw == null || raw.length == 0) {
+            concertCacheMetrics.miss(ConcertCacheMetrics.TIER_L2, ConcertCacheMetrics.BODY);
+            return null;
+        }
+        concertCacheMetrics.hit(ConcertCacheMetrics.TIER_L2, ConcertCacheMetrics.BODY);
+        ConcertListBody body = ConcertListBody.of(raw);
+        concertLocalCache.putConcertsListBody(key, body);
+        return body;
+    }
+
+    // 캐싱된 모든 공연 목록 무효화 -> 키 전체를 SCAN 하지 않고 모든 정렬 기준의 세대 번호만 올림
     public void deleteAllConcertsList() {
-        deleteAllItemsByPREFIX(CONCERT_LIST_PREFIX);
+        for (ListSort sort : ListSort.values()) {
+            bumpConcertsListGeneration(sort);
+        }
+    }
+
+    // 해당 정렬 기준의 목록 세대 번호를 올려 이전 페이지들을 한 번에 무효화 (이전 페이지는 TTL로 만료)
+    public void bumpConcertsListGeneration(ListSort sort) {
+        publishConcertsListGeneration(sort, reserveConcertsListGeneration(sort));
+    }
+
+    // 아직 조회되지 않는 새 세대 번호 발급
+    public long reserveConcertsListGeneration(ListSort sort) {
+        Long generation = redisTemplate.execute(
+                RESERVE_LIST_GENERATION_SCRIPT,
+                List.of(CONCERT_LIST_GENERATION_SEQ_PREFIX + sort.name(), CONCERT_LIST_GENERATION_PREFIX + sort.name())
+        );
+        if (generation == null) throw new IllegalStateException("목록 세대 번호 발급 실패: " + sort);
+        return generation;
+    }
+
+    // 세대 번호 교체 -> 이후 조회는 모두 새 세대의 페이지를 읽음 (이미 더 새로운 세대가 있으면 false)
+    public boolean publishConcertsListGeneration(ListSort sort, long generation) {
+        Long published = redisTemplate.execute(
+                PUBLISH_LIST_GENERATION_SCRIPT,
+                List.of(CONCERT_LIST_GENERATION_PREFIX + sort.name()),
+                String.valueOf(generation)
+        );
+        if (published == null || published == 0L) return false;
+        concertLocalCache.putGeneration(sort.name(), generation);
+        invalidateLocalCache(ConcertLocalCache.generationScope(sort.name()));
+        return true;
+    }
+
+    // 해당 공연들의 상세 캐시와, 해당 공연들이 포함된 목록 페이지만 삭제
+    public void evictConcerts(Collection<Long> concertIds) {
+        if (concertIds == null || concertIds.isEmpty()) return;
+        List<String> registryKeys = concertIds.stream()
+                .map(concertId -> CONCERT_LIST_PAGES_OF_PREFIX + concertId)
+                .toList();
+
+        // 등록된 페이지 키들을 한 번의 왕복으로 조회
+        List<Object> registeredPages = redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+            for (String registryKey : registryKeys) {
+                connection.setCommands().sMembers(registryKey.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Set<String> pageKeys = new HashSet<>();
+        for (Object registeredPage : registeredPages) {
+            if (registeredPage instanceof Collection<?> keys) {
+                keys.forEach(pageKey -> pageKeys.add(pageKey.toString()));
+            }
+        }
+
+        List<String> keysToDelete = new ArrayList<>(pageKeys);
+        keysToDelete.addAll(registryKeys);
+        concertIds.forEach(concertId -> keysToDelete.add(CONCERT_DETAIL_PREFIX + concertId));
+        redisTemplate.delete(keysToDelete);
+
+        if (!pageKeys.isEmpty()) invalidateLocalCache(ConcertLocalCache.pagesScope(pageKeys));
+        invalidateLocalCache(ConcertLocalCache.detailsScope(concertIds));
+        log.debug("공연 {}개 관련 캐시 삭제: 목록 페이지 {}개", concertIds.size(), pageKeys.size());
+    }
+
+    // 공연 목록 페이지 키 -> concertList:{정렬}:g{세대}:{페이지}S{크기}
+    private String getConcertsListKey(ListSort sort, Pageable pageable) {
+        return getConcertsListKey(sort, getConcertsListGeneration(sort), pageable);
+    }
+
+    private String getConcertsListBodyKey(ListSort sort, Pageable pageable) {
+        return getConcertsListBodyKey(sort, getConcertsListGeneration(sort), pageable);
     }
 
-    // 공연 상세 캐싱
+    private static String getConcertsListBodyKey(ListSort sort, long generation, Pageable pageable) {
+        return CONCERT_LIST_BODY_PREFIX + sort.name() + ":g" + generation + ":" + pageable.getPageNumber() + "S" + pageable.getPageSize();
+    }
+
+    private static String getConcertsListKey(ListSort sort, long generation, Pageable pageable) {
+        return CONCERT_LIST_PREFIX + sort.name() + ":g" + generation + ":" + pageable.getPageNumber() + "S" + pageable.getPageSize();
+    }
+
+    // 정렬 기준의 현재 목록 세대 번호 조회 (로컬 캐시 우선)
+    private long getConcertsListGeneration(ListSort sort) {
+        Long localGeneration = concertLocalCache.getGeneration(sort.name());
+        if (localGeneration != null) return localGeneration;
+        String raw = redisTemplate.opsForValue().get(CONCERT_LIST_GENERATION_PREFIX + sort.name());
+        long generation = raw == null ? 0L : Long.parseLong(raw);
+        concertLocalCache.putGeneration(sort.name(), generation);
+        return generation;
+    }
+
+    // 페이지에 포함된 공연별로 페이지 키 등록 (페이지와 같은 TTL)
+    private void registerConcertsListPage(String key, List<ConcertItem> list) {
+        if (list == null || list.isEmpty()) return;
+        byte[] pageKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+            for (ConcertItem item : list) {
+                byte[] registryKey = (CONCERT_LIST_PAGES_OF_PREFIX + item.getId()).getBytes(StandardCharsets.UTF_8);
+                connection.setCommands().sAdd(registryKey, pageKey);
+                connection.keyCommands().expire(registryKey, HOUR);
+            }
+            return null;
+        });
+    }
+
+    // 공연 상세 캐싱 (L1 + L2)
+    // 상세 본문은 공연이 바뀔 때만 다시 저장하고, 조회수는 별도 해시(concertsViewCount)에서 관리
     public void saveConcertDetail(Long concertId, ConcertDetailResponse concertDetailResponse) {
-        objectRedisTemplate.opsForValue().set(
+        concertDetailRedisTemplate.opsForValue().set(
                 CONCERT_DETAIL_PREFIX + concertId,
                 concertDetailResponse,
                 2,
                 TimeUnit.DAYS
         );
-        redisTemplate.opsForHash().put(CONCERTS_VIEW_COUNTS, concertId.toString(), concertDetailResponse.getViewCount() + "");
+        concertLocalCache.putConcertDetail(concertId, concertDetailResponse);
     }
 
-    // 공연 정보 가져오기
+    // 공연 정보 가져오기 (본문의 조회수는 캐싱 시점의 값이므로 incrementViewCount 결과를 사용)
+    // L1 에서 꺼낸 본문은 모든 요청이 공유하므로 수정하지 말고, 바꿀 값은 복사본에 반영 (ConcertDetailResponse.withViewCount)
     public ConcertDetailResponse getCachedConcertDetail(Long concertId) {
+        ConcertDetailResponse localDetail = concertLocalCache.getConcertDetail(concertId);
+        if (localDetail != null) {
+            concertCacheMetrics.hit(ConcertCacheMetrics.TIER_L1, ConcertCacheMetrics.DETAIL);
+            return localDetail;
+        }
+        concertCacheMetrics.miss(ConcertCacheMetrics.TIER_L1, ConcertCacheMetrics.DETAIL);
+
         ConcertDetailResponse concertDetailResponse = getConcertDetailResponse(concertId);
-        if (concertDetailResponse == null) return null;
+        if (concertDetailResponse == null) {
+            concertCacheMetrics.miss(ConcertCacheMetrics.TIER_L2, ConcertCacheMetrics.DETAIL);
+            return null;
+        }
+        concertCacheMetrics.hit(ConcertCacheMetrics.TIER_L2, ConcertCacheMetrics.DETAIL);
+        concertLocalCache.putConcertDetail(concertId, concertDetailResponse);
         return concertDetailResponse;
     }
 
     // 공연 상세 정보를 Redis에서 가져오기
     private ConcertDetailResponse getConcertDetailResponse(long concertId) {
-        Object rawObject = objectRedisTemplate.opsForValue().get(CONCERT_DETAIL_PREFIX + concertId);
-        if (rawObject == null) return null; // null이라면 null 반환
-        if(rawObject instanceof ConcertDetailResponse) return (ConcertDetailResponse) rawObject; // ConcertDetailResponse라면 다운캐스팅
-        return objectMapper.convertValue(rawObject, ConcertDetailResponse.class); // 아니라면 매퍼 사용 클래스 변환
+        return concertDetailRedisTemplate.opsForValue().get(CONCERT_DETAIL_PREFIX + concertId);
     }
 
     // 공연 상세 삭제
     public void deleteConcertDetail(String concertId) {
         redisTemplate.delete(CONCERT_DETAIL_PREFIX + concertId);
-    }
-
-    // 모든 공연 상세 삭제
-    public void deleteAllCachedConcertDetail() {
-        deleteAllItemsByPREFIX(CONCERT_DETAIL_PREFIX);
+        invalidateLocalCache(ConcertLocalCache.detailsScope(List.of(Long.valueOf(concertId))));
     }
 
     // 모든 공연의 조회수 맵 조회 -> 하나의 해시를 기준으로 가져올 수 있게 처리
@@ -133,15 +511,92 @@ public class ConcertRedisRepository {
     // 캐시된 조회수 삭제
     public void deleteViewCount(Long concertId) {
         redisTemplate.opsForHash().delete(CONCERTS_VIEW_COUNTS, concertId.toString());
+        redisTemplate.opsForHash().delete(CONCERTS_VIEW_COUNT_PENDING, concertId.toString());
     }
 
-    // 공연에 예매시작, 종료일자 추가
-    public void updateCachedTickingDate(Long concertId, LocalDateTime TicketTime, LocalDateTime TicketEndTime) {
-        ConcertDetailResponse concertDetailResponse = getConcertDetailResponse(concertId);
-        if (concertDetailResponse == null) return;
-        concertDetailResponse.setTicketTime(TicketTime);
-        concertDetailResponse.setTicketEndTime(TicketEndTime);
-        saveConcertDetail(concertId, concertDetailResponse);
+    // 조회수 1 증가 후 누적 조회수 반환 (baseViewCount : 누적 조회수가 없을 때 시작할 DB 조회수)
+    public long incrementViewCount(Long concertId, int baseViewCount) {
+        Long viewCount = redisTemplate.execute(
+                INCREMENT_VIEW_COUNT_SCRIPT,
+                List.of(CONCERTS_VIEW_COUNTS, CONCERTS_VIEW_COUNT_PENDING),
+                concertId.toString(),
+                String.valueOf(baseViewCount)
+        );
+        return viewCount == null ? baseViewCount + 1L : viewCount;
+    }
+
+    // 조회수 증가 결과 (counted : 오늘 처음 본 방문자라 조회수가 올랐는지 여부)
+    public record ViewCount(boolean counted, long total) {
+    }
+
+    // 오늘 처음 보는 방문자(viewerId)일 때만 조회수 1 증가
+    // 방문자 수와 상관없이 키 하나당 최대 12KB 만 사용
+    @SuppressWarnings("unchecked")
+    public ViewCount incrementUniqueViewCount(Long concertId, int baseViewCount, String viewerId, LocalDate day) {
+        List<Object> result = redisTemplate.execute(
+                INCREMENT_UNIQUE_VIEW_COUNT_SCRIPT,
+                List.of(CONCERTS_VIEW_COUNTS, CONCERTS_VIEW_COUNT_PENDING, viewersKey(concertId, day)),
+                concertId.toString(),
+                String.valueOf(baseViewCount),
+                viewerId,
+                String.valueOf(CONCERT_VIEWERS_TTL_SECONDS)
+        );
+        if (result == null || result.size() < 2) return new ViewCount(false, baseViewCount);
+        return new ViewCount(((Number) result.get(0)).longValue() == 1L, ((Number) result.get(1)).longValue());
+    }
+
+    // 기간 내 순 방문자 수 (여러 날짜를 합친 추정치, 같은 방문자는 한 번만 셈)
+    public Long countUniqueViewers(Long concertId, LocalDate from, LocalDate to) {
+        List<String> keys = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            keys.add(viewersKey(concertId, day));
+        }
+        if (keys.isEmpty()) return 0L;
+        return redisTemplate.opsForHyperLogLog().size(keys.toArray(new String[0]));
+    }
+
+    private static String viewersKey(Long concertId, LocalDate day) {
+        return CONCERT_VIEWERS_PREFIX + concertId + ":" + day.format(VIEWER_DAY_FORMAT);
+    }
+
+    // DB에 반영할 조회수 증가분 묶음 -> flushId 는 묶음이 처음 만들어질 때 정해지고, 반영이 끝날 때까지 바뀌지 않음
+    public record ViewCountDrain(String flushId, Map<Long, Long> deltas) {
+        public boolean isEmpty() {
+            return deltas.isEmpty();
+        }
+    }
+
+    // DB에 반영할 조회수 증가분 가져오기 -> 반영이 끝나면 completeViewCountDrain 호출
+    @SuppressWarnings("unchecked")
+    public ViewCountDrain drainPendingViewCounts() {
+        List<Object> raw = redisTemplate.execute(
+                DRAIN_VIEW_COUNT_SCRIPT,
+                List.of(CONCERTS_VIEW_COUNT_PENDING, CONCERTS_VIEW_COUNT_FLUSHING),
+                VIEW_COUNT_FLUSH_ID_FIELD,
+                UUID.randomUUID().toString()
+        );
+        String flushId = null;
+        Map<Long, Long> deltas = new HashMap<>();
+        if (raw == null) return new ViewCountDrain(null, deltas);
+        for (int i = 0; i + 1 < raw.size(); i += 2) {
+            String field = raw.get(i).toString();
+            if (VIEW_COUNT_FLUSH_ID_FIELD.equals(field)) {
+                flushId = raw.get(i + 1).toString();
+                continue;
+            }
+            deltas.put(Long.valueOf(field), Long.valueOf(raw.get(i + 1).toString()));
+        }
+        return new ViewCountDrain(flushId, deltas);
+    }
+
+    // DB 반영이 끝난 증가분 삭제 (flushId 묶음일 때만)
+    public void completeViewCountDrain(String flushId) {
+        redisTemplate.execute(
+                COMPLETE_VIEW_COUNT_DRAIN_SCRIPT,
+                List.of(CONCERTS_VIEW_COUNT_FLUSHING),
+                VIEW_COUNT_FLUSH_ID_FIELD,
+                flushId
+        );
     }
 
     // String Integer 타입 맵을 Long Integer로 변환
@@ -153,78 +608,130 @@ public class ConcertRedisRepository {
         return viewCountMap;
     }
 
-    // 해당 접두어의 모든 항목 삭제
-    private void deleteAllItemsByPREFIX(String prefix) {
-        String pattern = prefix + "*";
-        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(100).build();
-        Set<String> keys = redisTemplate.execute((RedisCallback<Set<String>>) connection -> {
-                    Set<String> keySet = new HashSet<>();
-                    try (Cursor<byte[]> cursor = connection.scan(options)) {
-                        while (cursor.hasNext()) {
-                            keySet.add(new String(cursor.next()));
-                        }
-                    }
-                    return keySet;
-                }
-        );
-
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info("Successfully deleted %s items with prefix: %s".formatted(keys.size() + "", prefix));
-        } else {
-            log.info("no items with prefix: %s".formatted(prefix));
-        }
+    // 총 공연 수 조회 (카운터가 준비되기 전이면 -1)
+    public Long getTotalConcertsCount() {
+        String raw = redisTemplate.opsForValue().get(CONCERT_COUNTER_TOTAL_KEY);
+        return recordCount(raw == null ? null : Long.parseLong(raw));
     }
 
-    // 총 공연의 개수 저장
-    public Long saveTotalConcertsCount(Long totalConcertsCount, ListSort sort) {
-        redisTemplate.opsForValue().set(CONCERTS_COUNT_PREFIX + sort.name(), totalConcertsCount.toString());
-        return totalConcertsCount;
+    // from 이후에 예매가 시작되는 공연 수 조회 (카운터가 준비되기 전이면 -1)
+    public Long getTicketingConcertsCount(LocalDateTime from) {
+        return recordCount(redisTemplate.execute(
+                COUNT_TICKETING_SCRIPT,
+                List.of(CONCERT_COUNTER_READY_KEY, CONCERT_COUNTER_TICKET_TIMES_KEY),
+                String.valueOf(ticketTimeScore(from))
+        ));
     }
 
-    // 총 공연의 개수 조회
-    public Long getTotalConcertsCount(ListSort sort) {
-        String raw = redisTemplate.opsForValue().get(CONCERTS_COUNT_PREFIX + sort.name());
-        if (raw == null) return -1L;
-        else return Long.parseLong(redisTemplate.opsForValue().get(CONCERTS_COUNT_PREFIX + sort.name()));
+    // 사용자가 좋아요를 누른 공연 수 조회 (카운터가 준비되기 전이면 -1)
+    public Long getUserLikedCount(User user) {
+        return recordCount(redisTemplate.execute(
+                GET_USER_LIKED_COUNT_SCRIPT,
+                List.of(CONCERT_COUNTER_READY_KEY, CONCERT_COUNTER_USER_LIKED_KEY),
+                user.getId().toString()
+        ));
     }
 
-    // 총 공연의 개수 삭제
-    public void deleteTotalConcertsCount(ListSort sort) {
-        redisTemplate.delete(CONCERTS_COUNT_PREFIX + sort.name());
+    // 총 공연 수 증감
+    public void adjustTotalConcertsCount(long delta) {
+        redisTemplate.execute(
+                ADJUST_TOTAL_COUNT_SCRIPT,
+                List.of(CONCERT_COUNTER_READY_KEY, CONCERT_COUNTER_TOTAL_KEY),
+                String.valueOf(delta)
+        );
     }
 
-    // 캐시된 공연의 좋아요 정보 수정 -?
-    public void upCountConcertLikeCountInConcertDetail(Long concertId) {
-        ConcertDetailResponse concertDetailResponse = (ConcertDetailResponse)objectRedisTemplate.opsForValue().get(CONCERT_DETAIL_PREFIX + concertId.toString());
-        if (concertDetailResponse == null) return;
-        else  concertDetailResponse.setLikeCount(concertDetailResponse.getLikeCount()+1);
-        objectRedisTemplate.opsForValue().set(CONCERT_DETAIL_PREFIX + concertId.toString(), concertDetailResponse);
+    // 사용자가 좋아요를 누른 공연 수 증감
+    public void adjustUserLikedCount(Long userId, long delta) {
+        redisTemplate.execute(
+                ADJUST_USER_LIKED_COUNT_SCRIPT,
+                List.of(CONCERT_COUNTER_READY_KEY, CONCERT_COUNTER_USER_LIKED_KEY),
+                userId.toString(),
+                String.valueOf(delta)
+        );
     }
 
-    // 사용자가 좋아요를 누른 공연의 개수 조회(임시 캐시 느낌으로 짧게 저장, 조회시 시간 갱신 ~1일
-    public Long getUserLikedCount(User user) {
-        String raw = redisTemplate.opsForValue().get(CONCERTS_COUNT_PREFIX + user.getId());
-        if (raw == null) return -1L;
-        redisTemplate.expire(CONCERTS_COUNT_PREFIX + user.getId(), 1, TimeUnit.DAYS);
-        return Long.parseLong(redisTemplate.opsForValue().get(CONCERTS_COUNT_PREFIX + user.getId()));
+    // 공연별 예매 시작 시각 반영 (값이 null 이면 예매 공연 수에서 제외)
+    public void updateTicketTimes(Map<Long, LocalDateTime> ticketTimes) {
+        if (ticketTimes.isEmpty()) return;
+        List<String> args = new ArrayList<>(ticketTimes.size() * 2);
+        ticketTimes.forEach((concertId, ticketTime) -> {
+            args.add(concertId.toString());
+            args.add(ticketTime == null ? "" : String.valueOf(ticketTimeScore(ticketTime)));
+        });
+        redisTemplate.execute(
+                UPDATE_TICKET_TIMES_SCRIPT,
+                List.of(CONCERT_COUNTER_READY_KEY, CONCERT_COUNTER_TICKET_TIMES_KEY),
+                args.toArray()
+        );
     }
 
-    // 사용자가 좋아요를 누른 공연의 개수 저장
-    public Long saveUserLikedCount(User user, Long count) {
-        redisTemplate.opsForValue().set(
-                CONCERTS_COUNT_PREFIX + user.getId(),
-                count.toString(),
-                1,
-                TimeUnit.DAYS
+    // DB 에서 다시 센 값으로 카운터 교체
+    // 임시 키를 모두 채운 뒤 한 번에 바꾸므로, 교체 중에도 조회는 이전 값 또는 새 값만 봄
+    public void replaceConcertCounters(long totalCount, Map<Long, LocalDateTime> ticketTimes, Map<Long, Long> userLikedCounts) {
+        String ticketTimesRebuildKey = CONCERT_COUNTER_TICKET_TIMES_KEY + CONCERT_COUNTER_REBUILD_SUFFIX;
+        String userLikedRebuildKey = CONCERT_COUNTER_USER_LIKED_KEY + CONCERT_COUNTER_REBUILD_SUFFIX;
+        redisTemplate.delete(List.of(ticketTimesRebuildKey, userLikedRebuildKey));
+
+        redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+            byte[] ticketTimesKey = ticketTimesRebuildKey.getBytes(StandardCharsets.UTF_8);
+            byte[] userLikedKey = userLikedRebuildKey.getBytes(StandardCharsets.UTF_8);
+            ticketTimes.forEach((concertId, ticketTime) -> {
+                if (ticketTime == null) return;
+                connection.zSetCommands().zAdd(ticketTimesKey, ticketTimeScore(ticketTime), concertId.toString().getBytes(StandardCharsets.UTF_8));
+            });
+            userLikedCounts.forEach((userId, count) -> {
+                if (count <= 0) return;
+                connection.hashCommands().hSet(userLikedKey, userId.toString().getBytes(StandardCharsets.UTF_8), count.toString().getBytes(StandardCharsets.UTF_8));
+            });
+            connection.keyCommands().expire(ticketTimesKey, CONCERT_COUNTER_REBUILD_TTL_SECONDS);
+            connection.keyCommands().expire(userLikedKey, CONCERT_COUNTER_REBUILD_TTL_SECONDS);
+            return null;
+        });
+
+        redisTemplate.execute(
+                REPLACE_COUNTERS_SCRIPT,
+                List.of(CONCERT_COUNTER_READY_KEY, CONCERT_COUNTER_TOTAL_KEY,
+                        CONCERT_COUNTER_TICKET_TIMES_KEY, ticketTimesRebuildKey,
+                        CONCERT_COUNTER_USER_LIKED_KEY, userLikedRebuildKey),
+                String.valueOf(totalCount)
         );
+    }
+
+    private Long recordCount(Long count) {
+        if (count == null || count < 0) {
+            concertCacheMetrics.miss(ConcertCacheMetrics.TIER_L2, ConcertCacheMetrics.COUNT);
+            return -1L;
+        }
+        concertCacheMetrics.hit(ConcertCacheMetrics.TIER_L2, ConcertCacheMetrics.COUNT);
         return count;
     }
 
-    // 좋아요 누른 공연의 개수 캐시 삭제
-    public void deleteUserLikedCount(User user) {
-        redisTemplate.delete(CONCERTS_COUNT_PREFIX + user.getId());
+    // 공연 랭킹의 예매 예정 점수와 같은 기준 (ConcertRankingRedisRepository)
+    private static long ticketTimeScore(LocalDateTime ticketTime) {
+        return ticketTime.toEpochSecond(ZoneOffset.UTC);
     }
 
+    // 캐시 계층별 적중/실패 횟수 조회
+    public Map<String, Long> getCacheStats() {
+        return concertCacheMetrics.snapshot();
+    }
 
+    // 현재 인스턴스의 로컬 캐시를 비우고, 다른 인스턴스에도 Pub/Sub 으로 무효화를 전파
+    private void invalidateLocalCache(String scope) {
+        concertLocalCache.invalidate(scope);
+        try {
+            redisTemplate.convertAndSend(ConcertPubSubChannels.CONCERT_CACHE_INVALIDATE, scope);
+        } catch (Exception e) {
+            log.warn("로컬 캐시 무효화 전파 실패: scope={}", scope, e);
+        }
+    }
+
+    // 캐시된 공연의 좋아요 정보 수정 -?
+    public void upCountConcertLikeCountInConcertDetail(Long concertId) {
+        ConcertDetailResponse concertDetailResponse = concertDetailRedisTemplate.opsForValue().get(CONCERT_DETAIL_PREFIX + concertId.toString());
+        if (concertDetailResponse == null) return;
+        else  concertDetailResponse.setLikeCount(concertDetailResponse.getLikeCount()+1);
+        concertDetailRedisTemplate.opsForValue().set(CONCERT_DETAIL_PREFIX + concertId.toString(), concertDetailResponse);
+    }
 }
@@ -28,6 +28,54 @@ public interface ConcertRepository extends JpaRepository<Concert, Long> {
             """)
     List<ConcertItem> getConcertItems(Pageable pageable);
 
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+            """)
+        // 전체 공연 목록 (랭킹 재구성용)
+    List<ConcertItem> getAllConcertItems();
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                c.concertId IN :list
+            """)
+        // ID 목록에 해당하는 공연 목록 (날짜 조건 없음)
+    List<ConcertItem> getConcertItemsByIdList(@Param("list") List<Long> idList);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+            """)
+        // 전체 공연과 공연장 (검색 색인 구성용)
+    List<Concert> findAllWithConcertPlace();
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                c.concertId IN :list
+            """)
+        // ID 목록에 해당하는 공연과 공연장 (검색 색인 부분 갱신용)
+    List<Concert> findAllWithConcertPlaceByIdList(@Param("list") List<Long> idList);
+
     @Query(value = """
                 SELECT
                 c
@@ -231,6 +279,243 @@ public interface ConcertRepository extends JpaRepository<Concert, Long> {
             String keyword,
             Pageable pageable);
 
+    // ===== 커서 기반 목록 조회 =====
+    // (정렬 값, 공연 ID) 복합 인덱스를 따라 마지막으로 받은 공연 이후부터 읽음 -> 페이지 깊이와 상관없이 같은 비용
+    // lastId 가 null 이면 첫 페이지, pageable 은 PageRequest.of(0, size + 1) 로 다음 페이지 존재 여부까지 확인
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                (:lastId IS NULL
+                OR c.likeCount < :lastKey
+                OR (c.likeCount = :lastKey AND c.concertId < :lastId))
+                ORDER BY
+                c.likeCount DESC, c.concertId DESC
+            """)
+        // 좋아요 기준 내림차순
+    List<ConcertItem> getConcertItemsOrderByLikeCountDescAfter(
+            @Param("lastKey") Integer lastKey,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                (:lastId IS NULL
+                OR c.viewCount < :lastKey
+                OR (c.viewCount = :lastKey AND c.concertId < :lastId))
+                ORDER BY
+                c.viewCount DESC, c.concertId DESC
+            """)
+        // 조회수 기준 내림차순
+    List<ConcertItem> getConcertItemsOrderByViewCountDescAfter(
+            @Param("lastKey") Integer lastKey,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                c.ticketTime >= :fromDate
+                AND
+                (:lastId IS NULL
+                OR c.ticketTime > :lastKey
+                OR (c.ticketTime = :lastKey AND c.concertId > :lastId))
+                ORDER BY
+                c.ticketTime ASC, c.concertId ASC
+            """)
+        // 다가오는 예매 시간 오름차순
+    List<ConcertItem> getUpComingTicketingConcertItemsAfter(
+            @Param("fromDate") LocalDateTime fromDate,
+            @Param("lastKey") LocalDateTime lastKey,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                c.startDate >= :fromDate
+                AND
+                (:lastId IS NULL
+                OR c.startDate > :lastKey
+                OR (c.startDate = :lastKey AND c.concertId > :lastId))
+                ORDER BY
+                c.startDate ASC, c.concertId ASC
+            """)
+        // 다가오는 공연 시작 날짜 오름차순
+    List<ConcertItem> getUpComingConcertItemsAfter(
+            @Param("fromDate") LocalDate fromDate,
+            @Param("lastKey") LocalDate lastKey,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                (:lastId IS NULL
+                OR c.apiConcertId < (SELECT l.apiConcertId FROM Concert l WHERE l.concertId = :lastId)
+                OR (c.apiConcertId = (SELECT l.apiConcertId FROM Concert l WHERE l.concertId = :lastId) AND c.concertId < :lastId))
+                ORDER BY
+                c.apiConcertId DESC, c.concertId DESC
+            """)
+        // Kopis API의 ID 순서대로 -> 목록 정보에 API ID가 없으므로 마지막 공연 ID로 정렬 값을 조회
+    List<ConcertItem> getConcertItemsOrderByApiIdDescAfter(
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                c.ticketTime IS NULL
+                AND
+                (:lastId IS NULL
+                OR c.startDate < :lastKey
+                OR (c.startDate = :lastKey AND c.concertId < :lastId))
+                ORDER BY
+                c.startDate DESC, c.concertId DESC
+            """)
+        // 예매 시간이 없는 공연, 공연 시작 날짜 내림차순
+    List<ConcertItem> getNoTicketTimeConcertListAfter(
+            @Param("lastKey") LocalDate lastKey,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c,
+                ConcertLike cl
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                c.concertId = cl.concert.concertId
+                AND
+                cl.user.id = :userId
+                AND
+                (:lastId IS NULL
+                OR cl.concertLikeId < (
+                    SELECT l.concertLikeId
+                    FROM ConcertLike l
+                    WHERE l.user.id = :userId
+                    AND l.concert.concertId = :lastId
+                ))
+                ORDER BY
+                cl.concertLikeId
+                DESC
+            """)
+        // 좋아요 한 순서 내림차순 -> 커서는 마지막 공연 ID, 해당 좋아요의 ID를 기준으로 이어서 조회
+    List<ConcertItem> getLikedConcertsListAfter(
+            @Param("userId") Long userId,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN
+                ConcertArtist ca
+                ON
+                ca.concert.concertId = c.concertId
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                ca.artist.id = :artistId
+                AND
+                c.endDate < now()
+                AND
+                (:lastId IS NULL
+                OR c.startDate < :lastKey
+                OR (c.startDate = :lastKey AND c.concertId < :lastId))
+                ORDER BY
+                c.startDate DESC, c.concertId DESC
+            """)
+    List<ConcertItem> getPastConcertsListByArtistAfter(
+            @Param("artistId") Long artistId,
+            @Param("lastKey") LocalDate lastKey,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN
+                ConcertArtist ca
+                ON
+                ca.concert.concertId = c.concertId
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                ca.artist.id = :artistId
+                AND
+                c.endDate >= now()
+                AND
+                (:lastId IS NULL
+                OR c.startDate > :lastKey
+                OR (c.startDate = :lastKey AND c.concertId > :lastId))
+                ORDER BY
+                c.startDate ASC, c.concertId ASC
+            """)
+    List<ConcertItem> getUpcomingConcertsListByArtistAfter(
+            @Param("artistId") Long artistId,
+            @Param("lastKey") LocalDate lastKey,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
+    @Query("""
+                SELECT
+                c
+                FROM
+                Concert c
+                JOIN FETCH
+                c.concertPlace cp
+                WHERE
+                c.name LIKE %:keyword%
+                AND
+                (:lastId IS NULL OR c.concertId < :lastId)
+                ORDER BY
+                c.concertId
+                DESC
+            """)
+    List<ConcertItem> getConcertItemsByKeywordAfter(
+            @Param("keyword") String keyword,
+            @Param("lastId") Long lastId,
+            Pageable pageable);
+
     @Query("""
                 SELECT
                 new com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertDetailResponse(
@@ -324,6 +609,55 @@ public interface ConcertRepository extends JpaRepository<Concert, Long> {
             @Param("fromDate") LocalDateTime localDateTime
     );
 
+    // 예매 공연 수 카운터 재조정용 (공연 ID, 예매 시작 시각)
+    interface ConcertTicketTime {
+        Long getConcertId();
+        LocalDateTime getTicketTime();
+    }
+
+    @Query("""
+            SELECT
+            c.concertId AS concertId,
+            c.ticketTime AS ticketTime
+            FROM
+            Concert c
+            WHERE
+            c.ticketTime >= :fromDate
+            """
+    )
+    List<ConcertTicketTime> findTicketTimesFrom(
+            @Param("fromDate") LocalDateTime fromDate
+    );
+
+    // 근처 공연 색인용 (공연 ID, 공연장 ID, 공연장 좌표, 종료일)
+    interface ConcertVenue {
+        Long getConcertId();
+        Long getConcertPlaceId();
+        Double getLat();
+        Double getLon();
+        LocalDate getEndDate();
+    }
+
+    @Query("""
+            SELECT
+            c.concertId AS concertId,
+            p.concertPlaceId AS concertPlaceId,
+            p.lat AS lat,
+            p.lon AS lon,
+            c.endDate AS endDate
+            FROM
+            Concert c
+            JOIN
+            c.concertPlace p
+            WHERE
+            c.endDate >= :today
+            ORDER BY
+            c.startDate ASC, c.concertId ASC
+            """)
+    List<ConcertVenue> findUpcomingConcertVenues(
+            @Param("today") LocalDate today
+    );
+
 
     @Query("""
             SELECT
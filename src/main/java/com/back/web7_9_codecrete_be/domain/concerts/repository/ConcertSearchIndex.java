@@ -0,0 +1,84 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import com.back.web7_9_codecrete_be.global.search.TextSearchIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+// 공연 키워드 검색을 위한 JVM 내부 전문 검색 색인입니다. (색인/검색 방식은 TextSearchIndex 참고)
+// 제목, 출연진, 공연장, 지역, 소개를 색인하고, 단어가 나온 필드 가중치와 단어의 희소성(idf)으로 점수를 매깁니다.
+// 색인에는 검색 대상 문자열과 공연 ID 만 두고, 조회수/좋아요 수 같은 목록 정보는 결과 페이지의 ID 로 따로 조회합니다.
+@Component
+public class ConcertSearchIndex {
+
+    // 변경 공연이 이 개수를 넘으면 delta 를 base 에 합쳐 다시 만듦
+    public static final int COMPACT_THRESHOLD = TextSearchIndex.COMPACT_THRESHOLD;
+
+    // 필드별 가중치 (제목 > 출연진 > 공연장 > 지역 > 소개)
+    private final TextSearchIndex index = new TextSearchIndex(4.0, 3.0, 2.0, 1.0, 0.5);
+
+    // 색인 대상 공연 한 건
+    public record Document(long concertId, String name, String cast, String placeName, String area, String content) {
+    }
+
+    // 검색 결과 (점수 내림차순, 같은 점수면 최신 등록 순)
+    public record Hit(long concertId, double score, double relevance) {
+    }
+
+    public void rebuild(List<Document> documents) {
+        index.rebuild(toDocuments(documents));
+    }
+
+    // loadedGeneration: 재구성용 데이터를 읽기 시작할 때의 세대 -> 그 이후에 반영된 변경은 새 색인 위에 다시 겹침
+    public void rebuild(List<Document> documents, long loadedGeneration) {
+        index.rebuild(toDocuments(documents), loadedGeneration);
+    }
+
+    public void upsert(List<Document> documents) {
+        index.upsert(toDocuments(documents));
+    }
+
+    public void remove(Collection<Long> concertIds) {
+        index.remove(concertIds);
+    }
+
+    public long generation() {
+        return index.generation();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    public boolean contains(long concertId) {
+        return index.contains(concertId);
+    }
+
+    // 검색어의 모든 단어를 포함하는 공연 전체 (점수 내림차순)
+    public List<Hit> search(String keyword) {
+        return index.search(keyword).stream()
+                .map(hit -> new Hit(hit.id(), hit.score(), hit.relevance()))
+                .toList();
+    }
+
+    public int count(String keyword) {
+        return index.count(keyword);
+    }
+
+    // 검색어가 나온 부분을 <em> 으로 감싼 문자열 (HTML 특수문자는 이스케이프)
+    public static String highlight(String text, String keyword) {
+        return TextSearchIndex.highlight(text, keyword);
+    }
+
+    private static List<TextSearchIndex.Document> toDocuments(List<Document> documents) {
+        return documents.stream()
+                .map(document -> new TextSearchIndex.Document(document.concertId(),
+                        document.name(), document.cast(), document.placeName(), document.area(), document.content()))
+                .toList();
+    }
+}
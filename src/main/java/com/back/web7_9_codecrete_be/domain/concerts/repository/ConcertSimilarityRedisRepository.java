@@ -0,0 +1,91 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 공연별로 미리 계산한 제목 유사 공연 목록(HASH)을 관리합니다.
+// 조회는 HGET 한 번이고, 재구성은 임시 키에 모두 쓴 뒤 한 번에 교체합니다.
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ConcertSimilarityRedisRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 공연 ID -> 제목이 비슷한 공연 ID 목록 (유사도 내림차순, "id,id,...", 비슷한 공연이 없으면 빈 문자열)
+    private static final String SIMILAR_CONCERTS_KEY = "concertSimilar:v1";
+
+    private static final String BUILDING_SUFFIX = ":building";
+
+    // 색인에 없는 공연이면 Optional.empty()
+    public Optional<List<Long>> getSimilarConcertIds(Long concertId) {
+        Object raw = redisTemplate.opsForHash().get(SIMILAR_CONCERTS_KEY, concertId.toString());
+        if (raw == null) return Optional.empty();
+        return Optional.of(parseIds(raw.toString()));
+    }
+
+    // 여러 공연의 비슷한 공연 ID 목록을 한 번에 조회 (색인에 없는 공연은 제외)
+    public List<List<Long>> getSimilarConcertIds(Collection<Long> concertIds) {
+        if (concertIds.isEmpty()) return List.of();
+        List<Object> rawValues = redisTemplate.opsForHash().multiGet(SIMILAR_CONCERTS_KEY,
+                concertIds.stream().map(String::valueOf).collect(Collectors.toList()));
+        return rawValues.stream()
+                .filter(Objects::nonNull)
+                .map(raw -> parseIds(raw.toString()))
+                .toList();
+    }
+
+    public boolean exists() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(SIMILAR_CONCERTS_KEY));
+    }
+
+    // 전체 교체 -> similarConcertIds : 공연 ID -> 비슷한 공연 ID 목록
+    public void replaceAll(Map<Long, List<Long>> similarConcertIds) {
+        String buildingKey = SIMILAR_CONCERTS_KEY + BUILDING_SUFFIX;
+        redisTemplate.delete(buildingKey);
+
+        List<Map.Entry<Long, List<Long>>> entries = new ArrayList<>(similarConcertIds.entrySet());
+        int batchSize = 500;
+        for (int i = 0; i < entries.size(); i += batchSize) {
+            List<Map.Entry<Long, List<Long>>> batch = entries.subList(i, Math.min(i + batchSize, entries.size()));
+            redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+                byte[] key = buildingKey.getBytes(StandardCharsets.UTF_8);
+                for (Map.Entry<Long, List<Long>> entry : batch) {
+                    String value = entry.getValue().stream().map(String::valueOf).collect(Collectors.joining(","));
+                    connection.hashCommands().hSet(key,
+                            entry.getKey().toString().getBytes(StandardCharsets.UTF_8),
+                            value.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        }
+
+        boolean built = Boolean.TRUE.equals(redisTemplate.hasKey(buildingKey));
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                if (built) operations.rename(buildingKey, SIMILAR_CONCERTS_KEY);
+                else operations.delete(SIMILAR_CONCERTS_KEY);
+                return operations.exec();
+            }
+        });
+    }
+
+    private static List<Long> parseIds(String raw) {
+        return Arrays.stream(raw.split(","))
+                .filter(id -> !id.isBlank())
+                .map(Long::parseLong)
+                .toList();
+    }
+}
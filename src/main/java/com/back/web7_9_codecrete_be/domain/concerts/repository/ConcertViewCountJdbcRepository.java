@@ -0,0 +1,65 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 조회수 증가분을 여러 공연에 대해 한 번의 UPDATE 문으로 반영합니다.
+// 반영한 증가분 묶음의 ID 를 같은 트랜잭션에 기록해, 같은 묶음이 다시 들어오면 건너뛸 수 있게 합니다. (ConcertViewCountFlush)
+@Repository
+@RequiredArgsConstructor
+public class ConcertViewCountJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 문장에 담을 최대 공연 수 (바인딩 파라미터 3개 / 공연)
+    private static final int CHUNK_SIZE = 500;
+
+    // UPDATE concert SET view_count = view_count + CASE concert_id WHEN ? THEN ? ... END WHERE concert_id IN (...)
+    public int addViewCounts(Map<Long, Long> viewCountDeltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(viewCountDeltas.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size()));
+
+            StringBuilder sql = new StringBuilder("UPDATE concert SET view_count = view_count + CASE concert_id");
+            List<Object> params = new ArrayList<>(chunk.size() * 3);
+            for (Map.Entry<Long, Long> entry : chunk) {
+                sql.append(" WHEN ? THEN ?");
+                params.add(entry.getKey());
+                params.add(entry.getValue());
+            }
+            sql.append(" ELSE 0 END WHERE concert_id IN (");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                params.add(chunk.get(i).getKey());
+            }
+            sql.append(")");
+
+            updated += jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+        return updated;
+    }
+
+    public boolean isFlushApplied(String flushId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM concert_view_count_flush WHERE flush_id = ?", Integer.class, flushId);
+        return count != null && count > 0;
+    }
+
+    // 같은 ID 가 동시에 기록되면 기본 키 충돌로 트랜잭션 전체가 롤백되어 조회수도 반영되지 않음
+    public void recordFlush(String flushId, LocalDateTime appliedAt) {
+        jdbcTemplate.update("INSERT INTO concert_view_count_flush (flush_id, applied_at) VALUES (?, ?)",
+                flushId, Timestamp.valueOf(appliedAt));
+    }
+
+    // 오래된 반영 기록 정리 -> 삭제한 행 수 반환
+    public int deleteFlushesBefore(LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM concert_view_count_flush WHERE applied_at < ?", Timestamp.valueOf(before));
+    }
+}
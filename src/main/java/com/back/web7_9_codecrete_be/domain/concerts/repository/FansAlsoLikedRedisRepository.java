@@ -0,0 +1,84 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// 공연/아티스트별로 미리 계산한 "이 공연(아티스트)을 좋아한 사람들이 좋아한" 목록(HASH)을 관리합니다.
+// 조회는 HGET 한 번이고, 재구성은 임시 키에 모두 쓴 뒤 한 번에 교체합니다.
+@Repository
+@RequiredArgsConstructor
+public class FansAlsoLikedRedisRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 대상 ID -> 함께 좋아요를 받은 대상 ID 목록 (유사도 내림차순, "id,id,...", 없으면 빈 문자열)
+    @Getter
+    @RequiredArgsConstructor
+    public enum Target {
+        CONCERT("fansAlsoLiked:concert:v1"),
+        ARTIST("fansAlsoLiked:artist:v1");
+
+        private final String key;
+    }
+
+    private static final String BUILDING_SUFFIX = ":building";
+
+    private static final int BATCH_SIZE = 500;
+
+    // 색인에 없는 대상(좋아요 기록이 없거나 색인 이후 추가)이면 Optional.empty()
+    public Optional<List<Long>> getNeighbourIds(Target target, Long id) {
+        Object raw = redisTemplate.opsForHash().get(target.getKey(), id.toString());
+        if (raw == null) return Optional.empty();
+        return Optional.of(Arrays.stream(raw.toString().split(","))
+                .filter(value -> !value.isBlank())
+                .map(Long::parseLong)
+                .toList());
+    }
+
+    public boolean exists(Target target) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(target.getKey()));
+    }
+
+    // 전체 교체 -> ids[i] 의 이웃 : neighbourIds[i]
+    public void replaceAll(Target target, long[] ids, long[][] neighbourIds) {
+        String key = target.getKey();
+        String buildingKey = key + BUILDING_SUFFIX;
+        redisTemplate.delete(buildingKey);
+
+        for (int from = 0; from < ids.length; from += BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(from + BATCH_SIZE, ids.length);
+            redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+                byte[] rawKey = buildingKey.getBytes(StandardCharsets.UTF_8);
+                for (int i = start; i < end; i++) {
+                    StringJoiner value = new StringJoiner(",");
+                    for (long neighbourId : neighbourIds[i]) value.add(Long.toString(neighbourId));
+                    connection.hashCommands().hSet(rawKey,
+                            Long.toString(ids[i]).getBytes(StandardCharsets.UTF_8),
+                            value.toString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        }
+
+        boolean built = Boolean.TRUE.equals(redisTemplate.hasKey(buildingKey));
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                if (built) operations.rename(buildingKey, key);
+                else operations.delete(key);
+                return operations.exec();
+            }
+        });
+    }
+}
@@ -0,0 +1,289 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository.serializer;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertDetailResponse;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// Redis 에 캐싱하는 공연 DTO 전용 바이너리 포맷입니다.
+// [MAGIC][VERSION][TYPE] 헤더 뒤에 필드를 정해진 순서로 기록하고, 필드 이름과 타입 정보(@class)는 저장하지 않습니다.
+// 숫자는 zigzag varint, 문자열/목록은 (길이 + 1) varint (0 이면 null), 날짜 등 nullable 값은 존재 여부 1바이트 뒤에 기록합니다.
+// 필드를 추가/변경할 때는 VERSION 을 올리고, 읽은 버전을 Reader 에 담아 이전 버전도 처리하도록 분기합니다. (현재는 버전 1 뿐이라 분기 없음)
+public final class ConcertBinaryCodec {
+
+    private static final byte MAGIC = (byte) 0xC7;
+
+    static final byte VERSION = 1;
+
+    static final byte TYPE_ITEM = 1;
+    static final byte TYPE_ITEM_LIST = 2;
+    static final byte TYPE_DETAIL = 3;
+
+    private ConcertBinaryCodec() {
+    }
+
+    public static byte[] encodeItem(ConcertItem item) {
+        Writer writer = new Writer(TYPE_ITEM);
+        writeItem(writer, item);
+        return writer.toByteArray();
+    }
+
+    // 헤더가 다르거나(이전 JSON 값 등) 지원하지 않는 버전이면 null -> 캐시 미스로 처리
+    public static ConcertItem decodeItem(byte[] bytes) {
+        Reader reader = Reader.open(bytes, TYPE_ITEM);
+        return reader == null ? null : readItem(reader);
+    }
+
+    public static byte[] encodeItemList(List<ConcertItem> items) {
+        Writer writer = new Writer(TYPE_ITEM_LIST);
+        writer.writeVarLong(items.size());
+        for (ConcertItem item : items) {
+            writeItem(writer, item);
+        }
+        return writer.toByteArray();
+    }
+
+    public static List<ConcertItem> decodeItemList(byte[] bytes) {
+        Reader reader = Reader.open(bytes, TYPE_ITEM_LIST);
+        if (reader == null) return null;
+        int size = (int) reader.readVarLong();
+        List<ConcertItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(readItem(reader));
+        }
+        return items;
+    }
+
+    public static byte[] encodeDetail(ConcertDetailResponse detail) {
+        Writer writer = new Writer(TYPE_DETAIL);
+        writer.writeNullableLong(detail.getConcertId());
+        writer.writeString(detail.getName());
+        writer.writeString(detail.getDescription());
+        writer.writeString(detail.getPlaceName());
+        writer.writeString(detail.getPlaceAddress());
+        writer.writeDateTime(detail.getTicketTime());
+        writer.writeDateTime(detail.getTicketEndTime());
+        writer.writeDate(detail.getStartDate());
+        writer.writeDate(detail.getEndDate());
+        writer.writeString(detail.getPosterUrl());
+        writer.writeVarLong(detail.getMaxPrice());
+        writer.writeVarLong(detail.getMinPrice());
+        writer.writeVarLong(detail.getViewCount());
+        writer.writeVarLong(detail.getLikeCount());
+        writer.writeStringList(detail.getConcertImageUrls());
+        writer.writeLongList(detail.getConcertArtists());
+        return writer.toByteArray();
+    }
+
+    public static ConcertDetailResponse decodeDetail(byte[] bytes) {
+        Reader reader = Reader.open(bytes, TYPE_DETAIL);
+        if (reader == null) return null;
+        ConcertDetailResponse detail = new ConcertDetailResponse();
+        detail.setConcertId(reader.readNullableLong());
+        detail.setName(reader.readString());
+        detail.setDescription(reader.readString());
+        detail.setPlaceName(reader.readString());
+        detail.setPlaceAddress(reader.readString());
+        detail.setTicketTime(reader.readDateTime());
+        detail.setTicketEndTime(reader.readDateTime());
+        detail.setStartDate(reader.readDate());
+        detail.setEndDate(reader.readDate());
+        detail.setPosterUrl(reader.readString());
+        detail.setMaxPrice((int) reader.readVarLong());
+        detail.setMinPrice((int) reader.readVarLong());
+        detail.setViewCount((int) reader.readVarLong());
+        detail.setLikeCount((int) reader.readVarLong());
+        detail.setConcertImageUrls(reader.readStringList());
+        detail.setConcertArtists(reader.readLongList());
+        return detail;
+    }
+
+    private static void writeItem(Writer writer, ConcertItem item) {
+        writer.writeVarLong(item.getId());
+        writer.writeString(item.getName());
+        writer.writeString(item.getPlaceName());
+        writer.writeDateTime(item.getTicketTime());
+        writer.writeDateTime(item.getTicketEndTime());
+        writer.writeDate(item.getStartDate());
+        writer.writeDate(item.getEndDate());
+        writer.writeString(item.getPosterUrl());
+        writer.writeVarLong(item.getMaxPrice());
+        writer.writeVarLong(item.getMinPrice());
+        writer.writeVarLong(item.getViewCount());
+        writer.writeVarLong(item.getLikeCount());
+    }
+
+    private static ConcertItem readItem(Reader reader) {
+        ConcertItem item = new ConcertItem();
+        item.setId(reader.readVarLong());
+        item.setName(reader.readString());
+        item.setPlaceName(reader.readString());
+        item.setTicketTime(reader.readDateTime());
+        item.setTicketEndTime(reader.readDateTime());
+        item.setStartDate(reader.readDate());
+        item.setEndDate(reader.readDate());
+        item.setPosterUrl(reader.readString());
+        item.setMaxPrice((int) reader.readVarLong());
+        item.setMinPrice((int) reader.readVarLong());
+        item.setViewCount((int) reader.readVarLong());
+        item.setLikeCount((int) reader.readVarLong());
+        return item;
+    }
+
+    private static final class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+        private Writer(byte type) {
+            out.write(MAGIC);
+            out.write(VERSION);
+            out.write(type);
+        }
+
+        private byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        // zigzag varint (음수도 짧게 기록)
+        private void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                out.write((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            out.write((int) zigzag);
+        }
+
+        // 존재 여부 1바이트 + 값
+        private void writeNullableLong(Long value) {
+            if (value == null) {
+                out.write(0);
+                return;
+            }
+            out.write(1);
+            writeVarLong(value);
+        }
+
+        private void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        private void writeDate(LocalDate value) {
+            writeNullableLong(value == null ? null : value.toEpochDay());
+        }
+
+        private void writeDateTime(LocalDateTime value) {
+            if (value == null) {
+                out.write(0);
+                return;
+            }
+            out.write(1);
+            writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(value.getNano());
+        }
+
+        private void writeStringList(List<String> values) {
+            if (values == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(values.size() + 1L);
+            for (String value : values) writeString(value);
+        }
+
+        private void writeLongList(List<Long> values) {
+            if (values == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(values.size() + 1L);
+            for (Long value : values) writeNullableLong(value);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        private static Reader open(byte[] bytes, byte type) {
+            if (bytes == null || bytes.length < 3) return null;
+            if (bytes[0] != MAGIC || bytes[2] != type) return null;
+            int version = bytes[1];
+            if (version < 1 || version > VERSION) return null;
+            return new Reader(bytes, 3);
+        }
+
+        private long readVarLong() {
+            long zigzag = 0;
+            int shift = 0;
+            while (true) {
+                byte b = bytes[position++];
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) break;
+                shift += 7;
+                if (shift > 63) throw new IllegalArgumentException("varint 가 너무 깁니다.");
+            }
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        private boolean readPresent() {
+            return bytes[position++] != 0;
+        }
+
+        private Long readNullableLong() {
+            return readPresent() ? readVarLong() : null;
+        }
+
+        private String readString() {
+            long length = readVarLong();
+            if (length == 0) return null;
+            int size = (int) (length - 1);
+            String value = new String(bytes, position, size, StandardCharsets.UTF_8);
+            position += size;
+            return value;
+        }
+
+        private LocalDate readDate() {
+            return readPresent() ? LocalDate.ofEpochDay(readVarLong()) : null;
+        }
+
+        private LocalDateTime readDateTime() {
+            if (!readPresent()) return null;
+            long epochSecond = readVarLong();
+            int nano = (int) readVarLong();
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+
+        private List<String> readStringList() {
+            long size = readVarLong();
+            if (size == 0) return null;
+            List<String> values = new ArrayList<>((int) (size - 1));
+            for (int i = 0; i < size - 1; i++) values.add(readString());
+            return values;
+        }
+
+        private List<Long> readLongList() {
+            long size = readVarLong();
+            if (size == 0) return null;
+            List<Long> values = new ArrayList<>((int) (size - 1));
+            for (int i = 0; i < size - 1; i++) values.add(readNullableLong());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository.serializer;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertDetailResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+// 공연 상세 직렬화 (ConcertBinaryCodec)
+@Slf4j
+public class ConcertDetailRedisSerializer implements RedisSerializer<ConcertDetailResponse> {
+
+    @Override
+    public byte[] serialize(ConcertDetailResponse value) throws SerializationException {
+        if (value == null) return null;
+        return ConcertBinaryCodec.encodeDetail(value);
+    }
+
+    @Override
+    public ConcertDetailResponse deserialize(byte[] bytes) throws SerializationException {
+        try {
+            return ConcertBinaryCodec.decodeDetail(bytes);
+        } catch (RuntimeException e) {
+            // 손상된 값은 캐시 미스로 처리
+            log.warn("공연 상세 역직렬화 실패", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository.serializer;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.List;
+
+// 공연 목록 페이지 직렬화 (ConcertBinaryCodec)
+@Slf4j
+public class ConcertItemListRedisSerializer implements RedisSerializer<List<ConcertItem>> {
+
+    @Override
+    public byte[] serialize(List<ConcertItem> value) throws SerializationException {
+        if (value == null) return null;
+        return ConcertBinaryCodec.encodeItemList(value);
+    }
+
+    @Override
+    public List<ConcertItem> deserialize(byte[] bytes) throws SerializationException {
+        try {
+            return ConcertBinaryCodec.decodeItemList(bytes);
+        } catch (RuntimeException e) {
+            // 손상된 값은 캐시 미스로 처리
+            log.warn("공연 목록 역직렬화 실패", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.entity.ConcertArtist;
+import com.back.web7_9_codecrete_be.domain.artists.repository.ConcertArtistRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.AutoCompleteItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.WeightedString;
+import com.back.web7_9_codecrete_be.domain.concerts.entity.Concert;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertAutoCompleteIndex;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSearchRedisTemplate;
+import com.back.web7_9_codecrete_be.domain.search.service.SearchAnalyticsService;
+import com.back.web7_9_codecrete_be.global.redis.ConcertPubSubChannels;
+import com.back.web7_9_codecrete_be.global.redis.IndexSyncMessage;
+import com.back.web7_9_codecrete_be.global.redis.IndexSyncPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 공연 제목/아티스트 이름 자동완성 색인(JVM 내부)을 DB 기준으로 구성하고, 모든 인스턴스가 같은 색인을 갖도록 재구성을 전파합니다.
+// 동기화로 추가/수정/삭제된 공연은 전체 재구성 없이 해당 공연만 색인에 반영하고, 조회수 반영은 가중치만 메모리에서 더합니다.
+// 순위 가중치는 조회수에 최근 검색 결과 클릭 점수를 더한 값이며, 클릭 점수는 인스턴스마다 주기적으로 다시 읽어 반영합니다. (SearchAnalyticsScheduler)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertAutoCompleteService {
+    private final ConcertRepository concertRepository;
+
+    private final ConcertArtistRepository concertArtistRepository;
+
+    private final ConcertAutoCompleteIndex concertAutoCompleteIndex;
+
+    private final ConcertSearchRedisTemplate concertSearchRedisTemplate;
+
+    private final IndexSyncPublisher indexSyncPublisher;
+
+    private final SearchAnalyticsService searchAnalyticsService;
+
+    // 공연 ID -> 최근 검색 결과 클릭 점수 (마지막으로 읽은 값, 변경 공연 반영 시에는 Redis 를 다시 읽지 않음)
+    private volatile Map<Long, Double> clickScores = Map.of();
+
+    // 전파 명령 (IndexSyncMessage, 내용은 공연 ID 목록)
+    public static final String COMMAND_REBUILD = "REBUILD";
+    public static final String COMMAND_CLEAR = "CLEAR";
+    public static final String COMMAND_UPSERT = "UPSERT";
+    public static final String COMMAND_REMOVE = "REMOVE";
+    // 내용 -> "{공연 ID:가중치 증가분,...}"
+    public static final String COMMAND_REWEIGHT = "REWEIGHT";
+
+    // 서버 시작 시 색인 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        try {
+            rebuildLocal();
+        } catch (Exception e) {
+            // 색인이 없으면 자동완성 결과만 비어 있으므로 서버 시작을 막지 않음
+            log.warn("자동완성 색인 초기 구성 실패", e);
+        }
+    }
+
+    public List<AutoCompleteItem> search(String keyword, int start, int end) {
+        return concertAutoCompleteIndex.getAutoCompleteWord(keyword, start, end);
+    }
+
+    // 여러 검색어의 자동완성 결과를 한 번에 조회 (추천 등에서 단어별로 반복 조회하지 않도록)
+    public Map<String, List<AutoCompleteItem>> searchAll(Collection<String> keywords, int start, int end) {
+        return concertAutoCompleteIndex.getAutoCompleteWords(keywords, start, end);
+    }
+
+    // 현재 인스턴스의 색인을 재구성하고 다른 인스턴스에도 전파
+    public void rebuild() {
+        rebuildLocal();
+        indexSyncPublisher.publish(ConcertPubSubChannels.CONCERT_AUTOCOMPLETE_REBUILD, COMMAND_REBUILD);
+    }
+
+    // 색인을 비우고 이전 Redis 색인 키(index:*, concertId:*)도 정리
+    public void clear() {
+        concertAutoCompleteIndex.clear();
+        concertSearchRedisTemplate.deleteAutoCompleteWords();
+        indexSyncPublisher.publish(ConcertPubSubChannels.CONCERT_AUTOCOMPLETE_REBUILD, COMMAND_CLEAR);
+    }
+
+    // 추가/수정된 공연(제목, 조회수 가중치, 아티스트)만 색인에 반영하고 다른 인스턴스에도 전파
+    public void upsertConcerts(List<Long> concertIds) {
+        if (concertIds.isEmpty()) return;
+        // 초기 적재처럼 변경이 아주 많으면 전체 재구성이 더 저렴함
+        if (concertIds.size() > ConcertAutoCompleteIndex.COMPACT_THRESHOLD) {
+            rebuild();
+            return;
+        }
+        upsertLocal(concertIds);
+        indexSyncPublisher.publish(ConcertPubSubChannels.CONCERT_AUTOCOMPLETE_REBUILD, COMMAND_UPSERT, concertIds);
+    }
+
+    // 조회수 증가분만큼 가중치만 더하고 다른 인스턴스에도 전파 (DB 조회, 전체 재구성 없음)
+    public void reweightConcerts(Map<Long, Long> viewCountDeltas) {
+        if (viewCountDeltas.isEmpty()) return;
+        Map<Long, Double> scoreDeltas = new HashMap<>();
+        viewCountDeltas.forEach((concertId, delta) -> scoreDeltas.put(concertId, delta * WeightedString.VIEW_WEIGHT));
+        concertAutoCompleteIndex.reweight(scoreDeltas);
+        indexSyncPublisher.publish(ConcertPubSubChannels.CONCERT_AUTOCOMPLETE_REBUILD, COMMAND_REWEIGHT, joinScoreDeltas(scoreDeltas));
+    }
+
+    // 삭제된 공연만 색인에서 제외하고 다른 인스턴스에도 전파
+    public void removeConcerts(List<Long> concertIds) {
+        if (concertIds.isEmpty()) return;
+        concertAutoCompleteIndex.remove(concertIds);
+        indexSyncPublisher.publish(ConcertPubSubChannels.CONCERT_AUTOCOMPLETE_REBUILD, COMMAND_REMOVE, concertIds);
+    }
+
+    public void upsertLocal(List<Long> concertIds) {
+        List<Concert> concerts = concertRepository.findAllById(concertIds);
+        List<WeightedString> weightedStrings = toWeightedStrings(concerts);
+        concertAutoCompleteIndex.upsert(weightedStrings, groupArtistNames(concertArtistRepository.findAllWithArtistNameKoByConcertIds(concertIds)));
+
+        // DB 에 없는 공연은 그 사이에 삭제된 것으로 처리
+        Set<Long> missing = new HashSet<>(concertIds);
+        concerts.forEach(concert -> missing.remove(concert.getConcertId()));
+        if (!missing.isEmpty()) concertAutoCompleteIndex.remove(missing);
+    }
+
+    public void rebuildLocal() {
+        long start = System.currentTimeMillis();
+        // DB 를 읽는 동안 반영된 부분 갱신은 새 색인 위에 다시 겹쳐짐
+        long loadedGeneration = concertAutoCompleteIndex.generation();
+        clickScores = searchAnalyticsService.getConcertClickScores();
+        List<WeightedString> weightedStrings = toWeightedStrings(concertRepository.findAll());
+        Map<Long, List<String>> artistNames = groupArtistNames(concertArtistRepository.findAllWithArtistNameKo());
+        concertAutoCompleteIndex.rebuild(weightedStrings, artistNames, loadedGeneration);
+        log.info("자동완성 색인 구성 완료: 공연 {}개, 조각 {}개, {}ms",
+                concertAutoCompleteIndex.size(), concertAutoCompleteIndex.gramCount(), System.currentTimeMillis() - start);
+    }
+
+    // 클릭 점수를 다시 읽어, 점수가 생기거나 바뀌거나 사라진 공연만 현재 인스턴스의 색인에 반영 (인스턴스마다 실행하므로 전파하지 않음)
+    public void refreshClickScoresLocal() {
+        Map<Long, Double> previous = clickScores;
+        Map<Long, Double> current = searchAnalyticsService.getConcertClickScores();
+        clickScores = current;
+
+        Set<Long> changed = new HashSet<>();
+        current.forEach((concertId, score) -> {
+            if (!score.equals(previous.get(concertId))) changed.add(concertId);
+        });
+        previous.keySet().forEach(concertId -> {
+            if (!current.containsKey(concertId)) changed.add(concertId);
+        });
+        if (!changed.isEmpty()) upsertLocal(new ArrayList<>(changed));
+    }
+
+    // 다른 인스턴스에서 보낸 명령 처리
+    public void onMessage(String message) {
+        IndexSyncMessage command = IndexSyncMessage.decodeRemote(message);
+        if (command == null) return;
+        switch (command.command()) {
+            case COMMAND_REBUILD -> rebuildLocal();
+            case COMMAND_CLEAR -> concertAutoCompleteIndex.clear();
+            case COMMAND_UPSERT -> {
+                if (command.hasPayload()) upsertLocal(command.ids());
+            }
+            case COMMAND_REMOVE -> {
+                if (command.hasPayload()) concertAutoCompleteIndex.remove(command.ids());
+            }
+            case COMMAND_REWEIGHT -> {
+                if (command.hasPayload()) concertAutoCompleteIndex.reweight(parseScoreDeltas(command.payload()));
+            }
+            default -> log.warn("알 수 없는 자동완성 색인 명령: {}", message);
+        }
+    }
+
+    private List<WeightedString> toWeightedStrings(List<Concert> concerts) {
+        Map<Long, Double> scores = clickScores;
+        return concerts.stream()
+                .map(concert -> new WeightedString(concert, scores.getOrDefault(concert.getConcertId(), 0.0)))
+                .toList();
+    }
+
+    // 공연 ID -> 출연 아티스트 한글 이름 (공연 제목에 아티스트 이름이 없어도 검색되도록)
+    private static Map<Long, List<String>> groupArtistNames(List<ConcertArtist> concertArtists) {
+        return concertArtists.stream()
+                .collect(Collectors.groupingBy(
+                        concertArtist -> concertArtist.getConcert().getConcertId(),
+                        Collectors.mapping(concertArtist -> concertArtist.getArtist().getNameKo(), Collectors.toList())
+                ));
+    }
+
+    private static String joinScoreDeltas(Map<Long, Double> scoreDeltas) {
+        return scoreDeltas.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    private static Map<Long, Double> parseScoreDeltas(String raw) {
+        Map<Long, Double> scoreDeltas = new HashMap<>();
+        for (String token : raw.split(",")) {
+            int separator = token.indexOf(':');
+            if (separator < 0) continue;
+            scoreDeltas.put(Long.parseLong(token.substring(0, separator)), Double.parseDouble(token.substring(separator + 1)));
+        }
+        return scoreDeltas;
+    }
+}
@@ -0,0 +1,158 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ListSort;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRankingRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 서버 시작 직후와 공연 데이터 동기화 이후, 첫 사용자가 빈 캐시를 만나지 않도록 캐시를 미리 채웁니다.
+// 목록은 아직 조회되지 않는 새 세대에 앞 페이지들을 모두 채운 뒤 세대 번호를 교체하므로, 사용자는 이전 캐시에서 새 캐시로 한 번에 넘어갑니다.
+// 랭킹 정렬은 목록 API 가 ZSET 에서 바로 읽으므로, 캐시에서 읽는 정렬 기준(WARM_UP_SORTS)의 목록과 응답 본문만 채웁니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertCacheWarmer {
+    private final ConcertService concertService;
+
+    private final ConcertRepository concertRepository;
+
+    private final ConcertRedisRepository concertRedisRepository;
+
+    private final ConcertDetailLoader concertDetailLoader;
+
+    // 정렬 기준별로 미리 채울 앞 페이지 수
+    @Value("${concert.cache.warm-up.pages:3}")
+    private int pages;
+
+    // 미리 채울 페이지 크기 (Pageable 기본 크기)
+    @Value("${concert.cache.warm-up.page-size:20}")
+    private int pageSize;
+
+    // 상세를 미리 채울 조회수 상위 공연 수
+    @Value("${concert.cache.warm-up.top-details:50}")
+    private int topDetails;
+
+    // 동시에 실행할 DB 조회 수 (커넥션 풀을 모두 쓰지 않도록 제한)
+    @Value("${concert.cache.warm-up.concurrency:4}")
+    private int concurrency;
+
+    // 목록 응답 본문 캐시 사용 여부 (ConcertService 와 같은 설정)
+    @Value("${concert.list.body-cache.enabled:true}")
+    private boolean listBodyCacheEnabled;
+
+    // 목록 캐시에서 읽는 정렬 기준 (랭킹이 없는 정렬 기준)
+    public static final List<ListSort> WARM_UP_SORTS = Arrays.stream(ListSort.values())
+            .filter(sort -> !ConcertRankingRedisRepository.isRanked(sort))
+            .toList();
+
+    private static final String LOCK_KEY = "concertCacheWarmUp";
+
+    private static final long LOCK_TTL_SECONDS = 300;
+
+    // 서버 시작 시 미리 채우기 (여러 인스턴스가 동시에 시작해도 한 곳에서만 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        warmUp();
+    }
+
+    // 요청/동기화 스레드를 붙잡지 않도록 별도 스레드에서 미리 채움 -> 실패하면 세대 번호만 올려 무효화
+    @Async
+    public void warmUpInBackground() {
+        if (warmUp()) return;
+        try {
+            WARM_UP_SORTS.forEach(concertRedisRepository::bumpConcertsListGeneration);
+        } catch (Exception e) {
+            log.warn("공연 목록 캐시 무효화 실패", e);
+        }
+    }
+
+    // 캐시에서 읽는 정렬 기준의 앞 페이지(목록 + 응답 본문)와 조회수 상위 공연 상세를 미리 채움
+    // 다른 인스턴스가 이미 실행 중이거나 실패하면 false -> 호출한 쪽에서 기존 방식대로 무효화
+    public boolean warmUp() {
+        try {
+            if (!concertRedisRepository.tryLock(LOCK_KEY, ServerInstanceId.ID, LOCK_TTL_SECONDS)) {
+                log.info("다른 인스턴스에서 공연 캐시를 미리 채우는 중입니다.");
+                return false;
+            }
+        } catch (Exception e) {
+            log.warn("공연 캐시 미리 채우기 락 획득 실패", e);
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                Thread.ofPlatform().name("concert-warm-up-", 0).daemon(true).factory());
+        try {
+            Map<ListSort, Long> generations = warmUpLists(executor);
+            // 모든 페이지가 채워진 뒤에 세대 번호를 교체
+            generations.forEach(concertRedisRepository::publishConcertsListGeneration);
+            warmUpDetails(executor);
+            log.info("공연 캐시 미리 채우기 완료: {}ms", System.currentTimeMillis() - start);
+            return true;
+        } catch (Exception e) {
+            log.warn("공연 캐시 미리 채우기 실패", e);
+            return false;
+        } finally {
+            executor.shutdown();
+            concertRedisRepository.unlock(LOCK_KEY, ServerInstanceId.ID);
+        }
+    }
+
+    // 정렬 기준별 새 세대에 앞 페이지들을 병렬로 채움 -> 정렬 기준별 새 세대 번호 반환
+    private Map<ListSort, Long> warmUpLists(ExecutorService executor) {
+        Map<ListSort, Long> generations = new EnumMap<>(ListSort.class);
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (ListSort sort : WARM_UP_SORTS) {
+            long generation = concertRedisRepository.reserveConcertsListGeneration(sort);
+            generations.put(sort, generation);
+            for (int page = 0; page < pages; page++) {
+                Pageable pageable = PageRequest.of(page, pageSize);
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    List<ConcertItem> concertItems = concertService.findConcertsList(pageable, sort);
+                    if (concertItems.isEmpty()) return;
+                    concertRedisRepository.saveConcertsList(sort, generation, pageable, concertItems);
+                    if (listBodyCacheEnabled) {
+                        concertRedisRepository.saveConcertsListBody(sort, generation, pageable,
+                                concertService.toConcertsListBody(concertItems), concertItems);
+                    }
+                }, executor));
+            }
+        }
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        return generations;
+    }
+
+    // 조회수 상위 공연 상세 캐싱 (일부 실패해도 목록 교체에는 영향 없음)
+    private void warmUpDetails(ExecutorService executor) {
+        if (topDetails <= 0) return;
+        List<CompletableFuture<Void>> tasks = concertRepository.getConcertItemsOrderByViewCountDesc(PageRequest.of(0, topDetails))
+                .stream()
+                .map(concertItem -> CompletableFuture.runAsync(() -> concertDetailLoader.load(concertItem.getId()), executor)
+                        .exceptionally(e -> {
+                            log.warn("공연 상세 미리 채우기 실패: concertId={}", concertItem.getId(), e);
+                            return null;
+                        }))
+                .toList();
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+    }
+}
@@ -0,0 +1,108 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.entity.Concert;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertLikeRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 총 공연 수, 예매 예정 공연 수, 사용자별 좋아요한 공연 수를 Redis 카운터로 유지합니다.
+// 쓰기 이벤트마다 증감하고(ConcertCounterUpdateListener), 놓친 이벤트로 생긴 차이는 주기적으로 DB 와 맞춥니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertCounterService {
+    private final ConcertRepository concertRepository;
+
+    private final ConcertLikeRepository concertLikeRepository;
+
+    private final ConcertRedisRepository concertRedisRepository;
+
+    private static final String LOCK_KEY = "concertCounterReconcile";
+
+    private static final long LOCK_TTL_SECONDS = 300;
+
+    // 서버 시작 시 카운터 구성 (구성 전에는 조회 시 DB 에서 셈)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initCounters() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("공연 수 카운터 초기 구성 실패", e);
+        }
+    }
+
+    // DB 에서 다시 세어 카운터 교체 (여러 인스턴스 중 한 곳에서만 실행)
+    // 다시 세는 동안 들어온 증감은 덮어써질 수 있지만 다음 재조정 때 맞춰짐
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        if (!concertRedisRepository.tryLock(LOCK_KEY, ServerInstanceId.ID, LOCK_TTL_SECONDS)) {
+            log.info("다른 인스턴스에서 공연 수 카운터를 재조정하는 중입니다.");
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            long totalCount = concertRepository.count();
+
+            // 오늘 이전에 예매가 시작된 공연은 세지 않으므로 제외
+            Map<Long, LocalDateTime> ticketTimes = new HashMap<>();
+            concertRepository.findTicketTimesFrom(LocalDateTime.of(LocalDate.now(), LocalTime.MIN))
+                    .forEach(row -> ticketTimes.put(row.getConcertId(), row.getTicketTime()));
+
+            Map<Long, Long> userLikedCounts = new HashMap<>();
+            concertLikeRepository.countGroupByUser()
+                    .forEach(row -> userLikedCounts.put(row.getUserId(), row.getLikedCount()));
+
+            concertRedisRepository.replaceConcertCounters(totalCount, ticketTimes, userLikedCounts);
+            log.info("공연 수 카운터 재조정 완료: 공연 {}개, 예매 예정 {}개, 좋아요 사용자 {}명, {}ms",
+                    totalCount, ticketTimes.size(), userLikedCounts.size(), System.currentTimeMillis() - start);
+        } finally {
+            concertRedisRepository.unlock(LOCK_KEY, ServerInstanceId.ID);
+        }
+    }
+
+    // 추가된 공연 수만큼 증가하고, 예매 일정이 있는 공연은 예매 예정 공연에 반영
+    public void onConcertsCreated(List<Long> concertIds) {
+        if (concertIds.isEmpty()) return;
+        concertRedisRepository.adjustTotalConcertsCount(concertIds.size());
+        refreshTicketTimes(concertIds);
+    }
+
+    // 삭제된 공연 수만큼 감소하고 예매 예정 공연에서 제외
+    public void onConcertsDeleted(List<Long> concertIds) {
+        if (concertIds.isEmpty()) return;
+        concertRedisRepository.adjustTotalConcertsCount(-concertIds.size());
+        Map<Long, LocalDateTime> removed = new HashMap<>();
+        concertIds.forEach(concertId -> removed.put(concertId, null));
+        concertRedisRepository.updateTicketTimes(removed);
+    }
+
+    // 공연의 현재 예매 시작 시각 반영 (DB 에 없거나 예매 일정이 없는 공연은 제외)
+    @Transactional(readOnly = true)
+    public void refreshTicketTimes(List<Long> concertIds) {
+        if (concertIds.isEmpty()) return;
+        Map<Long, LocalDateTime> ticketTimes = new HashMap<>();
+        concertIds.forEach(concertId -> ticketTimes.put(concertId, null));
+        for (Concert concert : concertRepository.findAllById(concertIds)) {
+            ticketTimes.put(concert.getConcertId(), concert.getTicketTime());
+        }
+        concertRedisRepository.updateTicketTimes(ticketTimes);
+    }
+
+    public void onLikeChanged(Long userId, boolean liked) {
+        concertRedisRepository.adjustUserLikedCount(userId, liked ? 1 : -1);
+    }
+}
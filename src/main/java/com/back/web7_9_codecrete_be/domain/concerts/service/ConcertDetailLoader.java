@@ -0,0 +1,140 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.entity.Artist;
+import com.back.web7_9_codecrete_be.domain.artists.entity.ConcertArtist;
+import com.back.web7_9_codecrete_be.domain.artists.repository.ConcertArtistRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertDetailResponse;
+import com.back.web7_9_codecrete_be.domain.concerts.entity.ConcertImage;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertImageRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.global.error.code.ConcertErrorCode;
+import com.back.web7_9_codecrete_be.global.error.exception.BusinessException;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 캐시에 없는 공연 상세를 DB에서 읽어 캐싱합니다.
+// 같은 공연을 동시에 요청하면 먼저 들어온 요청 하나만 DB를 조회하고, 나머지는 그 결과를 함께 받습니다. (single-flight)
+// distributed 옵션을 켜면 Redis 락으로 여러 인스턴스 사이에서도 한 번만 조회합니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertDetailLoader {
+    private final ConcertRepository concertRepository;
+
+    private final ConcertImageRepository concertImageRepository;
+
+    private final ConcertArtistRepository concertArtistRepository;
+
+    private final ConcertRedisRepository concertRedisRepository;
+
+    // 공연 ID -> 진행 중인 DB 조회
+    private final Map<Long, CompletableFuture<ConcertDetailResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${concert.detail.single-flight.distributed:false}")
+    private boolean distributed;
+
+    private static final String LOCK_KEY_PREFIX = "concertDetail:";
+
+    private static final long LOCK_TTL_SECONDS = 10;
+
+    private static final long RETRY_SLEEP_MS = 50;
+
+    private static final int MAX_RETRIES = 40; // 50ms * 40 = 2초
+
+    public ConcertDetailResponse load(long concertId) {
+        CompletableFuture<ConcertDetailResponse> flight = new CompletableFuture<>();
+        CompletableFuture<ConcertDetailResponse> existing = inFlight.putIfAbsent(concertId, flight);
+        if (existing != null) return await(existing);
+
+        try {
+            ConcertDetailResponse concertDetailResponse = distributed ? loadWithLock(concertId) : loadAndCache(concertId);
+            flight.complete(concertDetailResponse);
+            return concertDetailResponse;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(concertId, flight);
+        }
+    }
+
+    // 다른 인스턴스가 조회 중이면 캐시에 저장될 때까지 잠시 기다림
+    private ConcertDetailResponse loadWithLock(long concertId) {
+        String lockKey = LOCK_KEY_PREFIX + concertId;
+        boolean lockAcquired;
+        try {
+            lockAcquired = concertRedisRepository.tryLock(lockKey, ServerInstanceId.ID, LOCK_TTL_SECONDS);
+        } catch (Exception e) {
+            log.warn("공연 상세 락 획득 실패(예외) -> 직접 조회: concertId={}", concertId, e);
+            return loadAndCache(concertId);
+        }
+
+        if (lockAcquired) {
+            try {
+                // Double-check
+                ConcertDetailResponse cached = concertRedisRepository.getCachedConcertDetail(concertId);
+                if (cached != null) return cached;
+                return loadAndCache(concertId);
+            } finally {
+                try {
+                    concertRedisRepository.unlock(lockKey, ServerInstanceId.ID);
+                } catch (Exception e) {
+                    log.warn("공연 상세 락 해제 실패: concertId={}", concertId, e);
+                }
+            }
+        }
+
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            sleepQuietly(RETRY_SLEEP_MS);
+            ConcertDetailResponse cached = concertRedisRepository.getCachedConcertDetail(concertId);
+            if (cached != null) return cached;
+        }
+
+        log.warn("락 대기 후에도 공연 상세 캐시 없음, 직접 조회: concertId={}", concertId);
+        return loadAndCache(concertId);
+    }
+
+    private ConcertDetailResponse loadAndCache(long concertId) {
+        ConcertDetailResponse concertDetailResponse = concertRepository.getConcertDetailById(concertId);
+        if (concertDetailResponse == null) throw new BusinessException(ConcertErrorCode.CONCERT_NOT_FOUND);
+
+        List<String> concertImageUrls = concertImageRepository.getConcertImagesByConcert_ConcertId(concertId).stream()
+                .map(ConcertImage::getImageUrl)
+                .toList();
+        concertDetailResponse.setConcertImageUrls(concertImageUrls);
+        List<Long> concertArtists = concertArtistRepository.getConcertArtistsByConcert_ConcertId(concertId).stream()
+                .map(ConcertArtist::getArtist)
+                .map(Artist::getId)
+                .toList();
+        concertDetailResponse.setConcertArtists(concertArtists);
+        concertRedisRepository.saveConcertDetail(concertId, concertDetailResponse);
+        return concertDetailResponse;
+    }
+
+    private static ConcertDetailResponse await(CompletableFuture<ConcertDetailResponse> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertGeoRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertGeoRedisRepository.NearbyVenue;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertGeoRedisRepository.Venue;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertGeoRedisRepository.VenueConcert;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+// 공연장 좌표 색인(Redis GEO)으로 가까운 진행 예정 공연을 찾습니다. 조회 시 공연 테이블을 읽지 않습니다.
+// 서버 시작 시(색인이 없을 때), KOPIS 동기화 직후(ConcertGeoUpdateListener), 매일 새벽(ConcertScheduler) 전체를 다시 구성합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertGeoService {
+    private final ConcertRepository concertRepository;
+
+    private final ConcertRedisRepository concertRedisRepository;
+
+    private final ConcertGeoRedisRepository concertGeoRedisRepository;
+
+    // 한 번에 살펴볼 최대 공연장 수 (가까운 순)
+    private static final int MAX_VENUES = 200;
+
+    private static final String LOCK_KEY = "concertGeoRebuild";
+
+    private static final long LOCK_TTL_SECONDS = 300;
+
+    public record NearbyConcert(long concertId, long concertPlaceId, double distanceKm) {
+    }
+
+    // 서버 시작 시 색인이 없다면 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        try {
+            if (!concertGeoRedisRepository.exists()) rebuild();
+        } catch (Exception e) {
+            log.warn("공연장 좌표 색인 초기 구성 실패", e);
+        }
+    }
+
+    // 전체 재구성 (여러 인스턴스 중 한 곳에서만 실행)
+    public void rebuild() {
+        if (!concertRedisRepository.tryLock(LOCK_KEY, ServerInstanceId.ID, LOCK_TTL_SECONDS)) {
+            log.info("다른 인스턴스에서 공연장 좌표 색인을 구성하는 중입니다.");
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            Map<Long, Venue> venues = new HashMap<>();
+            int concerts = 0;
+            for (ConcertRepository.ConcertVenue row : concertRepository.findUpcomingConcertVenues(LocalDate.now())) {
+                // 좌표가 없는 공연장(0, 0)은 제외
+                if (!isValidCoordinate(row.getLat(), row.getLon())) continue;
+                venues.computeIfAbsent(row.getConcertPlaceId(), key -> new Venue(row.getLat(), row.getLon(), new ArrayList<>()))
+                        .concerts()
+                        .add(new VenueConcert(row.getConcertId(), row.getEndDate().toEpochDay()));
+                concerts++;
+            }
+            concertGeoRedisRepository.replaceAll(venues);
+            log.info("공연장 좌표 색인 구성 완료: 공연장 {}개, 공연 {}개, {}ms",
+                    venues.size(), concerts, System.currentTimeMillis() - start);
+        } finally {
+            concertRedisRepository.unlock(LOCK_KEY, ServerInstanceId.ID);
+        }
+    }
+
+    // 반경 안의 공연장을 가까운 순으로 보며 아직 끝나지 않은 공연을 최대 size 개 (같은 공연장은 시작일 순)
+    public List<NearbyConcert> findNearbyConcerts(double lat, double lon, double radiusKm, int size) {
+        List<NearbyVenue> venues = concertGeoRedisRepository.searchVenues(lat, lon, radiusKm, Math.min(MAX_VENUES, size * 4));
+        if (venues.isEmpty()) return List.of();
+
+        List<List<VenueConcert>> venueConcerts = concertGeoRedisRepository.getVenueConcerts(
+                venues.stream().map(NearbyVenue::concertPlaceId).toList());
+        long today = LocalDate.now().toEpochDay();
+        List<NearbyConcert> nearby = new ArrayList<>();
+        for (int i = 0; i < venues.size() && nearby.size() < size; i++) {
+            NearbyVenue venue = venues.get(i);
+            for (VenueConcert concert : venueConcerts.get(i)) {
+                if (concert.endEpochDay() < today) continue;
+                nearby.add(new NearbyConcert(concert.concertId(), venue.concertPlaceId(), venue.distanceKm()));
+                if (nearby.size() >= size) break;
+            }
+        }
+        return nearby;
+    }
+
+    static boolean isValidCoordinate(Double lat, Double lon) {
+        if (lat == null || lon == null) return false;
+        if (lat == 0 && lon == 0) return false;
+        // Redis GEO 가 저장할 수 있는 위도 범위
+        return lat >= -85.05112878 && lat <= 85.05112878 && lon >= -180 && lon <= 180;
+    }
+}
@@ -0,0 +1,96 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRankingRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 정렬 기준별 공연 랭킹(Redis ZSET)을 DB 기준으로 구성하고, 변경된 공연만 갱신합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertRankingService {
+    private final ConcertRepository concertRepository;
+
+    private final ConcertRedisRepository concertRedisRepository;
+
+    private final ConcertRankingRedisRepository concertRankingRedisRepository;
+
+    private static final String LOCK_KEY = "concertRankingRebuild";
+
+    private static final long LOCK_TTL_SECONDS = 300;
+
+    // 서버 시작 시 랭킹이 없다면 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initRanking() {
+        try {
+            if (!concertRankingRedisRepository.isReady()) rebuildRanking();
+        } catch (Exception e) {
+            // 랭킹이 없어도 목록 조회는 DB로 대체되므로 서버 시작을 막지 않음
+            log.warn("공연 랭킹 초기 구성 실패", e);
+        }
+    }
+
+    // 전체 랭킹 재구성 (여러 인스턴스 중 한 곳에서만 실행)
+    // 재구성 중에 갱신/삭제된 공연과 오른 조회수는 교체 후 다시 반영 (읽어 둔 스냅샷에 덮이지 않도록)
+    // 다시 읽을 때 재구성 시작 시점의 스냅샷이 보이지 않도록 트랜잭션으로 묶지 않음
+    public void rebuildRanking() {
+        if (!concertRedisRepository.tryLock(LOCK_KEY, ServerInstanceId.ID, LOCK_TTL_SECONDS)) {
+            log.info("다른 인스턴스에서 공연 랭킹을 구성하는 중입니다.");
+            return;
+        }
+        try {
+            Set<Long> changed;
+            concertRankingRedisRepository.startRebuild(LOCK_TTL_SECONDS);
+            try {
+                List<ConcertItem> concertItems = concertRepository.getAllConcertItems();
+                Map<Long, Integer> viewCounts = concertRedisRepository.getCachedViewCountMap();
+                concertRankingRedisRepository.rebuild(concertItems, viewCounts == null ? Map.of() : viewCounts);
+            } finally {
+                // 실패했다면 기존 랭킹이 그대로이고 변경도 이미 반영되어 있으므로 모은 ID 만 정리됨
+                changed = concertRankingRedisRepository.finishRebuild();
+            }
+            reapplyChanged(changed);
+            concertRankingRedisRepository.raiseViewScores(concertRedisRepository.getCachedViewCountMap());
+        } finally {
+            concertRedisRepository.unlock(LOCK_KEY, ServerInstanceId.ID);
+        }
+    }
+
+    // 변경된 공연의 정보와 점수 갱신
+    @Transactional(readOnly = true)
+    public void refreshConcerts(List<Long> concertIds) {
+        if (concertIds == null || concertIds.isEmpty()) return;
+        concertRankingRedisRepository.upsertConcerts(concertRepository.getConcertItemsByIdList(concertIds));
+    }
+
+    // DB 에 남아 있는 공연은 다시 반영, 없는 공연은 제거
+    private void reapplyChanged(Set<Long> concertIds) {
+        if (concertIds.isEmpty()) return;
+        List<ConcertItem> concertItems = concertRepository.getConcertItemsByIdList(new ArrayList<>(concertIds));
+        concertRankingRedisRepository.upsertConcerts(concertItems);
+        Set<Long> deleted = new HashSet<>(concertIds);
+        concertItems.forEach(item -> deleted.remove(item.getId()));
+        if (!deleted.isEmpty()) removeConcerts(deleted);
+        log.info("공연 랭킹 재구성 중 변경된 공연 {}개 다시 반영", concertIds.size());
+    }
+
+    // 삭제된 공연을 랭킹에서 제거
+    public void removeConcerts(Collection<Long> concertIds) {
+        concertRankingRedisRepository.removeConcerts(concertIds);
+    }
+}
@@ -1,4 +1,164 @@
 package com.back.web7_9_codecrete_be.domain.concerts.service;
 
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertLikeRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRecommendRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSimilarityRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.util.TitleSimilarity;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+// 사용자가 좋아요한 공연 제목을 바탕으로 추천 공연 목록을 미리 계산해 Redis 에 저장합니다.
+// 좋아요/해제 후 잠시 기다렸다가(디바운스) 다시 계산하고, 매일 새벽 좋아요한 모든 사용자를 다시 계산합니다. (ConcertScheduler)
+@Slf4j
+@Service
+@RequiredArgsConstructor
 public class ConcertRecommendService {
+    private final ConcertRepository concertRepository;
+
+    private final ConcertLikeRepository concertLikeRepository;
+
+    private final ConcertRedisRepository concertRedisRepository;
+
+    private final ConcertSimilarityRedisRepository concertSimilarityRedisRepository;
+
+    private final ConcertRecommendRedisRepository concertRecommendRedisRepository;
+
+    // 마지막 좋아요/해제 후 다시 계산하기까지 기다리는 시간
+    @Value("${concert.recommend.debounce-ms:30000}")
+    private long debounceMillis;
+
+    // 추천 목록 보관 기간 (매일 다시 계산하므로 하루 이상)
+    private static final Duration RECOMMEND_TTL = Duration.ofHours(48);
+
+    // 추천에 사용할 최근 좋아요 수
+    private static final int MAX_LIKED_CONCERTS = 100;
+
+    // 사용자별로 저장할 추천 공연 수
+    public static final int MAX_RECOMMENDATIONS = 50;
+
+    // 한 번에 꺼내 계산할 대기 사용자 수
+    private static final int PENDING_BATCH_SIZE = 100;
+
+    private static final String LOCK_KEY = "concertRecommendRefreshAll";
+
+    private static final long LOCK_TTL_SECONDS = 1800;
+
+    // 미리 계산된 추천 공연 ID 목록 (계산되지 않았거나 만료되었다면 곧 계산하도록 예약하고 Optional.empty())
+    public Optional<List<Long>> getRecommendedConcertIds(Long userId) {
+        Optional<List<Long>> concertIds = concertRecommendRedisRepository.getRecommendedConcertIds(userId);
+        if (concertIds.isEmpty()) concertRecommendRedisRepository.schedule(userId, System.currentTimeMillis());
+        return concertIds;
+    }
+
+    // 좋아요/해제 시 다시 계산 예약 -> 연속으로 누르면 마지막 변경 후 한 번만 계산
+    public void requestRefresh(Long userId) {
+        concertRecommendRedisRepository.schedule(userId, System.currentTimeMillis() + debounceMillis);
+    }
+
+    // 계산할 시각이 지난 사용자의 추천 목록 계산 -> 계산한 사용자 수 반환
+    public int refreshPending() {
+        int refreshed = 0;
+        List<Long> userIds;
+        do {
+            userIds = concertRecommendRedisRepository.popDue(System.currentTimeMillis(), PENDING_BATCH_SIZE);
+            for (Long userId : userIds) {
+                if (refreshSafely(userId)) refreshed++;
+            }
+        } while (userIds.size() == PENDING_BATCH_SIZE);
+        return refreshed;
+    }
+
+    // 좋아요한 모든 사용자의 추천 목록 계산 (여러 인스턴스 중 한 곳에서만 실행)
+    public void refreshAll() {
+        if (!concertRedisRepository.tryLock(LOCK_KEY, ServerInstanceId.ID, LOCK_TTL_SECONDS)) {
+            log.info("다른 인스턴스에서 추천 공연 목록을 계산하는 중입니다.");
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            int refreshed = 0;
+            for (ConcertLikeRepository.UserLikedCount row : concertLikeRepository.countGroupByUser()) {
+                if (refreshSafely(row.getUserId())) refreshed++;
+            }
+            log.info("추천 공연 목록 전체 계산 완료: 사용자 {}명, {}ms", refreshed, System.currentTimeMillis() - start);
+        } finally {
+            concertRedisRepository.unlock(LOCK_KEY, ServerInstanceId.ID);
+        }
+    }
+
+    // 한 사용자의 추천 목록 계산 후 저장 (좋아요한 공연이 없으면 빈 목록 저장 -> 인기 공연으로 대체)
+    public void refresh(Long userId) {
+        List<ConcertItem> likedConcerts = concertRepository.getLikedConcertsList(PageRequest.of(0, MAX_LIKED_CONCERTS), userId);
+        List<Long> recommended = List.of();
+        if (!likedConcerts.isEmpty()) {
+            Set<Long> likedIds = new HashSet<>();
+            likedConcerts.forEach(item -> likedIds.add(item.getId()));
+
+            // 좋아요한 공연의 제목 유사 공연을 후보로 사용 (ConcertSimilarityService 에서 미리 계산)
+            Set<Long> candidateIds = new LinkedHashSet<>();
+            concertSimilarityRedisRepository.getSimilarConcertIds(likedIds).forEach(candidateIds::addAll);
+            candidateIds.removeAll(likedIds);
+
+            if (!candidateIds.isEmpty()) {
+                List<ConcertItem> candidates = concertRepository.getConcertItemsInIdList(new ArrayList<>(candidateIds), LocalDate.now());
+                recommended = rank(likedConcerts, candidates, MAX_RECOMMENDATIONS);
+            }
+        }
+        concertRecommendRedisRepository.saveRecommendedConcertIds(userId, recommended, RECOMMEND_TTL);
+    }
+
+    // 좋아요한 제목에 여러 번 나온 토큰일수록 가중치를 높게 두고, 후보 제목과의 가중 자카드 유사도 내림차순으로 정렬
+    // 유사도가 같으면 먼저 시작하는 공연, 공연 ID 순
+    static List<Long> rank(List<ConcertItem> likedConcerts, List<ConcertItem> candidates, int limit) {
+        Map<String, Integer> weights = new HashMap<>();
+        likedConcerts.forEach(item -> TitleSimilarity.tokenize(item.getName()).forEach(token -> weights.merge(token, 1, Integer::sum)));
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+
+        record Scored(ConcertItem item, double score) {
+        }
+
+        List<Scored> scored = new ArrayList<>();
+        for (ConcertItem candidate : candidates) {
+            int matchedWeight = 0;
+            int unmatchedTokens = 0;
+            for (String token : TitleSimilarity.tokenize(candidate.getName())) {
+                Integer weight = weights.get(token);
+                if (weight == null) unmatchedTokens++;
+                else matchedWeight += weight;
+            }
+            if (matchedWeight == 0) continue;
+            scored.add(new Scored(candidate, (double) matchedWeight / (totalWeight + unmatchedTokens)));
+        }
+
+        return scored.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed()
+                        .thenComparing(s -> s.item().getStartDate(), Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparingLong(s -> s.item().getId()))
+                .limit(limit)
+                .map(s -> s.item().getId())
+                .toList();
+    }
+
+    private boolean refreshSafely(Long userId) {
+        try {
+            refresh(userId);
+            return true;
+        } catch (Exception e) {
+            // 다음 대기열 처리 때 다시 계산
+            log.warn("추천 공연 목록 계산 실패: userId={}", userId, e);
+            concertRecommendRedisRepository.schedule(userId, System.currentTimeMillis() + debounceMillis);
+            return false;
+        }
+    }
 }
@@ -0,0 +1,208 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.entity.Artist;
+import com.back.web7_9_codecrete_be.domain.artists.entity.ConcertArtist;
+import com.back.web7_9_codecrete_be.domain.artists.repository.ConcertArtistRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertSearchItem;
+import com.back.web7_9_codecrete_be.domain.concerts.entity.Concert;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSearchIndex;
+import com.back.web7_9_codecrete_be.global.redis.ConcertPubSubChannels;
+import com.back.web7_9_codecrete_be.global.redis.IndexSyncMessage;
+import com.back.web7_9_codecrete_be.global.redis.IndexSyncPublisher;
+import com.back.web7_9_codecrete_be.global.search.SearchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 공연 키워드 검색 색인(JVM 내부)을 DB 기준으로 구성하고, 변경된 공연만 모든 인스턴스의 색인에 반영합니다.
+// 색인이 비어 있으면(구성 전이거나 실패) 호출 측에서 DB 의 LIKE 검색으로 대신 조회합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertSearchService {
+    private final ConcertRepository concertRepository;
+
+    private final ConcertArtistRepository concertArtistRepository;
+
+    private final ConcertSearchIndex concertSearchIndex;
+
+    private final IndexSyncPublisher indexSyncPublisher;
+
+    // 전파 명령 (IndexSyncMessage, 내용은 공연 ID 목록)
+    public static final String COMMAND_REBUILD = "REBUILD";
+    public static final String COMMAND_UPSERT = "UPSERT";
+    public static final String COMMAND_REMOVE = "REMOVE";
+
+    // 서버 시작 시 색인 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        try {
+            rebuildLocal();
+        } catch (Exception e) {
+            // 색인이 없으면 DB 검색으로 대신하므로 서버 시작을 막지 않음
+            log.warn("검색 색인 초기 구성 실패", e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return !concertSearchIndex.isEmpty();
+    }
+
+    // 관련도 순 검색 결과 중 pageable 범위 (목록 정보는 해당 페이지의 ID 로만 조회)
+    public List<ConcertItem> search(String keyword, Pageable pageable) {
+        List<ConcertSearchIndex.Hit> hits = page(concertSearchIndex.search(keyword), pageable);
+        return findConcertItems(hits.stream().map(ConcertSearchIndex.Hit::concertId).toList());
+    }
+
+    // 관련도 순 검색 결과 + 검색어 강조 표시
+    public List<ConcertSearchItem> searchWithHighlight(String keyword, Pageable pageable) {
+        return toSearchItems(page(concertSearchIndex.search(keyword), pageable), keyword);
+    }
+
+    // 통합 검색용 상위 limit 개 (관련도 순)
+    public SearchResult<ConcertSearchItem> searchTop(String keyword, int limit) {
+        List<ConcertSearchIndex.Hit> hits = concertSearchIndex.search(keyword);
+        if (hits.isEmpty()) return SearchResult.empty();
+        List<ConcertSearchIndex.Hit> top = hits.subList(0, Math.min(limit, hits.size()));
+        return new SearchResult<>(hits.size(), hits.get(0).relevance(), toSearchItems(top, keyword));
+    }
+
+    private List<ConcertSearchItem> toSearchItems(List<ConcertSearchIndex.Hit> hits, String keyword) {
+        Map<Long, ConcertItem> items = findConcertItems(hits.stream().map(ConcertSearchIndex.Hit::concertId).toList()).stream()
+                .collect(Collectors.toMap(ConcertItem::getId, item -> item));
+        return hits.stream()
+                .filter(hit -> items.containsKey(hit.concertId()))
+                .map(hit -> {
+                    ConcertItem item = items.get(hit.concertId());
+                    return new ConcertSearchItem(item, ConcertSearchIndex.highlight(item.getName(), keyword), hit.score());
+                })
+                .toList();
+    }
+
+    // 최신 등록 순 커서 검색 (lastId 보다 작은 ID 중 limit 개)
+    public List<ConcertItem> searchAfter(String keyword, Long lastId, int limit) {
+        List<Long> concertIds = concertSearchIndex.search(keyword).stream()
+                .map(ConcertSearchIndex.Hit::concertId)
+                .filter(concertId -> lastId == null || concertId < lastId)
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .toList();
+        return findConcertItems(concertIds);
+    }
+
+    public int count(String keyword) {
+        return concertSearchIndex.count(keyword);
+    }
+
+    // 현재 인스턴스의 색인을 재구성하고 다른 인스턴스에도 전파
+    public void rebuild() {
+        rebuildLocal();
+        indexSyncPublisher.publish(ConcertPubSubChannels.CONCERT_SEARCH_INDEX, COMMAND_REBUILD);
+    }
+
+    // 추가/수정된 공연만 색인에 반영하고 다른 인스턴스에도 전파
+    public void upsertConcerts(List<Long> concertIds) {
+        if (concertIds.isEmpty()) return;
+        // 초기 적재처럼 변경이 아주 많으면 전체 재구성이 더 저렴함
+        if (concertIds.size() > ConcertSearchIndex.COMPACT_THRESHOLD) {
+            rebuild();
+            return;
+        }
+        upsertLocal(concertIds);
+        indexSyncPublisher.publish(ConcertPubSubChannels.CONCERT_SEARCH_INDEX, COMMAND_UPSERT, concertIds);
+    }
+
+    // 삭제된 공연만 색인에서 제외하고 다른 인스턴스에도 전파
+    public void removeConcerts(List<Long> concertIds) {
+        if (concertIds.isEmpty()) return;
+        concertSearchIndex.remove(concertIds);
+        indexSyncPublisher.publish(ConcertPubSubChannels.CONCERT_SEARCH_INDEX, COMMAND_REMOVE, concertIds);
+    }
+
+    public void rebuildLocal() {
+        long start = System.currentTimeMillis();
+        long loadedGeneration = concertSearchIndex.generation();
+        List<Concert> concerts = concertRepository.findAllWithConcertPlace();
+        Map<Long, String> casts = groupCasts(concertArtistRepository.findAllWithArtist());
+        concertSearchIndex.rebuild(toDocuments(concerts, casts), loadedGeneration);
+        log.info("검색 색인 구성 완료: 공연 {}개, {}ms", concertSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    public void upsertLocal(List<Long> concertIds) {
+        List<Concert> concerts = concertRepository.findAllWithConcertPlaceByIdList(concertIds);
+        Map<Long, String> casts = groupCasts(concertArtistRepository.findAllWithArtistByConcertIds(concertIds));
+        concertSearchIndex.upsert(toDocuments(concerts, casts));
+
+        // 이벤트 이후 삭제된 공연은 색인에서도 제외
+        Set<Long> missing = new HashSet<>(concertIds);
+        concerts.forEach(concert -> missing.remove(concert.getConcertId()));
+        if (!missing.isEmpty()) concertSearchIndex.remove(missing);
+    }
+
+    public void onMessage(String message) {
+        IndexSyncMessage command = IndexSyncMessage.decodeRemote(message);
+        if (command == null) return;
+        switch (command.command()) {
+            case COMMAND_REBUILD -> rebuildLocal();
+            case COMMAND_UPSERT -> {
+                if (command.hasPayload()) upsertLocal(command.ids());
+            }
+            case COMMAND_REMOVE -> {
+                if (command.hasPayload()) concertSearchIndex.remove(command.ids());
+            }
+            default -> log.warn("알 수 없는 검색 색인 명령: {}", message);
+        }
+    }
+
+    // ID 순서대로 목록 정보 조회 (PK 조회라 LIKE 검색과 달리 공연 수와 상관없이 일정한 비용)
+    private List<ConcertItem> findConcertItems(List<Long> concertIds) {
+        if (concertIds.isEmpty()) return List.of();
+        Map<Long, ConcertItem> items = concertRepository.getConcertItemsByIdList(concertIds).stream()
+                .collect(Collectors.toMap(ConcertItem::getId, item -> item, (first, second) -> first));
+        return concertIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static List<ConcertSearchIndex.Hit> page(List<ConcertSearchIndex.Hit> hits, Pageable pageable) {
+        if (pageable.isUnpaged()) return hits;
+        long from = pageable.getOffset();
+        if (from >= hits.size()) return List.of();
+        return hits.subList((int) from, (int) Math.min(from + pageable.getPageSize(), hits.size()));
+    }
+
+    private static List<ConcertSearchIndex.Document> toDocuments(List<Concert> concerts, Map<Long, String> casts) {
+        return concerts.stream()
+                .map(concert -> new ConcertSearchIndex.Document(
+                        concert.getConcertId(),
+                        concert.getName(),
+                        casts.get(concert.getConcertId()),
+                        concert.getConcertPlace().getPlaceName(),
+                        concert.getArea(),
+                        concert.getContent()))
+                .toList();
+    }
+
+    // 공연 ID -> 출연 아티스트 이름 (영문/한글 이름을 공백으로 이어 붙임)
+    private static Map<Long, String> groupCasts(List<ConcertArtist> concertArtists) {
+        return concertArtists.stream()
+                .collect(Collectors.groupingBy(
+                        concertArtist -> concertArtist.getConcert().getConcertId(),
+                        Collectors.flatMapping(concertArtist -> names(concertArtist.getArtist()), Collectors.joining(" "))
+                ));
+    }
+
+    private static Stream<String> names(Artist artist) {
+        return Stream.of(artist.getArtistName(), artist.getNameKo()).filter(Objects::nonNull);
+    }
+}
@@ -1,19 +1,27 @@
 package com.back.web7_9_codecrete_be.domain.concerts.service;
 
-import com.back.web7_9_codecrete_be.domain.artists.entity.Artist;
-import com.back.web7_9_codecrete_be.domain.artists.entity.ConcertArtist;
-import com.back.web7_9_codecrete_be.domain.artists.repository.ConcertArtistRepository;
 import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.*;
-import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.WeightedString;
 import com.back.web7_9_codecrete_be.domain.concerts.dto.concertPlace.PlaceDetailResponse;
 import com.back.web7_9_codecrete_be.domain.concerts.dto.ticketOffice.TicketOfficeElement;
 import com.back.web7_9_codecrete_be.domain.concerts.entity.*;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertChangeType;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertChangedEvent;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertLikeChangedEvent;
 import com.back.web7_9_codecrete_be.domain.concerts.repository.*;
+import com.back.web7_9_codecrete_be.domain.location.entity.Location;
+import com.back.web7_9_codecrete_be.domain.location.repository.LocationRepository;
+import com.back.web7_9_codecrete_be.domain.search.service.SearchAnalyticsService;
 import com.back.web7_9_codecrete_be.domain.users.entity.User;
 import com.back.web7_9_codecrete_be.global.error.code.ConcertErrorCode;
+import com.back.web7_9_codecrete_be.global.error.code.LocationErrorCode;
 import com.back.web7_9_codecrete_be.global.error.exception.BusinessException;
+import com.back.web7_9_codecrete_be.global.rsData.RsData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +31,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -36,33 +45,117 @@ public class ConcertService {
 
     private final TicketOfficeRepository ticketOfficeRepository;
 
-    private final ConcertImageRepository concertImageRepository;
-
     private final ConcertRedisRepository concertRedisRepository;
 
-    private final ConcertSearchRedisTemplate concertSearchRedisTemplate;
+    private final ConcertRankingRedisRepository concertRankingRedisRepository;
+
+    private final ConcertViewCountService concertViewCountService;
+
+    private final ConcertDetailLoader concertDetailLoader;
+
+    private final ConcertAutoCompleteService concertAutoCompleteService;
+
+    private final ConcertSearchService concertSearchService;
+
+    private final ConcertSimilarityService concertSimilarityService;
+
+    private final ConcertRecommendService concertRecommendService;
+
+    private final FansAlsoLikedService fansAlsoLikedService;
+
+    private final ConcertGeoService concertGeoService;
+
+    private final LocationRepository locationRepository;
+
+    private final SearchAnalyticsService searchAnalyticsService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper;
+
+    // 목록 응답 본문(JSON)을 캐싱해 역직렬화/직렬화 없이 그대로 응답
+    @Value("${concert.list.body-cache.enabled:true}")
+    private boolean listBodyCacheEnabled;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
-    private final ConcertArtistRepository concertArtistRepository;
+    private static final int MAX_UNIQUE_VIEW_DAYS = 7;
+
+    // 추천 목록이 없을 때 대신 보여줄 인기 공연 수
+    private static final int RECOMMEND_FALLBACK_SIZE = 20;
+
+    // 근처 공연 검색 반경 상한 (반경 없이 가까운 순으로만 조회할 때도 이 반경 안에서 찾음)
+    private static final double MAX_NEARBY_RADIUS_KM = 500;
 
     // 공연 목록 조회
     public List<ConcertItem> getConcertsList(Pageable pageable, ListSort sort) {
+        // 랭킹이 있는 정렬 기준은 Redis ZSET 에서 바로 조회
+        if(ConcertRankingRedisRepository.isRanked(sort)) {
+            Optional<List<ConcertItem>> rankedItems = getRankedConcertsList(pageable, sort);
+            if(rankedItems.isPresent()) return rankedItems.get();
+        }
+
         List<ConcertItem> concertItems;
         concertItems = concertRedisRepository.getConcertsList(pageable, sort);
 
         if(concertItems != null && !concertItems.isEmpty()) return concertItems;
 
-        switch (sort) {
-            case LIKE -> concertItems = concertRepository.getConcertItemsOrderByLikeCountDesc(pageable);
-            case VIEW -> concertItems = concertRepository.getConcertItemsOrderByViewCountDesc(pageable);
-            case TICKETING -> concertItems = concertRepository.getUpComingTicketingConcertItemsFromDateASC(pageable, LocalDateTime.of(LocalDate.now(), LocalTime.MIN));
-            case UPCOMING -> concertItems = concertRepository.getUpComingConcertItemsFromDateASC(pageable,LocalDate.now());
-            case REGISTERED -> concertItems = concertRepository.getConcertItemsOrderByApiIdDesc(pageable);
-        }
-
+        concertItems = findConcertsList(pageable, sort);
         concertRedisRepository.saveConcertsList(sort,pageable,concertItems);
         return concertItems;
     }
 
+    // 공연 목록 응답 본문 조회 -> 캐싱된 본문이 있으면 ConcertItem 으로 되돌리지 않고 그대로 반환
+    // 랭킹이 있는 정렬 기준은 좋아요/조회수가 바뀌는 즉시 순서가 바뀌므로 본문을 캐싱하지 않고 매번 랭킹에서 만듦
+    public ConcertListBody getConcertsListBody(Pageable pageable, ListSort sort) {
+        boolean useBodyCache = listBodyCacheEnabled && !ConcertRankingRedisRepository.isRanked(sort);
+        if(useBodyCache) {
+            ConcertListBody cachedBody = concertRedisRepository.getConcertsListBody(pageable, sort);
+            if(cachedBody != null) return cachedBody;
+        }
+
+        List<ConcertItem> concertItems = getConcertsList(pageable, sort);
+        ConcertListBody body = toConcertsListBody(concertItems);
+        if(useBodyCache && !concertItems.isEmpty()) {
+            concertRedisRepository.saveConcertsListBody(sort, pageable, body, concertItems);
+        }
+        return body;
+    }
+
+    // 목록 응답 본문(RsData JSON) 생성 (캐시 미리 채우기에서도 같은 본문을 만듦)
+    public ConcertListBody toConcertsListBody(List<ConcertItem> concertItems) {
+        return ConcertListBody.of(toJsonBytes(RsData.success(concertItems)));
+    }
+
+    private byte[] toJsonBytes(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 본문 직렬화 실패", e);
+        }
+    }
+
+    // DB에서 정렬 기준별 공연 목록 조회 (캐시 미스, 캐시 미리 채우기에서 사용)
+    public List<ConcertItem> findConcertsList(Pageable pageable, ListSort sort) {
+        return switch (sort) {
+            case LIKE -> concertRepository.getConcertItemsOrderByLikeCountDesc(pageable);
+            case VIEW -> concertRepository.getConcertItemsOrderByViewCountDesc(pageable);
+            case TICKETING -> concertRepository.getUpComingTicketingConcertItemsFromDateASC(pageable, LocalDateTime.of(LocalDate.now(), LocalTime.MIN));
+            case UPCOMING -> concertRepository.getUpComingConcertItemsFromDateASC(pageable,LocalDate.now());
+            case REGISTERED -> concertRepository.getConcertItemsOrderByApiIdDesc(pageable);
+        };
+    }
+
+    // 랭킹 조회 실패 시 기존 DB + 목록 캐시 조회로 대체
+    private Optional<List<ConcertItem>> getRankedConcertsList(Pageable pageable, ListSort sort) {
+        try {
+            return concertRankingRedisRepository.getConcertsPage(sort, pageable, LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("공연 랭킹 조회 실패: sort={}", sort, e);
+            return Optional.empty();
+        }
+    }
+
     // 사용자가 좋아요 한 공연 목록 조회
     public List<ConcertItem> getLikedConcertsList(Pageable pageable,User user) {
         return concertRepository.getLikedConcertsList(pageable, user.getId());
@@ -83,100 +176,255 @@ public class ConcertService {
         };
     }
 
-    // 키워드 통한 공연 제목 검색
+    // 커서 기반 공연 목록 조회
+    public ConcertCursorResponse getConcertsListByCursor(ListSort sort, String cursor, int size) {
+        ConcertCursor lastCursor = ConcertCursor.decode(cursor);
+        Long lastId = lastCursor == null ? null : lastCursor.getId();
+        Pageable pageable = cursorPageable(size);
+
+        List<ConcertItem> concertItems = switch (sort) {
+            case LIKE -> concertRepository.getConcertItemsOrderByLikeCountDescAfter(
+                    lastCursor == null ? null : lastCursor.intKey(), lastId, pageable);
+            case VIEW -> concertRepository.getConcertItemsOrderByViewCountDescAfter(
+                    lastCursor == null ? null : lastCursor.intKey(), lastId, pageable);
+            case TICKETING -> concertRepository.getUpComingTicketingConcertItemsAfter(
+                    LocalDateTime.of(LocalDate.now(), LocalTime.MIN), lastCursor == null ? null : lastCursor.dateTimeKey(), lastId, pageable);
+            case UPCOMING -> concertRepository.getUpComingConcertItemsAfter(
+                    LocalDate.now(), lastCursor == null ? null : lastCursor.dateKey(), lastId, pageable);
+            case REGISTERED -> concertRepository.getConcertItemsOrderByApiIdDescAfter(lastId, pageable);
+        };
+
+        return toCursorResponse(concertItems, pageable, item -> switch (sort) {
+            case LIKE -> item.getLikeCount();
+            case VIEW -> item.getViewCount();
+            case TICKETING -> item.getTicketTime();
+            case UPCOMING -> item.getStartDate();
+            case REGISTERED -> null;
+        });
+    }
+
+    // 커서 기반 좋아요 한 공연 목록 조회
+    public ConcertCursorResponse getLikedConcertsListByCursor(String cursor, int size, User user) {
+        ConcertCursor lastCursor = ConcertCursor.decode(cursor);
+        Pageable pageable = cursorPageable(size);
+        List<ConcertItem> concertItems = concertRepository.getLikedConcertsListAfter(
+                user.getId(), lastCursor == null ? null : lastCursor.getId(), pageable);
+        return toCursorResponse(concertItems, pageable, item -> null);
+    }
+
+    // 커서 기반 예매 시간이 없는 공연 목록 조회
+    public ConcertCursorResponse getNoTicketTimeConcertsListByCursor(String cursor, int size) {
+        ConcertCursor lastCursor = ConcertCursor.decode(cursor);
+        Pageable pageable = cursorPageable(size);
+        List<ConcertItem> concertItems = concertRepository.getNoTicketTimeConcertListAfter(
+                lastCursor == null ? null : lastCursor.dateKey(), lastCursor == null ? null : lastCursor.getId(), pageable);
+        return toCursorResponse(concertItems, pageable, ConcertItem::getStartDate);
+    }
+
+    // 커서 기반 아티스트 공연 목록 조회 (past, upcoming)
+    public ConcertCursorResponse getArtistConcertListByCursor(Long artistId, String type, String cursor, int size) {
+        ConcertCursor lastCursor = ConcertCursor.decode(cursor);
+        LocalDate lastKey = lastCursor == null ? null : lastCursor.dateKey();
+        Long lastId = lastCursor == null ? null : lastCursor.getId();
+        Pageable pageable = cursorPageable(size);
+
+        List<ConcertItem> concertItems = switch (type) {
+            case "past" -> concertRepository.getPastConcertsListByArtistAfter(artistId, lastKey, lastId, pageable);
+            case "upcoming" -> concertRepository.getUpcomingConcertsListByArtistAfter(artistId, lastKey, lastId, pageable);
+            default -> throw new BusinessException(ConcertErrorCode.INCORRECT_TYPE);
+        };
+        return toCursorResponse(concertItems, pageable, ConcertItem::getStartDate);
+    }
+
+    // 커서 기반 키워드 검색
+    public ConcertCursorResponse getConcertListByKeywordAndCursor(String keyword, String cursor, int size) {
+        if(keyword == null || keyword.isEmpty()){
+            throw new BusinessException(ConcertErrorCode.KEYWORD_IS_NULL);
+        }
+        ConcertCursor lastCursor = ConcertCursor.decode(cursor);
+        Pageable pageable = cursorPageable(size);
+        Long lastId = lastCursor == null ? null : lastCursor.getId();
+        List<ConcertItem> concertItems = concertSearchService.isAvailable()
+                ? concertSearchService.searchAfter(keyword, lastId, pageable.getPageSize())
+                : concertRepository.getConcertItemsByKeywordAfter(keyword, lastId, pageable);
+        // 다음 페이지 조회는 같은 검색이므로 첫 페이지만, 결과가 있을 때만 검색 통계에 기록
+        if(lastCursor == null && !concertItems.isEmpty()) searchAnalyticsService.recordQuery(keyword);
+        return toCursorResponse(concertItems, pageable, item -> null);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+    private static Pageable cursorPageable(int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private static ConcertCursorResponse toCursorResponse(List<ConcertItem> concertItems, Pageable pageable, Function<ConcertItem, Object> sortKey) {
+        int pageSize = pageable.getPageSize() - 1;
+        if(concertItems.size() <= pageSize) return new ConcertCursorResponse(concertItems, null, false);
+
+        List<ConcertItem> page = concertItems.subList(0, pageSize);
+        ConcertItem last = page.get(pageSize - 1);
+        return new ConcertCursorResponse(new ArrayList<>(page), ConcertCursor.encode(sortKey.apply(last), last.getId()), true);
+    }
+
+    // 키워드 통한 공연 검색 -> 검색 색인에서 관련도 순으로 조회 (색인이 비어 있으면 DB 제목 검색)
     public List<ConcertItem> getConcertListByKeyword(String keyword, Pageable pageable) {
         if(keyword == null || keyword.isEmpty()){
             throw new BusinessException(ConcertErrorCode.KEYWORD_IS_NULL);
         }
-        return concertRepository.getConcertItemsByKeyword(keyword, pageable);
+        List<ConcertItem> concertItems = concertSearchService.isAvailable()
+                ? concertSearchService.search(keyword, pageable)
+                : concertRepository.getConcertItemsByKeyword(keyword, pageable);
+        recordQueryIfFound(keyword, pageable, concertItems);
+        return concertItems;
+    }
+
+    // 키워드 통한 공연 검색 + 검색어 강조 표시
+    public List<ConcertSearchItem> getConcertSearchItemsByKeyword(String keyword, Pageable pageable) {
+        if(keyword == null || keyword.isEmpty()){
+            throw new BusinessException(ConcertErrorCode.KEYWORD_IS_NULL);
+        }
+        List<ConcertSearchItem> searchItems = concertSearchService.isAvailable()
+                ? concertSearchService.searchWithHighlight(keyword, pageable)
+                : concertRepository.getConcertItemsByKeyword(keyword, pageable).stream()
+                        .map(item -> new ConcertSearchItem(item, ConcertSearchIndex.highlight(item.getName(), keyword), 0))
+                        .toList();
+        recordQueryIfFound(keyword, pageable, searchItems);
+        return searchItems;
     }
 
-    // 키워드 통한 공연 제목 검색 결과 개수
+    // 다음 페이지 조회는 같은 검색이므로 첫 페이지만, 결과가 있을 때만 검색 통계에 기록 (결과 없는 검색어는 인기 검색어에 올리지 않음)
+    private void recordQueryIfFound(String keyword, Pageable pageable, List<?> results) {
+        if(pageable.getPageNumber() == 0 && !results.isEmpty()) searchAnalyticsService.recordQuery(keyword);
+    }
+
+    // 키워드 통한 공연 검색 결과 개수
     public Integer getConcertSearchCountByKeyword(String keyword) {
         if(keyword == null || keyword.isEmpty()){
             throw new BusinessException(ConcertErrorCode.KEYWORD_IS_NULL);
         }
+        if(concertSearchService.isAvailable()) return concertSearchService.count(keyword);
         return concertRepository.countConcertsByNameContaining(keyword);
     }
 
+    // 검색 색인 재구성
+    public void rebuildSearchIndex(){
+        concertSearchService.rebuild();
+    }
+
     // 검색어 자동 완성
     public List<AutoCompleteItem> autoCompleteSearch(String keyword, int start, int end) {
-        return concertSearchRedisTemplate.getAutoCompleteWord(keyword, start, end);
+        return concertAutoCompleteService.search(keyword, start, end);
     }
 
     // 자동완성 초기화
     public void resetAutoComplete(){
-        concertSearchRedisTemplate.deleteAutoCompleteWords();
+        concertAutoCompleteService.clear();
     }
 
-    // 자동완성 단어저장 v2
+    // 자동완성 색인 재구성 v3 -> JVM 내부 n-gram 색인을 새로 만들어 교체
     public void setAutoComplete(){
-        List<Concert>  concerts = concertRepository.findAll();
-        List<WeightedString> weightedStrings = concerts.stream()
-                .map(WeightedString::new)
-                .toList();
-        concertSearchRedisTemplate.addAllWordsWithWeight(weightedStrings);
+        concertAutoCompleteService.rebuild();
     }
 
 
-    // 공연 상세 조회 조회시 조회수 1 증가 -> 캐싱에 따른 조회수 불일치 해소를 어떻게 할 것인가? V -> 이제 캐싱된거 날리고 새로운 수치 반영 어케할 것인지 + 여러번 조회수 올릴 시 처리 어떻게 할지
-    @Transactional
+    // 공연 상세 조회 조회시 조회수 1 증가
+    @Transactional(readOnly = true)
     public ConcertDetailResponse getConcertDetail(long concertId) {
-        ConcertDetailResponse concertDetailResponse = concertRedisRepository.getCachedConcertDetail(concertId);
-        if(concertDetailResponse == null){
-            concertDetailResponse = concertRepository.getConcertDetailById(concertId);
-            List<String> concertImageUrls = concertImageRepository.getConcertImagesByConcert_ConcertId(concertId).stream()
-                    .map(ConcertImage::getImageUrl)
-                    .toList();
-            concertDetailResponse.setConcertImageUrls(concertImageUrls);
-            List<Long> concertArtists = concertArtistRepository.getConcertArtistsByConcert_ConcertId(concertId).stream()
-                    .map(ConcertArtist::getArtist)
-                    .map(Artist::getId)
-                    .toList();
-            concertDetailResponse.setConcertArtists(concertArtists);
-        }
-        // 조회수 1 증가하고 해당 데이터를 캐시에 저장.
-        concertDetailResponse.setViewCount(concertDetailResponse.getViewCount() + 1);
-        concertRedisRepository.saveConcertDetail(concertId, concertDetailResponse);
-        return concertDetailResponse;
+        return getConcertDetail(concertId, null);
     }
 
-    // 조회수 갱신
-    @Transactional
-    public void viewCountUpdate(){
-        Map<Long,Integer> viewCountMap = concertRedisRepository.getCachedViewCountMap();
-        if(viewCountMap == null || viewCountMap.isEmpty()) {
-            log.info("viewCountMap is empty");
-        } else{
-            for (Map.Entry<Long, Integer> viewCountEntry : viewCountMap.entrySet()) {
-                concertRepository.concertViewCountSet(viewCountEntry.getKey(), viewCountEntry.getValue());
+    // 공연 상세 조회 -> 같은 방문자(viewerId)는 하루에 한 번만 조회수 증가, viewerId 가 없으면 항상 증가
+    // 상세 본문은 변경 시에만 캐싱하고, 조회수는 Redis 에서 원자적으로 올린 뒤 주기적으로 DB에 반영 (ConcertViewCountService)
+    @Transactional(readOnly = true)
+    public ConcertDetailResponse getConcertDetail(long concertId, String viewerId) {
+        ConcertDetailResponse concertDetailResponse = getConcertDetailBody(concertId);
+
+        long viewCount;
+        if(viewerId == null) {
+            viewCount = concertRedisRepository.incrementViewCount(concertId, concertDetailResponse.getViewCount());
+            concertRankingRedisRepository.incrementViewScore(concertId, 1);
+        } else {
+            LocalDate today = LocalDate.now();
+            ConcertRedisRepository.ViewCount result = concertRedisRepository.incrementUniqueViewCount(
+                    concertId, concertDetailResponse.getViewCount(), viewerId, today);
+            viewCount = result.total();
+            if(result.counted()) {
+                concertRankingRedisRepository.incrementViewScore(concertId, 1);
+                concertRankingRedisRepository.incrementTrendingScore(concertId, today);
             }
-            concertRedisRepository.deleteAllConcertsList();
-            log.info("viewCount updated");
         }
+        return concertDetailResponse.withViewCount((int) viewCount);
+    }
+
+    // 오늘을 포함한 최근 days 일간 순 방문자 수 (최대 7일)
+    public Long getUniqueViewerCount(long concertId, int days) {
+        if(days < 1 || days > MAX_UNIQUE_VIEW_DAYS) throw new BusinessException(ConcertErrorCode.INVALID_VIEW_DAYS);
+        LocalDate today = LocalDate.now();
+        return concertRedisRepository.countUniqueViewers(concertId, today.minusDays(days - 1L), today);
+    }
+
+    // 최근 순 방문자가 많이 늘어난 공연 목록
+    public List<ConcertItem> getTrendingConcerts(int size) {
+        List<Long> concertIds = concertRankingRedisRepository.getTrendingConcertIds(LocalDate.now(), Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
+        if(concertIds.isEmpty()) return List.of();
+
+        return getConcertItemsInOrder(concertIds);
+    }
+
+    // 공연 ID 순서대로 목록 표시 정보 조회 (랭킹에 없는 공연은 DB에서 조회 후 순서대로 정렬, 없는 공연은 제외)
+    private List<ConcertItem> getConcertItemsInOrder(List<Long> concertIds) {
+        if(concertIds.isEmpty()) return List.of();
+        List<ConcertItem> concertItems = concertRankingRedisRepository.getConcertItems(concertIds);
+        if(concertItems.size() < concertIds.size()) {
+            Map<Long, ConcertItem> itemMap = new HashMap<>();
+            concertRepository.getConcertItemsByIdList(concertIds).forEach(item -> itemMap.put(item.getId(), item));
+            concertItems = concertIds.stream().map(itemMap::get).filter(Objects::nonNull).toList();
+        }
+        return concertItems;
+    }
+
+    // 캐싱된 공연 상세 본문 조회 (없으면 DB 조회 후 캐싱, 동시 요청은 한 번만 조회)
+    private ConcertDetailResponse getConcertDetailBody(long concertId) {
+        ConcertDetailResponse concertDetailResponse = concertRedisRepository.getCachedConcertDetail(concertId);
+        if(concertDetailResponse != null) return concertDetailResponse;
+        return concertDetailLoader.load(concertId);
+    }
+
+    // 조회수 갱신 -> Redis 에 쌓인 조회수 증가분을 DB에 반영
+    public void viewCountUpdate(){
+        int flushed = concertViewCountService.flushViewCounts();
+        if(flushed == 0) log.info("no pending viewCount");
     }
 
     // 총 공연 개수 조회
+    // 공연 수 카운터는 쓰기 이벤트로 증감하고 주기적으로 DB 와 맞춤 (ConcertCounterService) -> 카운터 구성 전에만 DB 에서 셈
     public Long getTotalConcertsCount() {
-        Long result = concertRedisRepository.getTotalConcertsCount(ListSort.VIEW);
-        if(result == -1) result = concertRedisRepository.saveTotalConcertsCount(concertRepository.count(), ListSort.VIEW);
+        Long result = concertRedisRepository.getTotalConcertsCount();
+        if(result == -1) result = concertRepository.count();
         return result;
     }
 
     // 티켓팅 공연 개수 조회
     public Long getTotalTicketingConcertsCount() {
-        Long result = concertRedisRepository.getTotalConcertsCount(ListSort.TICKETING);
-        if(result == -1) result = concertRedisRepository.saveTotalConcertsCount(concertRepository.countTicketingConcertsFromLocalDateTime(LocalDateTime.of(LocalDate.now(), LocalTime.MIN)), ListSort.TICKETING);
+        LocalDateTime today = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
+        Long result = concertRedisRepository.getTicketingConcertsCount(today);
+        if(result == -1) result = concertRepository.countTicketingConcertsFromLocalDateTime(today);
         return  result;
     }
 
     // 좋아요한 공연 개수 조회
     public Long getTotalLikedConcertsCount(User user) {
         Long result = concertRedisRepository.getUserLikedCount(user);
-        if(result == -1) result = concertRedisRepository.saveUserLikedCount(user,concertLikeRepository.countByUser(user));
+        if(result == -1) result = concertLikeRepository.countByUser(user);
         return  result;
     }
 
+    // 공연 캐시 계층별 적중/실패 통계 조회
+    public Map<String, Long> getCacheStats() {
+        return concertRedisRepository.getCacheStats();
+    }
+
     // N+1 문제 발생해서 버림
     /*
     public List<ConcertItem> getConcertsList2(Pageable pageable) {
@@ -223,8 +471,9 @@ public class ConcertService {
         }
         ConcertLike concertLike = new ConcertLike(concert, user);
         concertLikeRepository.save(concertLike);
-        concertRedisRepository.deleteUserLikedCount(user);
         concertRepository.concertLikeCountUp(concertId);
+        eventPublisher.publishEvent(ConcertChangedEvent.of(ConcertChangeType.LIKED, concertId));
+        eventPublisher.publishEvent(new ConcertLikeChangedEvent(concertId, user.getId(), true));
     }
 
     // 사용자가 해당 공연에 좋아요 해제
@@ -237,8 +486,9 @@ public class ConcertService {
             throw new BusinessException(ConcertErrorCode.NOT_FOUND_CONCERTLIKE);
         }
         concertLikeRepository.delete(concertLike);
-        concertRedisRepository.deleteUserLikedCount(user);
         concertRepository.concertLikeCountDown(concertId);
+        eventPublisher.publishEvent(ConcertChangedEvent.of(ConcertChangeType.UNLIKED, concertId));
+        eventPublisher.publishEvent(new ConcertLikeChangedEvent(concertId, user.getId(), false));
     }
 
     // 공연 내용 갱신
@@ -247,6 +497,7 @@ public class ConcertService {
         ConcertPlace concertPlace = concertPlaceRepository.findById(concertUpdateRequest.getPlaceId()).orElseThrow();
         concert.update(concertUpdateRequest, concertPlace);
         Concert updatedConcert = concertRepository.save(concert);
+        eventPublisher.publishEvent(ConcertChangedEvent.of(ConcertChangeType.UPDATED, concertId));
         return new ConcertItem(updatedConcert);
     }
 
@@ -263,14 +514,15 @@ public class ConcertService {
         concert.ticketTimeSet(ticketTime, ticketEndTime);
         // DB에 저장
         Concert savedConcert = concertRepository.save(concert);
-        // 캐시에도 갱신
-        concertRedisRepository.updateCachedTickingDate(concert.getConcertId(),ticketTime,ticketEndTime);
+        // 해당 공연의 상세, 포함된 목록 페이지, 예매 예정 목록 캐시 무효화
+        eventPublisher.publishEvent(ConcertChangedEvent.of(ConcertChangeType.TICKET_TIME_SET, savedConcert.getConcertId()));
         return concertRepository.getConcertDetailById(savedConcert.getConcertId());
     }
 
     // 공연 삭제
     public void deleteConcert(long concertId) {
         concertRepository.deleteById(concertId);
+        eventPublisher.publishEvent(ConcertChangedEvent.of(ConcertChangeType.DELETED, concertId));
     }
 
     // 아티스트 Id 리스트로 해당 아티스트들의 공연 목록 조회
@@ -303,123 +555,84 @@ public class ConcertService {
     }
 
     // 유사한 제목을 가지는 공연 추천
+    // 미리 계산된 목록을 유사도 순서대로 조회 (ConcertSimilarityService)
     public List<ConcertItem> recommendSimilarTitleConcerts(long concertId) {
-        Concert concert = findConcertByConcertId(concertId);
-        String name = simplifyKeyword(concert.getName());
-        log.info("name: " + name);
-        String[] words = name.split(" ");
-        List<AutoCompleteItem> result = new ArrayList<>();
-
-        for (String word : words) {
-            if(word.isEmpty()) continue;
-            log.info("word: " + word);
-            result.addAll(concertSearchRedisTemplate.getAutoCompleteWord(word,0,5));
-        }
-        List<Long> idList = new ArrayList<>();
-
-        for (AutoCompleteItem item : result) {
-            if(Objects.equals(concert.getConcertId(), item.getId())) continue;
-            idList.add(item.getId());
+        Optional<List<Long>> similarConcertIds = concertSimilarityService.getSimilarConcertIds(concertId);
+        if(similarConcertIds.isEmpty()) {
+            // 색인에 없는 공연 -> 존재하지 않는 공연이면 예외, 색인 이후 추가된 공연이면 다음 재구성 전까지 추천 없음
+            findConcertByConcertId(concertId);
+            return List.of();
         }
 
-        // 자카드 유사도를 통해 더 비슷한 항목이 위로 오게 정렬하기
-        List<ConcertItem> concertItemList = concertRepository.getConcertItemsInIdList(idList,LocalDate.now());
-        concertItemList.sort(Comparator.comparingDouble(i1 -> jaccardSimilarity(words,i1.getName().split(" "))));
-        return concertItemList;
+        // 색인 이후 시작된 공연은 제외
+        LocalDate today = LocalDate.now();
+        return getConcertItemsInOrder(similarConcertIds.get()).stream()
+                .filter(item -> item.getStartDate() != null && item.getStartDate().isAfter(today))
+                .toList();
     }
 
-    // 좋아요 한 제목에서 중복으로 나타나는 단어에 가중치 부여 후 자카드 유사도에 가점 부여하여 정렬 후 공연 추천
-    public List<ConcertItem> concertsRecommendByLike(User user){
-        Pageable pageable = PageRequest.of(0, 100);
-        List<ConcertItem> likeList = concertRepository.getLikedConcertsList(pageable,user.getId());
-        if(likeList.isEmpty()) return new ArrayList<>(); // 좋아요 한 공연이 없을 경우 빈 공연 반환
-        Map<String, WeightedBits> weightedBitsMap = new HashMap<>();
-        Set<Long> idSet = new HashSet<>();
-        for(ConcertItem item : likeList){
-            idSet.add(item.getId());
-            String name = item.getName();
-            String simpleName = simplifyKeyword(name);
-            String[] words = simpleName.split(" ");
-
-            for (String word : words) { // 단어별로 가중치 적용
-               WeightedBits weightedBits = weightedBitsMap.getOrDefault(word, new WeightedBits(word,0));
-               weightedBits.plusWeight();
-               weightedBitsMap.put(word, weightedBits);
-            }
+    // 이 공연을 좋아한 사용자들이 함께 좋아한 공연
+    // 미리 계산된 목록을 유사도 순서대로 조회 (FansAlsoLikedService)
+    public List<ConcertItem> recommendFansAlsoLikedConcerts(long concertId) {
+        Optional<List<Long>> concertIds = fansAlsoLikedService.getFansAlsoLikedConcertIds(concertId);
+        if(concertIds.isEmpty()) {
+            // 색인에 없는 공연 -> 존재하지 않는 공연이면 예외, 좋아요가 없거나 색인 이후 추가된 공연이면 추천 없음
+            findConcertByConcertId(concertId);
+            return List.of();
         }
 
-        List<AutoCompleteItem> result = new ArrayList<>();
-        for (String word : weightedBitsMap.keySet()) {
-            if(word.isEmpty()) continue;
-            log.info("word: " + word);
-            result.addAll(concertSearchRedisTemplate.getAutoCompleteWord(word,0,6));
-        }
-
-        Set<Long> resultIdSet = new HashSet<>();
-        for (AutoCompleteItem item : result) {
-            if(idSet.contains(item.getId())) continue; // 찜한 목록 제거
-            resultIdSet.add(item.getId()); // 중복 제거
-        }
-
-        List<Long> idList = new ArrayList<>();
-        for (Long id : resultIdSet) {
-            idList.add(id);
-        }
-
-        List<ConcertItem> concertItemList = concertRepository.getConcertItemsInIdList(idList,LocalDate.now());
-        concertItemList.sort(Comparator.comparingDouble(
-                ci -> jaccardSimilarityWithWeight(weightedBitsMap,ci.getName().split(" "))
-        ));
-        return concertItemList;
-    }
-
-    private double jaccardSimilarityWithWeight(Map<String,WeightedBits> weightedBitsMap, String[] words) {
-        int intersection =0;
-        for (String word : words) {
-            if(word.isEmpty()) continue;
-            WeightedBits weightedBits = weightedBitsMap.get(word);
-            if(weightedBits == null) continue;
-            intersection += weightedBits.weight;
-        }
-        int union = weightedBitsMap.size() + words.length;
-        return (double)union/intersection;
+        // 이미 끝난 공연은 제외
+        LocalDate today = LocalDate.now();
+        return getConcertItemsInOrder(concertIds.get()).stream()
+                .filter(item -> item.getEndDate() == null || !item.getEndDate().isBefore(today))
+                .toList();
     }
 
-    private class WeightedBits{
-        String bit;
-        int weight;
-
-        public WeightedBits(String bit, int weight) {
-            this.bit = bit;
-            this.weight = weight;
+    // 근처 공연 -> 기준 좌표에서 가까운 공연장 순, 같은 공연장은 시작일 순 (ConcertGeoService)
+    // 좌표가 없으면 사용자가 저장한 위치를 기준으로 하고, 반경이 없으면 가까운 순으로 size 개
+    public List<NearbyConcertItem> getNearbyConcerts(Double lat, Double lon, Double radiusKm, int size, User user) {
+        if(lat == null && lon == null) {
+            Location location = locationRepository.findByUser(user);
+            if(location == null) throw new BusinessException(LocationErrorCode.LOCATION_NOT_FOUND);
+            lat = location.getLat();
+            lon = location.getLon();
         }
-
-        public WeightedBits plusWeight(){
-            this.weight++;
-            return this;
+        if(lat == null || lon == null || lat < -90 || lat > 90 || lon < -180 || lon > 180
+                || (radiusKm != null && !(radiusKm > 0))) {
+            throw new BusinessException(ConcertErrorCode.INVALID_COORDINATE);
         }
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        double radius = radiusKm == null ? MAX_NEARBY_RADIUS_KM : Math.min(radiusKm, MAX_NEARBY_RADIUS_KM);
+
+        List<ConcertGeoService.NearbyConcert> nearby = concertGeoService.findNearbyConcerts(lat, lon, radius, pageSize);
+        Map<Long, ConcertItem> itemMap = new HashMap<>();
+        getConcertItemsInOrder(nearby.stream().map(ConcertGeoService.NearbyConcert::concertId).toList())
+                .forEach(item -> itemMap.put(item.getId(), item));
+
+        // 색인 이후 끝난 공연은 제외
+        LocalDate today = LocalDate.now();
+        return nearby.stream()
+                .filter(concert -> itemMap.containsKey(concert.concertId()))
+                .map(concert -> new NearbyConcertItem(itemMap.get(concert.concertId()), concert.concertPlaceId(), concert.distanceKm()))
+                .filter(item -> item.getConcert().getEndDate() == null || !item.getConcert().getEndDate().isBefore(today))
+                .toList();
     }
 
-    private double jaccardSimilarity(String[] origin , String[] target) {
-        Set<String> union = new HashSet<>();
-        Set<String> intersection = new HashSet<>();
-        union.addAll(Arrays.asList(origin));
-        union.addAll(Arrays.asList(target));
-
-        for (String s : origin) {
-            for (String t : target) {
-                if (s.equals(t)) intersection.add(s);
-            }
-        }
-
-        return (double)  union.size() / intersection.size();
-    }
+    // 좋아요 기반 추천 -> 미리 계산된 목록 조회 (ConcertRecommendService)
+    // 좋아요한 공연이 없거나 아직 계산되지 않은 사용자는 좋아요가 많은 진행 예정 공연으로 대체
+    public List<ConcertItem> concertsRecommendByLike(User user){
+        LocalDate today = LocalDate.now();
+        List<ConcertItem> recommended = concertRecommendService.getRecommendedConcertIds(user.getId())
+                .map(this::getConcertItemsInOrder)
+                .orElse(List.of())
+                .stream()
+                .filter(item -> item.getStartDate() != null && item.getStartDate().isAfter(today))
+                .toList();
+        if(!recommended.isEmpty()) return recommended;
 
-    // 특수 문자를 제거합니다.
-    private static String simplifyKeyword(String name) {
-        String match = "[^ㄱ-ㅎㅏ-ㅣ가-힣a-zA-Z0-9\\s]";
-        name = name.replaceAll(match, "");
-        return name;
+        return getConcertsList(PageRequest.of(0, RECOMMEND_FALLBACK_SIZE), ListSort.LIKE).stream()
+                .filter(item -> item.getEndDate() == null || !item.getEndDate().isBefore(today))
+                .toList();
     }
 
     @Transactional(readOnly = true)
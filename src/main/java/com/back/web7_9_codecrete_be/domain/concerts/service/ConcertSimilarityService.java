@@ -0,0 +1,84 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSimilarityRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.util.TitleSimilarity;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+// 공연 제목이 비슷한 공연 목록을 미리 계산해 Redis 에 저장합니다. (MinHash + LSH, TitleSimilarity)
+// KOPIS 동기화 직후(ConcertSimilarityUpdateListener)와 매일 새벽(ConcertScheduler) 전체를 다시 계산합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertSimilarityService {
+    private final ConcertRepository concertRepository;
+
+    private final ConcertRedisRepository concertRedisRepository;
+
+    private final ConcertSimilarityRedisRepository concertSimilarityRedisRepository;
+
+    // 공연별로 저장할 비슷한 공연 수 (조회 시 지난 공연을 걸러내도 충분히 남도록 여유 있게 저장)
+    public static final int TOP_K = 20;
+
+    private static final String LOCK_KEY = "concertSimilarityRebuild";
+
+    private static final long LOCK_TTL_SECONDS = 300;
+
+    // 서버 시작 시 색인이 없다면 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        try {
+            if (!concertSimilarityRedisRepository.exists()) rebuild();
+        } catch (Exception e) {
+            log.warn("제목 유사 공연 색인 초기 구성 실패", e);
+        }
+    }
+
+    // 전체 재구성 (여러 인스턴스 중 한 곳에서만 실행)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!concertRedisRepository.tryLock(LOCK_KEY, ServerInstanceId.ID, LOCK_TTL_SECONDS)) {
+            log.info("다른 인스턴스에서 제목 유사 공연 색인을 구성하는 중입니다.");
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            LocalDate today = LocalDate.now();
+            Map<Long, String> titles = new HashMap<>();
+            // 아직 시작하지 않은 공연만 추천 대상
+            Set<Long> candidateIds = new HashSet<>();
+            for (ConcertItem item : concertRepository.getAllConcertItems()) {
+                titles.put(item.getId(), item.getName());
+                if (item.getStartDate() != null && item.getStartDate().isAfter(today)) candidateIds.add(item.getId());
+            }
+
+            Map<Long, List<TitleSimilarity.Neighbour>> neighbours = TitleSimilarity.topNeighbours(titles, candidateIds, TOP_K);
+            // 비슷한 공연이 없는 공연도 빈 목록으로 저장 -> 색인에 없는 공연(색인 이후 추가)과 구분
+            Map<Long, List<Long>> similarConcertIds = new HashMap<>();
+            titles.keySet().forEach(concertId -> similarConcertIds.put(concertId,
+                    neighbours.getOrDefault(concertId, List.of()).stream().map(TitleSimilarity.Neighbour::id).toList()));
+
+            concertSimilarityRedisRepository.replaceAll(similarConcertIds);
+            log.info("제목 유사 공연 색인 구성 완료: 공연 {}개, 유사 공연이 있는 공연 {}개, {}ms",
+                    titles.size(), neighbours.size(), System.currentTimeMillis() - start);
+        } finally {
+            concertRedisRepository.unlock(LOCK_KEY, ServerInstanceId.ID);
+        }
+    }
+
+    // 미리 계산된 비슷한 공연 ID 목록 (유사도 내림차순, 색인에 없는 공연이면 Optional.empty())
+    public Optional<List<Long>> getSimilarConcertIds(long concertId) {
+        return concertSimilarityRedisRepository.getSimilarConcertIds(concertId);
+    }
+}
@@ -0,0 +1,109 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertChangeType;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertChangedEvent;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertViewCountFlushedEvent;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository.ViewCountDrain;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertViewCountJdbcRepository;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Redis 에 쌓인 조회수 증가분을 주기적으로 DB에 반영합니다. (write-behind)
+// 락을 잡은 인스턴스 하나만 반영하고, 반영에 실패한 증가분은 Redis 에 남아 다음 주기에 다시 반영됩니다.
+// 증가분 묶음마다 ID 를 붙여 조회수와 같은 트랜잭션에 기록하므로, 같은 묶음이 다시 들어와도 두 번 더하지 않습니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConcertViewCountService {
+    private final ConcertRedisRepository concertRedisRepository;
+
+    private final ConcertViewCountJdbcRepository concertViewCountJdbcRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String FLUSH_LOCK_KEY = "concertViewCountFlush";
+
+    private static final long FLUSH_LOCK_TTL_SECONDS = 60;
+
+    // 반영 중에는 이 주기로 락을 연장 (만료 시간의 1/3)
+    private static final long FLUSH_LOCK_RENEW_INTERVAL_SECONDS = FLUSH_LOCK_TTL_SECONDS / 3;
+
+    // 반영 기록 보관 기간 (실패한 묶음이 다시 들어오기까지 충분한 시간)
+    private static final long FLUSH_RECORD_RETENTION_DAYS = 7;
+
+    private final ScheduledExecutorService lockRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "view-count-flush-lock-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 조회수 증가분 DB 반영 -> 반영한 공연 수 반환 (다른 인스턴스가 반영 중이거나 이미 반영된 묶음이면 0)
+    public int flushViewCounts() {
+        if (!concertRedisRepository.tryLock(FLUSH_LOCK_KEY, ServerInstanceId.ID, FLUSH_LOCK_TTL_SECONDS)) {
+            log.debug("다른 인스턴스에서 조회수를 반영하고 있습니다.");
+            return 0;
+        }
+        ScheduledFuture<?> renewal = lockRenewer.scheduleAtFixedRate(this::renewLock,
+                FLUSH_LOCK_RENEW_INTERVAL_SECONDS, FLUSH_LOCK_RENEW_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        try {
+            ViewCountDrain drain = concertRedisRepository.drainPendingViewCounts();
+            if (drain.isEmpty()) {
+                if (drain.flushId() != null) concertRedisRepository.completeViewCountDrain(drain.flushId());
+                return 0;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            boolean applied = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (concertViewCountJdbcRepository.isFlushApplied(drain.flushId())) return false;
+                concertViewCountJdbcRepository.addViewCounts(drain.deltas());
+                concertViewCountJdbcRepository.recordFlush(drain.flushId(), now);
+                concertViewCountJdbcRepository.deleteFlushesBefore(now.minusDays(FLUSH_RECORD_RETENTION_DAYS));
+                return true;
+            }));
+            concertRedisRepository.completeViewCountDrain(drain.flushId());
+
+            if (!applied) {
+                // 이전 반영이 DB 에는 커밋됐지만 Redis 정리에 실패한 묶음
+                log.info("이미 반영된 조회수 묶음을 정리했습니다: flushId={}", drain.flushId());
+                return 0;
+            }
+            eventPublisher.publishEvent(ConcertChangedEvent.of(ConcertChangeType.VIEW_COUNT_FLUSHED, new ArrayList<>(drain.deltas().keySet())));
+            eventPublisher.publishEvent(new ConcertViewCountFlushedEvent(drain.deltas()));
+            log.info("조회수 반영 완료: {}개의 공연", drain.deltas().size());
+            return drain.deltas().size();
+        } finally {
+            renewal.cancel(false);
+            concertRedisRepository.unlock(FLUSH_LOCK_KEY, ServerInstanceId.ID);
+        }
+    }
+
+    private void renewLock() {
+        try {
+            if (!concertRedisRepository.renewLock(FLUSH_LOCK_KEY, ServerInstanceId.ID, FLUSH_LOCK_TTL_SECONDS)) {
+                log.warn("조회수 반영 락을 연장하지 못했습니다. (다른 인스턴스가 같은 묶음을 다시 반영해도 중복으로 더해지지 않음)");
+            }
+        } catch (Exception e) {
+            log.warn("조회수 반영 락 연장 실패", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lockRenewer.shutdownNow();
+    }
+}
@@ -0,0 +1,103 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistLikeRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertLikeRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.FansAlsoLikedRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.FansAlsoLikedRedisRepository.Target;
+import com.back.web7_9_codecrete_be.domain.concerts.util.ItemCosineSimilarity;
+import com.back.web7_9_codecrete_be.domain.concerts.util.LikePair;
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+// 공연/아티스트 좋아요로 "이 공연(아티스트)을 좋아한 사람들이 함께 좋아한" 목록을 미리 계산해 Redis 에 저장합니다. (ItemCosineSimilarity)
+// 좋아요 쌍을 커서로 나눠 읽은 뒤 ForkJoinPool 에서 병렬로 계산하고, 매일 새벽 전체를 다시 계산합니다. (ConcertScheduler)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FansAlsoLikedService {
+    private final ConcertLikeRepository concertLikeRepository;
+
+    private final ArtistLikeRepository artistLikeRepository;
+
+    private final ConcertRedisRepository concertRedisRepository;
+
+    private final FansAlsoLikedRedisRepository fansAlsoLikedRedisRepository;
+
+    // 대상별로 저장할 이웃 수 (조회 시 지난 공연을 걸러내도 충분히 남도록 여유 있게 저장)
+    public static final int TOP_K = 20;
+
+    // 좋아요 쌍을 한 번에 읽어올 개수
+    private static final int PAGE_SIZE = 10_000;
+
+    private static final String LOCK_KEY = "fansAlsoLikedRebuild";
+
+    private static final long LOCK_TTL_SECONDS = 1800;
+
+    // 서버 시작 시 색인이 없다면 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        try {
+            if (!fansAlsoLikedRedisRepository.exists(Target.CONCERT) || !fansAlsoLikedRedisRepository.exists(Target.ARTIST)) rebuild();
+        } catch (Exception e) {
+            log.warn("함께 좋아한 공연/아티스트 색인 초기 구성 실패", e);
+        }
+    }
+
+    // 전체 재구성 (여러 인스턴스 중 한 곳에서만 실행, 요청 처리용으로 코어 하나는 남겨둠)
+    public void rebuild() {
+        if (!concertRedisRepository.tryLock(LOCK_KEY, ServerInstanceId.ID, LOCK_TTL_SECONDS)) {
+            log.info("다른 인스턴스에서 함께 좋아한 공연/아티스트 색인을 구성하는 중입니다.");
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        try {
+            rebuild(Target.CONCERT, concertLikeRepository::findLikePairsAfter, pool);
+            rebuild(Target.ARTIST, artistLikeRepository::findLikePairsAfter, pool);
+        } finally {
+            pool.shutdown();
+            concertRedisRepository.unlock(LOCK_KEY, ServerInstanceId.ID);
+        }
+    }
+
+    // 함께 좋아요를 받은 공연 ID 목록 (유사도 내림차순, 색인에 없는 공연이면 Optional.empty())
+    public Optional<List<Long>> getFansAlsoLikedConcertIds(long concertId) {
+        return fansAlsoLikedRedisRepository.getNeighbourIds(Target.CONCERT, concertId);
+    }
+
+    // 함께 좋아요를 받은 아티스트 ID 목록 (유사도 내림차순, 색인에 없는 아티스트면 Optional.empty())
+    public Optional<List<Long>> getFansAlsoLikedArtistIds(long artistId) {
+        return fansAlsoLikedRedisRepository.getNeighbourIds(Target.ARTIST, artistId);
+    }
+
+    private void rebuild(Target target, BiFunction<Long, Pageable, List<LikePair>> pageLoader, ForkJoinPool pool) {
+        long start = System.currentTimeMillis();
+        ItemCosineSimilarity.Pairs pairs = new ItemCosineSimilarity.Pairs();
+        long lastId = 0;
+        List<LikePair> page;
+        do {
+            page = pageLoader.apply(lastId, PageRequest.of(0, PAGE_SIZE));
+            for (LikePair pair : page) pairs.add(pair.getUserId(), pair.getItemId());
+            if (!page.isEmpty()) lastId = page.get(page.size() - 1).getId();
+        } while (page.size() == PAGE_SIZE);
+        long loaded = System.currentTimeMillis();
+
+        ItemCosineSimilarity.Result result = ItemCosineSimilarity.topNeighbours(pairs, TOP_K, pool);
+        long computed = System.currentTimeMillis();
+
+        fansAlsoLikedRedisRepository.replaceAll(target, result.itemIds(), result.neighbourIds());
+        log.info("함께 좋아한 {} 색인 구성 완료: 좋아요 {}개, 대상 {}개, 조회 {}ms, 계산 {}ms, 저장 {}ms",
+                target, pairs.size(), result.size(), loaded - start, computed - loaded, System.currentTimeMillis() - computed);
+    }
+}
@@ -10,11 +10,14 @@ import com.back.web7_9_codecrete_be.domain.concerts.dto.KopisApiDto.concertPlace
 import com.back.web7_9_codecrete_be.domain.concerts.dto.KopisApiDto.concertPlace.ConcertPlaceListElement;
 import com.back.web7_9_codecrete_be.domain.concerts.dto.KopisApiDto.concertPlace.ConcertPlaceListResponse;
 import com.back.web7_9_codecrete_be.domain.concerts.dto.KopisApiDto.result.SetResultResponse;
-import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ListSort;
 import com.back.web7_9_codecrete_be.domain.concerts.entity.*;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertChangeType;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertChangedEvent;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertSyncCompletedEvent;
 import com.back.web7_9_codecrete_be.domain.concerts.repository.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.retry.annotation.Backoff;
@@ -53,12 +56,12 @@ public class KopisApiService {
 
     private final ConcertRedisRepository concertRedisRepository;
 
-    private final ConcertService concertService;
-
     private final ArtistRepository artistRepository;
 
     private final ConcertArtistRepository concertArtistRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Value("${kopis.api-key}")
     private String serviceKey;
 
@@ -76,7 +79,7 @@ public class KopisApiService {
             ConcertKopisApiLogService kopisApiLogService,
             ArtistRepository artistRepository,
             ConcertArtistRepository concertArtistRepository,
-            ConcertService concertService
+            ApplicationEventPublisher eventPublisher
             ) {
         this.concertRepository = concertRepository;
         this.placeRepository = placeRepository;
@@ -86,7 +89,7 @@ public class KopisApiService {
         this.concertKopisApiLogService = kopisApiLogService;
         this.artistRepository = artistRepository;
         this.concertArtistRepository = concertArtistRepository;
-        this.concertService = concertService;
+        this.eventPublisher = eventPublisher;
         this.restClient = RestClient.builder()
                 .baseUrl("https://kopis.or.kr/openApi/restful")
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_XML_VALUE)
@@ -127,6 +130,7 @@ public class KopisApiService {
         int addedTicketOffices = 0;
         int addedConcertImages = 0;
         int setArtists = 0;
+        List<Long> addedConcertIds = new ArrayList<>();
 
         int page = 1;
 
@@ -163,6 +167,7 @@ public class KopisApiService {
                 addedConcertImages += saveConcertImages(concertDetail, savedConcert);
                 // 공연 아티스트 연결
                 setArtists += setConcertArtist(artistMap,concertDetail,savedConcert);
+                addedConcertIds.add(savedConcert.getConcertId());
                 addedConcerts++;
                 index++;
             }
@@ -172,10 +177,8 @@ public class KopisApiService {
             long endNs = System.currentTimeMillis();
             long durationSec = ((endNs - startNs) / 1000);
             log.info(durationSec/60 + "분, " + durationSec % 60 + "초 소요되었습니다." );
-            // 캐시 초기화
-            cacheClear();
-            // 자동 완성 검색어 재설정
-            resetSearchKeyword();
+            // 변경된 범위의 캐시 무효화, 자동완성 색인 반영
+            publishConcertChanges(addedConcertIds, List.of());
         } catch (Exception e) {
             log.error("개별 공연 세부 내용 저장 도중 오류 발생");
             log.error("오류 내용 : " + e.getMessage());
@@ -204,6 +207,8 @@ public class KopisApiService {
 
         SetResultResponse setResultResponse = new SetResultResponse();
         Map<String, ConcertPlace> concertPlaceMap = new HashMap<>();
+        List<Long> addedConcertIds = new ArrayList<>();
+        List<Long> updatedConcertIds = new ArrayList<>();
 
         try {
             // API에서 공연 목록 가져오기
@@ -235,6 +240,7 @@ public class KopisApiService {
                     setResultResponse.addedConcertImagesAccumulator(saveConcertImages(concertDetail, savedConcert));
                     // 공연 아티스트 저장
                     setConcertArtist(artistMap,concertDetail,savedConcert);
+                    addedConcertIds.add(savedConcert.getConcertId());
                     setResultResponse.addConcerts();
                 } else {
                     // 공연 데이터 갱신 후 저장
@@ -245,6 +251,7 @@ public class KopisApiService {
                     // 갱신된 데이터로 연관 테이블 저장
                     setResultResponse.updatedTicketOfficesAccumulator(saveConcertTicketOffice(concertDetail, savedConcert));
                     setResultResponse.updatedConcertImagesAccumulator(saveConcertImages(concertDetail, savedConcert));
+                    updatedConcertIds.add(savedConcert.getConcertId());
                     setResultResponse.addUpdatedConcerts();
                 }
 
@@ -255,10 +262,8 @@ public class KopisApiService {
             concertKopisApiLogService.saveSuccessLog("save","공연 데이터 업데이트 완료",0L);
             // 락 해제
             concertRedisRepository.unlockSave(key);
-            // 이전 캐시 데이터 삭제
-            cacheClear();
-            // 자동 완성 검색어 재설정
-            resetSearchKeyword();
+            // 추가, 갱신된 공연에 대한 캐시 무효화와 자동완성 색인 반영
+            publishConcertChanges(addedConcertIds, updatedConcertIds);
             return setResultResponse;
         } catch (Exception e) {
             log.error("공연 정보 갱신 도중 오류 발생 : " +e.getMessage());
@@ -299,6 +304,7 @@ public class KopisApiService {
         // 새로 받아온 예매처, 이미지 데이터 저장
         saveConcertTicketOffice(concertDetail, savedConcert);
         saveConcertImages(concertDetail, savedConcert);
+        eventPublisher.publishEvent(ConcertChangedEvent.of(ConcertChangeType.UPDATED, savedConcert.getConcertId()));
     }
 
 
@@ -445,17 +451,15 @@ public class KopisApiService {
         return concertDetail.getConcertImageUrls().size();
     }
 
-    // 캐시를 초기화합니다.
-    private void cacheClear() {
-        concertRedisRepository.deleteAllConcertsList();
-        concertRedisRepository.deleteAllCachedConcertDetail();
-        concertRedisRepository.deleteTotalConcertsCount(ListSort.VIEW);
-    }
-
-    // 캐시에 저장된 자동완성 단어들을 삭제하고 다시 설정합니다.
-    private void resetSearchKeyword() {
-        concertService.resetAutoComplete();
-        concertService.setAutoComplete();
+    // 추가, 갱신된 공연 이벤트를 발행합니다. -> 트랜잭션 커밋 후 해당 공연에 대한 캐시 무효화, 자동완성 색인 반영, 제목 유사 공연 색인 재구성
+    private void publishConcertChanges(List<Long> addedConcertIds, List<Long> updatedConcertIds) {
+        if (!addedConcertIds.isEmpty()) {
+            eventPublisher.publishEvent(ConcertChangedEvent.of(ConcertChangeType.CREATED, addedConcertIds));
+        }
+        if (!updatedConcertIds.isEmpty()) {
+            eventPublisher.publishEvent(ConcertChangedEvent.of(ConcertChangeType.UPDATED, updatedConcertIds));
+        }
+        eventPublisher.publishEvent(new ConcertSyncCompletedEvent(addedConcertIds, updatedConcertIds));
     }
 
     public ConcertListResponse getConcertsList() {
@@ -0,0 +1,199 @@
+package com.back.web7_9_codecrete_be.domain.concerts.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// 좋아요(사용자, 대상) 쌍으로 대상 간 코사인 유사도를 계산해, 대상별로 함께 좋아요를 많이 받은 상위 k개를 찾습니다. (아이템 기반 협업 필터링)
+// 사용자/대상 ID 를 0부터 시작하는 번호로 바꾼 뒤 사용자 -> 대상, 대상 -> 사용자 인접 배열(CSR)로만 계산하므로 박싱이 없고,
+// 대상 범위를 나눠 ForkJoinPool 에서 병렬로 계산합니다. 같은 입력이면 항상 같은 결과가 나옵니다.
+public final class ItemCosineSimilarity {
+
+    // 함께 좋아요한 사용자가 이보다 적은 쌍은 우연으로 보고 제외
+    public static final int MIN_COMMON_USERS = 2;
+
+    // 좋아요가 너무 많은 사용자(ex. 전부 누른 계정)는 모든 쌍을 이어 계산량만 늘리므로 제외
+    static final int MAX_ITEMS_PER_USER = 500;
+
+    // 병렬 작업 하나가 맡을 최소 대상 수
+    private static final int MIN_TASK_SIZE = 16;
+
+    // itemIds : 오름차순 대상 ID, neighbourIds[i] / scores[i] : itemIds[i] 의 이웃 (유사도 내림차순, 같으면 ID 오름차순)
+    public record Result(long[] itemIds, long[][] neighbourIds, float[][] scores) {
+
+        public int size() {
+            return itemIds.length;
+        }
+
+        // 좋아요 기록이 없는 대상이면 빈 배열
+        public long[] neighbours(long itemId) {
+            int index = Arrays.binarySearch(itemIds, itemId);
+            return index < 0 ? new long[0] : neighbourIds[index];
+        }
+    }
+
+    // 좋아요 쌍을 박싱 없이 모으는 가변 배열
+    public static final class Pairs {
+        private long[] userIds = new long[1024];
+        private long[] itemIds = new long[1024];
+        private int size;
+
+        public void add(long userId, long itemId) {
+            if (size == userIds.length) {
+                userIds = Arrays.copyOf(userIds, size * 2);
+                itemIds = Arrays.copyOf(itemIds, size * 2);
+            }
+            userIds[size] = userId;
+            itemIds[size] = itemId;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    private ItemCosineSimilarity() {
+    }
+
+    public static Result topNeighbours(Pairs pairs, int k, ForkJoinPool pool) {
+        int n = pairs.size;
+        long[] items = sortedDistinct(pairs.itemIds, n);
+        long[] users = sortedDistinct(pairs.userIds, n);
+        int itemCount = items.length;
+
+        // (사용자 번호, 대상 번호)를 하나의 long 으로 묶어 정렬 -> 중복 좋아요 제거, 사용자별로 연속
+        long[] codes = new long[n];
+        for (int p = 0; p < n; p++) {
+            codes[p] = (long) Arrays.binarySearch(users, pairs.userIds[p]) * itemCount
+                    + Arrays.binarySearch(items, pairs.itemIds[p]);
+        }
+        Arrays.sort(codes);
+
+        // 사용자 -> 대상 인접 배열 (좋아요가 너무 많은 사용자 제외)
+        int[] userOffsets = new int[users.length + 1];
+        int[] userItems = new int[n];
+        int[] itemDegrees = new int[itemCount];
+        int edges = 0;
+        int p = 0;
+        for (int user = 0; user < users.length; user++) {
+            int start = edges;
+            long previous = -1;
+            while (p < n && codes[p] / itemCount == user) {
+                if (codes[p] != previous) userItems[edges++] = (int) (codes[p] % itemCount);
+                previous = codes[p++];
+            }
+            if (edges - start > MAX_ITEMS_PER_USER) edges = start;
+            for (int e = start; e < edges; e++) itemDegrees[userItems[e]]++;
+            userOffsets[user + 1] = edges;
+        }
+
+        // 대상 -> 사용자 인접 배열
+        int[] itemOffsets = new int[itemCount + 1];
+        for (int item = 0; item < itemCount; item++) itemOffsets[item + 1] = itemOffsets[item] + itemDegrees[item];
+        int[] itemUsers = new int[edges];
+        int[] cursor = Arrays.copyOf(itemOffsets, itemCount);
+        for (int user = 0; user < users.length; user++) {
+            for (int e = userOffsets[user]; e < userOffsets[user + 1]; e++) itemUsers[cursor[userItems[e]]++] = user;
+        }
+
+        long[][] neighbourIds = new long[itemCount][];
+        float[][] scores = new float[itemCount][];
+        Graph graph = new Graph(items, userOffsets, userItems, itemOffsets, itemUsers, itemDegrees, k, neighbourIds, scores);
+        int taskSize = Math.max(MIN_TASK_SIZE, itemCount / (pool.getParallelism() * 4));
+        pool.invoke(new NeighbourTask(graph, 0, itemCount, taskSize));
+        return new Result(items, neighbourIds, scores);
+    }
+
+    private record Graph(long[] items, int[] userOffsets, int[] userItems, int[] itemOffsets, int[] itemUsers,
+                         int[] itemDegrees, int k, long[][] neighbourIds, float[][] scores) {
+    }
+
+    // [from, to) 범위 대상의 이웃 계산 -> 작업 크기보다 크면 반으로 나눔
+    private static final class NeighbourTask extends RecursiveAction {
+        private final Graph graph;
+        private final int from;
+        private final int to;
+        private final int taskSize;
+
+        private NeighbourTask(Graph graph, int from, int to, int taskSize) {
+            this.graph = graph;
+            this.from = from;
+            this.to = to;
+            this.taskSize = taskSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > taskSize) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new NeighbourTask(graph, from, mid, taskSize), new NeighbourTask(graph, mid, to, taskSize));
+                return;
+            }
+
+            int itemCount = graph.items.length;
+            // 함께 좋아요한 사용자 수와 값이 바뀐 대상 번호 -> 대상마다 바뀐 칸만 다시 0으로 되돌림
+            int[] commonUsers = new int[itemCount];
+            int[] touched = new int[itemCount];
+            int[] topItems = new int[graph.k];
+            float[] topScores = new float[graph.k];
+
+            for (int item = from; item < to; item++) {
+                int touchedCount = 0;
+                for (int e = graph.itemOffsets[item]; e < graph.itemOffsets[item + 1]; e++) {
+                    int user = graph.itemUsers[e];
+                    for (int f = graph.userOffsets[user]; f < graph.userOffsets[user + 1]; f++) {
+                        int other = graph.userItems[f];
+                        if (other != item && commonUsers[other]++ == 0) touched[touchedCount++] = other;
+                    }
+                }
+
+                int topCount = 0;
+                for (int t = 0; t < touchedCount; t++) {
+                    int other = touched[t];
+                    int common = commonUsers[other];
+                    commonUsers[other] = 0;
+                    if (common < MIN_COMMON_USERS) continue;
+                    float score = (float) (common / Math.sqrt((double) graph.itemDegrees[item] * graph.itemDegrees[other]));
+                    topCount = offer(topItems, topScores, topCount, other, score);
+                }
+
+                long[] ids = new long[topCount];
+                for (int t = 0; t < topCount; t++) ids[t] = graph.items[topItems[t]];
+                graph.neighbourIds[item] = ids;
+                graph.scores[item] = Arrays.copyOf(topScores, topCount);
+            }
+        }
+    }
+
+    // 유사도 내림차순(같으면 번호 오름차순 = ID 오름차순) 상위 k개를 삽입 정렬로 유지 -> 새 개수 반환
+    static int offer(int[] topItems, float[] topScores, int topCount, int item, float score) {
+        int k = topItems.length;
+        if (k == 0) return 0;
+        if (topCount == k && !isBefore(score, item, topScores[k - 1], topItems[k - 1])) return topCount;
+
+        int position = Math.min(topCount, k - 1);
+        while (position > 0 && isBefore(score, item, topScores[position - 1], topItems[position - 1])) {
+            topItems[position] = topItems[position - 1];
+            topScores[position] = topScores[position - 1];
+            position--;
+        }
+        topItems[position] = item;
+        topScores[position] = score;
+        return Math.min(topCount + 1, k);
+    }
+
+    private static boolean isBefore(float score, int item, float otherScore, int otherItem) {
+        return score > otherScore || (score == otherScore && item < otherItem);
+    }
+
+    private static long[] sortedDistinct(long[] values, int length) {
+        long[] sorted = Arrays.copyOf(values, length);
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) sorted[distinct++] = sorted[i];
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.web7_9_codecrete_be.domain.concerts.util;
+
+// 협업 필터링용 좋아요(사용자, 대상) 쌍 프로젝션 (ItemCosineSimilarity 입력, 좋아요 ID 순 커서 조회)
+// 공연/아티스트 좋아요 저장소가 같은 형태로 돌려줍니다.
+public interface LikePair {
+    Long getId();
+    Long getUserId();
+    Long getItemId();
+}
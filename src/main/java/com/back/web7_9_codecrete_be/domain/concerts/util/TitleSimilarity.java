@@ -0,0 +1,163 @@
+package com.back.web7_9_codecrete_be.domain.concerts.util;
+
+import java.util.*;
+
+// 제목 토큰 집합의 자카드 유사도가 높은 공연을 MinHash 서명과 LSH 버킷으로 찾습니다.
+// 모든 쌍을 비교하지 않고 같은 버킷에 들어간 후보끼리만 정확한 자카드 유사도를 계산하므로, 공연 수가 늘어도 거의 선형으로 구성됩니다.
+// 같은 입력이면 항상 같은 결과가 나오도록 해시 시드는 고정합니다.
+public final class TitleSimilarity {
+
+    // 서명 길이 = 밴드 수 x 밴드당 행 수 -> 자카드 유사도 약 0.18 ((1/32)^(1/2)) 이상부터 후보가 될 확률이 높음
+    private static final int BANDS = 32;
+    private static final int ROWS = 2;
+    private static final int SIGNATURE_LENGTH = BANDS * ROWS;
+
+    // 전체 제목 중 이 비율(최소 개수)보다 많이 나오는 토큰(ex. "콘서트")은 유사도 계산에서 제외
+    private static final double COMMON_TOKEN_RATIO = 0.05;
+    private static final int MIN_COMMON_TOKEN_COUNT = 20;
+
+    // 한 버킷에 너무 많은 공연이 모이면 후보 비교가 제곱으로 늘어나므로 건너뜀
+    private static final int MAX_BUCKET_SIZE = 200;
+
+    // 추천으로 사용할 최소 자카드 유사도
+    public static final double MIN_SIMILARITY = 0.2;
+
+    private static final long[] SEEDS = new long[SIGNATURE_LENGTH];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_C0CE_47L);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) SEEDS[i] = random.nextLong();
+    }
+
+    public record Neighbour(long id, double similarity) {
+    }
+
+    private TitleSimilarity() {
+    }
+
+    // 소문자로 바꾸고 한글/영문/숫자가 아닌 문자로 나눈 토큰 집합
+    public static Set<String> tokenize(String title) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (title == null) return tokens;
+        for (String token : title.toLowerCase(Locale.ROOT).split("[^ㄱ-ㅎㅏ-ㅣ가-힣a-z0-9]+")) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    // titles : 공연 ID -> 제목, candidateIds : 추천 결과에 포함될 수 있는 공연 ID
+    // 공연별 유사도 상위 k개 (유사도 내림차순, 같으면 ID 오름차순)
+    public static Map<Long, List<Neighbour>> topNeighbours(Map<Long, String> titles, Set<Long> candidateIds, int k) {
+        long[] ids = titles.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int n = ids.length;
+
+        List<Set<String>> tokenSets = new ArrayList<>(n);
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (long id : ids) {
+            Set<String> tokens = tokenize(titles.get(id));
+            tokenSets.add(tokens);
+            tokens.forEach(token -> documentFrequency.merge(token, 1, Integer::sum));
+        }
+
+        // 흔한 토큰 제외 후 정렬된 토큰 번호 배열로 변환 (흔한 토큰뿐인 제목은 그대로 사용)
+        int commonThreshold = Math.max(MIN_COMMON_TOKEN_COUNT, (int) (n * COMMON_TOKEN_RATIO));
+        Map<String, Integer> tokenIds = new HashMap<>();
+        int[][] tokens = new int[n][];
+        long[][] signatures = new long[n][];
+        for (int i = 0; i < n; i++) {
+            List<String> kept = tokenSets.get(i).stream()
+                    .filter(token -> documentFrequency.get(token) <= commonThreshold)
+                    .toList();
+            if (kept.isEmpty()) kept = List.copyOf(tokenSets.get(i));
+            tokens[i] = kept.stream()
+                    .mapToInt(token -> tokenIds.computeIfAbsent(token, key -> tokenIds.size()))
+                    .sorted()
+                    .toArray();
+            signatures[i] = kept.isEmpty() ? null : signature(kept);
+        }
+
+        // 밴드별로 서명 일부가 같은 공연끼리 후보 쌍으로 묶음
+        Set<Long> candidatePairs = new HashSet<>();
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int band = 0; band < BANDS; band++) {
+            buckets.clear();
+            for (int i = 0; i < n; i++) {
+                if (signatures[i] == null) continue;
+                buckets.computeIfAbsent(bandKey(signatures[i], band), key -> new ArrayList<>()).add(i);
+            }
+            for (List<Integer> bucket : buckets.values()) {
+                if (bucket.size() < 2 || bucket.size() > MAX_BUCKET_SIZE) continue;
+                for (int a = 0; a < bucket.size(); a++) {
+                    for (int b = a + 1; b < bucket.size(); b++) {
+                        candidatePairs.add((long) bucket.get(a) * n + bucket.get(b));
+                    }
+                }
+            }
+        }
+
+        Map<Long, List<Neighbour>> neighbours = new HashMap<>();
+        for (long pair : candidatePairs) {
+            int i = (int) (pair / n);
+            int j = (int) (pair % n);
+            double similarity = jaccard(tokens[i], tokens[j]);
+            if (similarity < MIN_SIMILARITY) continue;
+            if (candidateIds.contains(ids[j])) {
+                neighbours.computeIfAbsent(ids[i], key -> new ArrayList<>()).add(new Neighbour(ids[j], similarity));
+            }
+            if (candidateIds.contains(ids[i])) {
+                neighbours.computeIfAbsent(ids[j], key -> new ArrayList<>()).add(new Neighbour(ids[i], similarity));
+            }
+        }
+
+        Comparator<Neighbour> order = Comparator.comparingDouble(Neighbour::similarity).reversed()
+                .thenComparingLong(Neighbour::id);
+        neighbours.replaceAll((id, list) -> list.stream().sorted(order).limit(k).toList());
+        return neighbours;
+    }
+
+    // 정렬된 토큰 번호 배열의 자카드 유사도
+    static double jaccard(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) return 0;
+        int i = 0, j = 0, intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) intersection / (a.length + b.length - intersection);
+    }
+
+    private static long[] signature(List<String> tokens) {
+        long[] signature = new long[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String token : tokens) {
+            long base = mix(token.hashCode());
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                long hash = mix(base ^ SEEDS[i]);
+                if (hash < signature[i]) signature[i] = hash;
+            }
+        }
+        return signature;
+    }
+
+    private static long bandKey(long[] signature, int band) {
+        long key = band;
+        for (int row = 0; row < ROWS; row++) {
+            key = mix(key * 31 + signature[band * ROWS + row]);
+        }
+        return key;
+    }
+
+    // SplitMix64 마무리 단계
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,82 @@
+package com.back.web7_9_codecrete_be.domain.search.controller;
+
+import com.back.web7_9_codecrete_be.domain.search.dto.PopularSearchItem;
+import com.back.web7_9_codecrete_be.domain.search.dto.SearchClickRequest;
+import com.back.web7_9_codecrete_be.domain.search.dto.UnifiedSearchResponse;
+import com.back.web7_9_codecrete_be.domain.search.service.SearchAnalyticsService;
+import com.back.web7_9_codecrete_be.domain.search.service.UnifiedSearchService;
+import com.back.web7_9_codecrete_be.global.rq.Rq;
+import com.back.web7_9_codecrete_be.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "공연, 아티스트, 커뮤니티 게시글을 한 번에 검색하는 통합 검색 API 입니다.")
+public class SearchController {
+    private final UnifiedSearchService unifiedSearchService;
+
+    private final SearchAnalyticsService searchAnalyticsService;
+
+    private final Rq rq;
+
+    @Operation(summary = "통합 검색",
+            description = """
+                    <h3>공연, 아티스트, 커뮤니티 게시글을 한 번에 검색합니다.</h3>
+                    <hr/>
+                    도메인별 결과를 관련도 순 상위 size 개씩 묶어 반환합니다.<br/>
+                    <b>order</b> 는 결과가 있는 그룹을 관련도가 높은 순서로 담고 있으니, 검색창에서는 이 순서대로 그룹을 보여주시면 됩니다.<br/>
+                    제한 시간 안에 응답하지 못한 그룹은 빈 결과로 두고 <b>incomplete</b> 에 담습니다.
+                    """)
+    @GetMapping
+    public RsData<UnifiedSearchResponse> search(
+            @Schema(description = """
+                    <h3>검색어가 되는 Keyword입니다.</h3>
+                    <hr/>
+                    <b>?keyword={keyword}</b> 로 값을 넘기시면 됩니다.<br/>
+                    공백으로 구분된 모든 단어를 포함하는 결과만 반환합니다.
+                    """)
+            @RequestParam String keyword,
+            @Schema(description = "그룹별로 반환할 결과 수입니다. (최대 20)")
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        return RsData.success(unifiedSearchService.search(keyword, size));
+    }
+
+    @Operation(summary = "인기 검색어",
+            description = """
+                    <h3>최근 24시간 동안 많이 검색된 검색어를 조회합니다.</h3>
+                    <hr/>
+                    최근 검색일수록 큰 가중치로 합산한 점수 내림차순입니다. (6시간마다 가중치가 절반으로 줄어듭니다.)<br/>
+                    검색 결과가 있었던 검색어만 집계합니다.<br/>
+                    검색 기록은 몇 초 간격으로 모아서 반영되므로, 방금 검색한 검색어는 바로 보이지 않을 수 있습니다.
+                    """)
+    @GetMapping("popular")
+    public RsData<List<PopularSearchItem>> popularSearches(
+            @Schema(description = "조회할 검색어 수입니다. (최대 20)")
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return RsData.success(searchAnalyticsService.getPopularSearches(size));
+    }
+
+    @Operation(summary = "검색 결과 클릭 기록",
+            description = """
+                    <h3>검색 결과(통합 검색, 공연 검색)에서 항목을 눌렀을 때 호출해주세요.</h3>
+                    <hr/>
+                    공연 클릭 기록은 검색어 자동완성 순위에 반영됩니다.<br/>
+                    같은 사용자(비로그인 시 같은 접속 환경)가 같은 항목을 한 시간 안에 여러 번 눌러도 한 번만 집계합니다.<br/>
+                    검색 결과에 없는 항목과 비로그인 사용자의 IP 별 시간당 한도를 넘은 클릭은 집계하지 않습니다.
+                    """)
+    @PostMapping("click")
+    public RsData<Void> recordClick(@Valid @RequestBody SearchClickRequest request) {
+        searchAnalyticsService.recordClick(request.type(), request.id(), rq.getViewerId(), rq.getClientIp());
+        return RsData.success(null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.back.web7_9_codecrete_be.domain.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record PopularSearchItem(
+        @Schema(description = "검색어입니다. (소문자, 연속 공백은 하나로 정리됩니다.)")
+        String keyword,
+
+        @Schema(description = "최근 24시간 검색 횟수를 오래된 검색일수록 작게 합산한 점수입니다.")
+        double score
+) {
+}
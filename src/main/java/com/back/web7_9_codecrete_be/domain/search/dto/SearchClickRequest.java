@@ -0,0 +1,15 @@
+package com.back.web7_9_codecrete_be.domain.search.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+public record SearchClickRequest(
+        @NotNull(message = "검색 결과 종류는 필수입니다.")
+        @Schema(description = "클릭한 검색 결과의 종류입니다.", example = "CONCERT")
+        SearchType type,
+
+        @NotNull(message = "검색 결과 ID는 필수입니다.")
+        @Schema(description = "클릭한 공연/아티스트/게시글의 ID 입니다.", example = "1")
+        Long id
+) {
+}
@@ -0,0 +1,25 @@
+package com.back.web7_9_codecrete_be.domain.search.dto;
+
+import com.back.web7_9_codecrete_be.global.search.SearchResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record SearchGroup<T>(
+        @Schema(description = "검색어와 일치한 전체 개수입니다.")
+        int total,
+
+        @Schema(description = "그룹 노출 순서를 정하는 점수입니다. (최고 관련도 * 도메인 가중치, 0~1)")
+        double score,
+
+        @Schema(description = "관련도 순 상위 결과입니다.")
+        List<T> items
+) {
+    public static <T> SearchGroup<T> of(SearchType type, SearchResult<T> result) {
+        return new SearchGroup<>(result.total(), result.relevance() * type.getWeight(), result.items());
+    }
+
+    public static <T> SearchGroup<T> empty() {
+        return new SearchGroup<>(0, 0, List.of());
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.web7_9_codecrete_be.domain.search.dto;
+
+// 통합 검색 대상 도메인
+// weight: 그룹 노출 순서를 정할 때 그룹의 최고 관련도에 곱하는 값 (같은 관련도면 공연 > 아티스트 > 게시글)
+public enum SearchType {
+    CONCERT(1.0),
+    ARTIST(0.9),
+    POST(0.6);
+
+    private final double weight;
+
+    SearchType(double weight) {
+        this.weight = weight;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,29 @@
+package com.back.web7_9_codecrete_be.domain.search.dto;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.ArtistSearchItem;
+import com.back.web7_9_codecrete_be.domain.community.post.dto.response.PostSearchItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertSearchItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record UnifiedSearchResponse(
+        @Schema(description = "검색어입니다.")
+        String keyword,
+
+        @Schema(description = "그룹 노출 순서입니다. 결과가 있는 그룹만 score 내림차순으로 담깁니다.")
+        List<SearchType> order,
+
+        @Schema(description = "공연 검색 결과입니다.")
+        SearchGroup<ConcertSearchItem> concerts,
+
+        @Schema(description = "아티스트 검색 결과입니다.")
+        SearchGroup<ArtistSearchItem> artists,
+
+        @Schema(description = "커뮤니티 게시글 검색 결과입니다.")
+        SearchGroup<PostSearchItem> posts,
+
+        @Schema(description = "제한 시간 안에 응답하지 못했거나 검색 색인이 준비되지 않아 결과가 비어 있는 그룹입니다.")
+        List<SearchType> incomplete
+) {
+}
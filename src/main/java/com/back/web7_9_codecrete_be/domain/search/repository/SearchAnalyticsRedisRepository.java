@@ -0,0 +1,134 @@
+package com.back.web7_9_codecrete_be.domain.search.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 검색어/검색 결과 클릭 수를 시간별 ZSET 에 쌓고, 최근 24시간을 시간이 지날수록 줄어드는 가중치로 합산해 조회합니다.
+// 시간별 키 -> searchQuery:{yyyyMMddHH} (검색어), searchClick:{yyyyMMddHH} ("{SearchType}:{ID}")
+// 클릭은 시간별로 대상마다 누른 사용자를 SET(searchClickViewer:{yyyyMMddHH}:{SearchType}:{ID})에 모아, 처음 누른 사용자만 셉니다.
+@Repository
+@RequiredArgsConstructor
+public class SearchAnalyticsRedisRepository {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String QUERY_PREFIX = "searchQuery:";
+
+    private static final String CLICK_PREFIX = "searchClick:";
+
+    private static final String CLICK_VIEWER_PREFIX = "searchClickViewer:";
+
+    // 가중 합산 결과 (짧게 캐싱)
+    private static final String QUERY_RESULT_KEY = "searchQuery:popular";
+
+    private static final String CLICK_RESULT_KEY = "searchClick:popular";
+
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    // 합산 대상 시간 수와 가중치가 절반이 되는 시간
+    private static final int WINDOW_HOURS = 24;
+
+    private static final double HALF_LIFE_HOURS = 6;
+
+    private static final long BUCKET_TTL_SECONDS = TimeUnit.HOURS.toSeconds(WINDOW_HOURS + 2);
+
+    private static final long RESULT_TTL_SECONDS = 60;
+
+    // 클릭한 사용자는 해당 시간 동안만 기억
+    private static final long CLICK_VIEWER_TTL_SECONDS = TimeUnit.HOURS.toSeconds(2);
+
+    // 현재 시간부터 과거로 갈수록 줄어드는 가중치
+    private static final double[] DECAY_WEIGHTS = decayWeights();
+
+    // 모아 둔 증가분을 해당 시간 키에 한 번에 반영 (ZINCRBY 파이프라인)
+    // clickViewers : "{SearchType}:{ID}" -> 누른 사용자 (이번 시간에 이미 누른 사용자는 세지 않음)
+    public void incrementAll(LocalDateTime now, Map<String, Long> queryCounts, Map<String, Set<String>> clickViewers) {
+        if (queryCounts.isEmpty() && clickViewers.isEmpty()) return;
+        String hour = now.format(HOUR_FORMAT);
+        String queryKey = QUERY_PREFIX + hour;
+        String clickKey = CLICK_PREFIX + hour;
+        Map<String, Long> clickCounts = addClickViewers(hour, clickViewers);
+        if (queryCounts.isEmpty() && clickCounts.isEmpty()) return;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                queryCounts.forEach((query, count) -> operations.opsForZSet().incrementScore(queryKey, query, count));
+                clickCounts.forEach((target, count) -> operations.opsForZSet().incrementScore(clickKey, target, count));
+                if (!queryCounts.isEmpty()) operations.expire(queryKey, BUCKET_TTL_SECONDS, TimeUnit.SECONDS);
+                if (!clickCounts.isEmpty()) operations.expire(clickKey, BUCKET_TTL_SECONDS, TimeUnit.SECONDS);
+                return null;
+            }
+        });
+    }
+
+    // 대상별로 이번 시간에 처음 누른 사용자 수 (SADD 파이프라인, 새로 누른 사용자가 없는 대상은 제외)
+    private Map<String, Long> addClickViewers(String hour, Map<String, Set<String>> clickViewers) {
+        if (clickViewers.isEmpty()) return Map.of();
+        List<String> targets = new ArrayList<>(clickViewers.keySet());
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (String target : targets) {
+                    String viewerKey = CLICK_VIEWER_PREFIX + hour + ":" + target;
+                    operations.opsForSet().add(viewerKey, clickViewers.get(target).toArray());
+                    operations.expire(viewerKey, CLICK_VIEWER_TTL_SECONDS, TimeUnit.SECONDS);
+                }
+                return null;
+            }
+        });
+        Map<String, Long> clickCounts = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            // 대상마다 SADD, EXPIRE 두 개의 결과
+            if (results.get(i * 2) instanceof Long added && added > 0) clickCounts.put(targets.get(i), added);
+        }
+        return clickCounts;
+    }
+
+    // 최근 24시간 인기 검색어 (가중 합산 점수 내림차순)
+    public List<ZSetOperations.TypedTuple<String>> getPopularQueries(LocalDateTime now, int size) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(decayedView(QUERY_PREFIX, QUERY_RESULT_KEY, now), 0, size - 1);
+        return tuples == null ? List.of() : new ArrayList<>(tuples);
+    }
+
+    // 최근 24시간 검색 결과 클릭 점수 ("{SearchType}:{ID}" -> 가중 합산 점수)
+    public Map<String, Double> getClickScores(LocalDateTime now) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().rangeWithScores(decayedView(CLICK_PREFIX, CLICK_RESULT_KEY, now), 0, -1);
+        if (tuples == null) return Map.of();
+        Map<String, Double> scores = new HashMap<>(tuples.size() * 4 / 3 + 1);
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) scores.put(tuple.getValue(), tuple.getScore());
+        return scores;
+    }
+
+    // 시간별 키를 가중치와 함께 ZUNIONSTORE 로 합산 (결과 키가 남아 있으면 그대로 사용)
+    private String decayedView(String prefix, String resultKey, LocalDateTime now) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(resultKey))) {
+            List<String> otherKeys = new ArrayList<>(WINDOW_HOURS - 1);
+            for (int i = 1; i < WINDOW_HOURS; i++) otherKeys.add(prefix + now.minusHours(i).format(HOUR_FORMAT));
+            redisTemplate.opsForZSet().unionAndStore(prefix + now.format(HOUR_FORMAT), otherKeys, resultKey,
+                    Aggregate.SUM, Weights.of(DECAY_WEIGHTS));
+            redisTemplate.expire(resultKey, RESULT_TTL_SECONDS, TimeUnit.SECONDS);
+        }
+        return resultKey;
+    }
+
+    private static double[] decayWeights() {
+        double[] weights = new double[WINDOW_HOURS];
+        for (int i = 0; i < WINDOW_HOURS; i++) weights[i] = Math.pow(0.5, i / HALF_LIFE_HOURS);
+        return weights;
+    }
+}
@@ -0,0 +1,177 @@
+package com.back.web7_9_codecrete_be.domain.search.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistNameIndex;
+import com.back.web7_9_codecrete_be.domain.community.post.service.PostSearchService;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSearchIndex;
+import com.back.web7_9_codecrete_be.domain.search.dto.PopularSearchItem;
+import com.back.web7_9_codecrete_be.domain.search.dto.SearchType;
+import com.back.web7_9_codecrete_be.domain.search.repository.SearchAnalyticsRedisRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 검색어와 검색 결과 클릭을 모아 두었다가 주기적으로 Redis 에 반영합니다. (SearchAnalyticsScheduler)
+// 검색 요청에서는 메모리의 횟수만 올리므로 Redis 호출로 검색 응답이 늦어지지 않습니다.
+// 반영된 값은 인기 검색어 조회와 자동완성 순위(공연 클릭 점수)에 사용합니다.
+// 검색어는 결과가 있었던 것만 기록하고(호출하는 쪽에서 확인), 클릭은 같은 사용자가 같은 대상을 한 시간에 여러 번 눌러도 한 번만 셉니다.
+// 클릭은 검색 색인에 있는 대상만 받고, 비로그인 클릭은 IP 별로 한 시간에 받을 수 있는 수를 제한합니다. (User-Agent 를 바꿔 가며 누르는 경우 대비)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchAnalyticsService {
+    private final SearchAnalyticsRedisRepository searchAnalyticsRedisRepository;
+
+    private final ConcertSearchIndex concertSearchIndex;
+
+    private final ArtistNameIndex artistNameIndex;
+
+    private final PostSearchService postSearchService;
+
+    public static final int MAX_KEYWORD_LENGTH = 50;
+
+    public static final int MAX_POPULAR_SIZE = 20;
+
+    // 반영 전까지 모아 둘 최대 검색어/클릭 대상 수, 대상별 사용자 수 (Redis 장애가 길어져도 메모리가 계속 늘지 않도록)
+    private static final int MAX_PENDING = 10_000;
+
+    private static final int MAX_PENDING_VIEWERS = 1_000;
+
+    // IP 하나가 한 시간에 남길 수 있는 비로그인 클릭 수 (인스턴스별)
+    static final int MAX_ANONYMOUS_CLICKS_PER_HOUR = 30;
+
+    // 다음 반영 때까지 모아 둔 증가분 (검색어 -> 횟수, "{SearchType}:{ID}" -> 누른 사용자)
+    private final Map<String, Long> pendingQueries = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> pendingClicks = new ConcurrentHashMap<>();
+
+    // 이번 시간의 IP -> 비로그인 클릭 수 (시간이 바뀌면 새로 셈)
+    private volatile AnonymousClicks anonymousClicks = new AnonymousClicks(LocalDateTime.MIN, new ConcurrentHashMap<>());
+
+    private record AnonymousClicks(LocalDateTime hour, Map<String, Integer> counts) {
+    }
+
+    public void recordQuery(String keyword) {
+        String normalized = normalize(keyword);
+        if (!normalized.isEmpty()) add(pendingQueries, normalized, 1);
+    }
+
+    // viewerId : Rq.getViewerId() (로그인 사용자는 ID, 비로그인 사용자는 IP + User-Agent 해시), clientIp : Rq.getClientIp()
+    // 색인에 없는 대상이나 한도를 넘은 비로그인 클릭은 기록하지 않음
+    public void recordClick(SearchType type, long id, String viewerId, String clientIp) {
+        if (!exists(type, id)) return;
+        if (viewerId.startsWith("anon:") && !allowAnonymousClick(clientIp)) return;
+        addViewers(clickMember(type, id), Set.of(viewerId));
+    }
+
+    // 모아 둔 증가분을 Redis 에 반영 (실패하면 다음 주기에 다시 반영)
+    public void flush() {
+        Map<String, Long> queries = drain(pendingQueries);
+        Map<String, Set<String>> clicks = drain(pendingClicks);
+        if (queries.isEmpty() && clicks.isEmpty()) return;
+        try {
+            searchAnalyticsRedisRepository.incrementAll(LocalDateTime.now(), queries, clicks);
+        } catch (Exception e) {
+            queries.forEach((query, count) -> add(pendingQueries, query, count));
+            clicks.forEach(this::addViewers);
+            log.warn("검색 통계 반영 실패: 검색어 {}개, 클릭 {}개", queries.size(), clicks.size(), e);
+        }
+    }
+
+    // 종료 전에 남은 증가분 반영
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 최근 24시간 인기 검색어
+    public List<PopularSearchItem> getPopularSearches(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_POPULAR_SIZE));
+        return searchAnalyticsRedisRepository.getPopularQueries(LocalDateTime.now(), limit).stream()
+                .map(tuple -> new PopularSearchItem(tuple.getValue(), tuple.getScore() == null ? 0 : tuple.getScore()))
+                .toList();
+    }
+
+    // 공연 ID -> 최근 24시간 검색 결과 클릭 점수 (조회 실패 시 빈 결과 -> 자동완성은 조회수만으로 순위)
+    public Map<Long, Double> getConcertClickScores() {
+        try {
+            String prefix = SearchType.CONCERT.name() + ":";
+            Map<Long, Double> scores = new HashMap<>();
+            searchAnalyticsRedisRepository.getClickScores(LocalDateTime.now()).forEach((target, score) -> {
+                if (target.startsWith(prefix)) scores.put(Long.parseLong(target.substring(prefix.length())), score);
+            });
+            return scores;
+        } catch (Exception e) {
+            log.warn("검색 결과 클릭 점수 조회 실패", e);
+            return Map.of();
+        }
+    }
+
+    // 같은 검색어로 모이도록 소문자 + 연속 공백 하나로 정리 (너무 긴 검색어는 자름)
+    static String normalize(String keyword) {
+        if (keyword == null) return "";
+        String normalized = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_KEYWORD_LENGTH ? normalized.substring(0, MAX_KEYWORD_LENGTH) : normalized;
+    }
+
+    private boolean exists(SearchType type, long id) {
+        return switch (type) {
+            case CONCERT -> concertSearchIndex.contains(id);
+            case ARTIST -> artistNameIndex.contains(id);
+            case POST -> postSearchService.contains(id);
+        };
+    }
+
+    private boolean allowAnonymousClick(String clientIp) {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        AnonymousClicks current = anonymousClicks;
+        if (!current.hour().equals(hour)) {
+            synchronized (this) {
+                current = anonymousClicks;
+                if (!current.hour().equals(hour)) {
+                    current = new AnonymousClicks(hour, new ConcurrentHashMap<>());
+                    anonymousClicks = current;
+                }
+            }
+        }
+        Map<String, Integer> counts = current.counts();
+        if (counts.size() >= MAX_PENDING && !counts.containsKey(clientIp)) return false;
+        return counts.merge(clientIp, 1, Integer::sum) <= MAX_ANONYMOUS_CLICKS_PER_HOUR;
+    }
+
+    static String clickMember(SearchType type, long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static void add(Map<String, Long> pending, String key, long count) {
+        if (pending.size() >= MAX_PENDING && !pending.containsKey(key)) return;
+        pending.merge(key, count, Long::sum);
+    }
+
+    private void addViewers(String target, Set<String> viewers) {
+        if (pendingClicks.size() >= MAX_PENDING && !pendingClicks.containsKey(target)) return;
+        pendingClicks.compute(target, (key, pending) -> {
+            Set<String> merged = pending == null ? new HashSet<>() : pending;
+            for (String viewer : viewers) {
+                if (merged.size() >= MAX_PENDING_VIEWERS) break;
+                merged.add(viewer);
+            }
+            return merged;
+        });
+    }
+
+    // 키별로 꺼내면서 지우므로, 꺼내는 중에 들어온 증가분은 다음 반영 때 포함됨
+    private static <V> Map<String, V> drain(Map<String, V> pending) {
+        Map<String, V> drained = new HashMap<>();
+        for (String key : pending.keySet()) {
+            V value = pending.remove(key);
+            if (value != null) drained.put(key, value);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,118 @@
+package com.back.web7_9_codecrete_be.domain.search.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.ArtistSearchItem;
+import com.back.web7_9_codecrete_be.domain.artists.service.ArtistSearchService;
+import com.back.web7_9_codecrete_be.domain.community.post.dto.response.PostSearchItem;
+import com.back.web7_9_codecrete_be.domain.community.post.service.PostSearchService;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertSearchItem;
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertSearchService;
+import com.back.web7_9_codecrete_be.domain.search.dto.SearchGroup;
+import com.back.web7_9_codecrete_be.domain.search.dto.SearchType;
+import com.back.web7_9_codecrete_be.domain.search.dto.UnifiedSearchResponse;
+import com.back.web7_9_codecrete_be.global.error.code.ConcertErrorCode;
+import com.back.web7_9_codecrete_be.global.error.exception.BusinessException;
+import com.back.web7_9_codecrete_be.global.search.SearchResult;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+// 공연, 아티스트, 게시글 검색 색인(JVM 내부)을 한 번에 조회하는 통합 검색입니다.
+// 도메인별 검색은 동시에 실행하고, 제한 시간 안에 끝나지 않은 도메인은 빈 결과로 두고 나머지만 응답합니다.
+// 도메인마다 점수 범위가 다르므로, 그룹 노출 순서는 도메인별 최고 관련도(0~1)에 도메인 가중치를 곱해 정합니다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnifiedSearchService {
+    private final ConcertSearchService concertSearchService;
+
+    private final ArtistSearchService artistSearchService;
+
+    private final PostSearchService postSearchService;
+
+    private final SearchAnalyticsService searchAnalyticsService;
+
+    // 그룹별 최대 결과 수
+    public static final int MAX_SIZE = 20;
+
+    // 모든 도메인 검색을 기다리는 최대 시간
+    @Value("${search.unified.timeout-ms:300}")
+    private long timeoutMillis;
+
+    // 결과 목록은 DB 에서 ID 로 조회하므로, 도메인별 검색을 요청마다 가상 스레드로 나눠 실행
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public UnifiedSearchResponse search(String keyword, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new BusinessException(ConcertErrorCode.KEYWORD_IS_NULL);
+        }
+        String trimmed = keyword.trim();
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+
+        CompletableFuture<SearchResult<ConcertSearchItem>> concerts =
+                submit(SearchType.CONCERT, concertSearchService::isAvailable, () -> concertSearchService.searchTop(trimmed, limit));
+        CompletableFuture<SearchResult<ArtistSearchItem>> artists =
+                submit(SearchType.ARTIST, artistSearchService::isAvailable, () -> artistSearchService.searchTop(trimmed, limit));
+        CompletableFuture<SearchResult<PostSearchItem>> posts =
+                submit(SearchType.POST, postSearchService::isAvailable, () -> postSearchService.searchTop(trimmed, limit));
+
+        // 도메인별 실패는 null 로 완료되므로 제한 시간까지만 기다림
+        CompletableFuture.allOf(concerts, artists, posts)
+                .completeOnTimeout(null, timeoutMillis, TimeUnit.MILLISECONDS)
+                .join();
+
+        List<SearchType> incomplete = new ArrayList<>();
+        SearchGroup<ConcertSearchItem> concertGroup = collect(SearchType.CONCERT, concerts, incomplete);
+        SearchGroup<ArtistSearchItem> artistGroup = collect(SearchType.ARTIST, artists, incomplete);
+        SearchGroup<PostSearchItem> postGroup = collect(SearchType.POST, posts, incomplete);
+
+        Map<SearchType, SearchGroup<?>> groups = new EnumMap<>(SearchType.class);
+        groups.put(SearchType.CONCERT, concertGroup);
+        groups.put(SearchType.ARTIST, artistGroup);
+        groups.put(SearchType.POST, postGroup);
+        // 점수가 같으면 SearchType 선언 순서
+        List<SearchType> order = Arrays.stream(SearchType.values())
+                .filter(type -> !groups.get(type).items().isEmpty())
+                .sorted(Comparator.comparingDouble((SearchType type) -> groups.get(type).score()).reversed())
+                .toList();
+        // 결과가 없는 검색어는 인기 검색어에 올리지 않음
+        if (!order.isEmpty()) searchAnalyticsService.recordQuery(trimmed);
+
+        return new UnifiedSearchResponse(trimmed, order, concertGroup, artistGroup, postGroup, incomplete);
+    }
+
+    // 색인이 준비되지 않은 도메인은 실행하지 않고 null 로 완료 (incomplete 로 표시)
+    private <T> CompletableFuture<SearchResult<T>> submit(SearchType type, BooleanSupplier available, Supplier<SearchResult<T>> search) {
+        if (!available.getAsBoolean()) return CompletableFuture.completedFuture(null);
+        return CompletableFuture.supplyAsync(search, executor)
+                .exceptionally(e -> {
+                    log.warn("통합 검색 실패: type={}", type, e);
+                    return null;
+                });
+    }
+
+    private static <T> SearchGroup<T> collect(SearchType type, CompletableFuture<SearchResult<T>> future, List<SearchType> incomplete) {
+        SearchResult<T> result = future.getNow(null);
+        if (result == null) {
+            // 제한 시간을 넘긴 검색은 결과를 기다리지 않음
+            future.cancel(true);
+            incomplete.add(type);
+            return SearchGroup.empty();
+        }
+        return SearchGroup.of(type, result);
+    }
+}
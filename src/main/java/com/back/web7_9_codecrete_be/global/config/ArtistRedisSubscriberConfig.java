@@ -0,0 +1,40 @@
+package com.back.web7_9_codecrete_be.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.back.web7_9_codecrete_be.global.redis.ArtistPubSubChannels;
+import com.back.web7_9_codecrete_be.global.redis.ArtistSearchIndexSubscriber;
+import com.back.web7_9_codecrete_be.global.redis.RelatedArtistSubscriber;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class ArtistRedisSubscriberConfig {
+
+	private final RedisConnectionFactory connectionFactory;
+	private final ArtistSearchIndexSubscriber artistSearchIndexSubscriber;
+	private final RelatedArtistSubscriber relatedArtistSubscriber;
+
+	@Bean
+	public RedisMessageListenerContainer artistRedisListenerContainer() {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+
+		container.addMessageListener(
+			artistSearchIndexSubscriber,
+			new ChannelTopic(ArtistPubSubChannels.ARTIST_SEARCH_INDEX)
+		);
+
+		container.addMessageListener(
+			relatedArtistSubscriber,
+			new ChannelTopic(ArtistPubSubChannels.ARTIST_RELATED)
+		);
+
+		return container;
+	}
+}
@@ -0,0 +1,47 @@
+package com.back.web7_9_codecrete_be.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.back.web7_9_codecrete_be.global.redis.ConcertAutoCompleteSubscriber;
+import com.back.web7_9_codecrete_be.global.redis.ConcertCacheInvalidateSubscriber;
+import com.back.web7_9_codecrete_be.global.redis.ConcertPubSubChannels;
+import com.back.web7_9_codecrete_be.global.redis.ConcertSearchIndexSubscriber;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class ConcertRedisSubscriberConfig {
+
+	private final RedisConnectionFactory connectionFactory;
+	private final ConcertCacheInvalidateSubscriber concertCacheInvalidateSubscriber;
+	private final ConcertAutoCompleteSubscriber concertAutoCompleteSubscriber;
+	private final ConcertSearchIndexSubscriber concertSearchIndexSubscriber;
+
+	@Bean
+	public RedisMessageListenerContainer concertRedisListenerContainer() {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+
+		container.addMessageListener(
+			concertCacheInvalidateSubscriber,
+			new ChannelTopic(ConcertPubSubChannels.CONCERT_CACHE_INVALIDATE)
+		);
+
+		container.addMessageListener(
+			concertAutoCompleteSubscriber,
+			new ChannelTopic(ConcertPubSubChannels.CONCERT_AUTOCOMPLETE_REBUILD)
+		);
+
+		container.addMessageListener(
+			concertSearchIndexSubscriber,
+			new ChannelTopic(ConcertPubSubChannels.CONCERT_SEARCH_INDEX)
+		);
+
+		return container;
+	}
+}
@@ -0,0 +1,33 @@
+package com.back.web7_9_codecrete_be.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.back.web7_9_codecrete_be.global.redis.PostPubSubChannels;
+import com.back.web7_9_codecrete_be.global.redis.PostSearchIndexSubscriber;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class PostRedisSubscriberConfig {
+
+	private final RedisConnectionFactory connectionFactory;
+	private final PostSearchIndexSubscriber postSearchIndexSubscriber;
+
+	@Bean
+	public RedisMessageListenerContainer postRedisListenerContainer() {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+
+		container.addMessageListener(
+			postSearchIndexSubscriber,
+			new ChannelTopic(PostPubSubChannels.POST_SEARCH_INDEX)
+		);
+
+		return container;
+	}
+}
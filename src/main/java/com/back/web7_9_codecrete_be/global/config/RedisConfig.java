@@ -1,5 +1,9 @@
 package com.back.web7_9_codecrete_be.global.config;
 
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertDetailResponse;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.serializer.ConcertDetailRedisSerializer;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.serializer.ConcertItemListRedisSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,12 +15,14 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -61,6 +67,35 @@ public class RedisConfig {
         return template;
     }
 
+    //공연 목록 페이지 캐싱 (타입 정보 없는 바이너리 직렬화)
+    @Bean
+    public RedisTemplate<String, List<ConcertItem>> concertListRedisTemplate() {
+        RedisTemplate<String, List<ConcertItem>> template = new RedisTemplate<>();
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new ConcertItemListRedisSerializer());
+        template.setConnectionFactory(redisConnectionFactory());
+        return template;
+    }
+
+    //공연 상세 캐싱 (타입 정보 없는 바이너리 직렬화)
+    @Bean
+    public RedisTemplate<String, ConcertDetailResponse> concertDetailRedisTemplate() {
+        RedisTemplate<String, ConcertDetailResponse> template = new RedisTemplate<>();
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new ConcertDetailRedisSerializer());
+        template.setConnectionFactory(redisConnectionFactory());
+        return template;
+    }
+
+    //직렬화가 끝난 응답 본문(JSON) 캐싱
+    @Bean
+    public RedisTemplate<String, byte[]> concertBodyRedisTemplate() {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setConnectionFactory(redisConnectionFactory());
+        return template;
+    }
 
     @Bean
     public RedisCacheManager cacheManager(RedisConnectionFactory cf) {
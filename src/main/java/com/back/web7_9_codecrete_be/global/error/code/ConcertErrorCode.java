@@ -14,6 +14,9 @@ public enum ConcertErrorCode implements ErrorCode {
     KEYWORD_IS_NULL(HttpStatus.BAD_REQUEST,"C-102","검색 키워드를 입력해주세요."),
     TYPE_IS_NULL(HttpStatus.BAD_REQUEST,"C-103","타입을 입력해주세요."),
     INCORRECT_TYPE(HttpStatus.BAD_REQUEST,"C-104","타입을 정확하게 입력해주세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST,"C-105","커서 값이 올바르지 않습니다."),
+    INVALID_VIEW_DAYS(HttpStatus.BAD_REQUEST,"C-106","조회 기간은 1일에서 7일 사이로 입력해주세요."),
+    INVALID_COORDINATE(HttpStatus.BAD_REQUEST,"C-107","위도와 경도를 함께, 올바른 범위로 입력해주세요."),
     // C-13* 공연 좋아요 관련
     LIKE_CONFLICT(HttpStatus.CONFLICT,"C-131","이미 좋아요를 누른 공연입니다."),
     NOT_FOUND_CONCERTLIKE(HttpStatus.NOT_FOUND,"C-130","좋아요를 누르지 않은 공연입니다."),
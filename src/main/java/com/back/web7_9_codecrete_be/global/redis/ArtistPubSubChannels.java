@@ -0,0 +1,10 @@
+package com.back.web7_9_codecrete_be.global.redis;
+
+public final class ArtistPubSubChannels {
+
+	private ArtistPubSubChannels() {}
+
+	public static final String ARTIST_SEARCH_INDEX = "artist:pubsub:search-index";
+
+	public static final String ARTIST_RELATED = "artist:pubsub:related";
+}
@@ -0,0 +1,34 @@
+package com.back.web7_9_codecrete_be.global.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.back.web7_9_codecrete_be.domain.artists.service.ArtistSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArtistSearchIndexSubscriber implements MessageListener {
+
+	private final ArtistSearchService artistSearchService;
+
+	@Override
+	public void onMessage(
+		Message message,
+		byte[] pattern
+	) {
+		try {
+			String body = new String(message.getBody(), StandardCharsets.UTF_8);
+			artistSearchService.onMessage(body);
+			log.debug("[Redis Pub/Sub] 아티스트 검색 색인 명령: {}", body);
+		} catch (Exception e) {
+			log.error("[Redis Pub/Sub] 아티스트 검색 색인 명령 처리 실패", e);
+		}
+	}
+}
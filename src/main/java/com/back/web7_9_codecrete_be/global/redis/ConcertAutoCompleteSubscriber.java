@@ -0,0 +1,34 @@
+package com.back.web7_9_codecrete_be.global.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertAutoCompleteService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConcertAutoCompleteSubscriber implements MessageListener {
+
+	private final ConcertAutoCompleteService concertAutoCompleteService;
+
+	@Override
+	public void onMessage(
+		Message message,
+		byte[] pattern
+	) {
+		try {
+			String body = new String(message.getBody(), StandardCharsets.UTF_8);
+			concertAutoCompleteService.onMessage(body);
+			log.debug("[Redis Pub/Sub] 자동완성 색인 명령: {}", body);
+		} catch (Exception e) {
+			log.error("[Redis Pub/Sub] 자동완성 색인 명령 처리 실패", e);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.back.web7_9_codecrete_be.global.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertLocalCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConcertCacheInvalidateSubscriber implements MessageListener {
+
+	private final ConcertLocalCache concertLocalCache;
+
+	@Override
+	public void onMessage(
+		Message message,
+		byte[] pattern
+	) {
+		try {
+			String scope = new String(message.getBody(), StandardCharsets.UTF_8);
+			concertLocalCache.invalidate(scope);
+			log.debug("[Redis Pub/Sub] 공연 로컬 캐시 무효화: {}", scope);
+		} catch (Exception e) {
+			log.error("[Redis Pub/Sub] 공연 로컬 캐시 무효화 실패", e);
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.back.web7_9_codecrete_be.global.redis;
+
+public final class ConcertPubSubChannels {
+
+	private ConcertPubSubChannels() {}
+
+	public static final String CONCERT_CACHE_INVALIDATE = "concert:pubsub:cache-invalidate";
+	public static final String CONCERT_AUTOCOMPLETE_REBUILD = "concert:pubsub:autocomplete-rebuild";
+	public static final String CONCERT_SEARCH_INDEX = "concert:pubsub:search-index";
+}
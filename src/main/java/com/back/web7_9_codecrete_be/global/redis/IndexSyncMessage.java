@@ -0,0 +1,45 @@
+package com.back.web7_9_codecrete_be.global.redis;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.back.web7_9_codecrete_be.global.websocket.ServerInstanceId;
+
+// 인스턴스마다 JVM 내부에 갖는 색인(자동완성, 공연/게시글/아티스트 검색)의 변경을 다른 인스턴스에 전파하는 Pub/Sub 메시지
+// "{인스턴스 ID}|{명령}" 또는 "{인스턴스 ID}|{명령}|{내용}" (내용은 보통 "ID,ID,...")
+public record IndexSyncMessage(String command, String payload) {
+
+	public static String encode(String command) {
+		return ServerInstanceId.ID + "|" + command;
+	}
+
+	public static String encode(String command, String payload) {
+		return encode(command) + "|" + payload;
+	}
+
+	public static String encode(String command, Collection<Long> ids) {
+		return encode(command, ids.stream().map(String::valueOf).collect(Collectors.joining(",")));
+	}
+
+	// 다른 인스턴스가 보낸 메시지만 해석 -> 자신이 보낸 메시지(보낼 때 이미 반영함)나 형식이 맞지 않으면 null
+	public static IndexSyncMessage decodeRemote(String message) {
+		String[] parts = message.split("\\|", 3);
+		if (parts.length < 2 || ServerInstanceId.ID.equals(parts[0])) return null;
+		return new IndexSyncMessage(parts[1], parts.length == 3 ? parts[2] : null);
+	}
+
+	public boolean hasPayload() {
+		return payload != null;
+	}
+
+	// 내용을 ID 목록으로 해석 (내용이 없으면 빈 목록)
+	public List<Long> ids() {
+		if (payload == null) return List.of();
+		return Arrays.stream(payload.split(","))
+			.filter(id -> !id.isBlank())
+			.map(Long::parseLong)
+			.toList();
+	}
+}
@@ -0,0 +1,39 @@
+package com.back.web7_9_codecrete_be.global.redis;
+
+import java.util.Collection;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 색인 변경을 다른 인스턴스에 전파 (IndexSyncMessage 형식)
+// 전파에 실패해도 현재 인스턴스의 반영은 끝났으므로 로그만 남김 -> 놓친 인스턴스는 주기적인 전체 재구성으로 맞춰짐
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexSyncPublisher {
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public void publish(String channel, String command) {
+		send(channel, command, IndexSyncMessage.encode(command));
+	}
+
+	public void publish(String channel, String command, String payload) {
+		send(channel, command, IndexSyncMessage.encode(command, payload));
+	}
+
+	public void publish(String channel, String command, Collection<Long> ids) {
+		send(channel, command, IndexSyncMessage.encode(command, ids));
+	}
+
+	private void send(String channel, String command, String message) {
+		try {
+			redisTemplate.convertAndSend(channel, message);
+		} catch (Exception e) {
+			log.warn("[Redis Pub/Sub] 색인 변경 전파 실패: channel={}, command={}", channel, command, e);
+		}
+	}
+}
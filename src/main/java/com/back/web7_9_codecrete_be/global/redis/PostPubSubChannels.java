@@ -0,0 +1,8 @@
+package com.back.web7_9_codecrete_be.global.redis;
+
+public final class PostPubSubChannels {
+
+	private PostPubSubChannels() {}
+
+	public static final String POST_SEARCH_INDEX = "post:pubsub:search-index";
+}
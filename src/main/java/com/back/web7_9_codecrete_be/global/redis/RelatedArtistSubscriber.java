@@ -0,0 +1,34 @@
+package com.back.web7_9_codecrete_be.global.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.back.web7_9_codecrete_be.domain.artists.service.spotify.related.RelatedArtistService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RelatedArtistSubscriber implements MessageListener {
+
+	private final RelatedArtistService relatedArtistService;
+
+	@Override
+	public void onMessage(
+		Message message,
+		byte[] pattern
+	) {
+		try {
+			String body = new String(message.getBody(), StandardCharsets.UTF_8);
+			relatedArtistService.onMessage(body);
+			log.debug("[Redis Pub/Sub] 관련 아티스트 갱신: {}", body);
+		} catch (Exception e) {
+			log.error("[Redis Pub/Sub] 관련 아티스트 갱신 메시지 처리 실패", e);
+		}
+	}
+}
@@ -13,6 +13,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 @Component
 public class Rq {
 
@@ -101,6 +106,31 @@ public class Rq {
         response.addHeader("Set-Cookie", builder.build().toString());
     }
 
+    // 조회수/검색 결과 클릭 중복 방지용 방문자 식별값 (로그인 사용자는 ID, 비로그인 사용자는 IP + User-Agent 해시)
+    // IP 는 클라이언트가 바꿀 수 있는 X-Forwarded-For 를 직접 읽지 않고, 신뢰하는 프록시를 거친 경우에만
+    // 서버(server.forward-headers-strategy)가 바꿔 둔 remoteAddr 를 사용
+    public String getViewerId() {
+        User user = getUserOrNull();
+        if (user != null) return "user:" + user.getId();
+
+        String userAgent = request.getHeader("User-Agent");
+        return "anon:" + sha256Hex(getClientIp() + "|" + (userAgent == null ? "" : userAgent));
+    }
+
+    // 요청한 클라이언트 IP (getViewerId 와 같은 기준)
+    public String getClientIp() {
+        return request.getRemoteAddr();
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public String getCookieValue(String name) {
         if (request.getCookies() == null) return null;
 
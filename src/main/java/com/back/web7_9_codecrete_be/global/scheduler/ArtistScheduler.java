@@ -0,0 +1,26 @@
+package com.back.web7_9_codecrete_be.global.scheduler;
+
+import com.back.web7_9_codecrete_be.domain.artists.service.spotify.related.RelatedArtistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 인스턴스마다 가진 관련 아티스트 그래프(JVM 내부)를 갱신합니다.
+@Component
+@RequiredArgsConstructor
+public class ArtistScheduler {
+    private final RelatedArtistService relatedArtistService;
+
+    // 정보/좋아요가 바뀐 아티스트를 모아서 그래프에 반영합니다.
+    @Scheduled(fixedDelayString = "${artist.related.apply-interval-ms:5000}")
+    public void relatedArtistApplySchedule() {
+        relatedArtistService.applyPending();
+    }
+
+    // 전파 메시지를 놓쳐 어긋난 그래프를 DB 기준으로 바로잡습니다.
+    @Scheduled(initialDelayString = "${artist.related.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${artist.related.rebuild-interval-ms:3600000}")
+    public void relatedArtistRebuildSchedule() {
+        relatedArtistService.rebuildLocal();
+    }
+}
@@ -2,8 +2,14 @@ package com.back.web7_9_codecrete_be.global.scheduler;
 
 import com.back.web7_9_codecrete_be.domain.concerts.controller.ConcertController;
 import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSearchRedisTemplate;
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertCounterService;
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertGeoService;
 import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertNotifyService;
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertRankingService;
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertRecommendService;
 import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertService;
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertSimilarityService;
+import com.back.web7_9_codecrete_be.domain.concerts.service.FansAlsoLikedService;
 import com.back.web7_9_codecrete_be.domain.concerts.service.KopisApiService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -16,6 +22,12 @@ public class ConcertScheduler {
     private final ConcertService concertService;
     private final KopisApiService kopisApiService;
     private final ConcertNotifyService concertNotifyService;
+    private final ConcertRankingService concertRankingService;
+    private final ConcertCounterService concertCounterService;
+    private final ConcertSimilarityService concertSimilarityService;
+    private final ConcertRecommendService concertRecommendService;
+    private final FansAlsoLikedService fansAlsoLikedService;
+    private final ConcertGeoService concertGeoService;
 
     // 공연 데이터 업데이트를 진행합니다.
     @Scheduled(cron = "0 0 2 * * MON")
@@ -23,12 +35,54 @@ public class ConcertScheduler {
         kopisApiService.updateConcertData();
     }
 
-    // 공연 관련 정보를 갱신합니다.
-    @Scheduled(cron = "0 10 3 * * *")
+    // Redis 에 쌓인 조회수 증가분을 DB에 반영합니다.
+    @Scheduled(fixedDelayString = "${concert.view-count.flush-interval-ms:180000}")
     public void concertDataUpdateSchedule() {
         concertService.viewCountUpdate();
     }
 
+    // 날짜가 지난 공연을 정리하도록 공연 랭킹을 재구성합니다.
+    @Scheduled(cron = "0 30 3 * * *")
+    public void concertRankingRebuildSchedule() {
+        concertRankingService.rebuildRanking();
+    }
+
+    // 종료된 공연을 정리하고 관리자 수정도 반영되도록 공연장 좌표 색인을 재구성합니다.
+    @Scheduled(cron = "0 50 3 * * *")
+    public void concertGeoRebuildSchedule() {
+        concertGeoService.rebuild();
+    }
+
+    // 시작일이 지난 공연이 추천되지 않도록, 관리자 수정도 반영되도록 제목 유사 공연 색인을 재구성합니다.
+    @Scheduled(cron = "0 40 3 * * *")
+    public void concertSimilarityRebuildSchedule() {
+        concertSimilarityService.rebuild();
+    }
+
+    // 좋아요한 모든 사용자의 추천 공연 목록을 다시 계산합니다. (제목 유사 공연 색인은 03:40 에 먼저 재구성됨)
+    @Scheduled(cron = "0 0 4 * * *")
+    public void concertRecommendRefreshSchedule() {
+        concertRecommendService.refreshAll();
+    }
+
+    // 하루 동안 쌓인 공연/아티스트 좋아요로 함께 좋아한 공연/아티스트 색인을 재구성합니다.
+    @Scheduled(cron = "0 20 4 * * *")
+    public void fansAlsoLikedRebuildSchedule() {
+        fansAlsoLikedService.rebuild();
+    }
+
+    // 좋아요/해제 후 디바운스 시간이 지난 사용자의 추천 공연 목록을 계산합니다.
+    @Scheduled(fixedDelayString = "${concert.recommend.poll-interval-ms:5000}")
+    public void concertRecommendPendingSchedule() {
+        concertRecommendService.refreshPending();
+    }
+
+    // 공연 수 카운터를 DB 기준으로 다시 세어, 놓친 증감 이벤트로 생긴 차이를 바로잡습니다.
+    @Scheduled(fixedDelayString = "${concert.counter.reconcile-interval-ms:3600000}", initialDelayString = "${concert.counter.reconcile-interval-ms:3600000}")
+    public void concertCounterReconcileSchedule() {
+        concertCounterService.reconcile();
+    }
+
     // 이메일 알림을 전송합니다.
     @Scheduled(cron = "0 0 9 * * *")
     public void notificationSendSchedule() {
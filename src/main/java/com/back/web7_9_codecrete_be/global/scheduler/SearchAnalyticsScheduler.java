@@ -0,0 +1,27 @@
+package com.back.web7_9_codecrete_be.global.scheduler;
+
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertAutoCompleteService;
+import com.back.web7_9_codecrete_be.domain.search.service.SearchAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SearchAnalyticsScheduler {
+    private final SearchAnalyticsService searchAnalyticsService;
+    private final ConcertAutoCompleteService concertAutoCompleteService;
+
+    // 인스턴스마다 모아 둔 검색어/클릭 수를 Redis 에 반영합니다.
+    @Scheduled(fixedDelayString = "${search.analytics.flush-interval-ms:5000}")
+    public void searchAnalyticsFlushSchedule() {
+        searchAnalyticsService.flush();
+    }
+
+    // 최근 검색 결과 클릭 점수를 자동완성 순위에 반영합니다.
+    @Scheduled(initialDelayString = "${search.analytics.autocomplete-refresh-interval-ms:600000}",
+            fixedDelayString = "${search.analytics.autocomplete-refresh-interval-ms:600000}")
+    public void autoCompleteClickScoreRefreshSchedule() {
+        concertAutoCompleteService.refreshClickScoresLocal();
+    }
+}
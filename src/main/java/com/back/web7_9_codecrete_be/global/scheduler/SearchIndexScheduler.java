@@ -0,0 +1,28 @@
+package com.back.web7_9_codecrete_be.global.scheduler;
+
+import com.back.web7_9_codecrete_be.domain.artists.service.ArtistSearchService;
+import com.back.web7_9_codecrete_be.domain.community.post.service.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 인스턴스마다 가진 검색 색인(JVM 내부)을 주기적으로 DB 기준으로 다시 구성합니다.
+@Component
+@RequiredArgsConstructor
+public class SearchIndexScheduler {
+    private final ArtistSearchService artistSearchService;
+    private final PostSearchService postSearchService;
+
+    // 변경은 바로 반영되므로, 좋아요 수 같은 목록 정보와 놓친 전파 메시지만 맞춥니다.
+    @Scheduled(initialDelayString = "${search.artist.rebuild-interval-ms:600000}",
+            fixedDelayString = "${search.artist.rebuild-interval-ms:600000}")
+    public void artistSearchIndexRebuildSchedule() {
+        artistSearchService.rebuildLocal();
+    }
+
+    // 전파 메시지를 놓쳐 어긋난 게시글 색인을 바로잡습니다.
+    @Scheduled(cron = "0 0 4 * * *")
+    public void postSearchIndexRebuildSchedule() {
+        postSearchService.rebuildLocal();
+    }
+}
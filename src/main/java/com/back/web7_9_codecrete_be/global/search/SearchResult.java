@@ -0,0 +1,15 @@
+package com.back.web7_9_codecrete_be.global.search;
+
+import java.util.List;
+
+// 한 도메인의 검색 결과 중 상위 항목
+// total: 검색어와 일치한 전체 개수, relevance: 가장 관련도가 높은 결과의 관련도 (TextSearchIndex.Hit 참고)
+public record SearchResult<T>(
+        int total,
+        double relevance,
+        List<T> items
+) {
+    public static <T> SearchResult<T> empty() {
+        return new SearchResult<>(0, 0, List.of());
+    }
+}
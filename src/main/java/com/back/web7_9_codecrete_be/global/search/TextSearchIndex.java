@@ -0,0 +1,442 @@
+package com.back.web7_9_codecrete_be.global.search;
+
+import java.util.*;
+import java.util.function.LongPredicate;
+
+// 도메인별 키워드 검색에 쓰는 JVM 내부 전문 검색 색인입니다. (공연, 아티스트, 게시글이 필드 구성과 가중치만 달리해 사용)
+// 필드 값을 소문자로 바꿔 1~2글자 조각으로 나누고, 조각마다 (문서 순번, 조각이 나온 필드 비트) 목록을 저장합니다.
+// 한국어는 띄어쓰기 없이 붙여 쓰는 경우가 많아 형태소 대신 글자 조각(bigram)으로 색인하고,
+// 3글자 이상 검색어는 2글자 조각 목록의 교집합 후보에서 실제 포함 여부를 확인합니다.
+// 검색어를 공백으로 나눈 모든 단어를 포함하는 문서를 찾고, 단어가 나온 필드 가중치와 단어의 희소성(idf)으로 점수를 매깁니다.
+// 변경된 문서는 전체 색인(base) 위에 작은 색인(delta)으로 겹쳐 반영합니다.
+public class TextSearchIndex {
+
+    // 필드 비트를 byte 에 담으므로 필드는 8개까지
+    private static final int MAX_FIELDS = Byte.SIZE;
+    private static final int MAX_GRAM = 2;
+
+    // 변경 문서가 이 개수를 넘으면 delta 를 base 에 합쳐 다시 만듦
+    public static final int COMPACT_THRESHOLD = 1_000;
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::id).reversed());
+
+    private final double[] fieldWeights;
+    private final double maxFieldWeight;
+
+    private volatile State state = State.EMPTY;
+
+    // 변경마다 1씩 증가하는 세대 번호 (guarded by this)
+    private long generation;
+
+    public TextSearchIndex(double... fieldWeights) {
+        if (fieldWeights.length == 0 || fieldWeights.length > MAX_FIELDS) {
+            throw new IllegalArgumentException("필드 수는 1~" + MAX_FIELDS + "개여야 합니다: " + fieldWeights.length);
+        }
+        this.fieldWeights = fieldWeights.clone();
+        this.maxFieldWeight = Arrays.stream(fieldWeights).max().orElseThrow();
+    }
+
+    // 색인 대상 문서 한 건 (fields 순서는 생성자의 가중치 순서와 같음, null 필드는 빈 문자열로 취급)
+    public record Document(long id, String... fields) {
+    }
+
+    // 검색 결과 (점수 내림차순, 같은 점수면 ID 내림차순)
+    // relevance: 모든 단어가 가장 가중치가 큰 필드에 나왔을 때를 1 로 둔 점수 (0~1, 도메인이 다른 결과끼리 비교할 때 사용)
+    public record Hit(long id, double score, double relevance) {
+    }
+
+    public void rebuild(List<Document> documents) {
+        rebuild(documents, Long.MAX_VALUE);
+    }
+
+    // loadedGeneration: 재구성용 데이터를 읽기 시작할 때의 세대 -> 그 이후에 반영된 변경은 새 색인 위에 다시 겹침
+    public void rebuild(List<Document> documents, long loadedGeneration) {
+        Snapshot base = Snapshot.build(documents, fieldWeights.length);
+        synchronized (this) {
+            Map<Long, Change> retained = new HashMap<>();
+            state.changes.forEach((id, change) -> {
+                if (change.generation > loadedGeneration) retained.put(id, change);
+            });
+            generation++;
+            state = State.of(base, retained, fieldWeights.length);
+        }
+    }
+
+    public synchronized void upsert(List<Document> documents) {
+        if (documents.isEmpty()) return;
+        Map<Long, Change> changes = new HashMap<>(state.changes);
+        generation++;
+        for (Document document : documents) changes.put(document.id(), new Change(generation, document));
+        apply(changes);
+    }
+
+    public synchronized void remove(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        Map<Long, Change> changes = new HashMap<>(state.changes);
+        generation++;
+        for (Long id : ids) changes.put(id, new Change(generation, null));
+        apply(changes);
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public int size() {
+        return state.size;
+    }
+
+    public boolean isEmpty() {
+        return state.size == 0;
+    }
+
+    // 현재 색인에 있는 문서인지 (base 이후의 변경 포함)
+    public boolean contains(long id) {
+        State current = state;
+        Change change = current.changes.get(id);
+        if (change != null) return change.document != null;
+        return current.base.contains(id);
+    }
+
+    // 검색어의 모든 단어를 포함하는 문서 전체 (점수 내림차순)
+    public List<Hit> search(String keyword) {
+        return search(keyword, null);
+    }
+
+    // filter 를 통과한 문서 ID 만 결과에 담음 (idf 는 필터와 상관없이 전체 문서 기준)
+    public List<Hit> search(String keyword, LongPredicate filter) {
+        List<String> terms = terms(keyword);
+        if (terms.isEmpty()) return List.of();
+        State current = state;
+        if (current.size == 0) return List.of();
+
+        // 단어별로 base, delta 에서 일치하는 문서를 찾고, 두 색인을 합친 문서 빈도로 idf 계산
+        int termCount = terms.size();
+        TermMatches[] baseMatches = new TermMatches[termCount];
+        TermMatches[] deltaMatches = new TermMatches[termCount];
+        double[] idf = new double[termCount];
+        double idealScore = 0;
+        Set<Long> changed = current.changes.keySet();
+        for (int t = 0; t < termCount; t++) {
+            baseMatches[t] = current.base.match(terms.get(t), changed);
+            deltaMatches[t] = current.delta.match(terms.get(t), Set.of());
+            int documentFrequency = baseMatches[t].size() + deltaMatches[t].size();
+            if (documentFrequency == 0) return List.of();
+            idf[t] = Math.log(1 + (double) current.size / documentFrequency);
+            idealScore += maxFieldWeight * idf[t];
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        current.base.collect(baseMatches, idf, fieldWeights, idealScore, filter, hits);
+        current.delta.collect(deltaMatches, idf, fieldWeights, idealScore, filter, hits);
+        hits.sort(HIT_ORDER);
+        return hits;
+    }
+
+    public int count(String keyword) {
+        return search(keyword).size();
+    }
+
+    // 검색어가 나온 부분을 <em> 으로 감싼 문자열 (HTML 특수문자는 이스케이프)
+    public static String highlight(String text, String keyword) {
+        if (text == null) return null;
+        String normalized = normalize(text);
+        boolean[] marked = new boolean[text.length()];
+        // 소문자 변환으로 길이가 바뀌는 문자가 있으면 위치를 맞출 수 없으므로 강조하지 않음
+        if (normalized.length() == text.length()) {
+            for (String term : terms(keyword)) {
+                int from = normalized.indexOf(term);
+                while (from >= 0) {
+                    Arrays.fill(marked, from, from + term.length(), true);
+                    from = normalized.indexOf(term, from + 1);
+                }
+            }
+        }
+
+        StringBuilder builder = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            if (marked[i] && (i == 0 || !marked[i - 1])) builder.append("<em>");
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> builder.append("&lt;");
+                case '>' -> builder.append("&gt;");
+                case '&' -> builder.append("&amp;");
+                case '"' -> builder.append("&quot;");
+                default -> builder.append(c);
+            }
+            if (marked[i] && (i == text.length() - 1 || !marked[i + 1])) builder.append("</em>");
+        }
+        return builder.toString();
+    }
+
+    private void apply(Map<Long, Change> changes) {
+        if (changes.size() > COMPACT_THRESHOLD) {
+            state = State.of(state.base.compact(changes, fieldWeights.length), Map.of(), fieldWeights.length);
+        } else {
+            state = State.of(state.base, changes, fieldWeights.length);
+        }
+    }
+
+    private static List<String> terms(String keyword) {
+        if (keyword == null || keyword.isBlank()) return List.of();
+        return Arrays.stream(normalize(keyword).trim().split("\\s+"))
+                .distinct()
+                .toList();
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean hasWhitespace(String gram) {
+        for (int i = 0; i < gram.length(); i++) {
+            if (Character.isWhitespace(gram.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    // 문서 변경 내역 (document 가 null 이면 삭제)
+    private record Change(long generation, Document document) {
+    }
+
+    // 한 단어와 일치하는 문서 순번(오름차순)과 단어가 나온 필드 비트
+    private record TermMatches(int[] docs, byte[] masks) {
+        private static final TermMatches NONE = new TermMatches(new int[0], new byte[0]);
+
+        private int size() {
+            return docs.length;
+        }
+    }
+
+    // 조각 -> 조각이 나온 문서 순번(오름차순)과 필드 비트
+    private record Posting(int[] docs, byte[] masks) {
+    }
+
+    private static final class State {
+        private static final State EMPTY = new State(Snapshot.EMPTY, Map.of(), Snapshot.EMPTY, 0);
+
+        private final Snapshot base;
+        private final Map<Long, Change> changes;
+        private final Snapshot delta;
+        private final int size;
+
+        private State(Snapshot base, Map<Long, Change> changes, Snapshot delta, int size) {
+            this.base = base;
+            this.changes = changes;
+            this.delta = delta;
+            this.size = size;
+        }
+
+        private static State of(Snapshot base, Map<Long, Change> changes, int fieldCount) {
+            if (changes.isEmpty()) return new State(base, Map.of(), Snapshot.EMPTY, base.documents.length);
+            List<Document> upserted = new ArrayList<>();
+            int hidden = 0;
+            for (Map.Entry<Long, Change> change : changes.entrySet()) {
+                if (base.contains(change.getKey())) hidden++;
+                if (change.getValue().document != null) upserted.add(change.getValue().document);
+            }
+            Snapshot delta = Snapshot.build(upserted, fieldCount);
+            return new State(base, Map.copyOf(changes), delta, base.documents.length - hidden + delta.documents.length);
+        }
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new Document[0], new String[0][], Map.of());
+
+        private final Document[] documents;
+        private final long[] ids;
+        // 문서 ID 존재 여부 확인용 (오름차순)
+        private final long[] sortedIds;
+        // 순번별 소문자 필드 값
+        private final String[][] fields;
+        private final Map<String, Posting> postings;
+
+        private Snapshot(Document[] documents, String[][] fields, Map<String, Posting> postings) {
+            this.documents = documents;
+            this.ids = Arrays.stream(documents).mapToLong(Document::id).toArray();
+            this.sortedIds = ids.clone();
+            Arrays.sort(sortedIds);
+            this.fields = fields;
+            this.postings = postings;
+        }
+
+        private static Snapshot build(List<Document> documentList, int fieldCount) {
+            if (documentList.isEmpty()) return EMPTY;
+            Document[] documents = documentList.toArray(Document[]::new);
+            String[][] fields = new String[documents.length][];
+            Map<String, PostingBuilder> builders = new HashMap<>();
+
+            for (int doc = 0; doc < documents.length; doc++) {
+                String[] source = documents[doc].fields();
+                String[] values = new String[fieldCount];
+                for (int field = 0; field < fieldCount; field++) {
+                    String value = field < source.length && source[field] != null ? normalize(source[field]) : "";
+                    values[field] = value;
+                    for (int i = 0; i < value.length(); i++) {
+                        for (int n = 1; n <= MAX_GRAM && i + n <= value.length(); n++) {
+                            String gram = value.substring(i, i + n);
+                            if (hasWhitespace(gram)) continue;
+                            builders.computeIfAbsent(gram, key -> new PostingBuilder()).add(doc, field);
+                        }
+                    }
+                }
+                fields[doc] = values;
+            }
+
+            Map<String, Posting> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+            builders.forEach((gram, builder) -> postings.put(gram, builder.build()));
+            return new Snapshot(documents, fields, postings);
+        }
+
+        private Snapshot compact(Map<Long, Change> changes, int fieldCount) {
+            List<Document> merged = new ArrayList<>(documents.length + changes.size());
+            for (Document document : documents) {
+                if (!changes.containsKey(document.id())) merged.add(document);
+            }
+            for (Change change : changes.values()) {
+                if (change.document != null) merged.add(change.document);
+            }
+            return build(merged, fieldCount);
+        }
+
+        private boolean contains(long id) {
+            return Arrays.binarySearch(sortedIds, id) >= 0;
+        }
+
+        // 단어를 포함하는 문서 (excluded 에 있는 문서 제외)
+        private TermMatches match(String term, Set<Long> excluded) {
+            if (documents.length == 0) return TermMatches.NONE;
+            if (term.length() <= MAX_GRAM) {
+                Posting posting = postings.get(term);
+                if (posting == null) return TermMatches.NONE;
+                return filter(posting.docs(), posting.masks(), excluded);
+            }
+
+            // 2글자 조각 교집합 후보 -> 조각이 모두 나온 필드에서만 실제 포함 여부 확인
+            Posting candidates = null;
+            for (int i = 0; i + MAX_GRAM <= term.length(); i++) {
+                Posting posting = postings.get(term.substring(i, i + MAX_GRAM));
+                if (posting == null) return TermMatches.NONE;
+                candidates = candidates == null ? posting : intersect(candidates, posting);
+                if (candidates.docs().length == 0) return TermMatches.NONE;
+            }
+
+            int[] docs = new int[candidates.docs().length];
+            byte[] masks = new byte[docs.length];
+            int size = 0;
+            for (int k = 0; k < candidates.docs().length; k++) {
+                int doc = candidates.docs()[k];
+                if (!excluded.isEmpty() && excluded.contains(ids[doc])) continue;
+                int mask = 0;
+                for (int field = 0; field < fields[doc].length; field++) {
+                    if ((candidates.masks()[k] & (1 << field)) != 0 && fields[doc][field].contains(term)) mask |= 1 << field;
+                }
+                if (mask == 0) continue;
+                docs[size] = doc;
+                masks[size++] = (byte) mask;
+            }
+            return new TermMatches(Arrays.copyOf(docs, size), Arrays.copyOf(masks, size));
+        }
+
+        private TermMatches filter(int[] docs, byte[] masks, Set<Long> excluded) {
+            if (excluded.isEmpty()) return new TermMatches(docs, masks);
+            int[] filteredDocs = new int[docs.length];
+            byte[] filteredMasks = new byte[docs.length];
+            int size = 0;
+            for (int k = 0; k < docs.length; k++) {
+                if (excluded.contains(ids[docs[k]])) continue;
+                filteredDocs[size] = docs[k];
+                filteredMasks[size++] = masks[k];
+            }
+            return new TermMatches(Arrays.copyOf(filteredDocs, size), Arrays.copyOf(filteredMasks, size));
+        }
+
+        // 모든 단어와 일치하는 문서의 점수 = 단어별 (나온 필드 가중치 합 * idf) 의 합
+        private void collect(TermMatches[] matches, double[] idf, double[] weights, double idealScore, LongPredicate filter, List<Hit> hits) {
+            if (documents.length == 0) return;
+            // 가장 적게 일치한 단어부터 교집합
+            Integer[] order = new Integer[matches.length];
+            for (int t = 0; t < order.length; t++) order[t] = t;
+            Arrays.sort(order, Comparator.comparingInt(t -> matches[t].size()));
+
+            TermMatches first = matches[order[0]];
+            double[] scores = new double[first.size()];
+            boolean[] alive = new boolean[first.size()];
+            for (int k = 0; k < first.size(); k++) {
+                scores[k] = fieldScore(first.masks()[k], weights) * idf[order[0]];
+                alive[k] = true;
+            }
+            for (int o = 1; o < order.length; o++) {
+                TermMatches other = matches[order[o]];
+                for (int k = 0; k < first.size(); k++) {
+                    if (!alive[k]) continue;
+                    int position = Arrays.binarySearch(other.docs(), first.docs()[k]);
+                    if (position < 0) alive[k] = false;
+                    else scores[k] += fieldScore(other.masks()[position], weights) * idf[order[o]];
+                }
+            }
+            for (int k = 0; k < first.size(); k++) {
+                if (!alive[k]) continue;
+                long id = ids[first.docs()[k]];
+                if (filter != null && !filter.test(id)) continue;
+                double relevance = idealScore > 0 ? Math.min(1.0, scores[k] / idealScore) : 0;
+                hits.add(new Hit(id, scores[k], relevance));
+            }
+        }
+
+        private static double fieldScore(byte mask, double[] weights) {
+            double score = 0;
+            for (int field = 0; field < weights.length; field++) {
+                if ((mask & (1 << field)) != 0) score += weights[field];
+            }
+            return score;
+        }
+
+        // 두 조각 목록의 교집합 (필드 비트는 두 조각이 모두 나온 필드만 남김)
+        private static Posting intersect(Posting a, Posting b) {
+            int length = Math.min(a.docs().length, b.docs().length);
+            int[] docs = new int[length];
+            byte[] masks = new byte[length];
+            int i = 0, j = 0, k = 0;
+            while (i < a.docs().length && j < b.docs().length) {
+                if (a.docs()[i] < b.docs()[j]) i++;
+                else if (a.docs()[i] > b.docs()[j]) j++;
+                else {
+                    int mask = a.masks()[i] & b.masks()[j];
+                    if (mask != 0) {
+                        docs[k] = a.docs()[i];
+                        masks[k++] = (byte) mask;
+                    }
+                    i++;
+                    j++;
+                }
+            }
+            return new Posting(Arrays.copyOf(docs, k), Arrays.copyOf(masks, k));
+        }
+    }
+
+    // 색인 구성용 가변 배열 (같은 문서에서 같은 조각이 여러 번 나오면 필드 비트만 합침)
+    private static final class PostingBuilder {
+        private int[] docs = new int[4];
+        private byte[] masks = new byte[4];
+        private int size;
+
+        private void add(int doc, int field) {
+            if (size > 0 && docs[size - 1] == doc) {
+                masks[size - 1] |= (byte) (1 << field);
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                masks = Arrays.copyOf(masks, size * 2);
+            }
+            docs[size] = doc;
+            masks[size++] = (byte) (1 << field);
+        }
+
+        private Posting build() {
+            return new Posting(Arrays.copyOf(docs, size), Arrays.copyOf(masks, size));
+        }
+    }
+}
@@ -67,7 +67,8 @@ public class SecurityConfig {
 					"/api/v1/server-time/**",
                         "/api/v1/posts/**",
                         "/api/v1/community/**",
-                        "/api/v1/comments/**"
+                        "/api/v1/comments/**",
+                        "/api/v1/search/**"
 				).permitAll()
 
 				// ADMIN 전용
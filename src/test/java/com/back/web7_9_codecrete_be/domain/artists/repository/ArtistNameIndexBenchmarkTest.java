@@ -0,0 +1,82 @@
+package com.back.web7_9_codecrete_be.domain.artists.repository;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.SearchResponse;
+import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistNameIndex.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+// ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+// 영문/한글/본명 세 이름을 가진 아티스트 5천 명에서 오타가 섞인 검색어까지 포함해 검색 지연 시간을 측정합니다.
+@Tag("benchmark")
+@DisplayName("아티스트 이름 색인 벤치마크")
+class ArtistNameIndexBenchmarkTest {
+
+    private static final int ARTISTS = 5_000;
+    private static final int QUERIES = 5_000;
+
+    private static final String LATIN = "abcdefghijklmnopqrstuvwxyz";
+
+    @Test
+    @DisplayName("아티스트 5천 명에서 검색 한 번이 1ms 를 넘지 않는다")
+    void searchLatency() {
+        ArtistNameIndex index = new ArtistNameIndex();
+        List<Entry> entries = entries();
+        long buildStart = System.nanoTime();
+        index.rebuild(entries);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        // 완전 일치, 앞부분, 짧은 검색어, 오타(영문/한글)
+        SearchResponse sample = entries.get(ARTISTS / 2).artist();
+        String latin = sample.artistName();
+        String hangul = sample.nameKo();
+        String[] queries = {
+                latin, latin.substring(0, 3), "a", hangul, hangul.substring(0, 1),
+                latin.substring(0, latin.length() - 1) + "x", hangul.substring(0, hangul.length() - 1) + "가"
+        };
+        for (int i = 0; i < QUERIES; i++) index.search(queries[i % queries.length]);
+        long queryStart = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) index.search(queries[i % queries.length]);
+        long microsPerQuery = (System.nanoTime() - queryStart) / QUERIES / 1_000;
+
+        long upsertStart = System.nanoTime();
+        index.upsert(entries.subList(0, 1));
+        long upsertMillis = (System.nanoTime() - upsertStart) / 1_000_000;
+
+        System.out.printf("[artist-name] artists=%d build=%dms query=%dus upsert(1)=%dms%n",
+                index.size(), buildMillis, microsPerQuery, upsertMillis);
+
+        assertThat(microsPerQuery).isLessThan(1_000);
+    }
+
+    private static List<Entry> entries() {
+        Random random = new Random(42);
+        List<Entry> entries = new ArrayList<>(ARTISTS);
+        for (long id = 1; id <= ARTISTS; id++) {
+            String artistName = latin(random, 4 + random.nextInt(8));
+            String nameKo = hangul(random, 2 + random.nextInt(4));
+            String realName = hangul(random, 3);
+            SearchResponse artist = new SearchResponse(id, artistName, nameKo, null, random.nextInt(1_000), null);
+            entries.add(new Entry(artist, List.of(artistName, nameKo, realName)));
+        }
+        return entries;
+    }
+
+    private static String latin(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) builder.append(LATIN.charAt(random.nextInt(LATIN.length())));
+        return builder.toString();
+    }
+
+    private static String hangul(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) builder.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package com.back.web7_9_codecrete_be.domain.artists.repository;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.SearchResponse;
+import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistNameIndex.Entry;
+import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistNameIndex.Match;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ArtistNameIndex 테스트")
+class ArtistNameIndexTest {
+
+    private ArtistNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ArtistNameIndex();
+        index.rebuild(List.of(
+                entry(1L, "IU", "아이유", "이지은", 100),
+                entry(2L, "BLACKPINK", "블랙핑크", null, 200),
+                entry(3L, "BTS", "방탄소년단", null, 300),
+                entry(4L, "Coldplay", "콜드플레이", null, 50),
+                entry(5L, "NewJeans", "뉴진스", null, 150),
+                entry(6L, "IVE", "아이브", null, 120)
+        ));
+    }
+
+    private static Entry entry(long id, String artistName, String nameKo, String realName, int likeCount) {
+        SearchResponse artist = new SearchResponse(id, artistName, nameKo, null, likeCount, null);
+        return new Entry(artist, Arrays.asList(artistName, nameKo, realName));
+    }
+
+    private static List<Long> ids(List<Match> matches) {
+        return matches.stream().map(match -> match.artist().id()).toList();
+    }
+
+    @Test
+    @DisplayName("대소문자와 공백을 무시하고 완전 일치하는 이름은 점수 1 이다")
+    void exactMatch_ignoresCaseAndSpace() {
+        List<Match> matches = index.search("black pink");
+
+        assertThat(ids(matches)).containsExactly(2L);
+        assertThat(matches.get(0).score()).isEqualTo(1.0);
+        assertThat(ids(index.search("이지은"))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("앞부분이 같은 이름은 점수가 같으면 좋아요 수 내림차순이다")
+    void prefixMatch_tieBrokenByLikeCount() {
+        assertThat(ids(index.search("아이"))).containsExactly(6L, 1L);
+        // 입력 중인 글자도 자모 단위로 일치 ("아잉" -> "아이유" 입력 중)
+        assertThat(ids(index.search("아잉"))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이름 중간에 있는 검색어는 3글자 조각 교집합 후 실제 포함 여부를 확인한다")
+    void containsMatch_verifiesCandidates() {
+        assertThat(ids(index.search("소년"))).containsExactly(3L);
+        assertThat(ids(index.search("jeans"))).containsExactly(5L);
+        // "kpinkb" 의 조각은 일부만 있어 후보가 없음
+        assertThat(index.search("kpinkb")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 편집 거리 안의 이름을 찾고, 정확히 일치하는 이름보다 낮은 점수를 준다")
+    void typo_matchesWithinDistance() {
+        assertThat(ids(index.search("블랙핑그"))).containsExactly(2L);
+        assertThat(ids(index.search("coldpaly"))).containsExactly(4L);
+        assertThat(ids(index.search("blakpink"))).containsExactly(2L);
+        assertThat(index.search("blakpink").get(0).score()).isLessThan(index.search("blackp").get(0).score());
+    }
+
+    @Test
+    @DisplayName("짧은 검색어는 오타를 허용하지 않는다")
+    void shortKeyword_noTypoTolerance() {
+        assertThat(index.search("btx")).isEmpty();
+        assertThat(ids(index.search("bts"))).containsExactly(3L);
+        assertThat(index.search("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("추가/삭제된 아티스트는 전체 재구성 없이 검색 결과에 반영된다")
+    void upsertAndRemove() {
+        index.upsert(List.of(entry(7L, "LE SSERAFIM", "르세라핌", null, 90)));
+        index.remove(List.of(1L));
+
+        assertThat(ids(index.search("르세라"))).containsExactly(7L);
+        assertThat(index.search("아이유")).isEmpty();
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("재구성용 데이터를 읽은 뒤에 반영된 변경은 새 색인 위에 다시 겹친다")
+    void rebuild_keepsChangesAfterLoadedGeneration() {
+        long loadedGeneration = index.generation();
+        index.upsert(List.of(entry(7L, "LE SSERAFIM", "르세라핌", null, 90)));
+        index.remove(List.of(2L));
+
+        index.rebuild(List.of(entry(2L, "BLACKPINK", "블랙핑크", null, 200), entry(3L, "BTS", "방탄소년단", null, 300)),
+                loadedGeneration);
+
+        assertThat(ids(index.search("르세라핌"))).containsExactly(7L);
+        assertThat(index.search("블랙핑크")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("편집 거리는 삽입, 삭제, 교체를 한 번씩 세고, 허용 거리를 넘으면 허용 거리 + 1 을 반환한다")
+    void levenshtein() {
+        assertThat(ArtistNameIndex.levenshtein("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(ArtistNameIndex.levenshtein("kitten", "sitting", 1)).isEqualTo(2);
+        assertThat(ArtistNameIndex.levenshtein("abc", "abc", 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("추가/삭제를 반영해 색인에 있는 아티스트인지 확인한다")
+    void contains_reflectsChanges() {
+        index.upsert(List.of(entry(7L, "aespa", "에스파", null, 80)));
+        index.remove(List.of(3L));
+
+        assertThat(index.contains(1L)).isTrue();
+        assertThat(index.contains(3L)).isFalse();
+        assertThat(index.contains(7L)).isTrue();
+        assertThat(index.contains(99L)).isFalse();
+    }
+}
@@ -0,0 +1,94 @@
+package com.back.web7_9_codecrete_be.domain.artists.service.spotify.related;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.RelatedArtistResponse;
+import com.back.web7_9_codecrete_be.domain.artists.entity.ArtistType;
+import com.back.web7_9_codecrete_be.domain.artists.service.spotify.related.model.ArtistProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RelatedArtistGraph 테스트")
+class RelatedArtistGraphTest {
+
+    private static final long POP = 1L;
+    private static final long BALLAD = 2L;
+
+    private static ArtistProfile artist(long id, String group, ArtistType type, int likeCount, Long... genreIds) {
+        return new ArtistProfile(id, "artist" + id, null, null, "spotify" + id, group, type, likeCount, List.of(genreIds));
+    }
+
+    // 1 ~ 3: 같은 그룹(팝), 4 ~ 12: 팝 솔로, 13: 발라드 솔로
+    private static List<ArtistProfile> artists() {
+        List<ArtistProfile> artists = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) artists.add(artist(id, "GROUP-A", ArtistType.SOLO, 10, POP));
+        for (long id = 4; id <= 12; id++) artists.add(artist(id, null, ArtistType.SOLO, (int) id, POP));
+        artists.add(artist(13, null, ArtistType.SOLO, 100, BALLAD));
+        return artists;
+    }
+
+    private static List<Long> relatedIds(RelatedArtistGraph graph, long artistId) {
+        return graph.get(artistId).orElseThrow().stream().map(RelatedArtistResponse::id).toList();
+    }
+
+    @Test
+    @DisplayName("같은 그룹 최대 2명, 같은 장르 최대 3명을 먼저 고르고 나머지를 채워 5명을 추천한다")
+    void build_selectsWithDiversity() {
+        RelatedArtistGraph graph = RelatedArtistGraph.build(artists());
+
+        List<Long> related = relatedIds(graph, 1L);
+        assertThat(related).hasSize(5).doesNotContain(1L);
+        assertThat(related.subList(0, 2)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(graph.size()).isEqualTo(13);
+        assertThat(graph.get(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 장르 후보가 부족하면 같은 타입 아티스트로 채운다")
+    void build_fallsBackToType() {
+        RelatedArtistGraph graph = RelatedArtistGraph.build(artists());
+
+        // 발라드는 혼자이므로 타입(솔로) 후보 중 좋아요가 많은 순으로 채워짐
+        assertThat(relatedIds(graph, 13L)).hasSize(5).doesNotContain(13L);
+    }
+
+    @Test
+    @DisplayName("바뀐 아티스트와 후보를 공유하는 아티스트만 다시 계산하고, 삭제된 아티스트는 목록에서 빠진다")
+    void apply_updatesAffectedArtists() {
+        RelatedArtistGraph graph = RelatedArtistGraph.build(artists());
+
+        // 발라드 아티스트가 그룹 A 에 합류 -> 그룹 멤버를 먼저 추천
+        int recomputed = graph.apply(Map.of(13L, artist(13, "GROUP-A", ArtistType.SOLO, 100, BALLAD)));
+        assertThat(recomputed).isPositive();
+        assertThat(relatedIds(graph, 13L).subList(0, 2)).isSubsetOf(1L, 2L, 3L);
+
+        // 그룹 A 멤버 2 삭제 -> 남은 그룹 멤버에게 13 이 대신 추천됨
+        Map<Long, ArtistProfile> deleted = new HashMap<>();
+        deleted.put(2L, null);
+        graph.apply(deleted);
+        assertThat(graph.get(2L)).isEmpty();
+        assertThat(relatedIds(graph, 1L)).contains(3L, 13L).doesNotContain(2L);
+        assertThat(relatedIds(graph, 3L)).contains(1L, 13L).doesNotContain(2L);
+    }
+
+    @Test
+    @DisplayName("전체 재구성과 같은 결과가 되도록 반영한다")
+    void apply_matchesFullBuild() {
+        RelatedArtistGraph graph = RelatedArtistGraph.build(artists());
+        ArtistProfile liked = artist(4, null, ArtistType.SOLO, 500, POP);
+        graph.apply(Map.of(4L, liked));
+
+        List<ArtistProfile> updated = new ArrayList<>(artists());
+        updated.set(3, liked);
+        RelatedArtistGraph rebuilt = RelatedArtistGraph.build(updated);
+
+        for (long id = 1; id <= 13; id++) {
+            assertThat(relatedIds(graph, id)).as("artistId=%d", id).isEqualTo(relatedIds(rebuilt, id));
+        }
+    }
+}
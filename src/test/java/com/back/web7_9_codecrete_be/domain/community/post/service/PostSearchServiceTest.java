@@ -0,0 +1,86 @@
+package com.back.web7_9_codecrete_be.domain.community.post.service;
+
+import com.back.web7_9_codecrete_be.domain.community.post.dto.request.PostSearchSort;
+import com.back.web7_9_codecrete_be.domain.community.post.entity.Post;
+import com.back.web7_9_codecrete_be.domain.community.post.entity.PostCategory;
+import com.back.web7_9_codecrete_be.domain.community.post.repository.PostRepository;
+import com.back.web7_9_codecrete_be.global.redis.IndexSyncPublisher;
+import com.back.web7_9_codecrete_be.global.redis.PostPubSubChannels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostSearchService 테스트")
+class PostSearchServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private IndexSyncPublisher indexSyncPublisher;
+
+    private PostSearchService postSearchService;
+
+    private static Post post(long postId, String title, String content, PostCategory category) {
+        Post post = Post.create(1L, 1L, title, content, category);
+        ReflectionTestUtils.setField(post, "postId", postId);
+        return post;
+    }
+
+    @BeforeEach
+    void setUp() {
+        postSearchService = new PostSearchService(postRepository, indexSyncPublisher);
+        given(postRepository.findAll()).willReturn(List.of(
+                post(1L, "아이유 콘서트 후기", "좋았어요", PostCategory.REVIEW),
+                post(2L, "후기", "아이유 노래 최고", PostCategory.REVIEW),
+                post(3L, "아이유 콘서트 동행", "같이 가요", PostCategory.JOIN),
+                post(4L, "아이유", "", PostCategory.REVIEW)
+        ));
+        postSearchService.rebuildLocal();
+    }
+
+    @Test
+    @DisplayName("카테고리 안에서 최신 작성 순 또는 관련도 순으로 페이징한다")
+    void search_filtersByCategoryAndSorts() {
+        assertThat(postSearchService.search("아이유", PostCategory.REVIEW, PostSearchSort.RECENT, PageRequest.of(0, 10)))
+                .containsExactly(4L, 2L, 1L);
+        // 제목에 나온 게시글(1, 4)이 내용에만 나온 게시글(2)보다 앞
+        assertThat(postSearchService.search("아이유", PostCategory.REVIEW, PostSearchSort.RELEVANCE, PageRequest.of(0, 10)))
+                .containsExactly(4L, 1L, 2L);
+        assertThat(postSearchService.search("아이유", PostCategory.REVIEW, PostSearchSort.RECENT, PageRequest.of(1, 2)))
+                .containsExactly(1L);
+        assertThat(postSearchService.search("아이유 동행", PostCategory.JOIN, PostSearchSort.RECENT, PageRequest.of(0, 10)))
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 게시글만 반영하고 다른 인스턴스에 전파한다")
+    void upsertAndRemove_updatesIndexAndCategory() {
+        // given
+        Post moved = post(3L, "아이유 콘서트 후기 공유", "", PostCategory.REVIEW);
+        given(postRepository.findAllById(List.of(3L))).willReturn(List.of(moved));
+
+        // when
+        postSearchService.upsertPosts(List.of(3L));
+        postSearchService.removePosts(List.of(4L));
+
+        // then
+        assertThat(postSearchService.search("아이유", PostCategory.REVIEW, PostSearchSort.RECENT, PageRequest.of(0, 10)))
+                .containsExactly(3L, 2L, 1L);
+        assertThat(postSearchService.search("아이유", PostCategory.JOIN, PostSearchSort.RECENT, PageRequest.of(0, 10)))
+                .isEmpty();
+        then(indexSyncPublisher).should().publish(PostPubSubChannels.POST_SEARCH_INDEX, PostSearchService.COMMAND_UPSERT, List.of(3L));
+        then(indexSyncPublisher).should().publish(PostPubSubChannels.POST_SEARCH_INDEX, PostSearchService.COMMAND_REMOVE, List.of(4L));
+    }
+}
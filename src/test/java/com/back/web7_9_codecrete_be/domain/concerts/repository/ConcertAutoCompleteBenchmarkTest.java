@@ -0,0 +1,91 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.WeightedString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+// ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+// 이전 Redis 방식은 서버 없이 측정할 수 없으므로, 같은 제목으로 만들어지는 ZSET 키/원소 수를 계산해 비교합니다.
+@Tag("benchmark")
+@DisplayName("자동완성 색인 벤치마크 (JVM n-gram 색인 vs Redis 부분 문자열 색인)")
+class ConcertAutoCompleteBenchmarkTest {
+
+    private static final int CONCERTS = 5_000;
+    private static final int QUERIES = 200_000;
+
+    private static final String[] WORDS = {
+            "2026", "아이유", "콘서트", "팬미팅", "투어", "서울", "부산", "앙코르", "내한공연", "뮤지컬",
+            "Live", "in", "Seoul", "World", "Tour", "Festival", "재즈", "클래식", "오케스트라", "페스티벌"
+    };
+
+    @Test
+    @DisplayName("색인 크기와 검색 지연 시간 비교")
+    void compareWithRedisSubstringIndex() {
+        List<WeightedString> titles = titles();
+
+        // 이전 방식: 제목마다 모든 부분 문자열을 index:{부분 문자열} ZSET 에 ZADD
+        Set<String> redisKeys = new HashSet<>();
+        long redisMembers = 0;
+        for (WeightedString title : titles) {
+            String word = title.getWord();
+            for (int k = 0; k < word.length(); k++) {
+                for (int j = k + 1; j <= word.length(); j++) {
+                    String subWord = word.substring(k, j);
+                    if (subWord.isBlank()) continue;
+                    redisKeys.add(subWord);
+                    redisMembers++;
+                }
+            }
+        }
+
+        long heapBefore = usedHeap();
+        ConcertAutoCompleteIndex index = new ConcertAutoCompleteIndex();
+        long buildStart = System.nanoTime();
+        index.rebuild(titles);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        long heapAfter = usedHeap();
+
+        String[] queries = {"아", "아이유", "콘서트", "서울 투어", "Live in", "World Tour 2026"};
+        for (int i = 0; i < QUERIES / 10; i++) index.getAutoCompleteWord(queries[i % queries.length], 0, 9);
+        long queryStart = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) index.getAutoCompleteWord(queries[i % queries.length], 0, 9);
+        long nanosPerQuery = (System.nanoTime() - queryStart) / QUERIES;
+
+        System.out.printf("[redis] keys=%d zadd-members=%d round-trips/query=1 + results%n", redisKeys.size(), redisMembers);
+        System.out.printf("[jvm] grams=%d postings=%d heap~%dKB build=%dms query=%dns%n",
+                index.gramCount(), index.postingCount(), (heapAfter - heapBefore) / 1024, buildMillis, nanosPerQuery);
+
+        assertThat(index.postingCount()).isLessThan(redisMembers);
+        assertThat(index.gramCount()).isLessThan(redisKeys.size());
+    }
+
+    private static List<WeightedString> titles() {
+        Random random = new Random(42);
+        List<WeightedString> titles = new ArrayList<>(CONCERTS);
+        for (long id = 1; id <= CONCERTS; id++) {
+            StringBuilder title = new StringBuilder();
+            int words = 3 + random.nextInt(4);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) title.append(' ');
+                title.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            titles.add(new WeightedString(id, title.toString(), random.nextInt(10_000)));
+        }
+        return titles;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
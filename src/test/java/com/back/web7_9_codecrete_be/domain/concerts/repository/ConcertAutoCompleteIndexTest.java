@@ -0,0 +1,179 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.AutoCompleteItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.WeightedString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConcertAutoCompleteIndex 테스트")
+class ConcertAutoCompleteIndexTest {
+
+    private ConcertAutoCompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ConcertAutoCompleteIndex();
+        index.rebuild(List.of(
+                new WeightedString(1L, "2026 아이유 콘서트", 10),
+                new WeightedString(2L, "아이유 팬미팅", 30),
+                new WeightedString(3L, "Coldplay Live in Seoul", 20),
+                new WeightedString(4L, "abc bcd", 50),
+                new WeightedString(5L, "   ", 100),
+                new WeightedString(6L, "HEREH WORLD TOUR", 5)
+        ), Map.of(6L, List.of("아이유"), 3L, List.of("콜드플레이")));
+    }
+
+    private static List<Long> ids(List<AutoCompleteItem> items) {
+        return items.stream().map(AutoCompleteItem::getId).toList();
+    }
+
+    @Test
+    @DisplayName("짧은 검색어는 제목 어디에 있든 가중치 내림차순으로 조회된다")
+    void shortKeyword_infixMatchOrderedByWeight() {
+        assertThat(ids(index.getAutoCompleteWord("아이유", 0, 5))).containsExactly(2L, 1L, 6L);
+        assertThat(ids(index.getAutoCompleteWord("콘", 0, 5))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("긴 검색어는 3글자 조각 교집합 후 실제 포함 여부를 확인한다")
+    void longKeyword_verifiesCandidates() {
+        // "abcd" 의 3글자 조각(abc, bcd)은 모두 "abc bcd" 에 있지만 "abcd" 는 포함하지 않음
+        assertThat(index.getAutoCompleteWord("abcd", 0, 5)).isEmpty();
+        assertThat(index.getAutoCompleteWord("live in", 0, 5))
+                .extracting(AutoCompleteItem::getName)
+                .containsExactly("Coldplay Live in Seoul");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자도 자모 단위로 일치하는 제목을 찾는다")
+    void partialSyllable_matchesByJamo() {
+        // "아이유" 를 입력하는 중간 상태 "앙", "아이ㅇ"
+        assertThat(ids(index.getAutoCompleteWord("앙", 0, 5))).containsExactly(2L, 1L, 6L);
+        assertThat(ids(index.getAutoCompleteWord("아이ㅇ", 0, 5))).containsExactly(2L, 1L, 6L);
+        assertThat(ids(index.getAutoCompleteWord("콘섵", 0, 5))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("초성 검색어는 초성 색인에서 제목과 아티스트 이름을 찾는다")
+    void chosungKeyword_matchesTitleAndArtist() {
+        assertThat(ids(index.getAutoCompleteWord("ㅇㅇㅇ", 0, 5))).containsExactly(2L, 1L, 6L);
+        assertThat(ids(index.getAutoCompleteWord("ㅇㅇㅇ ㅋㅅㅌ", 0, 5))).containsExactly(1L);
+        assertThat(ids(index.getAutoCompleteWord("ㅋㄷㅍㄹㅇ", 0, 5))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("출연 아티스트 이름으로 검색하면 공연 제목을 반환한다")
+    void artistName_returnsConcertTitle() {
+        assertThat(index.getAutoCompleteWord("콜드플", 0, 5))
+                .extracting(AutoCompleteItem::getName)
+                .containsExactly("Coldplay Live in Seoul");
+    }
+
+    @Test
+    @DisplayName("start ~ end 범위는 Redis ZREVRANGE 와 같이 동작한다")
+    void range_followsRedisSemantics() {
+        assertThat(ids(index.getAutoCompleteWord("아", 1, 1))).containsExactly(1L);
+        assertThat(ids(index.getAutoCompleteWord("아", 0, -1))).containsExactly(2L, 1L, 6L);
+        assertThat(ids(index.getAutoCompleteWord("아", -1, -1))).containsExactly(6L);
+        assertThat(index.getAutoCompleteWord("아", 5, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 검색어를 한 번에 조회하면 검색어별 결과를 입력 순서대로 반환한다")
+    void multiKeyword_returnsResultsPerKeyword() {
+        Map<String, List<AutoCompleteItem>> results = index.getAutoCompleteWords(List.of("콘서트", "아이유", "", "콘서트", "없는 단어"), 0, 5);
+
+        assertThat(results.keySet()).containsExactly("콘서트", "아이유", "없는 단어");
+        assertThat(ids(results.get("콘서트"))).containsExactly(1L);
+        assertThat(ids(results.get("아이유"))).containsExactly(2L, 1L, 6L);
+        assertThat(results.get("없는 단어")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("추가/수정된 공연만 반영해도 가중치 순서대로 조회된다")
+    void upsert_mergesWithBaseByWeight() {
+        index.upsert(List.of(
+                new WeightedString(7L, "아이유 앵콜 콘서트", 20),
+                new WeightedString(1L, "2026 아이유 콘서트 추가 공연", 40)
+        ), Map.of());
+
+        assertThat(ids(index.getAutoCompleteWord("아이유", 0, 5))).containsExactly(1L, 2L, 7L, 6L);
+        assertThat(index.getAutoCompleteWord("추가 공연", 0, 5))
+                .extracting(AutoCompleteItem::getName)
+                .containsExactly("2026 아이유 콘서트 추가 공연");
+        assertThat(ids(index.getAutoCompleteWord("아이유", -1, -1))).containsExactly(6L);
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.pendingChangeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가중치만 더하면 제목과 아티스트는 그대로 두고 순서만 바뀌며, 색인에 없는 공연은 건너뛴다")
+    void reweight_changesOrderOnly() {
+        index.upsert(List.of(new WeightedString(7L, "아이유 앵콜 콘서트", 20)), Map.of());
+
+        int reweighted = index.reweight(Map.of(6L, 40.0, 7L, 5.0, 99L, 100.0));
+
+        assertThat(reweighted).isEqualTo(2);
+        assertThat(ids(index.getAutoCompleteWord("아이유", 0, 5))).containsExactly(6L, 2L, 7L, 1L);
+        assertThat(index.getAutoCompleteWord("아이유 앵콜", 0, 5))
+                .extracting(AutoCompleteItem::getName)
+                .containsExactly("아이유 앵콜 콘서트");
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("삭제된 공연은 전체 재구성 없이 검색 결과에서 빠진다")
+    void remove_hidesConcert() {
+        index.remove(List.of(2L, 6L));
+
+        assertThat(ids(index.getAutoCompleteWord("아이유", 0, 5))).containsExactly(1L);
+        assertThat(index.getAutoCompleteWord("ㅋㄷㅍㄹㅇ", 0, 5)).hasSize(1);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재구성용 데이터를 읽은 뒤에 반영된 변경은 새 색인 위에 다시 겹친다")
+    void rebuild_keepsChangesAfterLoadedGeneration() {
+        long loadedGeneration = index.generation();
+        index.upsert(List.of(new WeightedString(8L, "아이유 추가 공연", 1)), Map.of());
+
+        index.rebuild(List.of(new WeightedString(2L, "아이유 팬미팅", 30)), Map.of(), loadedGeneration);
+
+        assertThat(ids(index.getAutoCompleteWord("아이유", 0, 5))).containsExactly(2L, 8L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("변경이 많아지면 base 에 합쳐도 같은 결과를 반환한다")
+    void upsert_compactsWhenDeltaGrows() {
+        List<WeightedString> many = new ArrayList<>();
+        for (long id = 100; id < 100 + ConcertAutoCompleteIndex.COMPACT_THRESHOLD; id++) {
+            many.add(new WeightedString(id, "공연 " + id, 0));
+        }
+        index.upsert(many, Map.of());
+        index.upsert(List.of(new WeightedString(2L, "아이유 팬미팅 추가", 30)), Map.of());
+
+        assertThat(index.pendingChangeCount()).isZero();
+        assertThat(ids(index.getAutoCompleteWord("아이유", 0, 5))).containsExactly(2L, 1L, 6L);
+        assertThat(index.size()).isEqualTo(5 + ConcertAutoCompleteIndex.COMPACT_THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("공백 검색어와 공백뿐인 제목은 색인하지 않고, 교체 후에는 새 색인으로 응답한다")
+    void blankAndHotSwap() {
+        assertThat(index.getAutoCompleteWord(" ", 0, 5)).isEmpty();
+        assertThat(index.size()).isEqualTo(5);
+
+        index.rebuild(List.of(new WeightedString(9L, "새 공연", 1)));
+
+        assertThat(index.getAutoCompleteWord("아이유", 0, 5)).isEmpty();
+        assertThat(ids(index.getAutoCompleteWord("공연", 0, 5))).containsExactly(9L);
+    }
+}
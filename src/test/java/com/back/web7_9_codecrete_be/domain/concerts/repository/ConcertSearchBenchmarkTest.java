@@ -0,0 +1,70 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSearchIndex.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+// ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+// 검색어 단어가 대부분의 공연에 나오는 최악의 경우(결과 수천 건 정렬)까지 포함해 공연 1만 개에서 검색 지연 시간을 측정합니다.
+@Tag("benchmark")
+@DisplayName("공연 검색 색인 벤치마크")
+class ConcertSearchBenchmarkTest {
+
+    private static final int CONCERTS = 10_000;
+    private static final int QUERIES = 2_000;
+
+    private static final String[] WORDS = {
+            "2026", "아이유", "콘서트", "팬미팅", "투어", "서울", "부산", "앙코르", "내한공연", "뮤지컬",
+            "Live", "in", "Seoul", "World", "Tour", "Festival", "재즈", "클래식", "오케스트라", "페스티벌",
+            "공연장", "예술의전당", "올림픽공원", "세종문화회관"
+    };
+
+    @Test
+    @DisplayName("공연 1만 개에서 검색 한 번이 10ms 를 넘지 않는다")
+    void searchLatency() {
+        ConcertSearchIndex index = new ConcertSearchIndex();
+        long buildStart = System.nanoTime();
+        index.rebuild(documents());
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        String[] queries = {"아이유", "서울 투어", "예술의전당", "Live in", "오케스트라 클래식", "앙"};
+        for (int i = 0; i < QUERIES; i++) index.search(queries[i % queries.length]);
+        long queryStart = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) index.search(queries[i % queries.length]);
+        long microsPerQuery = (System.nanoTime() - queryStart) / QUERIES / 1_000;
+
+        long upsertStart = System.nanoTime();
+        index.upsert(documents().subList(0, 200));
+        long upsertMillis = (System.nanoTime() - upsertStart) / 1_000_000;
+
+        System.out.printf("[search] concerts=%d build=%dms query=%dus upsert(200)=%dms%n",
+                index.size(), buildMillis, microsPerQuery, upsertMillis);
+
+        assertThat(microsPerQuery).isLessThan(10_000);
+    }
+
+    private static List<Document> documents() {
+        Random random = new Random(42);
+        List<Document> documents = new ArrayList<>(CONCERTS);
+        for (long id = 1; id <= CONCERTS; id++) {
+            documents.add(new Document(id, words(random, 4), words(random, 1), words(random, 1), "서울", words(random, 80)));
+        }
+        return documents;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int w = 0; w < count; w++) {
+            if (w > 0) builder.append(' ');
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
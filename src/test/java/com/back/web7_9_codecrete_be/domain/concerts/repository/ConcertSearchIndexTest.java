@@ -0,0 +1,93 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSearchIndex.Document;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSearchIndex.Hit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConcertSearchIndex 테스트")
+class ConcertSearchIndexTest {
+
+    private ConcertSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ConcertSearchIndex();
+        index.rebuild(List.of(
+                new Document(1L, "2026 아이유 콘서트", "IU 아이유", "올림픽공원 KSPO DOME", "서울", "아이유의 월드 투어"),
+                new Document(2L, "Coldplay Live in Seoul", "Coldplay 콜드플레이", "고양종합운동장", "경기", "내한공연"),
+                new Document(3L, "재즈 페스티벌", null, "올림픽공원 88잔디마당", "서울", "아이유 게스트 출연"),
+                new Document(4L, "부산 록 페스티벌", null, "삼락생태공원", "부산", null)
+        ));
+    }
+
+    private static List<Long> ids(List<Hit> hits) {
+        return hits.stream().map(Hit::concertId).toList();
+    }
+
+    @Test
+    @DisplayName("제목에 나온 단어가 소개에만 나온 단어보다 높은 점수를 받는다")
+    void search_ranksByFieldWeight() {
+        assertThat(ids(index.search("아이유"))).containsExactly(1L, 3L);
+        assertThat(index.count("아이유")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("공백으로 나눈 모든 단어를 어느 필드에든 포함하는 공연만 찾는다")
+    void search_requiresAllTerms() {
+        assertThat(ids(index.search("서울 페스티벌"))).containsExactly(3L);
+        assertThat(ids(index.search("Live in"))).containsExactly(2L);
+        assertThat(index.search("아이유 부산")).isEmpty();
+        assertThat(index.search(" ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 점수면 최신 등록 순(ID 내림차순)으로 정렬한다")
+    void search_tieBreaksByNewest() {
+        assertThat(ids(index.search("페스티벌"))).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("3글자 이상 단어는 2글자 조각이 같은 필드에 모두 있어도 실제로 포함할 때만 찾는다")
+    void search_verifiesLongTerms() {
+        // "올림픽" 의 조각(올림, 림픽)은 있지만 "림픽공원올" 은 어느 필드에도 없음
+        assertThat(index.search("림픽공원올")).isEmpty();
+        assertThat(ids(index.search("올림픽공원"))).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("추가/수정/삭제된 공연만 반영해도 전체 검색 결과에 겹쳐진다")
+    void upsertAndRemove() {
+        index.upsert(List.of(new Document(5L, "아이유 팬미팅", "아이유", "잠실실내체육관", "서울", "")));
+        index.remove(List.of(3L));
+
+        assertThat(ids(index.search("아이유"))).containsExactly(1L, 5L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("재구성용 데이터를 읽은 뒤에 반영된 변경은 새 색인 위에 다시 겹친다")
+    void rebuild_keepsChangesAfterLoadedGeneration() {
+        long loadedGeneration = index.generation();
+        index.remove(List.of(1L));
+
+        index.rebuild(List.of(new Document(1L, "2026 아이유 콘서트", null, "올림픽공원", "서울", "")), loadedGeneration);
+
+        assertThat(index.search("아이유")).isEmpty();
+        assertThat(index.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("검색어가 나온 부분을 <em> 으로 감싸고 HTML 특수문자는 이스케이프한다")
+    void highlight() {
+        assertThat(ConcertSearchIndex.highlight("2026 아이유 <콘서트>", "아이유 콘서트"))
+                .isEqualTo("2026 <em>아이유</em> &lt;<em>콘서트</em>&gt;");
+        assertThat(ConcertSearchIndex.highlight("Coldplay Live", "live"))
+                .isEqualTo("Coldplay <em>Live</em>");
+    }
+}
@@ -0,0 +1,135 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository;
+
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository.ViewCountDrain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 조회수 증가(하루 한 번)/반영 Lua 스크립트를 실제 Redis(localhost:6379, 15번 DB)에서 확인합니다.
+// ./gradlew test -PincludeIntegration=true 또는 ./gradlew fullTest 로 실행
+@Tag("integration")
+@DisplayName("조회수 반영 Redis 스크립트 통합 테스트")
+class ConcertViewCountRedisIntegrationTest {
+
+    private static final String OWNER = "test-instance";
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate redisTemplate;
+
+    private ConcertRedisRepository concertRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+        configuration.setDatabase(15);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                connection.serverCommands().flushDb();
+                return null;
+            });
+        } catch (Exception e) {
+            assumeTrue(false, "Redis 에 연결할 수 없어 건너뜁니다.");
+        }
+        concertRedisRepository = new ConcertRedisRepository(redisTemplate, null, null, null, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("정리 전에는 같은 묶음 ID 와 증가분이 다시 조회되고, 정리 후 새 증가분은 새 묶음으로 조회된다")
+    void drainAndComplete() {
+        // given
+        concertRedisRepository.incrementViewCount(1L, 10);
+        concertRedisRepository.incrementViewCount(1L, 10);
+        concertRedisRepository.incrementViewCount(2L, 0);
+
+        // when
+        ViewCountDrain first = concertRedisRepository.drainPendingViewCounts();
+        concertRedisRepository.incrementViewCount(2L, 0);
+        ViewCountDrain retried = concertRedisRepository.drainPendingViewCounts();
+        concertRedisRepository.completeViewCountDrain(first.flushId());
+        ViewCountDrain next = concertRedisRepository.drainPendingViewCounts();
+
+        // then
+        assertThat(first.flushId()).isNotBlank();
+        assertThat(first.deltas()).isEqualTo(Map.of(1L, 2L, 2L, 1L));
+        // 반영 중인 묶음이 남아 있으면 새 증가분을 섞지 않고 같은 묶음을 다시 돌려줌
+        assertThat(retried).isEqualTo(first);
+        assertThat(next.flushId()).isNotEqualTo(first.flushId());
+        assertThat(next.deltas()).isEqualTo(Map.of(2L, 1L));
+        assertThat(concertRedisRepository.getCachedViewCount(1L)).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("다른 묶음 ID 로는 반영 중인 묶음을 지우지 않는다")
+    void completeIgnoresOtherFlushId() {
+        // given
+        concertRedisRepository.incrementViewCount(1L, 0);
+        ViewCountDrain drain = concertRedisRepository.drainPendingViewCounts();
+
+        // when
+        concertRedisRepository.completeViewCountDrain("stale-flush-id");
+
+        // then
+        assertThat(concertRedisRepository.drainPendingViewCounts()).isEqualTo(drain);
+        concertRedisRepository.completeViewCountDrain(drain.flushId());
+        assertThat(concertRedisRepository.drainPendingViewCounts().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 방문자는 하루에 한 번만 조회수와 증가분을 올리고, 다음 날에는 다시 센다")
+    void incrementUniqueViewCount_oncePerViewerPerDay() {
+        // given
+        LocalDate today = LocalDate.now();
+
+        // when
+        ConcertRedisRepository.ViewCount first = concertRedisRepository.incrementUniqueViewCount(1L, 5, "viewer-a", today);
+        ConcertRedisRepository.ViewCount again = concertRedisRepository.incrementUniqueViewCount(1L, 5, "viewer-a", today);
+        ConcertRedisRepository.ViewCount other = concertRedisRepository.incrementUniqueViewCount(1L, 5, "viewer-b", today);
+        ConcertRedisRepository.ViewCount nextDay = concertRedisRepository.incrementUniqueViewCount(1L, 5, "viewer-a", today.plusDays(1));
+
+        // then
+        assertThat(first).isEqualTo(new ConcertRedisRepository.ViewCount(true, 6));
+        assertThat(again).isEqualTo(new ConcertRedisRepository.ViewCount(false, 6));
+        assertThat(other).isEqualTo(new ConcertRedisRepository.ViewCount(true, 7));
+        assertThat(nextDay).isEqualTo(new ConcertRedisRepository.ViewCount(true, 8));
+        assertThat(concertRedisRepository.drainPendingViewCounts().deltas()).isEqualTo(Map.of(1L, 3L));
+        assertThat(concertRedisRepository.countUniqueViewers(1L, today, today)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("락은 잡은 인스턴스만 연장할 수 있다")
+    void renewLock() {
+        // given
+        assertThat(concertRedisRepository.tryLock("viewCountTest", OWNER, 5)).isTrue();
+
+        // when
+        boolean renewedByOwner = concertRedisRepository.renewLock("viewCountTest", OWNER, 60);
+        boolean renewedByOther = concertRedisRepository.renewLock("viewCountTest", "other-instance", 60);
+
+        // then
+        assertThat(renewedByOwner).isTrue();
+        assertThat(renewedByOther).isFalse();
+        assertThat(redisTemplate.getExpire("initLoad:viewCountTest")).isGreaterThan(5L);
+        assertThat(concertRedisRepository.tryLock("viewCountTest", "other-instance", 5)).isFalse();
+    }
+}
@@ -0,0 +1,117 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository.serializer;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertDetailResponse;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ConcertBinaryCodec 직렬화 테스트")
+class ConcertBinaryCodecTest {
+
+    static ConcertItem item(long id) {
+        ConcertItem item = new ConcertItem();
+        item.setId(id);
+        item.setName("2026 콘서트 " + id);
+        item.setPlaceName("올림픽공원 KSPO DOME");
+        item.setTicketTime(LocalDateTime.of(2026, 3, 1, 20, 0, 0, 500_000_000));
+        item.setTicketEndTime(LocalDateTime.of(2026, 4, 1, 23, 59, 59));
+        item.setStartDate(LocalDate.of(2026, 4, 10));
+        item.setEndDate(LocalDate.of(2026, 4, 12));
+        item.setPosterUrl("http://www.kopis.or.kr/upload/pfmPoster/PF_PF" + id + ".gif");
+        item.setMaxPrice(198_000);
+        item.setMinPrice(99_000);
+        item.setViewCount((int) (id * 37));
+        item.setLikeCount((int) (id * 3));
+        return item;
+    }
+
+    static ConcertDetailResponse detail() {
+        ConcertDetailResponse detail = new ConcertDetailResponse();
+        detail.setConcertId(42L);
+        detail.setName("2026 콘서트");
+        detail.setDescription("공연 설명");
+        detail.setPlaceName("올림픽공원 KSPO DOME");
+        detail.setPlaceAddress("서울특별시 송파구 올림픽로 424");
+        detail.setTicketTime(LocalDateTime.of(2026, 3, 1, 20, 0));
+        detail.setStartDate(LocalDate.of(2026, 4, 10));
+        detail.setEndDate(LocalDate.of(2026, 4, 12));
+        detail.setPosterUrl("http://www.kopis.or.kr/upload/pfmPoster/PF_PF42.gif");
+        detail.setMaxPrice(198_000);
+        detail.setMinPrice(99_000);
+        detail.setViewCount(1_234);
+        detail.setLikeCount(56);
+        detail.setConcertImageUrls(List.of("http://img/1.jpg", "http://img/2.jpg"));
+        detail.setConcertArtists(List.of(1L, 2L, 3L));
+        return detail;
+    }
+
+    @Test
+    @DisplayName("공연 목록은 모든 필드가 그대로 복원된다")
+    void itemList_roundTrip() {
+        // given
+        List<ConcertItem> items = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) items.add(item(id));
+        items.get(1).setTicketTime(null);
+        items.get(1).setName(null);
+
+        // when
+        List<ConcertItem> decoded = ConcertBinaryCodec.decodeItemList(ConcertBinaryCodec.encodeItemList(items));
+
+        // then
+        assertThat(decoded).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(items);
+    }
+
+    @Test
+    @DisplayName("공연 상세는 null 필드와 목록까지 그대로 복원된다")
+    void detail_roundTrip() {
+        // given
+        ConcertDetailResponse detail = detail();
+        detail.setConcertImageUrls(null);
+
+        // when
+        ConcertDetailResponse decoded = ConcertBinaryCodec.decodeDetail(ConcertBinaryCodec.encodeDetail(detail));
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(detail);
+    }
+
+    @Test
+    @DisplayName("이전 JSON 값이나 다른 타입의 값은 캐시 미스(null)로 처리한다")
+    void foreignBytes_areTreatedAsMiss() {
+        // given
+        byte[] legacyJson = new GenericJackson2JsonRedisSerializer(new ObjectMapper().registerModule(new JavaTimeModule()))
+                .serialize(detail());
+        byte[] itemBytes = ConcertBinaryCodec.encodeItem(item(1));
+
+        // when & then
+        assertThat(new ConcertDetailRedisSerializer().deserialize(legacyJson)).isNull();
+        assertThat(ConcertBinaryCodec.decodeDetail(itemBytes)).isNull();
+        assertThat(ConcertBinaryCodec.decodeItemList("[]".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전이나 잘린 값은 캐시 미스(null)로 처리한다")
+    void unknownVersionOrTruncated_areTreatedAsMiss() {
+        // given
+        byte[] bytes = ConcertBinaryCodec.encodeItemList(List.of(item(1), item(2)));
+        byte[] futureVersion = bytes.clone();
+        futureVersion[1] = (byte) (ConcertBinaryCodec.VERSION + 1);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        // when & then
+        assertThat(ConcertBinaryCodec.decodeItemList(futureVersion)).isNull();
+        assertThat(new ConcertItemListRedisSerializer().deserialize(truncated)).isNull();
+    }
+}
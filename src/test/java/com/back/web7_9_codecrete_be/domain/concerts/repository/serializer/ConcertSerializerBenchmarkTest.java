@@ -0,0 +1,75 @@
+package com.back.web7_9_codecrete_be.domain.concerts.repository.serializer;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+// ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+@Tag("benchmark")
+@DisplayName("공연 목록 직렬화 벤치마크 (JSON vs 바이너리)")
+class ConcertSerializerBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    @Test
+    @DisplayName("바이너리 직렬화는 JSON 보다 크기, 시간, 할당량이 작다")
+    void compareWithJson() {
+        List<ConcertItem> page = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) page.add(ConcertBinaryCodecTest.item(id));
+
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> json = (RedisSerializer<Object>) (RedisSerializer<?>)
+                new GenericJackson2JsonRedisSerializer(new ObjectMapper().registerModule(new JavaTimeModule()));
+        RedisSerializer<List<ConcertItem>> binary = new ConcertItemListRedisSerializer();
+
+        Result jsonResult = measure("json", () -> json.serialize(page), json::deserialize);
+        Result binaryResult = measure("binary", () -> binary.serialize(page), binary::deserialize);
+
+        assertThat(binaryResult.bytes).isLessThan(jsonResult.bytes);
+        assertThat(binaryResult.allocatedPerOp).isLessThan(jsonResult.allocatedPerOp);
+    }
+
+    private Result measure(String name, Supplier<byte[]> serialize,
+                           Function<byte[], ?> deserialize) {
+        byte[] bytes = serialize.get();
+        for (int i = 0; i < WARMUP; i++) deserialize.apply(serialize.get());
+
+        long allocatedBefore = allocatedBytes();
+        long serializeStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) serialize.get();
+        long serializeNanos = System.nanoTime() - serializeStart;
+
+        long deserializeStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) deserialize.apply(bytes);
+        long deserializeNanos = System.nanoTime() - deserializeStart;
+        long allocatedPerOp = (allocatedBytes() - allocatedBefore) / ITERATIONS;
+
+        Result result = new Result(bytes.length, serializeNanos / ITERATIONS, deserializeNanos / ITERATIONS, allocatedPerOp);
+        System.out.printf("[%s] size=%dB serialize=%dns deserialize=%dns allocated=%dB/op%n",
+                name, result.bytes, result.serializeNanosPerOp, result.deserializeNanosPerOp, result.allocatedPerOp);
+        return result;
+    }
+
+    // 현재 스레드가 할당한 누적 바이트 (HotSpot 전용)
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private record Result(int bytes, long serializeNanosPerOp, long deserializeNanosPerOp, long allocatedPerOp) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertListBody;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ListSort;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertCacheWarmer 테스트")
+class ConcertCacheWarmerTest {
+
+    @Mock
+    private ConcertService concertService;
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private ConcertRedisRepository concertRedisRepository;
+
+    @Mock
+    private ConcertDetailLoader concertDetailLoader;
+
+    private ConcertCacheWarmer concertCacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        concertCacheWarmer = new ConcertCacheWarmer(concertService, concertRepository, concertRedisRepository, concertDetailLoader);
+        ReflectionTestUtils.setField(concertCacheWarmer, "pages", 2);
+        ReflectionTestUtils.setField(concertCacheWarmer, "pageSize", 20);
+        ReflectionTestUtils.setField(concertCacheWarmer, "topDetails", 0);
+        ReflectionTestUtils.setField(concertCacheWarmer, "concurrency", 2);
+        ReflectionTestUtils.setField(concertCacheWarmer, "listBodyCacheEnabled", true);
+    }
+
+    @Test
+    @DisplayName("캐시에서 읽는 정렬 기준의 앞 페이지(목록 + 응답 본문)를 새 세대에 채운 뒤에 세대 번호를 교체한다")
+    void warmUp_publishesGenerationAfterAllPages() {
+        // given
+        List<ConcertItem> page = List.of(new ConcertItem());
+        ConcertListBody body = ConcertListBody.of("{}".getBytes(StandardCharsets.UTF_8));
+        given(concertService.toConcertsListBody(page)).willReturn(body);
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(concertRedisRepository.reserveConcertsListGeneration(any(ListSort.class))).willReturn(7L);
+        given(concertService.findConcertsList(any(Pageable.class), any(ListSort.class))).willReturn(page);
+
+        // when
+        boolean warmed = concertCacheWarmer.warmUp();
+
+        // then
+        assertThat(warmed).isTrue();
+        int sorts = ConcertCacheWarmer.WARM_UP_SORTS.size();
+        assertThat(ConcertCacheWarmer.WARM_UP_SORTS).containsExactly(ListSort.REGISTERED);
+        then(concertRedisRepository).should(times(sorts * 2)).saveConcertsList(any(ListSort.class), eq(7L), any(Pageable.class), eq(page));
+        InOrder inOrder = inOrder(concertRedisRepository);
+        inOrder.verify(concertRedisRepository, times(sorts * 2)).saveConcertsListBody(any(ListSort.class), eq(7L), any(Pageable.class), eq(body), eq(page));
+        inOrder.verify(concertRedisRepository, times(sorts)).publishConcertsListGeneration(any(ListSort.class), eq(7L));
+        // 랭킹 정렬은 목록 API 가 ZSET 에서 읽으므로 채우지 않음
+        then(concertService).should(never()).findConcertsList(any(Pageable.class), eq(ListSort.LIKE));
+        then(concertRedisRepository).should().unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("페이지 조회에 실패하면 세대 번호를 교체하지 않고 false 를 반환한다")
+    void warmUp_failure_doesNotPublish() {
+        // given
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(concertService.findConcertsList(any(Pageable.class), any(ListSort.class))).willThrow(new IllegalStateException("db down"));
+
+        // when
+        boolean warmed = concertCacheWarmer.warmUp();
+
+        // then
+        assertThat(warmed).isFalse();
+        then(concertRedisRepository).should(never()).publishConcertsListGeneration(any(ListSort.class), anyLong());
+        then(concertRedisRepository).should().unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행 중이면 아무것도 하지 않고 false 를 반환한다")
+    void warmUp_locked_skips() {
+        // given
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(false);
+
+        // when
+        boolean warmed = concertCacheWarmer.warmUp();
+
+        // then
+        assertThat(warmed).isFalse();
+        then(concertService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("별도 스레드에서 미리 채우지 못하면 캐시에서 읽는 정렬 기준의 세대 번호만 올린다")
+    void warmUpInBackground_failure_bumpsGeneration() {
+        // given
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(false);
+
+        // when
+        concertCacheWarmer.warmUpInBackground();
+
+        // then
+        then(concertRedisRepository).should().bumpConcertsListGeneration(ListSort.REGISTERED);
+        then(concertRedisRepository).should(never()).bumpConcertsListGeneration(ListSort.LIKE);
+    }
+}
@@ -0,0 +1,121 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.entity.Concert;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertLikeRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertCounterService 테스트")
+class ConcertCounterServiceTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private ConcertLikeRepository concertLikeRepository;
+
+    @Mock
+    private ConcertRedisRepository concertRedisRepository;
+
+    private ConcertCounterService concertCounterService;
+
+    @BeforeEach
+    void setUp() {
+        concertCounterService = new ConcertCounterService(concertRepository, concertLikeRepository, concertRedisRepository);
+    }
+
+    @Test
+    @DisplayName("재조정은 DB 에서 다시 센 공연 수, 예매 시각, 사용자별 좋아요 수로 카운터를 교체한다")
+    @SuppressWarnings("unchecked")
+    void reconcile_replacesCountersWithDbValues() {
+        // given
+        LocalDateTime ticketTime = LocalDateTime.now().plusDays(3);
+        ConcertRepository.ConcertTicketTime ticketRow = mock(ConcertRepository.ConcertTicketTime.class);
+        given(ticketRow.getConcertId()).willReturn(10L);
+        given(ticketRow.getTicketTime()).willReturn(ticketTime);
+        ConcertLikeRepository.UserLikedCount likeRow = mock(ConcertLikeRepository.UserLikedCount.class);
+        given(likeRow.getUserId()).willReturn(7L);
+        given(likeRow.getLikedCount()).willReturn(4L);
+
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(concertRepository.count()).willReturn(120L);
+        given(concertRepository.findTicketTimesFrom(any(LocalDateTime.class))).willReturn(List.of(ticketRow));
+        given(concertLikeRepository.countGroupByUser()).willReturn(List.of(likeRow));
+
+        // when
+        concertCounterService.reconcile();
+
+        // then
+        ArgumentCaptor<Map<Long, LocalDateTime>> ticketTimes = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<Long, Long>> userLikedCounts = ArgumentCaptor.forClass(Map.class);
+        then(concertRedisRepository).should().replaceConcertCounters(eq(120L), ticketTimes.capture(), userLikedCounts.capture());
+        assertThat(ticketTimes.getValue()).containsExactly(entry(10L, ticketTime));
+        assertThat(userLikedCounts.getValue()).containsExactly(entry(7L, 4L));
+        then(concertRedisRepository).should().unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 재조정 중이면 DB 를 세지 않는다")
+    void reconcile_locked_skips() {
+        // given
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(false);
+
+        // when
+        concertCounterService.reconcile();
+
+        // then
+        then(concertRepository).shouldHaveNoInteractions();
+        then(concertRedisRepository).should(never()).replaceConcertCounters(anyLong(), anyMap(), anyMap());
+    }
+
+    @Test
+    @DisplayName("예매 시각 갱신 시 DB 에 없는 공연은 예매 예정 공연에서 제외한다")
+    @SuppressWarnings("unchecked")
+    void refreshTicketTimes_removesMissingConcerts() {
+        // given
+        LocalDateTime ticketTime = LocalDateTime.now().plusDays(1);
+        Concert concert = mock(Concert.class);
+        given(concert.getConcertId()).willReturn(1L);
+        given(concert.getTicketTime()).willReturn(ticketTime);
+        given(concertRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(concert));
+
+        // when
+        concertCounterService.refreshTicketTimes(List.of(1L, 2L));
+
+        // then
+        ArgumentCaptor<Map<Long, LocalDateTime>> captor = ArgumentCaptor.forClass(Map.class);
+        then(concertRedisRepository).should().updateTicketTimes(captor.capture());
+        assertThat(captor.getValue()).hasSize(2)
+                .containsEntry(1L, ticketTime)
+                .containsEntry(2L, null);
+    }
+
+    @Test
+    @DisplayName("공연 추가/삭제와 좋아요/해제는 카운터를 증감한다")
+    void events_adjustCounters() {
+        // when
+        concertCounterService.onConcertsDeleted(List.of(3L, 4L));
+        concertCounterService.onLikeChanged(7L, true);
+        concertCounterService.onLikeChanged(7L, false);
+
+        // then
+        then(concertRedisRepository).should().adjustTotalConcertsCount(-2L);
+        then(concertRedisRepository).should().adjustUserLikedCount(7L, 1L);
+        then(concertRedisRepository).should().adjustUserLikedCount(7L, -1L);
+    }
+}
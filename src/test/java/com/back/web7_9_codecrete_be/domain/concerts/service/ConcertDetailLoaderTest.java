@@ -0,0 +1,112 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.repository.ConcertArtistRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertDetailResponse;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertImageRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.global.error.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertDetailLoader single-flight 테스트")
+class ConcertDetailLoaderTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private ConcertImageRepository concertImageRepository;
+
+    @Mock
+    private ConcertArtistRepository concertArtistRepository;
+
+    @Mock
+    private ConcertRedisRepository concertRedisRepository;
+
+    private ConcertDetailLoader concertDetailLoader;
+
+    private static final long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        concertDetailLoader = new ConcertDetailLoader(concertRepository, concertImageRepository, concertArtistRepository, concertRedisRepository);
+    }
+
+    @Test
+    @DisplayName("같은 공연을 동시에 요청하면 DB는 한 번만 조회하고 모두 같은 결과를 받는다")
+    void concurrentLoad_queriesDatabaseOnce() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ConcertDetailResponse detail = new ConcertDetailResponse();
+        detail.setConcertId(CONCERT_ID);
+        given(concertRepository.getConcertDetailById(CONCERT_ID)).willAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return detail;
+        });
+        given(concertImageRepository.getConcertImagesByConcert_ConcertId(CONCERT_ID)).willReturn(List.of());
+        given(concertArtistRepository.getConcertArtistsByConcert_ConcertId(CONCERT_ID)).willReturn(List.of());
+
+        List<ConcertDetailResponse> results = new CopyOnWriteArrayList<>();
+        Thread leader = new Thread(() -> results.add(concertDetailLoader.load(CONCERT_ID)));
+        leader.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when : 첫 요청이 DB 조회 중일 때 들어온 요청들
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Thread follower = new Thread(() -> results.add(concertDetailLoader.load(CONCERT_ID)));
+            followers.add(follower);
+            follower.start();
+        }
+        waitUntilWaiting(followers);
+        release.countDown();
+
+        leader.join(5_000);
+        for (Thread follower : followers) follower.join(5_000);
+
+        // then
+        then(concertRepository).should(times(1)).getConcertDetailById(CONCERT_ID);
+        then(concertRedisRepository).should(times(1)).saveConcertDetail(CONCERT_ID, detail);
+        assertThat(results).hasSize(8).allSatisfy(result -> assertThat(result).isSameAs(detail));
+    }
+
+    @Test
+    @DisplayName("조회 실패 후에는 진행 중인 조회가 정리되어 다음 요청이 다시 DB를 조회한다")
+    void failedLoad_isNotShared() {
+        // given
+        given(concertRepository.getConcertDetailById(CONCERT_ID)).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> concertDetailLoader.load(CONCERT_ID)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> concertDetailLoader.load(CONCERT_ID)).isInstanceOf(BusinessException.class);
+        then(concertRepository).should(times(2)).getConcertDetailById(CONCERT_ID);
+        then(concertRedisRepository).should(never()).saveConcertDetail(anyLong(), any());
+    }
+
+    // 후속 요청들이 첫 요청의 결과를 기다리는 상태가 될 때까지 대기
+    private static void waitUntilWaiting(List<Thread> threads) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) return;
+            Thread.sleep(10);
+        }
+        fail("후속 요청이 대기 상태가 되지 않았습니다.");
+    }
+}
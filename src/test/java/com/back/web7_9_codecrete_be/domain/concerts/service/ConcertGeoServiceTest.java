@@ -0,0 +1,134 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertGeoRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertGeoRedisRepository.NearbyVenue;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertGeoRedisRepository.Venue;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertGeoRedisRepository.VenueConcert;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertGeoService 테스트")
+class ConcertGeoServiceTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private ConcertRedisRepository concertRedisRepository;
+
+    @Mock
+    private ConcertGeoRedisRepository concertGeoRedisRepository;
+
+    private ConcertGeoService concertGeoService;
+
+    @BeforeEach
+    void setUp() {
+        concertGeoService = new ConcertGeoService(concertRepository, concertRedisRepository, concertGeoRedisRepository);
+    }
+
+    @Test
+    @DisplayName("재구성 시 공연을 공연장별로 시작일 순서대로 묶고, 좌표가 없는 공연장은 제외한다")
+    @SuppressWarnings("unchecked")
+    void rebuild_groupsConcertsByVenue() {
+        // given
+        LocalDate endDate = LocalDate.now().plusDays(10);
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(concertRepository.findUpcomingConcertVenues(any(LocalDate.class))).willReturn(List.of(
+                venue(1L, 100L, 37.5, 127.0, endDate),
+                venue(2L, 200L, 0, 0, endDate),
+                venue(3L, 100L, 37.5, 127.0, endDate.plusDays(1))));
+
+        // when
+        concertGeoService.rebuild();
+
+        // then
+        ArgumentCaptor<Map<Long, Venue>> captor = ArgumentCaptor.forClass(Map.class);
+        then(concertGeoRedisRepository).should().replaceAll(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(100L);
+        assertThat(captor.getValue().get(100L).concerts()).containsExactly(
+                new VenueConcert(1L, endDate.toEpochDay()),
+                new VenueConcert(3L, endDate.plusDays(1).toEpochDay()));
+        then(concertRedisRepository).should().unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("가까운 공연장부터 끝나지 않은 공연을 모으고, 요청한 개수에서 멈춘다")
+    void findNearbyConcerts_walksVenuesByDistance() {
+        // given
+        long today = LocalDate.now().toEpochDay();
+        given(concertGeoRedisRepository.searchVenues(anyDouble(), anyDouble(), anyDouble(), anyInt())).willReturn(List.of(
+                new NearbyVenue(100L, 1.5),
+                new NearbyVenue(200L, 3.0),
+                new NearbyVenue(300L, 7.0)));
+        given(concertGeoRedisRepository.getVenueConcerts(List.of(100L, 200L, 300L))).willReturn(List.of(
+                List.of(new VenueConcert(1L, today - 1), new VenueConcert(2L, today)),
+                List.of(),
+                List.of(new VenueConcert(3L, today + 5), new VenueConcert(4L, today + 6))));
+
+        // when
+        List<ConcertGeoService.NearbyConcert> nearby = concertGeoService.findNearbyConcerts(37.5, 127.0, 10, 2);
+
+        // then
+        assertThat(nearby).containsExactly(
+                new ConcertGeoService.NearbyConcert(2L, 100L, 1.5),
+                new ConcertGeoService.NearbyConcert(3L, 300L, 7.0));
+    }
+
+    @Test
+    @DisplayName("반경 안에 공연장이 없으면 공연 목록을 조회하지 않는다")
+    void findNearbyConcerts_noVenues() {
+        // given
+        given(concertGeoRedisRepository.searchVenues(anyDouble(), anyDouble(), anyDouble(), anyInt())).willReturn(List.of());
+
+        // when
+        List<ConcertGeoService.NearbyConcert> nearby = concertGeoService.findNearbyConcerts(37.5, 127.0, 10, 20);
+
+        // then
+        assertThat(nearby).isEmpty();
+        then(concertGeoRedisRepository).should(never()).getVenueConcerts(anyList());
+    }
+
+    private static ConcertRepository.ConcertVenue venue(Long concertId, Long concertPlaceId, double lat, double lon, LocalDate endDate) {
+        return new ConcertRepository.ConcertVenue() {
+            @Override
+            public Long getConcertId() {
+                return concertId;
+            }
+
+            @Override
+            public Long getConcertPlaceId() {
+                return concertPlaceId;
+            }
+
+            @Override
+            public Double getLat() {
+                return lat;
+            }
+
+            @Override
+            public Double getLon() {
+                return lon;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return endDate;
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRankingRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertRankingService 테스트")
+class ConcertRankingServiceTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private ConcertRedisRepository concertRedisRepository;
+
+    @Mock
+    private ConcertRankingRedisRepository concertRankingRedisRepository;
+
+    private ConcertRankingService concertRankingService;
+
+    @BeforeEach
+    void setUp() {
+        concertRankingService = new ConcertRankingService(concertRepository, concertRedisRepository, concertRankingRedisRepository);
+    }
+
+    @Test
+    @DisplayName("재구성 중 변경된 공연은 교체 후 다시 반영하고, DB 에 없는 공연은 랭킹에서 제거한다")
+    void rebuildRanking_reappliesConcertsChangedDuringRebuild() {
+        // given
+        ConcertItem snapshot = item(1L);
+        ConcertItem changed = item(2L);
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(concertRepository.getAllConcertItems()).willReturn(List.of(snapshot));
+        given(concertRedisRepository.getCachedViewCountMap()).willReturn(Map.of(1L, 5));
+        given(concertRankingRedisRepository.finishRebuild()).willReturn(Set.of(2L, 3L));
+        given(concertRepository.getConcertItemsByIdList(anyList())).willReturn(List.of(changed));
+
+        // when
+        concertRankingService.rebuildRanking();
+
+        // then
+        InOrder inOrder = inOrder(concertRankingRedisRepository, concertRepository);
+        inOrder.verify(concertRankingRedisRepository).startRebuild(anyLong());
+        inOrder.verify(concertRepository).getAllConcertItems();
+        inOrder.verify(concertRankingRedisRepository).rebuild(List.of(snapshot), Map.of(1L, 5));
+        inOrder.verify(concertRankingRedisRepository).finishRebuild();
+        inOrder.verify(concertRankingRedisRepository).upsertConcerts(List.of(changed));
+        inOrder.verify(concertRankingRedisRepository).removeConcerts(Set.of(3L));
+        inOrder.verify(concertRankingRedisRepository).raiseViewScores(Map.of(1L, 5));
+        then(concertRedisRepository).should().unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("재구성에 실패해도 재구성 표시를 정리하고 락을 푼다")
+    void rebuildRanking_failure_finishesAndUnlocks() {
+        // given
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(concertRepository.getAllConcertItems()).willThrow(new IllegalStateException("db down"));
+
+        // when
+        assertThatThrownBy(() -> concertRankingService.rebuildRanking()).isInstanceOf(IllegalStateException.class);
+
+        // then
+        then(concertRankingRedisRepository).should().finishRebuild();
+        then(concertRankingRedisRepository).should(never()).rebuild(anyList(), anyMap());
+        then(concertRedisRepository).should().unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 재구성 중이면 임시 키를 건드리지 않는다")
+    void rebuildRanking_lockedByOtherInstance() {
+        // given
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(false);
+
+        // when
+        concertRankingService.rebuildRanking();
+
+        // then
+        then(concertRankingRedisRepository).should(never()).startRebuild(anyLong());
+        then(concertRankingRedisRepository).should(never()).rebuild(anyList(), anyMap());
+        then(concertRedisRepository).should(never()).unlock(anyString(), anyString());
+    }
+
+    private static ConcertItem item(long id) {
+        ConcertItem item = new ConcertItem();
+        item.setId(id);
+        return item;
+    }
+}
@@ -0,0 +1,144 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertLikeRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRecommendRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSimilarityRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertRecommendService 테스트")
+class ConcertRecommendServiceTest {
+
+    @Mock
+    private ConcertRepository concertRepository;
+
+    @Mock
+    private ConcertLikeRepository concertLikeRepository;
+
+    @Mock
+    private ConcertRedisRepository concertRedisRepository;
+
+    @Mock
+    private ConcertSimilarityRedisRepository concertSimilarityRedisRepository;
+
+    @Mock
+    private ConcertRecommendRedisRepository concertRecommendRedisRepository;
+
+    private ConcertRecommendService concertRecommendService;
+
+    @BeforeEach
+    void setUp() {
+        concertRecommendService = new ConcertRecommendService(concertRepository, concertLikeRepository, concertRedisRepository,
+                concertSimilarityRedisRepository, concertRecommendRedisRepository);
+        ReflectionTestUtils.setField(concertRecommendService, "debounceMillis", 30_000L);
+    }
+
+    private static ConcertItem item(long id, String name, LocalDate startDate) {
+        ConcertItem item = new ConcertItem();
+        item.setId(id);
+        item.setName(name);
+        item.setStartDate(startDate);
+        return item;
+    }
+
+    @Test
+    @DisplayName("좋아요한 제목에 자주 나온 토큰을 많이 포함할수록 앞에 오고, 같으면 먼저 시작하는 공연이 앞에 온다")
+    void rank_ordersByWeightedSimilarity() {
+        // given
+        List<ConcertItem> liked = List.of(item(1, "아이유 콘서트 서울", null), item(2, "아이유 팬미팅", null));
+        List<ConcertItem> candidates = List.of(
+                item(3, "아이유 콘서트 부산", LocalDate.of(2027, 1, 1)),
+                item(4, "박효신 콘서트", LocalDate.of(2027, 1, 1)),
+                item(5, "잔나비 전국투어", LocalDate.of(2027, 1, 1)),
+                item(6, "아이유 콘서트 대구", LocalDate.of(2026, 12, 1)));
+
+        // when
+        List<Long> ranked = ConcertRecommendService.rank(liked, candidates, 10);
+
+        // then
+        assertThat(ranked).containsExactly(6L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("좋아요한 공연의 제목 유사 공연 중 좋아요한 공연을 빼고 순위를 매겨 저장한다")
+    void refresh_savesRankedCandidates() {
+        // given
+        given(concertRepository.getLikedConcertsList(any(Pageable.class), eq(7L)))
+                .willReturn(List.of(item(1, "아이유 콘서트 서울", null), item(2, "아이유 콘서트 부산", null)));
+        given(concertSimilarityRedisRepository.getSimilarConcertIds(anyCollection()))
+                .willReturn(List.of(List.of(2L, 3L), List.of(1L, 3L, 4L)));
+        given(concertRepository.getConcertItemsInIdList(eq(List.of(3L, 4L)), any(LocalDate.class)))
+                .willReturn(List.of(item(3, "아이유 콘서트 대구", LocalDate.of(2027, 1, 1)), item(4, "잔나비", LocalDate.of(2027, 1, 1))));
+
+        // when
+        concertRecommendService.refresh(7L);
+
+        // then
+        then(concertRecommendRedisRepository).should().saveRecommendedConcertIds(eq(7L), eq(List.of(3L)), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("좋아요한 공연이 없으면 빈 목록을 저장한다")
+    void refresh_noLikes_savesEmpty() {
+        // given
+        given(concertRepository.getLikedConcertsList(any(Pageable.class), eq(7L))).willReturn(List.of());
+
+        // when
+        concertRecommendService.refresh(7L);
+
+        // then
+        then(concertRecommendRedisRepository).should().saveRecommendedConcertIds(eq(7L), eq(List.of()), any(Duration.class));
+        then(concertSimilarityRedisRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("좋아요/해제는 디바운스 시간 뒤로, 계산되지 않은 사용자의 조회는 바로 계산하도록 예약한다")
+    void schedule_debouncedAndOnMiss() {
+        // given
+        given(concertRecommendRedisRepository.getRecommendedConcertIds(7L)).willReturn(Optional.empty());
+        long before = System.currentTimeMillis();
+
+        // when
+        concertRecommendService.requestRefresh(7L);
+        Optional<List<Long>> result = concertRecommendService.getRecommendedConcertIds(7L);
+
+        // then
+        assertThat(result).isEmpty();
+        then(concertRecommendRedisRepository).should().schedule(eq(7L), longThat(dueAt -> dueAt >= before + 30_000L));
+        then(concertRecommendRedisRepository).should().schedule(eq(7L), longThat(dueAt -> dueAt < before + 30_000L));
+    }
+
+    @Test
+    @DisplayName("대기열에서 꺼낸 사용자만 계산하고, 계산에 실패한 사용자는 다시 예약한다")
+    void refreshPending_reschedulesFailures() {
+        // given
+        given(concertRecommendRedisRepository.popDue(anyLong(), anyInt())).willReturn(List.of(1L, 2L));
+        given(concertRepository.getLikedConcertsList(any(Pageable.class), eq(1L))).willReturn(List.of());
+        given(concertRepository.getLikedConcertsList(any(Pageable.class), eq(2L))).willThrow(new IllegalStateException("db down"));
+
+        // when
+        int refreshed = concertRecommendService.refreshPending();
+
+        // then
+        assertThat(refreshed).isEqualTo(1);
+        then(concertRecommendRedisRepository).should().schedule(eq(2L), anyLong());
+    }
+}
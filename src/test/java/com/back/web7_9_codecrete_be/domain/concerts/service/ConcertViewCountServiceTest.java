@@ -0,0 +1,129 @@
+package com.back.web7_9_codecrete_be.domain.concerts.service;
+
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertChangeType;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertChangedEvent;
+import com.back.web7_9_codecrete_be.domain.concerts.event.ConcertViewCountFlushedEvent;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository.ViewCountDrain;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertViewCountJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcertViewCountService 테스트")
+class ConcertViewCountServiceTest {
+
+    @Mock
+    private ConcertRedisRepository concertRedisRepository;
+
+    @Mock
+    private ConcertViewCountJdbcRepository concertViewCountJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ConcertViewCountService concertViewCountService;
+
+    @BeforeEach
+    void setUp() {
+        concertViewCountService = new ConcertViewCountService(
+                concertRedisRepository, concertViewCountJdbcRepository, transactionTemplate, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        concertViewCountService.shutdown();
+    }
+
+    private void givenLockAndTransaction() {
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("증가분과 묶음 ID 를 한 트랜잭션에서 반영한 뒤 Redis 의 묶음을 정리하고 이벤트를 발행한다")
+    void flushViewCounts_appliesDeltasOnce() {
+        // given
+        givenLockAndTransaction();
+        given(concertRedisRepository.drainPendingViewCounts()).willReturn(new ViewCountDrain("flush-1", Map.of(1L, 3L, 2L, 5L)));
+        given(concertViewCountJdbcRepository.isFlushApplied("flush-1")).willReturn(false);
+
+        // when
+        int flushed = concertViewCountService.flushViewCounts();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        InOrder inOrder = inOrder(concertViewCountJdbcRepository, concertRedisRepository);
+        inOrder.verify(concertViewCountJdbcRepository).addViewCounts(Map.of(1L, 3L, 2L, 5L));
+        inOrder.verify(concertViewCountJdbcRepository).recordFlush(eq("flush-1"), any(LocalDateTime.class));
+        inOrder.verify(concertRedisRepository).completeViewCountDrain("flush-1");
+        inOrder.verify(concertRedisRepository).unlock(anyString(), anyString());
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        then(eventPublisher).should(times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues().get(0)).isInstanceOfSatisfying(ConcertChangedEvent.class, event -> {
+            assertThat(event.type()).isEqualTo(ConcertChangeType.VIEW_COUNT_FLUSHED);
+            assertThat(event.concertIds()).containsExactlyInAnyOrder(1L, 2L);
+        });
+        assertThat(captor.getAllValues().get(1)).isEqualTo(new ConcertViewCountFlushedEvent(Map.of(1L, 3L, 2L, 5L)));
+    }
+
+    @Test
+    @DisplayName("DB 반영 후 Redis 정리에 실패해 같은 묶음이 다시 들어오면 더하지 않고 정리만 한다")
+    void flushViewCounts_skipsAlreadyAppliedDrain() {
+        // given
+        givenLockAndTransaction();
+        ViewCountDrain drain = new ViewCountDrain("flush-1", Map.of(1L, 3L));
+        given(concertRedisRepository.drainPendingViewCounts()).willReturn(drain);
+        given(concertViewCountJdbcRepository.isFlushApplied("flush-1")).willReturn(false, true);
+        willThrow(new IllegalStateException("redis down")).willDoNothing()
+                .given(concertRedisRepository).completeViewCountDrain("flush-1");
+
+        // when
+        assertThatThrownBy(() -> concertViewCountService.flushViewCounts()).isInstanceOf(IllegalStateException.class);
+        int flushed = concertViewCountService.flushViewCounts();
+
+        // then
+        assertThat(flushed).isZero();
+        then(concertViewCountJdbcRepository).should(times(1)).addViewCounts(anyMap());
+        then(concertViewCountJdbcRepository).should(times(1)).recordFlush(anyString(), any(LocalDateTime.class));
+        then(concertRedisRepository).should(times(2)).completeViewCountDrain("flush-1");
+        then(concertRedisRepository).should(times(2)).unlock(anyString(), anyString());
+        then(eventPublisher).should(never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 증가분을 가져오지 않는다")
+    void flushViewCounts_lockedByOtherInstance() {
+        // given
+        given(concertRedisRepository.tryLock(anyString(), anyString(), anyLong())).willReturn(false);
+
+        // when
+        int flushed = concertViewCountService.flushViewCounts();
+
+        // then
+        assertThat(flushed).isZero();
+        then(concertRedisRepository).should(never()).drainPendingViewCounts();
+        then(concertRedisRepository).should(never()).unlock(anyString(), anyString());
+    }
+}
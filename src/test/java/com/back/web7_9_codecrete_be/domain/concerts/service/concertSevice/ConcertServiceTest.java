@@ -6,6 +6,7 @@ import com.back.web7_9_codecrete_be.domain.concerts.entity.Concert;
 import com.back.web7_9_codecrete_be.domain.concerts.entity.ConcertPlace;
 import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertLikeRepository;
 import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertPlaceRepository;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRankingRedisRepository;
 import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRedisRepository;
 import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertRepository;
 import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertService;
@@ -26,12 +27,21 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -58,6 +68,9 @@ public class ConcertServiceTest {
     @MockitoBean
     private ConcertRedisRepository concertRedisRepository;
 
+    @MockitoBean
+    private ConcertRankingRedisRepository concertRankingRedisRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -135,7 +148,6 @@ public class ConcertServiceTest {
         userRepository.deleteAll();
         concertRepository.deleteAll();
         concertPlaceRepository.deleteAll();
-        concertRedisRepository.deleteAllCachedConcertDetail();
     }
 
     @Test
@@ -282,6 +294,9 @@ public class ConcertServiceTest {
     void t8_getConcertDetailTest(){
         // given
         Concert concert = concertRepository.getConcertByApiConcertId("test-concert-1");
+        // 조회수는 Redis 에서 증가시킨 누적 값을 사용
+        given(concertRedisRepository.incrementViewCount(concert.getConcertId(), concert.getViewCount()))
+                .willReturn(concert.getViewCount() + 1L);
 
         // when
         ConcertDetailResponse concertDetailResponse = concertService.getConcertDetail(concert.getConcertId());
@@ -424,5 +439,98 @@ public class ConcertServiceTest {
         assertThat(placeDetailResponse.getLon()).isEqualTo(place.getLon());
     }
 
+    @Test
+    @DisplayName("커서 기반 공연 목록 조회 - 두 페이지에 걸쳐 중복 없이 모두 조회")
+    void t15_getConcertsListByCursorTest(){
+        // given
+        ConcertCursorResponse firstPage = concertService.getConcertsListByCursor(ListSort.UPCOMING, null, 1);
+
+        // when
+        ConcertCursorResponse secondPage = concertService.getConcertsListByCursor(ListSort.UPCOMING, firstPage.getNextCursor(), 1);
+
+        // then
+        assertThat(firstPage.getConcerts()).hasSize(1);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        // 다가오는 공연 시작 날짜 오름차순
+        assertThat(firstPage.getConcerts().get(0).getName()).isEqualTo("예매일 없는 공연");
+        assertThat(secondPage.getConcerts()).hasSize(1);
+        assertThat(secondPage.getConcerts().get(0).getName()).isEqualTo("예매일 존재 공연");
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("목록 응답 본문 조회 - 캐시 미스면 RsData JSON 을 만들어 캐싱하고, 캐시 적중이면 그대로 반환")
+    void t16_getConcertsListBodyTest(){
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        ConcertListBody cachedBody = ConcertListBody.of("{\"cached\":true}".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ConcertListBody missBody = concertService.getConcertsListBody(pageable, ListSort.REGISTERED);
+        given(concertRedisRepository.getConcertsListBody(pageable, ListSort.REGISTERED)).willReturn(cachedBody);
+        ConcertListBody hitBody = concertService.getConcertsListBody(pageable, ListSort.REGISTERED);
+
+        // then
+        String json = new String(missBody.body(), StandardCharsets.UTF_8);
+        assertThat(json).contains("\"resultCode\":\"OK\"").contains("예매일 존재 공연");
+        assertThat(missBody.etag()).startsWith("\"").endsWith("\"");
+        then(concertRedisRepository).should().saveConcertsListBody(eq(ListSort.REGISTERED), eq(pageable), eq(missBody), anyList());
+        assertThat(hitBody).isSameAs(cachedBody);
+    }
+
+    @Test
+    @DisplayName("목록 응답 본문 조회 - 랭킹 정렬은 본문을 캐싱하지 않아, 좋아요로 순서가 바뀌면 바로 반영")
+    void t17_getRankedConcertsListBodyTest(){
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        ConcertItem first = new ConcertItem();
+        first.setId(1L);
+        first.setName("좋아요 1위 공연");
+        ConcertItem second = new ConcertItem();
+        second.setId(2L);
+        second.setName("좋아요 2위 공연");
+        given(concertRankingRedisRepository.getConcertsPage(eq(ListSort.LIKE), eq(pageable), any(LocalDateTime.class)))
+                .willReturn(Optional.of(List.of(first, second)))
+                // 2위 공연에 좋아요가 몰려 순서가 바뀜
+                .willReturn(Optional.of(List.of(second, first)));
+
+        // when
+        ConcertListBody before = concertService.getConcertsListBody(pageable, ListSort.LIKE);
+        ConcertListBody after = concertService.getConcertsListBody(pageable, ListSort.LIKE);
+
+        // then
+        String beforeJson = new String(before.body(), StandardCharsets.UTF_8);
+        String afterJson = new String(after.body(), StandardCharsets.UTF_8);
+        assertThat(beforeJson.indexOf("좋아요 1위 공연")).isLessThan(beforeJson.indexOf("좋아요 2위 공연"));
+        assertThat(afterJson.indexOf("좋아요 2위 공연")).isLessThan(afterJson.indexOf("좋아요 1위 공연"));
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        then(concertRedisRepository).should(never()).getConcertsListBody(any(), any());
+        then(concertRedisRepository).should(never()).saveConcertsListBody(any(), any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("캐싱된 공연 상세 본문은 여러 번 조회해도 수정되지 않고, 조회수가 반영된 복사본을 반환")
+    void t18_getConcertDetailDoesNotMutateCachedBodyTest(){
+        // given
+        ConcertDetailResponse cached = new ConcertDetailResponse();
+        cached.setConcertId(999L);
+        cached.setViewCount(10);
+        cached.setConcertArtists(new ArrayList<>(List.of(1L, 2L)));
+        given(concertRedisRepository.getCachedConcertDetail(999L)).willReturn(cached);
+        given(concertRedisRepository.incrementViewCount(999L, 10)).willReturn(11L, 12L);
+
+        // when
+        ConcertDetailResponse first = concertService.getConcertDetail(999L);
+        ConcertDetailResponse second = concertService.getConcertDetail(999L);
+        first.getConcertArtists().clear();
 
+        // then
+        assertThat(first.getViewCount()).isEqualTo(11);
+        assertThat(second.getViewCount()).isEqualTo(12);
+        assertThat(cached.getViewCount()).isEqualTo(10);
+        assertThat(cached.getConcertArtists()).containsExactly(1L, 2L);
+        assertThat(second.getConcertArtists()).containsExactly(1L, 2L);
+    }
 }
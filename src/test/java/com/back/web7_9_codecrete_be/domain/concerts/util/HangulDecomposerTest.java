@@ -0,0 +1,42 @@
+package com.back.web7_9_codecrete_be.domain.concerts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HangulDecomposer 테스트")
+class HangulDecomposerTest {
+
+    @Test
+    @DisplayName("음절은 두벌식 입력 순서의 자모로, 겹모음/겹받침도 나눠서 분해한다")
+    void toJamo() {
+        assertThat(HangulDecomposer.toJamo("아이유 콘서트")).isEqualTo("ㅇㅏㅇㅣㅇㅠ ㅋㅗㄴㅅㅓㅌㅡ");
+        assertThat(HangulDecomposer.toJamo("닭과")).isEqualTo("ㄷㅏㄹㄱㄱㅗㅏ");
+        assertThat(HangulDecomposer.toJamo("ㄺㅘ")).isEqualTo("ㄹㄱㅗㅏ");
+        assertThat(HangulDecomposer.toJamo("IU 2026")).isEqualTo("IU 2026");
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자의 자모는 완성된 글자 자모의 앞부분과 같다")
+    void toJamo_partialSyllable() {
+        assertThat(HangulDecomposer.toJamo("아이유")).startsWith(HangulDecomposer.toJamo("앙"));
+    }
+
+    @Test
+    @DisplayName("음절은 초성으로 바꾸고 나머지 문자는 그대로 둔다")
+    void toChosung() {
+        assertThat(HangulDecomposer.toChosung("아이유 콘서트 2026")).isEqualTo("ㅇㅇㅇ ㅋㅅㅌ 2026");
+        assertThat(HangulDecomposer.toChosung("빠른 쌍")).isEqualTo("ㅃㄹ ㅆ");
+    }
+
+    @Test
+    @DisplayName("자음과 공백으로만 된 검색어만 초성 검색어로 판단한다")
+    void isChosungOnly() {
+        assertThat(HangulDecomposer.isChosungOnly("ㅇㅇㅇ ㅋㅅㅌ")).isTrue();
+        assertThat(HangulDecomposer.isChosungOnly("ㄲㅆ")).isTrue();
+        assertThat(HangulDecomposer.isChosungOnly("ㅇ아")).isFalse();
+        assertThat(HangulDecomposer.isChosungOnly("ㅏ")).isFalse();
+        assertThat(HangulDecomposer.isChosungOnly(" ")).isFalse();
+    }
+}
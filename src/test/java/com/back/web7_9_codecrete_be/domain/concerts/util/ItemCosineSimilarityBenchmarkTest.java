@@ -0,0 +1,66 @@
+package com.back.web7_9_codecrete_be.domain.concerts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+// ./gradlew benchmark 로 실행 (기본 test 태스크에서는 제외)
+// 사용자 10만 명이 인기 편중(멱법칙)된 공연 5천 개에 5~40개씩 좋아요한 데이터로 이웃 계산 시간을 측정합니다.
+@Tag("benchmark")
+@DisplayName("아이템 기반 협업 필터링 벤치마크")
+class ItemCosineSimilarityBenchmarkTest {
+
+    private static final int USERS = 100_000;
+    private static final int ITEMS = 5_000;
+    private static final int TOP_K = 20;
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("사용자 10만 명의 좋아요로 공연별 상위 20개 이웃을 10초 안에 계산한다")
+    void topNeighbours() {
+        ItemCosineSimilarity.Pairs pairs = pairs();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        try {
+            // 워밍업
+            ItemCosineSimilarity.topNeighbours(pairs, TOP_K, pool);
+
+            long best = Long.MAX_VALUE;
+            ItemCosineSimilarity.Result result = null;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                result = ItemCosineSimilarity.topNeighbours(pairs, TOP_K, pool);
+                best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+            }
+
+            int withNeighbours = 0;
+            for (long[] neighbours : result.neighbourIds()) if (neighbours.length > 0) withNeighbours++;
+            System.out.printf("[item-cf] users=%d items=%d likes=%d parallelism=%d best=%dms withNeighbours=%d%n",
+                    USERS, result.size(), pairs.size(), pool.getParallelism(), best, withNeighbours);
+
+            assertThat(withNeighbours).isGreaterThan(ITEMS / 2);
+            assertThat(best).isLessThan(10_000);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static ItemCosineSimilarity.Pairs pairs() {
+        SplittableRandom random = new SplittableRandom(42);
+        ItemCosineSimilarity.Pairs pairs = new ItemCosineSimilarity.Pairs();
+        for (long user = 1; user <= USERS; user++) {
+            int likes = 5 + random.nextInt(36);
+            for (int i = 0; i < likes; i++) {
+                // 앞 번호 공연일수록 좋아요를 많이 받도록 편중
+                double u = random.nextDouble();
+                long item = 1 + (long) (ITEMS * u * u * u);
+                pairs.add(user, item);
+            }
+        }
+        return pairs;
+    }
+}
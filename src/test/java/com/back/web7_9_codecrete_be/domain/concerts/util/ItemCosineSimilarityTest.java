@@ -0,0 +1,82 @@
+package com.back.web7_9_codecrete_be.domain.concerts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ItemCosineSimilarity 테스트")
+class ItemCosineSimilarityTest {
+
+    private static final long A = 10L, B = 20L, C = 30L, D = 40L;
+
+    // 1: A B C / 2: A B / 3: A C / 4: B D -> 좋아요 수 A=3, B=3, C=2, D=1
+    private static ItemCosineSimilarity.Pairs pairs() {
+        ItemCosineSimilarity.Pairs pairs = new ItemCosineSimilarity.Pairs();
+        pairs.add(1, A);
+        pairs.add(1, B);
+        pairs.add(1, C);
+        pairs.add(1, A); // 중복 좋아요
+        pairs.add(2, A);
+        pairs.add(2, B);
+        pairs.add(3, A);
+        pairs.add(3, C);
+        pairs.add(4, B);
+        pairs.add(4, D);
+        return pairs;
+    }
+
+    @Test
+    @DisplayName("함께 좋아요한 사용자 수 / sqrt(각 좋아요 수 곱) 내림차순이고, 함께 좋아요한 사용자가 2명 미만인 쌍은 제외한다")
+    void topNeighbours() {
+        ItemCosineSimilarity.Result result = ItemCosineSimilarity.topNeighbours(pairs(), 10, ForkJoinPool.commonPool());
+
+        assertThat(result.itemIds()).containsExactly(A, B, C, D);
+        assertThat(result.neighbours(A)).containsExactly(C, B);
+        assertThat(result.scores()[0][0]).isCloseTo((float) (2 / Math.sqrt(6)), within(1e-6f));
+        assertThat(result.scores()[0][1]).isCloseTo(2 / 3f, within(1e-6f));
+        assertThat(result.neighbours(B)).containsExactly(A);
+        assertThat(result.neighbours(C)).containsExactly(A);
+        assertThat(result.neighbours(D)).isEmpty();
+        assertThat(result.neighbours(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대상별로 상위 k개만 남긴다")
+    void topNeighbours_limitsToK() {
+        ItemCosineSimilarity.Result result = ItemCosineSimilarity.topNeighbours(pairs(), 1, ForkJoinPool.commonPool());
+
+        assertThat(result.neighbours(A)).containsExactly(C);
+    }
+
+    @Test
+    @DisplayName("좋아요가 너무 많은 사용자는 계산에서 제외한다")
+    void topNeighbours_skipsHeavyUsers() {
+        ItemCosineSimilarity.Pairs pairs = pairs();
+        pairs.add(99, B);
+        pairs.add(99, C);
+        for (int i = 0; i < ItemCosineSimilarity.MAX_ITEMS_PER_USER; i++) pairs.add(99, 1_000L + i);
+
+        ItemCosineSimilarity.Result result = ItemCosineSimilarity.topNeighbours(pairs, 10, ForkJoinPool.commonPool());
+
+        assertThat(result.neighbours(B)).containsExactly(A);
+        assertThat(result.neighbours(1_000L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유사도가 같으면 ID 오름차순으로 상위 k개를 유지한다")
+    void offer_keepsOrder() {
+        int[] items = new int[2];
+        float[] scores = new float[2];
+
+        int count = ItemCosineSimilarity.offer(items, scores, 0, 5, 0.5f);
+        count = ItemCosineSimilarity.offer(items, scores, count, 3, 0.5f);
+        count = ItemCosineSimilarity.offer(items, scores, count, 7, 0.9f);
+        count = ItemCosineSimilarity.offer(items, scores, count, 1, 0.1f);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(items).containsExactly(7, 3);
+    }
+}
@@ -0,0 +1,66 @@
+package com.back.web7_9_codecrete_be.domain.concerts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TitleSimilarity 테스트")
+class TitleSimilarityTest {
+
+    private static final Map<Long, String> TITLES = Map.of(
+            1L, "[서울] 2026 아이유 콘서트 〈HEREH〉",
+            2L, "2026 아이유 콘서트 HEREH - 부산",
+            3L, "아이유 콘서트 앵콜",
+            4L, "박효신 단독 콘서트",
+            5L, "잔나비 전국투어 [판타지]"
+    );
+
+    @Test
+    @DisplayName("소문자로 바꾸고 한글/영문/숫자가 아닌 문자로 토큰을 나눈다")
+    void tokenize() {
+        assertThat(TitleSimilarity.tokenize("[서울] IU Concert〈HEREH〉2026"))
+                .containsExactly("서울", "iu", "concert", "hereh", "2026");
+        assertThat(TitleSimilarity.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 버킷의 후보만 유사도 내림차순으로 정렬하고, 자기 자신과 후보가 아닌 공연은 제외한다")
+    void topNeighbours() {
+        Map<Long, List<TitleSimilarity.Neighbour>> neighbours =
+                TitleSimilarity.topNeighbours(TITLES, Set.of(1L, 2L, 3L, 4L), 10);
+
+        assertThat(neighbours.get(1L)).extracting(TitleSimilarity.Neighbour::id).containsExactly(2L, 3L);
+        assertThat(neighbours.get(2L).get(0).id()).isEqualTo(1L);
+        assertThat(neighbours.get(1L).get(0).similarity()).isGreaterThan(neighbours.get(1L).get(1).similarity());
+        assertThat(neighbours).doesNotContainKey(5L);
+        // 후보가 아닌 공연은 다른 공연의 추천 결과에 나오지 않음
+        assertThat(neighbours.values()).allSatisfy(list -> assertThat(list).extracting(TitleSimilarity.Neighbour::id).doesNotContain(5L));
+    }
+
+    @Test
+    @DisplayName("결과 수는 k 개로 제한되고, 같은 입력이면 같은 결과가 나온다")
+    void topNeighbours_limitAndStable() {
+        Map<Long, String> titles = new HashMap<>();
+        for (long id = 1; id <= 30; id++) titles.put(id, "아이유 콘서트 투어 " + (id % 3));
+        Set<Long> all = titles.keySet();
+
+        Map<Long, List<TitleSimilarity.Neighbour>> first = TitleSimilarity.topNeighbours(titles, all, 5);
+        Map<Long, List<TitleSimilarity.Neighbour>> second = TitleSimilarity.topNeighbours(new HashMap<>(titles), all, 5);
+
+        assertThat(first.get(1L)).hasSize(5);
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("정렬된 토큰 번호 배열의 자카드 유사도")
+    void jaccard() {
+        assertThat(TitleSimilarity.jaccard(new int[]{1, 2, 3}, new int[]{2, 3, 4})).isEqualTo(0.5);
+        assertThat(TitleSimilarity.jaccard(new int[]{}, new int[]{1})).isZero();
+    }
+}
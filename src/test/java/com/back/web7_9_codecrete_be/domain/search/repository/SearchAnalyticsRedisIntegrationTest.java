@@ -0,0 +1,69 @@
+package com.back.web7_9_codecrete_be.domain.search.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 검색 결과 클릭 중복 제외를 실제 Redis(localhost:6379, 15번 DB)에서 확인합니다.
+// ./gradlew test -PincludeIntegration=true 또는 ./gradlew fullTest 로 실행
+@Tag("integration")
+@DisplayName("검색 통계 Redis 통합 테스트")
+class SearchAnalyticsRedisIntegrationTest {
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private SearchAnalyticsRedisRepository searchAnalyticsRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+        configuration.setDatabase(15);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                connection.serverCommands().flushDb();
+                return null;
+            });
+        } catch (Exception e) {
+            assumeTrue(false, "Redis 에 연결할 수 없어 건너뜁니다.");
+        }
+        searchAnalyticsRedisRepository = new SearchAnalyticsRedisRepository(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 시간에 이미 누른 사용자의 클릭은 다시 반영해도 점수에 더하지 않는다")
+    void incrementAll_countsEachViewerOncePerHour() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        searchAnalyticsRedisRepository.incrementAll(now, Map.of(), Map.of("CONCERT:1", Set.of("user:1", "anon:abc")));
+
+        // when
+        searchAnalyticsRedisRepository.incrementAll(now, Map.of(), Map.of(
+                "CONCERT:1", Set.of("user:1"),
+                "CONCERT:2", Set.of("user:1")));
+
+        // then
+        assertThat(searchAnalyticsRedisRepository.getClickScores(now))
+                .containsOnly(entry("CONCERT:1", 2.0), entry("CONCERT:2", 1.0));
+    }
+}
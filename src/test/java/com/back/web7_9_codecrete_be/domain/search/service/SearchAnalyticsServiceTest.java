@@ -0,0 +1,149 @@
+package com.back.web7_9_codecrete_be.domain.search.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.repository.ArtistNameIndex;
+import com.back.web7_9_codecrete_be.domain.community.post.service.PostSearchService;
+import com.back.web7_9_codecrete_be.domain.concerts.repository.ConcertSearchIndex;
+import com.back.web7_9_codecrete_be.domain.search.dto.SearchType;
+import com.back.web7_9_codecrete_be.domain.search.repository.SearchAnalyticsRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchAnalyticsService 테스트")
+class SearchAnalyticsServiceTest {
+
+    @Mock
+    private SearchAnalyticsRedisRepository searchAnalyticsRedisRepository;
+
+    @Mock
+    private ConcertSearchIndex concertSearchIndex;
+
+    @Mock
+    private ArtistNameIndex artistNameIndex;
+
+    @Mock
+    private PostSearchService postSearchService;
+
+    private SearchAnalyticsService searchAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        searchAnalyticsService = new SearchAnalyticsService(searchAnalyticsRedisRepository, concertSearchIndex, artistNameIndex, postSearchService);
+    }
+
+    @Test
+    @DisplayName("검색어와 클릭은 모아 두었다가 반영할 때 한 번에 전달하고, 클릭은 누른 사용자별로 한 번만 모은다")
+    void flush_aggregatesBufferedCounts() {
+        // given
+        given(concertSearchIndex.contains(3L)).willReturn(true);
+        searchAnalyticsService.recordQuery("아이유 콘서트");
+        searchAnalyticsService.recordQuery("  아이유   콘서트 ");
+        searchAnalyticsService.recordQuery("IU");
+        searchAnalyticsService.recordQuery(" ");
+        searchAnalyticsService.recordClick(SearchType.CONCERT, 3L, "user:1", "1.1.1.1");
+        searchAnalyticsService.recordClick(SearchType.CONCERT, 3L, "user:1", "1.1.1.1");
+        searchAnalyticsService.recordClick(SearchType.CONCERT, 3L, "anon:abc", "1.1.1.1");
+
+        // when
+        searchAnalyticsService.flush();
+        searchAnalyticsService.flush();
+
+        // then
+        then(searchAnalyticsRedisRepository).should(times(1)).incrementAll(any(LocalDateTime.class),
+                eq(Map.of("아이유 콘서트", 2L, "iu", 1L)), eq(Map.of("CONCERT:3", Set.of("user:1", "anon:abc"))));
+    }
+
+    @Test
+    @DisplayName("검색 색인에 없는 대상의 클릭은 기록하지 않는다")
+    void recordClick_ignoresUnknownTarget() {
+        // given
+        given(concertSearchIndex.contains(3L)).willReturn(false);
+        given(artistNameIndex.contains(5L)).willReturn(true);
+
+        // when
+        searchAnalyticsService.recordClick(SearchType.CONCERT, 3L, "user:1", "1.1.1.1");
+        searchAnalyticsService.recordClick(SearchType.ARTIST, 5L, "user:1", "1.1.1.1");
+        searchAnalyticsService.flush();
+
+        // then
+        then(searchAnalyticsRedisRepository).should().incrementAll(any(LocalDateTime.class), eq(Map.of()),
+                eq(Map.of("ARTIST:5", Set.of("user:1"))));
+    }
+
+    @Test
+    @DisplayName("비로그인 클릭은 User-Agent 가 달라도 IP 별 시간당 한도까지만 기록하고, 로그인 사용자는 제한하지 않는다")
+    @SuppressWarnings("unchecked")
+    void recordClick_capsAnonymousClicksPerIp() {
+        // given
+        given(concertSearchIndex.contains(3L)).willReturn(true);
+        int limit = SearchAnalyticsService.MAX_ANONYMOUS_CLICKS_PER_HOUR;
+
+        // when
+        for (int i = 0; i <= limit; i++) {
+            searchAnalyticsService.recordClick(SearchType.CONCERT, 3L, "anon:" + i, "1.1.1.1");
+            searchAnalyticsService.recordClick(SearchType.CONCERT, 3L, "user:" + i, "1.1.1.1");
+        }
+        searchAnalyticsService.recordClick(SearchType.CONCERT, 3L, "anon:other", "2.2.2.2");
+        searchAnalyticsService.flush();
+
+        // then
+        ArgumentCaptor<Map<String, Set<String>>> clicks = ArgumentCaptor.forClass(Map.class);
+        then(searchAnalyticsRedisRepository).should().incrementAll(any(LocalDateTime.class), eq(Map.of()), clicks.capture());
+        Set<String> viewers = clicks.getValue().get("CONCERT:3");
+        assertThat(viewers).filteredOn(viewer -> viewer.startsWith("anon:")).hasSize(limit + 1)
+                .contains("anon:other").doesNotContain("anon:" + limit);
+        assertThat(viewers).filteredOn(viewer -> viewer.startsWith("user:")).hasSize(limit + 1);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다음 반영 때 새 증가분과 합쳐 다시 전달한다")
+    void flush_failure_retriesWithNextFlush() {
+        // given
+        searchAnalyticsService.recordQuery("아이유");
+        willThrow(new QueryTimeoutException("timeout"))
+                .willDoNothing()
+                .given(searchAnalyticsRedisRepository).incrementAll(any(LocalDateTime.class), anyMap(), anyMap());
+
+        // when
+        searchAnalyticsService.flush();
+        searchAnalyticsService.recordQuery("아이유");
+        searchAnalyticsService.flush();
+
+        // then
+        then(searchAnalyticsRedisRepository).should().incrementAll(any(LocalDateTime.class), eq(Map.of("아이유", 2L)), eq(Map.of()));
+    }
+
+    @Test
+    @DisplayName("공연 클릭 점수만 공연 ID 기준으로 돌려주고, 조회에 실패하면 빈 결과를 돌려준다")
+    void getConcertClickScores() {
+        // given
+        given(searchAnalyticsRedisRepository.getClickScores(any(LocalDateTime.class)))
+                .willReturn(Map.of("CONCERT:3", 1.5, "ARTIST:3", 4.0))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThat(searchAnalyticsService.getConcertClickScores()).containsExactly(entry(3L, 1.5));
+        assertThat(searchAnalyticsService.getConcertClickScores()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어는 소문자, 공백 하나로 정리하고 최대 길이로 자른다")
+    void normalize() {
+        assertThat(SearchAnalyticsService.normalize(" Cold  Play ")).isEqualTo("cold play");
+        assertThat(SearchAnalyticsService.normalize("가".repeat(60))).hasSize(SearchAnalyticsService.MAX_KEYWORD_LENGTH);
+        assertThat(SearchAnalyticsService.normalize(null)).isEmpty();
+    }
+}
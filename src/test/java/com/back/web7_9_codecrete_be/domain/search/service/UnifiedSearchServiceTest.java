@@ -0,0 +1,152 @@
+package com.back.web7_9_codecrete_be.domain.search.service;
+
+import com.back.web7_9_codecrete_be.domain.artists.dto.response.ArtistSearchItem;
+import com.back.web7_9_codecrete_be.domain.artists.service.ArtistSearchService;
+import com.back.web7_9_codecrete_be.domain.community.post.dto.response.PostSearchItem;
+import com.back.web7_9_codecrete_be.domain.community.post.service.PostSearchService;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertItem;
+import com.back.web7_9_codecrete_be.domain.concerts.dto.concert.ConcertSearchItem;
+import com.back.web7_9_codecrete_be.domain.concerts.service.ConcertSearchService;
+import com.back.web7_9_codecrete_be.domain.search.dto.SearchType;
+import com.back.web7_9_codecrete_be.domain.search.dto.UnifiedSearchResponse;
+import com.back.web7_9_codecrete_be.global.error.exception.BusinessException;
+import com.back.web7_9_codecrete_be.global.search.SearchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnifiedSearchService 테스트")
+class UnifiedSearchServiceTest {
+
+    @Mock
+    private ConcertSearchService concertSearchService;
+
+    @Mock
+    private ArtistSearchService artistSearchService;
+
+    @Mock
+    private PostSearchService postSearchService;
+
+    @Mock
+    private SearchAnalyticsService searchAnalyticsService;
+
+    private UnifiedSearchService unifiedSearchService;
+
+    @BeforeEach
+    void setUp() {
+        unifiedSearchService = new UnifiedSearchService(concertSearchService, artistSearchService, postSearchService, searchAnalyticsService);
+        ReflectionTestUtils.setField(unifiedSearchService, "timeoutMillis", 200L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        unifiedSearchService.shutdown();
+    }
+
+    private static SearchResult<ConcertSearchItem> concertResult(double relevance) {
+        return new SearchResult<>(1, relevance, List.of(new ConcertSearchItem(new ConcertItem(), "<em>아이유</em> 콘서트", 4.0)));
+    }
+
+    @Test
+    @DisplayName("그룹 노출 순서는 최고 관련도 * 도메인 가중치 내림차순이고, 결과가 없는 그룹은 빠진다")
+    void search_ordersGroupsByWeightedRelevance() {
+        // given
+        given(concertSearchService.isAvailable()).willReturn(true);
+        given(artistSearchService.isAvailable()).willReturn(true);
+        given(postSearchService.isAvailable()).willReturn(true);
+        given(concertSearchService.searchTop("아이유", 5)).willReturn(concertResult(0.5));
+        given(artistSearchService.searchTop("아이유", 5))
+                .willReturn(new SearchResult<>(1, 1.0, List.of(new ArtistSearchItem(null, null, "<em>아이유</em>", 8.0))));
+        given(postSearchService.searchTop("아이유", 5)).willReturn(SearchResult.<PostSearchItem>empty());
+
+        // when
+        UnifiedSearchResponse response = unifiedSearchService.search(" 아이유 ", 5);
+
+        // then
+        assertThat(response.keyword()).isEqualTo("아이유");
+        assertThat(response.order()).containsExactly(SearchType.ARTIST, SearchType.CONCERT);
+        assertThat(response.artists().score()).isEqualTo(SearchType.ARTIST.getWeight());
+        assertThat(response.concerts().items()).hasSize(1);
+        assertThat(response.posts().total()).isZero();
+        assertThat(response.incomplete()).isEmpty();
+        then(searchAnalyticsService).should().recordQuery("아이유");
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기거나 실패한 도메인은 기다리지 않고 incomplete 로 표시한다")
+    void search_marksSlowAndFailedDomainsIncomplete() {
+        // given
+        given(concertSearchService.isAvailable()).willReturn(true);
+        given(artistSearchService.isAvailable()).willReturn(true);
+        given(postSearchService.isAvailable()).willReturn(true);
+        given(concertSearchService.searchTop("아이유", 5)).willReturn(concertResult(1.0));
+        given(artistSearchService.searchTop("아이유", 5)).willAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return SearchResult.empty();
+        });
+        given(postSearchService.searchTop("아이유", 5)).willThrow(new IllegalStateException("db down"));
+
+        // when
+        long start = System.currentTimeMillis();
+        UnifiedSearchResponse response = unifiedSearchService.search("아이유", 5);
+
+        // then
+        assertThat(System.currentTimeMillis() - start).isLessThan(1_000);
+        assertThat(response.order()).containsExactly(SearchType.CONCERT);
+        assertThat(response.incomplete()).containsExactly(SearchType.ARTIST, SearchType.POST);
+    }
+
+    @Test
+    @DisplayName("색인이 준비되지 않은 도메인은 검색하지 않고 incomplete 로 표시하며, 그룹별 결과 수는 최대 20개다")
+    void search_skipsUnavailableIndexes() {
+        // given
+        given(concertSearchService.isAvailable()).willReturn(true);
+        given(artistSearchService.isAvailable()).willReturn(false);
+        given(postSearchService.isAvailable()).willReturn(false);
+        given(concertSearchService.searchTop("아이유", UnifiedSearchService.MAX_SIZE)).willReturn(concertResult(1.0));
+
+        // when
+        UnifiedSearchResponse response = unifiedSearchService.search("아이유", 100);
+
+        // then
+        assertThat(response.incomplete()).containsExactly(SearchType.ARTIST, SearchType.POST);
+        then(artistSearchService).should(never()).searchTop(anyString(), anyInt());
+        then(postSearchService).should(never()).searchTop(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결과가 없는 검색어는 인기 검색어에 기록하지 않는다")
+    void search_noResults_doesNotRecordQuery() {
+        // given
+        given(concertSearchService.isAvailable()).willReturn(true);
+        given(artistSearchService.isAvailable()).willReturn(true);
+        given(postSearchService.isAvailable()).willReturn(true);
+        given(concertSearchService.searchTop("없는 공연", 5)).willReturn(SearchResult.<ConcertSearchItem>empty());
+        given(artistSearchService.searchTop("없는 공연", 5)).willReturn(SearchResult.<ArtistSearchItem>empty());
+        given(postSearchService.searchTop("없는 공연", 5)).willReturn(SearchResult.<PostSearchItem>empty());
+
+        // when
+        UnifiedSearchResponse response = unifiedSearchService.search("없는 공연", 5);
+
+        // then
+        assertThat(response.order()).isEmpty();
+        then(searchAnalyticsService).should(never()).recordQuery(anyString());
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 예외를 던진다")
+    void search_blankKeyword_throws() {
+        assertThatThrownBy(() -> unifiedSearchService.search(" ", 5)).isInstanceOf(BusinessException.class);
+    }
+}
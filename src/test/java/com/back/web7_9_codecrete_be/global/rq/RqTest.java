@@ -0,0 +1,77 @@
+package com.back.web7_9_codecrete_be.global.rq;
+
+import com.back.web7_9_codecrete_be.domain.users.entity.User;
+import com.back.web7_9_codecrete_be.global.security.CustomUserDetail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Rq 방문자 식별값 테스트")
+class RqTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static String viewerId(String remoteAddr, String forwardedFor, String userAgent) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) request.addHeader("X-Forwarded-For", forwardedFor);
+        if (userAgent != null) request.addHeader("User-Agent", userAgent);
+        return new Rq(request, new MockHttpServletResponse(), "test").getViewerId();
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 X-Forwarded-For 를 바꿔도 같은 방문자로 식별된다")
+    void getViewerId_ignoresClientForwardedFor() {
+        // when
+        String withoutHeader = viewerId("203.0.113.10", null, "Mozilla/5.0");
+        String rotated1 = viewerId("203.0.113.10", "198.51.100.1", "Mozilla/5.0");
+        String rotated2 = viewerId("203.0.113.10", "198.51.100.2, 10.0.0.1", "Mozilla/5.0");
+
+        // then
+        assertThat(withoutHeader).startsWith("anon:");
+        assertThat(rotated1).isEqualTo(withoutHeader);
+        assertThat(rotated2).isEqualTo(withoutHeader);
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 접속 IP 또는 User-Agent 가 다르면 다른 방문자로 식별된다")
+    void getViewerId_distinguishesRemoteAddrAndUserAgent() {
+        // when
+        String viewer = viewerId("203.0.113.10", null, "Mozilla/5.0");
+        String otherIp = viewerId("203.0.113.11", null, "Mozilla/5.0");
+        String otherAgent = viewerId("203.0.113.10", null, "curl/8.0");
+
+        // then
+        assertThat(otherIp).isNotEqualTo(viewer);
+        assertThat(otherAgent).isNotEqualTo(viewer);
+    }
+
+    @Test
+    @DisplayName("로그인 사용자는 IP 와 상관없이 사용자 ID 로 식별된다")
+    void getViewerId_loggedInUser() {
+        // given
+        User user = User.builder().email("viewer@test.com").nickname("viewer").build();
+        ReflectionTestUtils.setField(user, "id", 7L);
+        CustomUserDetail userDetail = new CustomUserDetail(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetail, null, List.of()));
+
+        // when
+        String viewer = viewerId("203.0.113.10", "198.51.100.1", "Mozilla/5.0");
+
+        // then
+        assertThat(viewer).isEqualTo("user:7");
+    }
+}
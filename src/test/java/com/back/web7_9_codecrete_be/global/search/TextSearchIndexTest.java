@@ -0,0 +1,70 @@
+package com.back.web7_9_codecrete_be.global.search;
+
+import com.back.web7_9_codecrete_be.global.search.TextSearchIndex.Document;
+import com.back.web7_9_codecrete_be.global.search.TextSearchIndex.Hit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TextSearchIndex 테스트")
+class TextSearchIndexTest {
+
+    @Test
+    @DisplayName("생성자의 가중치 순서대로 필드 점수를 매기고, 빠진 필드는 빈 문자열로 취급한다")
+    void search_usesFieldWeightsInOrder() {
+        TextSearchIndex index = new TextSearchIndex(3.0, 1.0);
+        index.rebuild(List.of(
+                new Document(1L, "공연 후기", "아이유 콘서트 다녀왔어요"),
+                new Document(2L, "아이유 콘서트 후기", "좋았어요"),
+                new Document(3L, "동행 구해요")
+        ));
+
+        assertThat(index.search("아이유").stream().map(Hit::id).toList()).containsExactly(2L, 1L);
+        assertThat(index.search("후기 아이유").stream().map(Hit::id).toList()).containsExactly(2L, 1L);
+        assertThat(index.count("동행")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("관련도는 모든 단어가 가장 가중치가 큰 필드에 나왔을 때 1 이고, 1 을 넘지 않는다")
+    void search_relevanceIsNormalized() {
+        TextSearchIndex index = new TextSearchIndex(4.0, 1.0);
+        index.rebuild(List.of(
+                new Document(1L, "아이유", "아이유"),
+                new Document(2L, "콘서트", "아이유"),
+                new Document(3L, "페스티벌", "")
+        ));
+
+        List<Hit> hits = index.search("아이유");
+
+        assertThat(hits).extracting(Hit::relevance).containsExactly(1.0, 0.25);
+    }
+
+    @Test
+    @DisplayName("필드 비트는 byte 에 담으므로 필드가 없거나 8개를 넘으면 만들 수 없다")
+    void constructor_rejectsInvalidFieldCount() {
+        assertThatThrownBy(() -> new TextSearchIndex()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TextSearchIndex(1, 1, 1, 1, 1, 1, 1, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+
+        TextSearchIndex eightFields = new TextSearchIndex(1, 1, 1, 1, 1, 1, 1, 2);
+        eightFields.rebuild(List.of(new Document(1L, "", "", "", "", "", "", "", "마지막 필드")));
+        assertThat(eightFields.search("마지막").stream().map(Hit::id).toList()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("부분 갱신으로 추가/삭제된 문서까지 반영해 색인에 있는지 확인한다")
+    void contains_reflectsChanges() {
+        TextSearchIndex index = new TextSearchIndex(1.0);
+        index.rebuild(List.of(new Document(1L, "아이유"), new Document(2L, "콜드플레이")));
+
+        index.upsert(List.of(new Document(3L, "뉴진스")));
+        index.remove(List.of(2L));
+
+        assertThat(index.contains(1L)).isTrue();
+        assertThat(index.contains(2L)).isFalse();
+        assertThat(index.contains(3L)).isTrue();
+        assertThat(index.contains(4L)).isFalse();
+    }
+}